@@ -25,6 +25,10 @@ public class BdkClientConfig extends BdkServerConfig {
     this.readTimeout = null;
     this.connectionPoolMax = null;
     this.connectionPoolPerRoute = null;
+    this.connectionIdleTimeout = null;
+    this.connectionMaxLifetime = null;
+    this.connectionPoolPendingAcquireMax = null;
+    this.maxInMemorySize = null;
     this.defaultHeaders = null;
   }
 
@@ -77,6 +81,26 @@ public class BdkClientConfig extends BdkServerConfig {
     return thisOrParent(connectionPoolPerRoute, parentConfig::getConnectionPoolPerRoute);
   }
 
+  @Override
+  public Integer getConnectionIdleTimeout() {
+    return thisOrParent(connectionIdleTimeout, parentConfig::getConnectionIdleTimeout);
+  }
+
+  @Override
+  public Integer getConnectionMaxLifetime() {
+    return thisOrParent(connectionMaxLifetime, parentConfig::getConnectionMaxLifetime);
+  }
+
+  @Override
+  public Integer getConnectionPoolPendingAcquireMax() {
+    return thisOrParent(connectionPoolPendingAcquireMax, parentConfig::getConnectionPoolPendingAcquireMax);
+  }
+
+  @Override
+  public Integer getMaxInMemorySize() {
+    return thisOrParent(maxInMemorySize, parentConfig::getMaxInMemorySize);
+  }
+
   @Override
   public BdkProxyConfig getProxy() {
     return thisOrParent(proxy, parentConfig::getProxy);
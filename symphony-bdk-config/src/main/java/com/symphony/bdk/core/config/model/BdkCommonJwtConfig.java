@@ -12,7 +12,19 @@ import org.apiguardian.api.API;
 public class BdkCommonJwtConfig {
   protected Boolean enabled;
 
+  /**
+   * Whether the authorization token should be refreshed in the background before it expires.
+   */
+  protected Boolean backgroundRefresh;
+
+  /**
+   * How long before the expiration of the authorization token the background refresh is performed.
+   */
+  protected Integer refreshAheadSeconds;
+
   public BdkCommonJwtConfig() {
     this.enabled = false;
+    this.backgroundRefresh = false;
+    this.refreshAheadSeconds = 60;
   }
 }
@@ -16,6 +16,17 @@ public class BdkDatafeedConfig {
   private String version = "v2";
   private String idFilePath;
   private BdkRetryConfig retry = new BdkRetryConfig(BdkRetryConfig.INFINITE_MAX_ATTEMPTS);
+  private BdkDispatcherConfig dispatcher = new BdkDispatcherConfig();
+  /**
+   * Number of event batches that can be read ahead while previous ones are still being handled, 0 to disable.
+   * Only applies to the datafeed v2 and datahose loops.
+   */
+  private int readAhead = 0;
+  /**
+   * Streams the events lists and only binds the payload of the events dispatched to a listener, instead of binding
+   * the whole response. Only applies to the datafeed v2 and datahose loops.
+   */
+  private boolean lazyPayload = false;
 
   public void setVersion(String version) {
     if ("v1".equalsIgnoreCase(version)) {
@@ -0,0 +1,28 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Configuration of the parallel dispatching of the events received by the datafeed and datahose loops.
+ * When enabled, events are partitioned by stream id on a pool of workers: events of a same stream are still handled
+ * in order while events of different streams are handled in parallel.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkDispatcherConfig {
+
+  public static final int DEFAULT_WORKERS = 4;
+  public static final int DEFAULT_QUEUE_SIZE = 1000;
+  /**
+   * Below the DFv2 default visibility timeout (30s), after which an event is re-queued.
+   */
+  public static final long DEFAULT_BATCH_TIMEOUT_MILLIS = 25_000L;
+
+  private boolean enabled = false;
+  private int workers = DEFAULT_WORKERS;
+  private int queueSize = DEFAULT_QUEUE_SIZE;
+  private long batchTimeoutMillis = DEFAULT_BATCH_TIMEOUT_MILLIS;
+}
@@ -11,7 +11,14 @@ import org.apiguardian.api.API;
 @API(status = API.Status.STABLE)
 public class BdkExtAppConfig extends BdkAuthenticationConfig {
 
+  public static final long DEFAULT_POD_CERTIFICATE_TTL_SECONDS = 3600L;
+
   private String appId;
+  private BdkOboCacheConfig oboCache = new BdkOboCacheConfig();
+  /**
+   * Time during which the pod certificate used to validate the extension app JWTs is cached, 0 disables the caching.
+   */
+  private long podCertificateTtlSeconds = DEFAULT_POD_CERTIFICATE_TTL_SECONDS;
 
   /**
    * Check if the Extension App is configured or not
@@ -7,7 +7,8 @@ import org.apiguardian.api.API;
 public enum BdkLoadBalancingMode {
   EXTERNAL("external"),
   RANDOM("random"),
-  ROUND_ROBIN("roundRobin");
+  ROUND_ROBIN("roundRobin"),
+  LEAST_LATENCY("leastLatency");
 
   private String name;
 
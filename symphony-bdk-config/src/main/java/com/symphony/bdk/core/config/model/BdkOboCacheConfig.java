@@ -0,0 +1,28 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Configuration of the caching of the on-behalf-of authentication sessions.
+ * When enabled, OBO sessions are kept per user id or username and the app session token used to perform the OBO
+ * authentications is reused until it expires.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkOboCacheConfig {
+
+  public static final int DEFAULT_MAX_SIZE = 1000;
+  public static final long DEFAULT_TTL_SECONDS = 1800L;
+  public static final long DEFAULT_APP_SESSION_TOKEN_TTL_SECONDS = 300L;
+
+  private boolean enabled = false;
+  /**
+   * Maximum number of cached OBO sessions, the least recently used ones are evicted first.
+   */
+  private int maxSize = DEFAULT_MAX_SIZE;
+  private long ttlSeconds = DEFAULT_TTL_SECONDS;
+  private long appSessionTokenTtlSeconds = DEFAULT_APP_SESSION_TOKEN_TTL_SECONDS;
+}
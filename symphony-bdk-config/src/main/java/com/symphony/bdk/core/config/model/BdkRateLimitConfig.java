@@ -0,0 +1,33 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Configuration of the client-side rate limiting of the calls retried with a {@link BdkRetryConfig}.
+ * When enabled, the calls to a same base path are smoothed by a token bucket: calls above the rate wait for their
+ * turn instead of reaching the server, which would throttle them.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkRateLimitConfig {
+
+  public static final double DEFAULT_PERMITS_PER_SECOND = 0;
+  public static final int DEFAULT_BURST = 10;
+
+  /**
+   * Number of calls per second allowed per base path, the rate limiting is disabled if <= 0 (default).
+   */
+  private double permitsPerSecond = DEFAULT_PERMITS_PER_SECOND;
+
+  /**
+   * Number of calls that can be made at once before being limited to {@link #permitsPerSecond}.
+   */
+  private int burst = DEFAULT_BURST;
+
+  public boolean isEnabled() {
+    return this.permitsPerSecond > 0;
+  }
+}
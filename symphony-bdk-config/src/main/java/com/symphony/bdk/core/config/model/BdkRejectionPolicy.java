@@ -0,0 +1,30 @@
+package com.symphony.bdk.core.config.model;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import org.apiguardian.api.API;
+
+/**
+ * What to do with an asynchronous activity that cannot be queued because the activities queue is full.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public enum BdkRejectionPolicy {
+  /**
+   * The activity is executed by the thread dispatching the event, slowing down the reading of new events.
+   */
+  CALLER_RUNS("callerRuns"),
+  /**
+   * The activity is not executed, a warning is logged.
+   */
+  DISCARD("discard");
+
+  private String name;
+
+  BdkRejectionPolicy(String name) {
+    this.name = name;
+  }
+
+  @JsonValue
+  public String getName() {
+    return name;
+  }
+}
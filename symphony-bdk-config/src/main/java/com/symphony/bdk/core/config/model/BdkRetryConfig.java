@@ -1,5 +1,6 @@
 package com.symphony.bdk.core.config.model;
 
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.apiguardian.api.API;
@@ -20,6 +21,25 @@ public class BdkRetryConfig {
   private Double multiplier;
   private Long maxIntervalMillis;
 
+  /**
+   * Randomizes the intervals between two attempts (decorrelated jitter), so that the clients failing at the same time
+   * do not retry in lockstep.
+   */
+  @Getter
+  private boolean jitter = false;
+
+  /**
+   * Waits for the delay given by the Retry-After header of a 429 or 503 response, if any, before the next attempt. The
+   * delay is limited by the maximum interval.
+   */
+  @Getter
+  private boolean respectRetryAfter = false;
+
+  /**
+   * Optional rate limiting of the calls, per base path.
+   */
+  private BdkRateLimitConfig rateLimit = new BdkRateLimitConfig();
+
   public BdkRetryConfig(Integer maxAttempts) {
     this.maxAttempts = maxAttempts;
   }
@@ -63,4 +83,13 @@ public class BdkRetryConfig {
 
     return this.maxIntervalMillis;
   }
+
+  public BdkRateLimitConfig getRateLimit() {
+
+    if (this.rateLimit == null) {
+      return new BdkRateLimitConfig();
+    }
+
+    return this.rateLimit;
+  }
 }
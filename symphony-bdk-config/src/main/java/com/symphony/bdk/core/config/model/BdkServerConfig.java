@@ -24,6 +24,10 @@ public class BdkServerConfig {
   protected Integer readTimeout;
   protected Integer connectionPoolMax;
   protected Integer connectionPoolPerRoute;
+  protected Integer connectionIdleTimeout;
+  protected Integer connectionMaxLifetime;
+  protected Integer connectionPoolPendingAcquireMax;
+  protected Integer maxInMemorySize;
   protected Map<String, String> defaultHeaders;
 
   public String getBasePath() {
@@ -0,0 +1,46 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the threads used by the BDK to run the asynchronous activities, to dispatch the real-time events
+ * and to perform the asynchronous HTTP calls.
+ * When virtual threads are enabled and supported by the JDK (21+), a virtual thread is started for each task instead of
+ * using pools of platform threads.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkThreadingConfig {
+
+  public static final int DEFAULT_MAX_CONCURRENT_TASKS = 200;
+  public static final int UNBOUNDED_QUEUE_SIZE = -1;
+  public static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 30_000L;
+
+  private boolean virtualThreads = false;
+  /**
+   * Maximum number of asynchronous activities running at the same time, the other ones wait for their turn.
+   */
+  private int maxConcurrentTasks = DEFAULT_MAX_CONCURRENT_TASKS;
+  /**
+   * Maximum number of asynchronous activities waiting for their turn, unbounded if negative.
+   */
+  private int queueSize = UNBOUNDED_QUEUE_SIZE;
+  /**
+   * Applied to the asynchronous activities triggered while the queue is full.
+   */
+  private BdkRejectionPolicy rejectionPolicy = BdkRejectionPolicy.CALLER_RUNS;
+  /**
+   * Maximum number of asynchronous activities running at the same time, per activity name.
+   */
+  private Map<String, Integer> activityMaxConcurrentTasks = new HashMap<>();
+  /**
+   * How long the shutdown waits for the running and queued activities to complete.
+   */
+  private long shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+}
@@ -201,6 +201,10 @@ class BdkConfigLoaderTest {
     assertThat(config.getPod().getReadTimeout()).isEqualTo(30000);
     assertThat(config.getPod().getConnectionPoolMax()).isEqualTo(20);
     assertThat(config.getPod().getConnectionPoolPerRoute()).isEqualTo(10);
+    assertThat(config.getPod().getConnectionIdleTimeout()).isEqualTo(30000);
+    assertThat(config.getPod().getConnectionMaxLifetime()).isNull();
+    assertThat(config.getPod().getConnectionPoolPendingAcquireMax()).isNull();
+    assertThat(config.getPod().getMaxInMemorySize()).isEqualTo(1048576);
     assertThat(config.getPod().getDefaultHeaders().get("Connection")).isEqualTo("Keep-Alive");
     assertThat(config.getPod().getDefaultHeaders().get("Keep-Alive")).isEqualTo("close");
 
@@ -212,6 +216,10 @@ class BdkConfigLoaderTest {
     assertThat(config.getAgent().getReadTimeout()).isEqualTo(60000);
     assertThat(config.getAgent().getConnectionPoolMax()).isEqualTo(30);
     assertThat(config.getAgent().getConnectionPoolPerRoute()).isEqualTo(20);
+    assertThat(config.getAgent().getConnectionIdleTimeout()).isEqualTo(30000);
+    assertThat(config.getAgent().getConnectionMaxLifetime()).isEqualTo(300000);
+    assertThat(config.getAgent().getConnectionPoolPendingAcquireMax()).isEqualTo(100);
+    assertThat(config.getAgent().getMaxInMemorySize()).isEqualTo(1048576);
     assertThat(config.getAgent().getDefaultHeaders().get("Connection")).isEqualTo("Keep-Alive");
     assertThat(config.getAgent().getDefaultHeaders().get("Keep-Alive")).isEqualTo("timeout=5, max=1000");
 
@@ -0,0 +1,77 @@
+package com.symphony.bdk.core.activity.command;
+
+import com.symphony.bdk.core.service.message.exception.MessageParserException;
+import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
+import com.symphony.bdk.core.service.message.util.ParsedMessage;
+import com.symphony.bdk.gen.api.model.V4Message;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link SlashCommandRouter} to the matching of a message against every registered slash command:
+ * <pre>./gradlew :symphony-bdk-core:jmh</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SlashCommandRouterBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int commands;
+
+  private final List<SlashCommand> slashCommands = new ArrayList<>();
+  private final SlashCommandRouter router = new SlashCommandRouter();
+  private V4Message message;
+
+  @Setup
+  public void setUp() {
+    for (int i = 0; i < this.commands; i++) {
+      final SlashCommand command = SlashCommand.slash("/command" + i + " {argument}", false, context -> {});
+      this.slashCommands.add(command);
+      this.router.add(command);
+    }
+    this.message = new V4Message()
+        .message("<div data-format=\"PresentationML\" data-version=\"2.0\">/command" + (this.commands / 2)
+            + " value</div>")
+        .data("{}");
+  }
+
+  @Benchmark
+  public int router() throws PresentationMLParserException, MessageParserException {
+    int matching = 0;
+    for (SlashCommand command : this.router.route(ParsedMessage.of(this.message).getTokens())) {
+      if (command.getCommandPattern().getMatchResult(this.message).isMatching()) {
+        matching++;
+      }
+    }
+    return matching;
+  }
+
+  @Benchmark
+  public int everyCommand() {
+    int matching = 0;
+    for (SlashCommand command : this.slashCommands) {
+      if (command.getCommandPattern().getMatchResult(this.message).isMatching()) {
+        matching++;
+      }
+    }
+    return matching;
+  }
+}
@@ -0,0 +1,53 @@
+package com.symphony.bdk.core.retry.resilience4j;
+
+import com.symphony.bdk.core.config.model.BdkRetryConfig;
+import com.symphony.bdk.core.retry.RetryWithRecovery;
+import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
+import com.symphony.bdk.core.retry.function.SupplierWithApiException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the calls sharing the {@link io.github.resilience4j.retry.Retry} of their operation, as done by
+ * {@link RetryWithRecovery#executeAndRetry}, to calls creating their own retry policy. Run with the GC profiler to
+ * compare the allocations:
+ * <pre>./gradlew :symphony-bdk-core:jmh</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RetryWithRecoveryBenchmark {
+
+  private static final String NAME = "getMessage";
+  private static final String ADDRESS = "https://acme.symphony.com/agent";
+  private static final SupplierWithApiException<String> SUPPLIER = () -> "value";
+
+  private final BdkRetryConfig retryConfig = new BdkRetryConfig();
+  private final RetryWithRecoveryBuilder<?> retryBuilder =
+      new RetryWithRecoveryBuilder<>().retryConfig(this.retryConfig);
+
+  @Benchmark
+  public String sharedRetry() {
+    return RetryWithRecovery.executeAndRetry(this.retryBuilder, NAME, ADDRESS, SUPPLIER);
+  }
+
+  @Benchmark
+  public String retryPerCall() throws Throwable {
+    return new Resilience4jRetryWithRecovery<>(NAME, ADDRESS, this.retryConfig, SUPPLIER,
+        RetryWithRecoveryBuilder::isNetworkIssueOrMinorErrorOrClientError, Collections.emptyList()).execute();
+  }
+}
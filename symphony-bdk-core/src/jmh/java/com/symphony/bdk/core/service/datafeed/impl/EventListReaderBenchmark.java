@@ -0,0 +1,112 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V5EventList;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link StreamingEventListReader} to the binding of the generated models, as done by the API clients,
+ * when reading a datafeed response. Run with the GC profiler to compare the allocations:
+ * <pre>./gradlew :symphony-bdk-core:jmh</pre>
+ * <p>
+ * {@code listenedRatio} is the share of the events that are dispatched to a listener, thus whose payload is bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventListReaderBenchmark {
+
+  /**
+   * Same settings as the API clients object mapper.
+   */
+  private static final ObjectMapper GENERATED_MODELS_MAPPER = JsonMapper.builder()
+      .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+      .disable(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE)
+      .enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING)
+      .findAndAddModules()
+      .build();
+
+  @Param({"10", "100", "1000"})
+  private int events;
+
+  @Param({"0", "10", "100"})
+  private int listenedRatio;
+
+  private byte[] body;
+
+  @Setup
+  public void setUp() {
+    final StringBuilder json = new StringBuilder("{\"events\":[");
+    for (int i = 0; i < this.events; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append(messageSent(i));
+    }
+    this.body = json.append("],\"ackId\":\"ack-id\"}").toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public void generatedModels(Blackhole blackhole) throws IOException {
+    this.consume(GENERATED_MODELS_MAPPER.readValue(this.body, V5EventList.class), blackhole);
+  }
+
+  @Benchmark
+  public void streamingReader(Blackhole blackhole) throws IOException {
+    this.consume(StreamingEventListReader.read(this.body), blackhole);
+  }
+
+  /**
+   * Mimics the dispatching: the type and initiator of each event are read, the payload only for listened events.
+   */
+  private void consume(V5EventList eventList, Blackhole blackhole) {
+    int i = 0;
+    for (V4Event event : eventList.getEvents()) {
+      blackhole.consume(event.getType());
+      blackhole.consume(event.getInitiator());
+      if (i++ % 100 < this.listenedRatio) {
+        blackhole.consume(event.getPayload().getMessageSent().getMessage().getMessageId());
+      }
+    }
+  }
+
+  private static String messageSent(int i) {
+    return "{\"id\":\"event-" + i + "\",\"messageId\":\"msg-" + i + "\",\"timestamp\":1700000000000,"
+        + "\"type\":\"MESSAGESENT\","
+        + "\"initiator\":{\"user\":{\"userId\":349026222342678,\"firstName\":\"Jane\",\"lastName\":\"Doe\","
+        + "\"displayName\":\"Jane Doe\",\"email\":\"jane.doe@symphony.com\",\"username\":\"jane.doe\"}},"
+        + "\"payload\":{\"messageSent\":{\"message\":{\"messageId\":\"msg-" + i + "\",\"timestamp\":1700000000000,"
+        + "\"message\":\"<div data-format=\\\"PresentationML\\\" data-version=\\\"2.0\\\" class=\\\"wysiwyg\\\">"
+        + "<p>Hello <span class=\\\"entity\\\" data-entity-id=\\\"0\\\">@bot</span>, how are you doing today?</p>"
+        + "</div>\","
+        + "\"data\":\"{\\\"0\\\":{\\\"id\\\":[{\\\"type\\\":\\\"com.symphony.user.userId\\\","
+        + "\\\"value\\\":\\\"349026222342679\\\"}],\\\"type\\\":\\\"com.symphony.user.mention\\\"}}\","
+        + "\"user\":{\"userId\":349026222342678,\"firstName\":\"Jane\",\"lastName\":\"Doe\","
+        + "\"displayName\":\"Jane Doe\",\"email\":\"jane.doe@symphony.com\",\"username\":\"jane.doe\"},"
+        + "\"stream\":{\"streamId\":\"stream-" + (i % 16) + "\",\"streamType\":\"ROOM\"},"
+        + "\"externalRecipients\":false,\"diagnostic\":\"\",\"userAgent\":\"DESKTOP-40.0.0-10665-MacOSX-12.6\","
+        + "\"originalFormat\":\"com.symphony.messageml.v2\",\"sid\":\"sid-" + i + "\"}}}}";
+  }
+}
@@ -0,0 +1,87 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static net.bytebuddy.matcher.ElementMatchers.isPublic;
+
+import com.symphony.bdk.core.service.datafeed.EventPayload;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Payload;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.matcher.ElementMatchers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the event proxies created from a class generated once per payload type, as done by
+ * {@link RealTimeEventType}, to the proxies whose class is generated for each event:
+ * <pre>./gradlew :symphony-bdk-core:jmh</pre>
+ * <p>
+ * The per event generation defines a new class on each invocation, the number of iterations is kept low to limit the
+ * metaspace growth.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventProxyBenchmark {
+
+  private V4Event event;
+
+  @Setup
+  public void setUp() {
+    final V4MessageSent messageSent = new V4MessageSent().message(new V4Message().messageId("msg-id"));
+    this.event = new V4Event()
+        .id("event-id")
+        .timestamp(1700000000000L)
+        .type(RealTimeEventType.MESSAGESENT.name())
+        .payload(new V4Payload().messageSent(messageSent));
+  }
+
+  @Benchmark
+  public String proxyClassPerType() {
+    final V4MessageSent proxy = RealTimeEventType.proxy(this.event.getPayload().getMessageSent(), this.event);
+    return proxy.getMessage().getMessageId();
+  }
+
+  @Benchmark
+  public String proxyClassPerEvent() throws ReflectiveOperationException {
+    final V4MessageSent proxy = proxyPerEvent(this.event.getPayload().getMessageSent(), this.event);
+    return proxy.getMessage().getMessageId();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T proxyPerEvent(T event, V4Event realEvent) throws ReflectiveOperationException {
+    final T proxyEvent = (T) new ByteBuddy(ClassFileVersion.JAVA_V17)
+        .subclass(event.getClass())
+        .method(ElementMatchers.any().and(isPublic()))
+        .intercept(MethodCall.invokeSelf().on(event).withAllArguments())
+        .defineField("eventTimestamp", Long.class, Visibility.PRIVATE)
+        .implement(EventPayload.class).intercept(FieldAccessor.ofBeanProperty())
+        .make()
+        .load(event.getClass().getClassLoader(), ClassLoadingStrategy.UsingLookup.of(MethodHandles
+            .privateLookupIn(event.getClass(), MethodHandles.lookup())))
+        .getLoaded().getDeclaredConstructor().newInstance();
+    ((EventPayload) proxyEvent).setEventTimestamp(realEvent.getTimestamp());
+    return proxyEvent;
+  }
+}
@@ -0,0 +1,157 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.auth.AuthSession;
+import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.DatafeedApi;
+import com.symphony.bdk.gen.api.model.AckId;
+import com.symphony.bdk.gen.api.model.UserV2;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Payload;
+import com.symphony.bdk.gen.api.model.V4Stream;
+import com.symphony.bdk.gen.api.model.V4User;
+import com.symphony.bdk.gen.api.model.V5Datafeed;
+import com.symphony.bdk.gen.api.model.V5DatafeedCreateBody;
+import com.symphony.bdk.gen.api.model.V5EventList;
+import com.symphony.bdk.http.api.ApiClient;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Measures the time taken by the {@link DatafeedLoopV2} to read and handle a fixed number of event batches from a
+ * stubbed datafeed, with and without read-ahead:
+ * <pre>./gradlew :symphony-bdk-core:jmh</pre>
+ * <p>
+ * {@code readLatencyMillis} is the time taken by each read, e.g. the network round trip to the agent, and
+ * {@code listenerMicros} the time taken by the listener to handle each event. Without read-ahead, a batch costs the sum
+ * of both, with read-ahead the reads overlap with the handling of the previous batches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadAheadBenchmark {
+
+  private static final int BATCHES = 20;
+  private static final int EVENTS_PER_BATCH = 10;
+  private static final String TOKEN = "token";
+  private static final UserV2 BOT_INFO = new UserV2().id(1L).username("bot");
+
+  @Param({"0", "1", "2"})
+  private int readAhead;
+
+  @Param({"5"})
+  private int readLatencyMillis;
+
+  @Param({"200", "500"})
+  private int listenerMicros;
+
+  @Benchmark
+  public int readAndHandle() throws Exception {
+    final BdkConfig config = new BdkConfig();
+    config.getDatafeed().setReadAhead(this.readAhead);
+
+    final StubDatafeedApi datafeedApi = new StubDatafeedApi(TimeUnit.MILLISECONDS.toNanos(this.readLatencyMillis));
+    final DatafeedLoopV2 loop = new DatafeedLoopV2(datafeedApi, new StubAuthSession(), config, BOT_INFO);
+    datafeedApi.loop = loop;
+
+    final AtomicInteger handled = new AtomicInteger();
+    final long listenerNanos = TimeUnit.MICROSECONDS.toNanos(this.listenerMicros);
+    loop.subscribe(new RealTimeEventListener() {
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        LockSupport.parkNanos(listenerNanos);
+        handled.incrementAndGet();
+      }
+    });
+
+    // runs the loop until the last batch is read, then lets the batches read ahead be handled
+    loop.start();
+    return handled.get();
+  }
+
+  /**
+   * Datafeed returning {@link #BATCHES} batches of messages after the given latency, then stopping the loop.
+   */
+  private static class StubDatafeedApi extends DatafeedApi {
+
+    private final long readLatencyNanos;
+    private final List<V4Event> events = new ArrayList<>();
+    private int reads;
+    private DatafeedLoopV2 loop;
+
+    private StubDatafeedApi(long readLatencyNanos) {
+      super((ApiClient) Proxy.newProxyInstance(ApiClient.class.getClassLoader(), new Class<?>[] {ApiClient.class},
+          (proxy, method, args) -> "getBasePath".equals(method.getName()) ? "https://localhost/agent" : null));
+      this.readLatencyNanos = readLatencyNanos;
+      for (int i = 0; i < EVENTS_PER_BATCH; i++) {
+        this.events.add(new V4Event()
+            .id("event-" + i)
+            .type(RealTimeEventType.MESSAGESENT.name())
+            .timestamp(System.currentTimeMillis())
+            .initiator(new V4Initiator().user(new V4User().userId(2L)))
+            .payload(new V4Payload().messageSent(new V4MessageSent()
+                .message(new V4Message().messageId("msg-" + i).stream(new V4Stream().streamId("stream-" + i))))));
+      }
+    }
+
+    @Override
+    public List<V5Datafeed> listDatafeed(String sessionToken, String keyManagerToken, String tag) {
+      return Collections.singletonList(new V5Datafeed().id("e766c498eece0d113f035270ad6c3c63_f_f8001"));
+    }
+
+    @Override
+    public V5Datafeed createDatafeed(String sessionToken, String keyManagerToken, V5DatafeedCreateBody body) {
+      return new V5Datafeed().id("e766c498eece0d113f035270ad6c3c63_f_f8001");
+    }
+
+    @Override
+    public V5EventList readDatafeed(String datafeedId, String sessionToken, String keyManagerToken, AckId ackId) {
+      LockSupport.parkNanos(this.readLatencyNanos);
+      if (++this.reads >= BATCHES) {
+        this.loop.stop();
+      }
+      return new V5EventList().events(this.events).ackId("ack-id-" + this.reads);
+    }
+  }
+
+  private static class StubAuthSession implements AuthSession {
+
+    @Override
+    public String getSessionToken() {
+      return TOKEN;
+    }
+
+    @Override
+    public String getKeyManagerToken() {
+      return TOKEN;
+    }
+
+    @Override
+    public void refresh() {
+      // tokens never expire
+    }
+  }
+}
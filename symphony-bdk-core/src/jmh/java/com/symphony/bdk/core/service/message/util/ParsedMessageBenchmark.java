@@ -0,0 +1,67 @@
+package com.symphony.bdk.core.service.message.util;
+
+import com.symphony.bdk.core.activity.parsing.InputTokenizer;
+import com.symphony.bdk.core.service.message.exception.MessageParserException;
+import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
+import com.symphony.bdk.gen.api.model.V4Message;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a message shared through {@link ParsedMessage} by all the command activities handling it, to a message
+ * parsed again by each activity:
+ * <pre>./gradlew :symphony-bdk-core:jmh</pre>
+ * <p>
+ * {@code activities} is the number of command activities reading the text content and the tokens of the message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParsedMessageBenchmark {
+
+  private static final String PRESENTATION_ML = "<div data-format=\"PresentationML\" data-version=\"2.0\">"
+      + "<span class=\"entity\" data-entity-id=\"0\">@bot</span> /command   "
+      + "<span class=\"entity\" data-entity-id=\"1\">#tag</span> and some text &amp; more</div>";
+  private static final String DATA = "{\"0\":{\"id\":[{\"type\":\"com.symphony.user.userId\",\"value\":\"12345\"}],"
+      + "\"type\":\"com.symphony.user.mention\"},"
+      + "\"1\":{\"id\":[{\"type\":\"org.symphonyoss.taxonomy.hashtag\",\"value\":\"tag\"}],"
+      + "\"type\":\"org.symphonyoss.taxonomy\"}}";
+
+  @Param({"1", "10", "100"})
+  private int activities;
+
+  @Benchmark
+  public void parsedOnce(Blackhole blackhole) throws PresentationMLParserException, MessageParserException {
+    // a new message per invocation, as each datafeed event carries its own message instance
+    final V4Message message = new V4Message().message(PRESENTATION_ML).data(DATA);
+    for (int i = 0; i < this.activities; i++) {
+      final ParsedMessage parsedMessage = ParsedMessage.of(message);
+      blackhole.consume(parsedMessage.getTextContent());
+      blackhole.consume(parsedMessage.getTokens());
+    }
+  }
+
+  @Benchmark
+  public void parsedPerActivity(Blackhole blackhole) throws PresentationMLParserException {
+    final V4Message message = new V4Message().message(PRESENTATION_ML).data(DATA);
+    for (int i = 0; i < this.activities; i++) {
+      blackhole.consume(PresentationMLParser.getTextContent(message.getMessage()));
+      blackhole.consume(new InputTokenizer(message).getTokens());
+    }
+  }
+}
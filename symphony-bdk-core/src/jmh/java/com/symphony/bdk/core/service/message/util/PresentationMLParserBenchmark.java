@@ -0,0 +1,73 @@
+package com.symphony.bdk.core.service.message.util;
+
+import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
+
+import org.apache.commons.text.StringEscapeUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+/**
+ * Compares the streaming {@link PresentationMLParser} to a DOM parsing of the PresentationML, when reading the text
+ * content of a message containing a table with a mention in each row:
+ * <pre>./gradlew :symphony-bdk-core:jmh</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PresentationMLParserBenchmark {
+
+  @Param({"10", "1000"})
+  private int rows;
+
+  private String presentationML;
+  private DocumentBuilder documentBuilder;
+
+  @Setup
+  public void setUp() throws ParserConfigurationException {
+    final StringBuilder builder = new StringBuilder("<div data-format=\"PresentationML\" data-version=\"2.0\"><table>");
+    for (int i = 0; i < this.rows; i++) {
+      builder.append("<tr><td>row ").append(i).append(" &amp; more</td><td><span class=\"entity\" data-entity-id=\"")
+          .append(i).append("\">@user").append(i).append("</span></td></tr>");
+    }
+    this.presentationML = builder.append("</table></div>").toString();
+
+    final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+    factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+    this.documentBuilder = factory.newDocumentBuilder();
+  }
+
+  @Benchmark
+  public String streaming() throws PresentationMLParserException {
+    return PresentationMLParser.getTextContent(this.presentationML);
+  }
+
+  @Benchmark
+  public String dom() throws SAXException, IOException {
+    final Document document =
+        this.documentBuilder.parse(new ByteArrayInputStream(this.presentationML.getBytes(StandardCharsets.UTF_8)));
+    return StringEscapeUtils.unescapeHtml4(document.getChildNodes().item(0).getTextContent()).trim();
+  }
+}
@@ -7,6 +7,7 @@ import com.symphony.bdk.core.auth.impl.OAuthSession;
 import com.symphony.bdk.core.auth.impl.OAuthentication;
 import com.symphony.bdk.core.client.ApiClientFactory;
 import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.core.retry.AsyncRetryExecutor;
 import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
 import com.symphony.bdk.core.service.application.ApplicationService;
 import com.symphony.bdk.core.service.connection.ConnectionService;
@@ -19,6 +20,7 @@ import com.symphony.bdk.core.service.datafeed.impl.DatahoseLoopImpl;
 import com.symphony.bdk.core.service.disclaimer.DisclaimerService;
 import com.symphony.bdk.core.service.health.HealthService;
 import com.symphony.bdk.core.service.message.MessageService;
+import com.symphony.bdk.core.service.pagination.PaginatedService;
 import com.symphony.bdk.core.service.presence.PresenceService;
 import com.symphony.bdk.core.service.session.SessionService;
 import com.symphony.bdk.core.service.signal.SignalService;
@@ -53,6 +55,8 @@ import com.symphony.bdk.template.api.TemplateEngine;
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
+import java.util.concurrent.Executor;
+
 /**
  * Factory responsible for creating BDK service instances for Symphony Bdk entry point.
  * :
@@ -76,6 +80,10 @@ class ServiceFactory {
   private final TemplateEngine templateEngine;
   private final BdkConfig config;
   private final RetryWithRecoveryBuilder<?> retryBuilder;
+  private final AsyncRetryExecutor userAsyncRetryExecutor;
+  private final AsyncRetryExecutor streamAsyncRetryExecutor;
+  private final AsyncRetryExecutor messageAsyncRetryExecutor;
+  private final Executor paginationExecutor;
 
   public ServiceFactory(ApiClientFactory apiClientFactory, AuthSession authSession, BdkConfig config) {
     this.config = config;
@@ -85,7 +93,13 @@ class ServiceFactory {
     this.datahoseAgentClient = apiClientFactory.getDatahoseAgentClient();
     this.authSession = authSession;
     this.templateEngine = TemplateEngine.getDefaultImplementation();
-    this.retryBuilder = new RetryWithRecoveryBuilder<>().retryConfig(config.getRetry());
+    this.retryBuilder = new RetryWithRecoveryBuilder<>()
+        .retryConfig(config.getRetry())
+        .metrics(apiClientFactory.getMetrics());
+    this.userAsyncRetryExecutor = AsyncRetryExecutor.of(config.getPod());
+    this.streamAsyncRetryExecutor = AsyncRetryExecutor.of(config.getPod());
+    this.messageAsyncRetryExecutor = AsyncRetryExecutor.of(config.getAgent());
+    this.paginationExecutor = PaginatedService.getSharedExecutor(config.getThreading().isVirtualThreads());
 
     if (config.isCommonJwtEnabled()) {
       if (config.isOboConfigured()) {
@@ -99,6 +113,33 @@ class ServiceFactory {
     }
   }
 
+  private ServiceFactory(ServiceFactory serviceFactory, AuthSession authSession) {
+    this.config = serviceFactory.config;
+    this.podClient = serviceFactory.podClient;
+    this.agentClient = serviceFactory.agentClient;
+    this.datafeedAgentClient = serviceFactory.datafeedAgentClient;
+    this.datahoseAgentClient = serviceFactory.datahoseAgentClient;
+    this.authSession = authSession;
+    this.templateEngine = serviceFactory.templateEngine;
+    this.retryBuilder = serviceFactory.retryBuilder;
+    this.userAsyncRetryExecutor = serviceFactory.userAsyncRetryExecutor;
+    this.streamAsyncRetryExecutor = serviceFactory.streamAsyncRetryExecutor;
+    this.messageAsyncRetryExecutor = serviceFactory.messageAsyncRetryExecutor;
+    this.paginationExecutor = serviceFactory.paginationExecutor;
+  }
+
+  /**
+   * Returns a {@link ServiceFactory} creating services for another {@link AuthSession}, typically an OBO one.
+   * The returned factory shares the {@link ApiClient}s of this one, so that no new HTTP transport is created.
+   * Session tokens being passed on each call, services of the two factories can be used side by side.
+   *
+   * @param authSession the session to be used by the created services.
+   * @return a new {@link ServiceFactory} instance sharing the api clients of this one.
+   */
+  public ServiceFactory withAuthSession(AuthSession authSession) {
+    return new ServiceFactory(this, authSession);
+  }
+
   /**
    * Returns a fully initialized {@link UserService}.
    *
@@ -106,7 +147,7 @@ class ServiceFactory {
    */
   public UserService getUserService() {
     return new UserService(new UserApi(podClient), new UsersApi(podClient), new AuditTrailApi(agentClient), authSession,
-        retryBuilder);
+        retryBuilder, userAsyncRetryExecutor, paginationExecutor);
   }
 
   /**
@@ -116,7 +157,7 @@ class ServiceFactory {
    */
   public StreamService getStreamService() {
     return new StreamService(new StreamsApi(podClient), new RoomMembershipApi(podClient), new ShareApi(agentClient),
-        authSession, retryBuilder);
+        authSession, retryBuilder, streamAsyncRetryExecutor, paginationExecutor);
   }
 
   public DisclaimerService getDisclaimerService() {
@@ -165,7 +206,8 @@ class ServiceFactory {
         new DefaultApi(this.podClient),
         this.authSession,
         this.templateEngine,
-        this.retryBuilder
+        this.retryBuilder,
+        this.messageAsyncRetryExecutor
     );
   }
 
@@ -193,7 +235,8 @@ class ServiceFactory {
    * @return a new {@link SignalService} instance.
    */
   public SignalService getSignalService() {
-    return new SignalService(new SignalsApi(this.agentClient), this.authSession, this.retryBuilder);
+    return new SignalService(new SignalsApi(this.agentClient), this.authSession, this.retryBuilder,
+        this.paginationExecutor);
   }
 
   /**
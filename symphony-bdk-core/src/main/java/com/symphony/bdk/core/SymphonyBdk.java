@@ -1,5 +1,6 @@
 package com.symphony.bdk.core;
 
+import com.symphony.bdk.core.activity.ActivityExecutor;
 import com.symphony.bdk.core.activity.ActivityRegistry;
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.auth.AuthenticatorFactory;
@@ -7,6 +8,7 @@ import com.symphony.bdk.core.auth.ExtensionAppAuthenticator;
 import com.symphony.bdk.core.auth.OboAuthenticator;
 import com.symphony.bdk.core.auth.exception.AuthInitializationException;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
+import com.symphony.bdk.core.auth.impl.AuthSessionImpl;
 import com.symphony.bdk.core.client.ApiClientFactory;
 import com.symphony.bdk.core.config.exception.BotNotConfiguredException;
 import com.symphony.bdk.core.config.model.BdkConfig;
@@ -45,6 +47,7 @@ import javax.annotation.Nullable;
 public class SymphonyBdk {
 
   private final BdkConfig config;
+  private final ApiClientFactory apiClientFactory;
 
   private final OboAuthenticator oboAuthenticator;
   private final ExtensionAppAuthenticator extensionAppAuthenticator;
@@ -66,6 +69,11 @@ public class SymphonyBdk {
   private final HealthService healthService;
   private final ExtensionService extensionService;
 
+  /**
+   * Holds the api clients shared by all the {@link OboServices}.
+   */
+  private volatile ServiceFactory oboServiceFactory;
+
   /**
    * Returns a new {@link SymphonyBdkBuilder} for fluent initialization.
    *
@@ -101,6 +109,7 @@ public class SymphonyBdk {
     if (apiClientFactory == null) {
       apiClientFactory = new ApiClientFactory(this.config);
     }
+    this.apiClientFactory = apiClientFactory;
 
     if (authenticatorFactory == null) {
       authenticatorFactory = new AuthenticatorFactory(this.config, apiClientFactory);
@@ -115,6 +124,7 @@ public class SymphonyBdk {
       this.botSession = authenticatorFactory.getBotAuthenticator().authenticateBot();
       // service init
       serviceFactory = new ServiceFactory(apiClientFactory, this.botSession, config);
+      this.oboServiceFactory = serviceFactory;
     } else {
       log.info(
           "Bot (service account) credentials have not been configured. You can however use services in OBO mode if app authentication is configured.");
@@ -141,13 +151,15 @@ public class SymphonyBdk {
     }
 
     // setup activities
-    this.activityRegistry = this.datafeedLoop != null ? new ActivityRegistry(this.botInfo, this.datafeedLoop) : null;
+    this.activityRegistry = this.datafeedLoop != null
+        ? new ActivityRegistry(this.botInfo, this.datafeedLoop, new ActivityExecutor(this.config.getThreading()))
+        : null;
 
     // setup extension service
     this.extensionService = new ExtensionService(
         apiClientFactory,
         this.botSession,
-        new RetryWithRecoveryBuilder<>().retryConfig(this.config.getRetry()),
+        new RetryWithRecoveryBuilder<>().retryConfig(this.config.getRetry()).metrics(apiClientFactory.getMetrics()),
         this.config
     );
   }
@@ -297,13 +309,29 @@ public class SymphonyBdk {
   }
 
   /**
-   * Get an {@link OboServices} gathering all OBO enabled services
+   * Get an {@link OboServices} gathering all OBO enabled services.
+   * The returned services share the HTTP transport of the BDK, building them is therefore cheap.
    *
    * @param oboSession the OBO session to use
    * @return an {@link OboServices} instance using the provided OBO session
    */
   public OboServices obo(AuthSession oboSession) {
-    return new OboServices(config, oboSession);
+    return new OboServices(this.getOboServiceFactory().withAuthSession(oboSession));
+  }
+
+  private ServiceFactory getOboServiceFactory() {
+    ServiceFactory serviceFactory = this.oboServiceFactory;
+    if (serviceFactory == null) {
+      synchronized (this) {
+        serviceFactory = this.oboServiceFactory;
+        if (serviceFactory == null) {
+          // OBO only mode, api clients are created on first use
+          serviceFactory = new ServiceFactory(this.apiClientFactory, null, this.config);
+          this.oboServiceFactory = serviceFactory;
+        }
+      }
+    }
+    return serviceFactory;
   }
 
   /**
@@ -349,6 +377,24 @@ public class SymphonyBdk {
     return this.extensionService;
   }
 
+  /**
+   * Gracefully shuts down the executor of the asynchronous activities, waiting at most
+   * {@link com.symphony.bdk.core.config.model.BdkThreadingConfig#getShutdownTimeoutMillis()} for the running and
+   * queued activities to complete, then stops the background refresh of the bot session and closes the
+   * {@link com.symphony.bdk.http.api.ApiClient} instances along with their connection pools and executors. To be
+   * called once the datafeed loop is stopped, the services cannot be used afterwards.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public void shutdown() {
+    if (this.activityRegistry != null) {
+      this.activityRegistry.shutdown();
+    }
+    if (this.botSession instanceof AuthSessionImpl) {
+      ((AuthSessionImpl) this.botSession).close();
+    }
+    this.apiClientFactory.close();
+  }
+
   private <T> T getOrThrowNoBotConfig(T field) {
     return Optional.ofNullable(field).orElseThrow(BotNotConfiguredException::new);
   }
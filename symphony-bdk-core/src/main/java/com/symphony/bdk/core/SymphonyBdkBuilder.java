@@ -8,6 +8,7 @@ import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.core.util.ServiceLookup;
 import com.symphony.bdk.extension.BdkExtension;
 import com.symphony.bdk.http.api.ApiClientBuilderProvider;
+import com.symphony.bdk.http.api.metrics.ApiClientMetrics;
 
 import lombok.Generated;
 import org.apiguardian.api.API;
@@ -32,6 +33,7 @@ public class SymphonyBdkBuilder {
   private ApiClientBuilderProvider apiClientBuilderProvider;
   private AuthenticatorFactory authenticatorFactory;
   private ApiClientFactory apiClientFactory;
+  private ApiClientMetrics metrics;
   private final List<Class<? extends BdkExtension>> extensions = new ArrayList<>();
 
   /**
@@ -71,6 +73,17 @@ public class SymphonyBdkBuilder {
     return this;
   }
 
+  /**
+   * With an instrumentation of the HTTP requests, ignored if a custom {@link ApiClientFactory} is set.
+   *
+   * @param metrics an {@link ApiClientMetrics} instance recording the requests and retries.
+   * @return updated builder.
+   */
+  public SymphonyBdkBuilder metrics(@Nullable ApiClientMetrics metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
   /**
    * With custom {@link AuthenticatorFactory} instance.
    *
@@ -111,7 +124,7 @@ public class SymphonyBdkBuilder {
     }
 
     if (this.apiClientFactory == null) {
-      this.apiClientFactory = new ApiClientFactory(this.config, this.apiClientBuilderProvider);
+      this.apiClientFactory = new ApiClientFactory(this.config, this.apiClientBuilderProvider, this.metrics);
     }
 
     if (this.authenticatorFactory == null) {
@@ -13,9 +13,6 @@ import org.apiguardian.api.API;
 
 import java.lang.reflect.ParameterizedType;
 import java.util.Optional;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 
 /**
@@ -26,15 +23,7 @@ import java.util.function.Consumer;
 public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
 
   private ActivityInfo info;
-  private final ExecutorService executorService;
-
-  public AbstractActivity() {
-    ThreadFactory threadFactory = new ThreadFactoryBuilder()
-        .setName("Activity-Async-Thread")
-        .setPriority(Thread.NORM_PRIORITY)
-        .build();
-    executorService = Executors.newCachedThreadPool(threadFactory);
-  }
+  private ActivityExecutor activityExecutor;
 
   /**
    * Any kind of activity must provide an {@link ActivityMatcher} in order to detect if it can be applied to a certain
@@ -86,6 +75,40 @@ public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
     return false;
   }
 
+  /**
+   * Maximum number of concurrent executions of this activity, if it is asynchronous. Executions above this limit wait
+   * for their turn.
+   *
+   * @return the limit, no specific limit is applied if <= 0 (default). In that case, the limit can still be configured
+   * per activity name in {@link com.symphony.bdk.core.config.model.BdkThreadingConfig}.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  protected int getMaxConcurrentTasks() {
+    return 0;
+  }
+
+  /**
+   * Sets the executor running this activity if it is asynchronous, shared by the activities of an
+   * {@link ActivityRegistry}.
+   *
+   * @param activityExecutor the shared executor.
+   */
+  void setActivityExecutor(ActivityExecutor activityExecutor) {
+    this.activityExecutor = activityExecutor;
+  }
+
+  private String getActivityName() {
+    final ActivityInfo activityInfo = this.getInfo();
+    return activityInfo != null && activityInfo.name() != null ? activityInfo.name() : this.getClass().getName();
+  }
+
+  private ActivityExecutor getActivityExecutor() {
+    if (this.activityExecutor == null) {
+      this.activityExecutor = ActivityExecutor.defaultExecutor();
+    }
+    return this.activityExecutor;
+  }
+
   /**
    * This callback can be used to prepare {@link ActivityContext} before actually processing the
    * {@link com.symphony.bdk.core.activity.ActivityMatcher#matches(ActivityContext)} method.
@@ -114,7 +137,7 @@ public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
     final Optional<Boolean> matcherResult = this.executeMatcher(context);
     if (matcherResult.isPresent() && Boolean.TRUE.equals(matcherResult.get())) {
       if (isAsynchronous()) {
-        executorService.submit(() -> executeActivity(context));
+        getActivityExecutor().execute(getActivityName(), getMaxConcurrentTasks(), () -> executeActivity(context));
       } else {
         executeActivity(context);
       }
@@ -0,0 +1,360 @@
+package com.symphony.bdk.core.activity;
+
+import com.symphony.bdk.core.activity.model.ActivityMetrics;
+import com.symphony.bdk.core.config.model.BdkRejectionPolicy;
+import com.symphony.bdk.core.config.model.BdkThreadingConfig;
+import com.symphony.bdk.core.util.ConcurrencyLimiter;
+import com.symphony.bdk.http.api.util.VirtualThreads;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor of the asynchronous activities, shared by all the activities of an {@link ActivityRegistry}.
+ * <p>
+ * At most {@link BdkThreadingConfig#getMaxConcurrentTasks()} activities run at the same time, the other ones are queued
+ * up to {@link BdkThreadingConfig#getQueueSize()}, the {@link BdkThreadingConfig#getRejectionPolicy()} being applied
+ * beyond. The number of running executions of a given activity can be further limited, the executions above this limit
+ * waiting for their turn without taking a slot of the shared executor.
+ * <p>
+ * When virtual threads are enabled and supported, a new virtual thread is started for each running activity. Otherwise,
+ * activities run on a pool of platform threads, idle threads being released after one minute.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+public class ActivityExecutor {
+
+  private static final String THREAD_NAME = "Activity-Async-Thread";
+  private static final long KEEP_ALIVE_SECONDS = 60L;
+
+  private final int maxConcurrentTasks;
+  private final int queueSize;
+  private final BdkRejectionPolicy rejectionPolicy;
+  private final Map<String, Integer> activityMaxConcurrentTasks;
+  private final long shutdownTimeoutMillis;
+
+  /**
+   * Pool of platform threads, null when running on virtual threads.
+   */
+  private final ThreadPoolExecutor pool;
+  /**
+   * Starts a virtual thread per task, null when running on platform threads.
+   */
+  private final Executor virtualThreadExecutor;
+  private final ConcurrencyLimiter virtualThreadLimiter;
+  /**
+   * Virtual threads running an activity, interrupted if still running once the shutdown timeout is elapsed.
+   */
+  private final Set<Thread> runningVirtualThreads = ConcurrentHashMap.newKeySet();
+  private volatile boolean terminated;
+
+  private final Map<String, ActivityStats> stats = new ConcurrentHashMap<>();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Object inFlightMonitor = new Object();
+  private volatile boolean shutdown;
+
+  /**
+   * @param maxConcurrentTasks the maximum number of activities running at the same time.
+   * @param virtualThreads     true to run the activities on virtual threads.
+   */
+  public ActivityExecutor(int maxConcurrentTasks, boolean virtualThreads) {
+    this(threadingConfig(maxConcurrentTasks, virtualThreads));
+  }
+
+  /**
+   * @param config the threading configuration.
+   */
+  public ActivityExecutor(BdkThreadingConfig config) {
+    if (config.getMaxConcurrentTasks() < 1) {
+      throw new IllegalArgumentException("Max concurrent tasks must be >= 1");
+    }
+    this.maxConcurrentTasks = config.getMaxConcurrentTasks();
+    this.queueSize = config.getQueueSize();
+    this.rejectionPolicy =
+        config.getRejectionPolicy() == null ? BdkRejectionPolicy.CALLER_RUNS : config.getRejectionPolicy();
+    this.activityMaxConcurrentTasks = config.getActivityMaxConcurrentTasks() == null
+        ? Collections.emptyMap()
+        : new HashMap<>(config.getActivityMaxConcurrentTasks());
+    this.shutdownTimeoutMillis = config.getShutdownTimeoutMillis();
+
+    final boolean virtualThreads = config.isVirtualThreads();
+    if (virtualThreads && !VirtualThreads.isSupported()) {
+      log.warn("Virtual threads are not supported by Java {}, activities run on platform threads",
+          System.getProperty("java.version"));
+    }
+
+    final ThreadFactory threadFactory = new ThreadFactoryBuilder()
+        .setName(THREAD_NAME)
+        .setPriority(Thread.NORM_PRIORITY)
+        .setVirtual(virtualThreads)
+        .build();
+
+    if (virtualThreads && VirtualThreads.isSupported()) {
+      // virtual threads are not meant to be pooled, queued activities do not hold any thread
+      this.pool = null;
+      this.virtualThreadExecutor = task -> threadFactory.newThread(() -> this.runOnVirtualThread(task)).start();
+      this.virtualThreadLimiter = new ConcurrencyLimiter(this.maxConcurrentTasks);
+    } else {
+      final BlockingQueue<Runnable> queue = this.queueSize < 0 ? new LinkedBlockingQueue<>()
+          : this.queueSize == 0 ? new SynchronousQueue<>() : new LinkedBlockingQueue<>(this.queueSize);
+      this.pool = new ThreadPoolExecutor(this.maxConcurrentTasks, this.maxConcurrentTasks,
+          KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, queue, threadFactory);
+      this.pool.allowCoreThreadTimeOut(true);
+      this.virtualThreadExecutor = null;
+      this.virtualThreadLimiter = null;
+    }
+  }
+
+  /**
+   * Runs the activity asynchronously, as soon as the number of running activities allows it.
+   *
+   * @param activityName       the name of the activity, used to limit its concurrent executions and to record its
+   *                           metrics.
+   * @param maxConcurrentTasks the maximum number of concurrent executions of this activity, if <= 0 the limit is read
+   *                           from {@link BdkThreadingConfig#getActivityMaxConcurrentTasks()}, if any.
+   * @param task               the activity execution.
+   */
+  public void execute(String activityName, int maxConcurrentTasks, Runnable task) {
+    final ActivityStats activityStats = this.stats.computeIfAbsent(activityName, name -> new ActivityStats());
+    if (this.shutdown) {
+      log.warn("Activity '{}' not executed, the activities executor is shut down", activityName);
+      activityStats.rejected.increment();
+      return;
+    }
+
+    this.inFlight.incrementAndGet();
+    activityStats.queued.incrementAndGet();
+    final Execution execution = new Execution(activityName, activityStats, task);
+
+    final int limit =
+        maxConcurrentTasks > 0 ? maxConcurrentTasks : this.activityMaxConcurrentTasks.getOrDefault(activityName, 0);
+    if (limit > 0) {
+      activityStats.limiter(limit).execute(() -> this.submit(execution));
+    } else {
+      this.submit(execution);
+    }
+  }
+
+  /**
+   * @return a snapshot of the metrics of each activity, indexed by activity name.
+   */
+  public Map<String, ActivityMetrics> getMetrics() {
+    final Map<String, ActivityMetrics> snapshot = new TreeMap<>();
+    this.stats.forEach((name, activityStats) -> snapshot.put(name, activityStats.snapshot()));
+    return Collections.unmodifiableMap(snapshot);
+  }
+
+  /**
+   * Stops accepting new activities and waits for the running and queued ones to complete, at most
+   * {@link BdkThreadingConfig#getShutdownTimeoutMillis()}. Activities still running afterwards are interrupted.
+   */
+  public void shutdown() {
+    this.shutdown = true;
+    final long deadline = System.currentTimeMillis() + this.shutdownTimeoutMillis;
+    synchronized (this.inFlightMonitor) {
+      long remaining;
+      while (this.inFlight.get() > 0 && (remaining = deadline - System.currentTimeMillis()) > 0) {
+        try {
+          this.inFlightMonitor.wait(remaining);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+    }
+
+    if (this.inFlight.get() > 0) {
+      log.warn("{} activities did not complete within {} ms after shutdown", this.inFlight.get(),
+          this.shutdownTimeoutMillis);
+    }
+    if (this.pool != null) {
+      this.pool.shutdownNow();
+    } else {
+      this.terminated = true;
+      this.runningVirtualThreads.forEach(Thread::interrupt);
+    }
+  }
+
+  /**
+   * @return true once {@link #shutdown()} has been called.
+   */
+  public boolean isShutdown() {
+    return this.shutdown;
+  }
+
+  /**
+   * @return a future completed once the execution is done.
+   */
+  private CompletableFuture<Void> submit(Execution execution) {
+    if (this.pool != null) {
+      final CompletableFuture<Void> done = new CompletableFuture<>();
+      try {
+        this.pool.execute(() -> {
+          try {
+            execution.run();
+          } finally {
+            done.complete(null);
+          }
+        });
+        return done;
+      } catch (RejectedExecutionException e) {
+        return this.reject(execution);
+      }
+    }
+
+    if (this.queueSize >= 0 && this.virtualThreadLimiter.getRunningCount() >= this.maxConcurrentTasks
+        && this.virtualThreadLimiter.getPendingCount() >= this.queueSize) {
+      return this.reject(execution);
+    }
+    return this.virtualThreadLimiter.execute(() -> CompletableFuture.runAsync(execution, this.virtualThreadExecutor));
+  }
+
+  private void runOnVirtualThread(Runnable task) {
+    final Thread thread = Thread.currentThread();
+    this.runningVirtualThreads.add(thread);
+    try {
+      if (this.terminated) {
+        // started after the shutdown timeout, as the pool would interrupt it
+        thread.interrupt();
+      }
+      task.run();
+    } finally {
+      this.runningVirtualThreads.remove(thread);
+    }
+  }
+
+  private CompletableFuture<Void> reject(Execution execution) {
+    if (this.rejectionPolicy == BdkRejectionPolicy.CALLER_RUNS && !this.shutdown) {
+      log.debug("Activities queue is full, activity '{}' is executed by the calling thread", execution.activityName);
+      execution.run();
+    } else {
+      log.warn("Activities queue is full, activity '{}' is discarded", execution.activityName);
+      execution.discard();
+    }
+    return CompletableFuture.completedFuture(null);
+  }
+
+  private void done() {
+    if (this.inFlight.decrementAndGet() == 0) {
+      synchronized (this.inFlightMonitor) {
+        this.inFlightMonitor.notifyAll();
+      }
+    }
+  }
+
+  private static BdkThreadingConfig threadingConfig(int maxConcurrentTasks, boolean virtualThreads) {
+    final BdkThreadingConfig config = new BdkThreadingConfig();
+    config.setMaxConcurrentTasks(maxConcurrentTasks);
+    config.setVirtualThreads(virtualThreads);
+    return config;
+  }
+
+  /**
+   * Lazily created executor used by the activities that are not registered through an {@link ActivityRegistry}.
+   */
+  static ActivityExecutor defaultExecutor() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  private static class DefaultHolder {
+    private static final ActivityExecutor INSTANCE = new ActivityExecutor(new BdkThreadingConfig());
+  }
+
+  private class Execution implements Runnable {
+
+    private final String activityName;
+    private final ActivityStats activityStats;
+    private final Runnable task;
+    private final long submittedAt = System.nanoTime();
+
+    private Execution(String activityName, ActivityStats activityStats, Runnable task) {
+      this.activityName = activityName;
+      this.activityStats = activityStats;
+      this.task = task;
+    }
+
+    @Override
+    public void run() {
+      final long startedAt = System.nanoTime();
+      this.activityStats.queued.decrementAndGet();
+      this.activityStats.running.incrementAndGet();
+      try {
+        this.task.run();
+      } catch (Exception e) {
+        log.warn("Asynchronous activity '{}' execution failed.", this.activityName, e);
+      } finally {
+        this.activityStats.running.decrementAndGet();
+        this.activityStats.record(startedAt - this.submittedAt, System.nanoTime() - startedAt);
+        done();
+      }
+    }
+
+    private void discard() {
+      this.activityStats.queued.decrementAndGet();
+      this.activityStats.rejected.increment();
+      done();
+    }
+  }
+
+  private static class ActivityStats {
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAdder totalExecutionNanos = new LongAdder();
+    private final AtomicLong maxExecutionNanos = new AtomicLong();
+    private volatile ConcurrencyLimiter limiter;
+
+    private ConcurrencyLimiter limiter(int maxConcurrentTasks) {
+      if (this.limiter == null) {
+        synchronized (this) {
+          if (this.limiter == null) {
+            this.limiter = new ConcurrencyLimiter(maxConcurrentTasks);
+          }
+        }
+      }
+      return this.limiter;
+    }
+
+    private void record(long waitNanos, long executionNanos) {
+      this.totalWaitNanos.add(waitNanos);
+      this.totalExecutionNanos.add(executionNanos);
+      this.maxExecutionNanos.accumulateAndGet(executionNanos, Math::max);
+      this.completed.increment();
+    }
+
+    private ActivityMetrics snapshot() {
+      final long count = this.completed.sum();
+      return new ActivityMetrics(
+          this.queued.get(),
+          this.running.get(),
+          count,
+          this.rejected.sum(),
+          count == 0 ? 0.0 : this.totalWaitNanos.sum() / (count * 1_000_000.0),
+          count == 0 ? 0.0 : this.totalExecutionNanos.sum() / (count * 1_000_000.0),
+          TimeUnit.NANOSECONDS.toMillis(this.maxExecutionNanos.get())
+      );
+    }
+  }
+}
@@ -3,6 +3,9 @@ package com.symphony.bdk.core.activity;
 import com.symphony.bdk.core.activity.command.CommandActivity;
 import com.symphony.bdk.core.activity.command.SlashCommand;
 import com.symphony.bdk.core.activity.command.HelpCommand;
+import com.symphony.bdk.core.activity.command.SlashCommandRouter;
+import com.symphony.bdk.core.activity.model.ActivityMetrics;
+import com.symphony.bdk.core.config.model.BdkThreadingConfig;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
 import com.symphony.bdk.gen.api.model.UserV2;
 
@@ -11,6 +14,7 @@ import org.apiguardian.api.API;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -20,6 +24,9 @@ import java.util.Optional;
  * If an activity to be registered is already existing in the registry, then the old one will be replaced.
  * In case of an activity of type {@link SlashCommand}, it will replace the old one if this latter has the same name and both require bot mention (or both don't).
  * If the activity has /help as name, then it will replace {@link HelpCommand} if it is already registered.
+ * <p>
+ * The {@link SlashCommand}s are not subscribed to the Datafeed one by one: they are routed by a single
+ * {@link SlashCommandRouter} so that a message is matched against the relevant commands only.
  */
 @Slf4j
 @API(status = API.Status.STABLE)
@@ -40,9 +47,26 @@ public class ActivityRegistry {
    */
   private final DatafeedLoop datafeedLoop;
 
+  /**
+   * The executor shared by the asynchronous activities
+   */
+  private final ActivityExecutor activityExecutor;
+
+  /**
+   * The listener routing messages to the slash commands, subscribed along with the first slash command
+   */
+  private final SlashCommandRouter slashCommandRouter = new SlashCommandRouter();
+  private boolean slashCommandRouterSubscribed;
+
   public ActivityRegistry(UserV2 botSession, DatafeedLoop datafeedLoop) {
+    this(botSession, datafeedLoop, new ActivityExecutor(new BdkThreadingConfig()));
+  }
+
+  @API(status = API.Status.EXPERIMENTAL)
+  public ActivityRegistry(UserV2 botSession, DatafeedLoop datafeedLoop, ActivityExecutor activityExecutor) {
     this.botSession = botSession;
     this.datafeedLoop = datafeedLoop;
+    this.activityExecutor = activityExecutor;
   }
 
   /**
@@ -59,6 +83,25 @@ public class ActivityRegistry {
     return new ArrayList<>(activityList);
   }
 
+  /**
+   * Returns the metrics of the asynchronous activities executions: queue depth, running executions and latencies.
+   *
+   * @return a snapshot of the metrics, indexed by activity name.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public Map<String, ActivityMetrics> getMetrics() {
+    return this.activityExecutor.getMetrics();
+  }
+
+  /**
+   * Gracefully shuts down the executor of the asynchronous activities: new activities are not executed anymore while
+   * the running and queued ones are given some time to complete.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public void shutdown() {
+    this.activityExecutor.shutdown();
+  }
+
   private void preProcessActivity(AbstractActivity<?, ?> activity) {
 
     Optional<AbstractActivity<?, ?>> act = this.activityList.stream()
@@ -66,7 +109,11 @@ public class ActivityRegistry {
         .findFirst();
 
     act.ifPresent(abstractActivity -> {
-      abstractActivity.bindToRealTimeEventsSource(this.datafeedLoop::unsubscribe);
+      if (isRouted(abstractActivity)) {
+        this.slashCommandRouter.remove((SlashCommand) abstractActivity);
+      } else {
+        abstractActivity.bindToRealTimeEventsSource(this.datafeedLoop::unsubscribe);
+      }
       this.activityList.remove(abstractActivity);
       log.debug("One activity '{}' has been removed/unsubscribed in order to be replaced",
           abstractActivity.getInfo().name());
@@ -79,8 +126,27 @@ public class ActivityRegistry {
       ((CommandActivity<?>) activity).setBotUserId(this.botSession.getId());
     }
 
+    activity.setActivityExecutor(this.activityExecutor);
+
+    if (isRouted(activity)) {
+      this.routeSlashCommand((SlashCommand) activity);
+      return;
+    }
+
     // make the activity to subscribe to its expected real-time event
     activity.bindToRealTimeEventsSource(this.datafeedLoop::subscribe);
   }
+
+  private void routeSlashCommand(SlashCommand slashCommand) {
+    this.slashCommandRouter.add(slashCommand);
+    if (!this.slashCommandRouterSubscribed) {
+      this.datafeedLoop.subscribe(this.slashCommandRouter);
+      this.slashCommandRouterSubscribed = true;
+    }
+  }
+
+  private static boolean isRouted(AbstractActivity<?, ?> activity) {
+    return activity instanceof SlashCommand && SlashCommandRouter.isRoutable((SlashCommand) activity);
+  }
 }
 
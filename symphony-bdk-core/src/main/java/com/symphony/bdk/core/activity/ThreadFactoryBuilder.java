@@ -1,6 +1,7 @@
 package com.symphony.bdk.core.activity;
 
 import com.symphony.bdk.http.api.tracing.MDCUtils;
+import com.symphony.bdk.http.api.util.VirtualThreads;
 
 import org.apiguardian.api.API;
 
@@ -10,9 +11,11 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicLong;
 
 @API(status = API.Status.INTERNAL)
-class ThreadFactoryBuilder {
+public class ThreadFactoryBuilder {
   private String name = null;
   private int priority = Thread.NORM_PRIORITY;
+  private boolean daemon = false;
+  private boolean virtual = false;
 
   public ThreadFactoryBuilder setName(String name) {
     Objects.requireNonNull(name);
@@ -35,6 +38,23 @@ class ThreadFactoryBuilder {
     return this;
   }
 
+  public ThreadFactoryBuilder setDaemon(boolean daemon) {
+    this.daemon = daemon;
+    return this;
+  }
+
+  /**
+   * Virtual threads are only created on JDK 21+, platform threads are created otherwise. Virtual threads are always
+   * daemon threads with a normal priority, {@link #setDaemon(boolean)} and {@link #setPriority(int)} are then ignored.
+   *
+   * @param virtual true to create virtual threads
+   * @return this builder
+   */
+  public ThreadFactoryBuilder setVirtual(boolean virtual) {
+    this.virtual = virtual;
+    return this;
+  }
+
   public ThreadFactory build() {
     return build(this);
   }
@@ -42,12 +62,17 @@ class ThreadFactoryBuilder {
   private static ThreadFactory build(ThreadFactoryBuilder builder) {
     final String name = builder.name;
     final int priority = builder.priority;
-    final ThreadFactory factory = Executors.defaultThreadFactory();
+    final boolean daemon = builder.daemon;
+    final boolean virtual = builder.virtual && VirtualThreads.isSupported();
+    final ThreadFactory factory = virtual ? VirtualThreads.factory("virtual") : Executors.defaultThreadFactory();
 
     final AtomicLong count = new AtomicLong(0);
     return runnable -> {
       Thread thread = factory.newThread(MDCUtils.wrap(runnable));
-      thread.setPriority(priority);
+      if (!virtual) {
+        thread.setPriority(priority);
+        thread.setDaemon(daemon);
+      }
 
       if (name != null) {
         thread.setName(name + "-" + count.getAndIncrement());
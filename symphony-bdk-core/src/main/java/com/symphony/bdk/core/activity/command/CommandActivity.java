@@ -6,7 +6,7 @@ import com.symphony.bdk.core.activity.AbstractActivity;
 import com.symphony.bdk.core.activity.exception.FatalActivityExecutionException;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
-import com.symphony.bdk.core.service.message.util.PresentationMLParser;
+import com.symphony.bdk.core.service.message.util.ParsedMessage;
 import com.symphony.bdk.gen.api.model.V4Initiator;
 import com.symphony.bdk.gen.api.model.V4MessageSent;
 
@@ -48,20 +48,27 @@ public abstract class CommandActivity<C extends CommandContext> extends Abstract
       listener = new RealTimeEventListener() {
         @Override
         public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
-          processEvent(initiator, event);
+          CommandActivity.this.onMessageSent(initiator, event);
         }
       };
     }
     bindRealTimeListener(realTimeEventsSource, listener);
   }
 
+  /**
+   * Processes a received message, either from the dedicated listener of the activity or from the
+   * {@link SlashCommandRouter}.
+   */
+  void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+    this.processEvent(initiator, event);
+  }
+
   /**
    * {@inheritDoc}
    */
   protected void beforeMatcher(C context) {
     try {
-      context.setTextContent(
-          PresentationMLParser.getTextContent(context.getSourceEvent().getMessage().getMessage()));
+      context.setTextContent(ParsedMessage.of(context.getSourceEvent().getMessage()).getTextContent());
     } catch (PresentationMLParserException e) {
       throw new FatalActivityExecutionException(this.getInfo(), "Unable to parse presentationML", e);
     }
@@ -114,6 +114,10 @@ public class SlashCommand extends CommandActivity<CommandContext> {
     this.description = description;
   }
 
+  SlashCommandPattern getCommandPattern() {
+    return this.commandPattern;
+  }
+
   @Override
   public ActivityMatcher<CommandContext> matcher() {
     return context -> {
@@ -0,0 +1,193 @@
+package com.symphony.bdk.core.activity.command;
+
+import com.symphony.bdk.core.activity.parsing.CommandToken;
+import com.symphony.bdk.core.activity.parsing.StaticCommandToken;
+import com.symphony.bdk.core.service.datafeed.EventException;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.core.service.message.util.ParsedMessage;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Single {@link RealTimeEventListener} dispatching the received messages to the registered {@link SlashCommand}s.
+ * <p>
+ * The command patterns are compiled into a prefix tree: static words are edges keyed by the word itself while
+ * arguments (and words that are regular expressions) are wildcard edges. A message is tokenized once and the tree is
+ * walked with its tokens, so that only the commands having the same number of tokens and the same static words are
+ * evaluated, instead of every registered command. The matched commands are then processed as if they were subscribed
+ * to the datafeed on their own, in their registration order.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+public class SlashCommandRouter implements RealTimeEventListener {
+
+  private static final Pattern REGEX_METACHARACTERS = Pattern.compile("[\\\\^$.|?*+()\\[\\]{}]");
+
+  /**
+   * Registered commands with their registration order
+   */
+  private final Map<SlashCommand, Long> commands = new IdentityHashMap<>();
+  private long sequence;
+
+  /**
+   * Tree built from the registered commands, replaced on each registration
+   */
+  private volatile Node root = new Node();
+
+  /**
+   * Checks if a slash command can be routed by its pattern. This is not the case if its matcher has been overridden.
+   *
+   * @param command the slash command.
+   * @return true if the command can be added to the router.
+   */
+  public static boolean isRoutable(SlashCommand command) {
+    try {
+      return command.getClass().getMethod("matcher").getDeclaringClass() == SlashCommand.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Adds a slash command to the router.
+   *
+   * @param command the slash command to be routed.
+   */
+  public synchronized void add(SlashCommand command) {
+    this.commands.put(command, this.sequence++);
+    this.root = this.buildTree();
+  }
+
+  /**
+   * Removes a slash command from the router.
+   *
+   * @param command the slash command not to be routed anymore.
+   */
+  public synchronized void remove(SlashCommand command) {
+    if (this.commands.remove(command) != null) {
+      this.root = this.buildTree();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onMessageSent(V4Initiator initiator, V4MessageSent event) throws EventException {
+    final List<SlashCommand> matchingCommands;
+    try {
+      matchingCommands = this.route(ParsedMessage.of(event.getMessage()).getTokens());
+    } catch (Exception e) {
+      log.warn("Unable to parse message to be routed to slash commands", e);
+      return;
+    }
+
+    for (SlashCommand command : matchingCommands) {
+      try {
+        command.onMessageSent(initiator, event);
+      } catch (EventException e) {
+        throw e; // to allow events to be re-queued in DFv2 loop
+      } catch (Exception e) {
+        log.debug("An uncaught exception has occurred while routing message to slash command {}",
+            command.getSlashCommandName(), e);
+      }
+    }
+  }
+
+  /**
+   * Returns the commands whose pattern possibly matches the given message tokens. The candidates still have to be
+   * matched token per token, by their own matcher.
+   *
+   * @param inputTokens the tokens of a message.
+   * @return the candidate commands in their registration order.
+   */
+  List<SlashCommand> route(List<Object> inputTokens) {
+    final List<Entry> candidates = new ArrayList<>();
+    collect(this.root, inputTokens, 0, candidates);
+    if (candidates.size() > 1) {
+      candidates.sort((e1, e2) -> Long.compare(e1.sequence, e2.sequence));
+    }
+
+    final List<SlashCommand> result = new ArrayList<>(candidates.size());
+    for (Entry candidate : candidates) {
+      result.add(candidate.command);
+    }
+    return result;
+  }
+
+  private static void collect(Node node, List<Object> inputTokens, int depth, List<Entry> candidates) {
+    if (depth == inputTokens.size()) {
+      candidates.addAll(node.commands);
+      return;
+    }
+
+    final Object inputToken = inputTokens.get(depth);
+    if (inputToken instanceof String) {
+      final Node child = node.words.get(inputToken);
+      if (child != null) {
+        collect(child, inputTokens, depth + 1, candidates);
+      }
+    }
+    if (node.wildcard != null) {
+      collect(node.wildcard, inputTokens, depth + 1, candidates);
+    }
+  }
+
+  private Node buildTree() {
+    final Node tree = new Node();
+    this.commands.forEach((command, order) -> {
+      Node node = tree;
+      for (CommandToken token : command.getCommandPattern().getTokens()) {
+        final String word = getWord(token);
+        if (word != null) {
+          node = node.words.computeIfAbsent(word, w -> new Node());
+        } else {
+          if (node.wildcard == null) {
+            node.wildcard = new Node();
+          }
+          node = node.wildcard;
+        }
+      }
+      node.commands.add(new Entry(command, order));
+    });
+    return tree;
+  }
+
+  /**
+   * @return the word exactly matched by a static token, null if the token is an argument or contains a regex.
+   */
+  private static String getWord(CommandToken token) {
+    if (!(token instanceof StaticCommandToken)) {
+      return null;
+    }
+    final String regex = ((StaticCommandToken) token).getRegexPattern().pattern();
+    final String word = regex.substring(1, regex.length() - 1); // strip begin and end anchors
+    return REGEX_METACHARACTERS.matcher(word).find() ? null : word;
+  }
+
+  private static class Node {
+    private final Map<String, Node> words = new HashMap<>();
+    private final List<Entry> commands = new ArrayList<>(1);
+    private Node wildcard;
+  }
+
+  private static class Entry {
+    private final SlashCommand command;
+    private final long sequence;
+
+    private Entry(SlashCommand command, long sequence) {
+      this.command = command;
+      this.sequence = sequence;
+    }
+  }
+}
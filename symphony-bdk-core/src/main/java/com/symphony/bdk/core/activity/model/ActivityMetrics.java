@@ -0,0 +1,35 @@
+package com.symphony.bdk.core.activity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apiguardian.api.API;
+
+/**
+ * Snapshot of the executions of an asynchronous {@link com.symphony.bdk.core.activity.AbstractActivity}.
+ */
+@Getter
+@AllArgsConstructor
+@API(status = API.Status.EXPERIMENTAL)
+public class ActivityMetrics {
+
+  /** Number of executions waiting for their turn */
+  private final int queued;
+
+  /** Number of executions currently running */
+  private final int running;
+
+  /** Number of completed executions, successful or not */
+  private final long completed;
+
+  /** Number of executions discarded because the queue was full or the executor was shut down */
+  private final long rejected;
+
+  /** Average time spent in the queue by the completed executions, in milliseconds */
+  private final double averageWaitTimeMillis;
+
+  /** Average duration of the completed executions, in milliseconds */
+  private final double averageExecutionTimeMillis;
+
+  /** Longest duration of the completed executions, in milliseconds */
+  private final long maxExecutionTimeMillis;
+}
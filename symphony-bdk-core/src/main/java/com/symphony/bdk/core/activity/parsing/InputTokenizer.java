@@ -3,43 +3,32 @@ package com.symphony.bdk.core.activity.parsing;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 import com.symphony.bdk.core.service.message.util.EntityTypeEnum;
+import com.symphony.bdk.core.service.message.util.PresentationMLContent;
+import com.symphony.bdk.core.service.message.util.PresentationMLParser;
 import com.symphony.bdk.gen.api.model.V4Message;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.apiguardian.api.API;
-import org.w3c.dom.Document;
-import org.w3c.dom.Node;
 
-import java.io.ByteArrayInputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Stream;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 
 /**
  * Class responsible for parsing a {@link V4Message} into a list of tokens separated by at least one whitespace character.
  * Tokens can be of type {@link String}, {@link Mention}, {@link Cashtag} or {@link Hashtag} depending on the message content.
+ * <p>
+ * The tokens are computed in a single pass over the text of the message, as read by {@link PresentationMLParser}.
  */
 @API(status = API.Status.INTERNAL)
 @Slf4j
 public class InputTokenizer {
 
-  private static final DocumentBuilder DOCUMENT_BUILDER = initBuilder();
   private static final ObjectMapper MAPPER = new ObjectMapper();
 
-  private static final String DATA_ENTITY_ID = "data-entity-id";
   private static final String TYPE = "type";
-  private static final String SPAN = "span";
-  private static final String CLASS = "class";
-  private static final String ENTITY = "entity";
   private static final String ID = "id";
   private static final String VALUE = "value";
 
@@ -47,35 +36,41 @@ public class InputTokenizer {
   private static final String CASHTAG_VALUE_TYPE = "org.symphonyoss.fin.security.id.ticker";
   private static final String HASHTAG_VALUE_TYPE = "org.symphonyoss.taxonomy.hashtag";
 
-  @SneakyThrows
-  private static DocumentBuilder initBuilder() {
-    final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-    // to fix XXE vulnerability
-    factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-    return factory.newDocumentBuilder();
-  }
-
-  private Document document;
-  private JsonNode dataNode;
-  private List<Object> tokens;
-  private StringBuilder buffer;
+  private final PresentationMLContent content;
+  private final JsonNode dataNode;
+  private final List<Object> tokens;
 
   /**
    *
    * @param message the message to be parsed
    */
-  @SneakyThrows
   public InputTokenizer(V4Message message) {
-    this.document = DOCUMENT_BUILDER.parse(
-        new ByteArrayInputStream(message.getMessage().getBytes(StandardCharsets.UTF_8)));
-    String jsonData = isBlank(message.getData()) ? "{}" : message.getData();
-    this.dataNode = MAPPER.readTree(jsonData);
+    this(parseContent(message), parseData(message));
+  }
+
+  /**
+   *
+   * @param content the already parsed PresentationML of the message
+   * @param dataNode the already parsed data of the message, an empty object if the message has no data
+   */
+  public InputTokenizer(PresentationMLContent content, JsonNode dataNode) {
+    this.content = content;
+    this.dataNode = dataNode;
     this.tokens = new ArrayList<>();
-    this.buffer = new StringBuilder();
 
     tokenize();
   }
 
+  @SneakyThrows
+  private static PresentationMLContent parseContent(V4Message message) {
+    return PresentationMLParser.parse(message.getMessage());
+  }
+
+  @SneakyThrows
+  private static JsonNode parseData(V4Message message) {
+    return MAPPER.readTree(isBlank(message.getData()) ? "{}" : message.getData());
+  }
+
   /**
    *
    * @return the list of tokens in the message
@@ -85,72 +80,49 @@ public class InputTokenizer {
   }
 
   private void tokenize() {
-    tokenize(document); // begin from the root node
-    tokenizeRegularContent(); // tokenize what is left in the buffer
-  }
+    final String text = content.getText();
+    int position = 0;
 
-  private void tokenize(Node node) {
-    if (isEntityNode(node)) {
-      final String entityType = getEntityType(node);
-      if (isEntitySupported(entityType)) {
-        tokenizeEntityNode(node, entityType);
-      } else {
-        // entity type is not recognized, falling back to regular text
-        tokenizeRegularNode(node);
+    for (int i = 0; i < content.getEntityCount(); i++) {
+      final int start = content.getEntityStart(i);
+      if (start < position) {
+        continue; // nested in an entity already tokenized
       }
-    } else {
-      tokenizeRegularNode(node);
-    }
-  }
 
-  private void tokenizeEntityNode(Node node, String entityType) {
-    tokenizeRegularContent(); // tokenize buffer as usual
-    buffer.delete(0, buffer.length()); // clear the buffer
-
-    if (entityType.equals(EntityTypeEnum.MENTION.getValue())) {
-      final String userIdAsString = extractEntityValue(node, SYMPHONY_USER_ID_TYPE);
-      final Long userId = userIdAsString == null ? null : Long.parseLong(userIdAsString);
-      tokens.add(new Mention(node.getTextContent(), userId));
-    } else if (entityType.equals(EntityTypeEnum.CASHTAG.getValue())) {
-      tokens.add(new Cashtag(node.getTextContent(), extractEntityValue(node, CASHTAG_VALUE_TYPE)));
-    } else if (entityType.equals(EntityTypeEnum.HASHTAG.getValue())) {
-      tokens.add(new Hashtag(node.getTextContent(), extractEntityValue(node, HASHTAG_VALUE_TYPE)));
+      final Object entity = toEntityToken(i, text);
+      if (entity != null) {
+        tokenizeRegularContent(text, position, start);
+        tokens.add(entity);
+        position = content.getEntityEnd(i);
+      }
+      // otherwise the entity type is not recognized, falling back to regular text
     }
-  }
-
-  private boolean isEntitySupported(String entityType) {
-    return Stream.of(EntityTypeEnum.MENTION, EntityTypeEnum.CASHTAG, EntityTypeEnum.HASHTAG)
-        .map(EntityTypeEnum::getValue)
-        .anyMatch(t -> t.equals(entityType));
-  }
 
-  private String getEntityType(Node node) {
-    String entityId = node.getAttributes().getNamedItem(DATA_ENTITY_ID).getNodeValue();
-    return dataNode.get(entityId).get(TYPE).asText();
+    tokenizeRegularContent(text, position, text.length());
   }
 
-  private boolean isEntityNode(Node node) {
-    if (!StringUtils.equals(node.getNodeName(), SPAN)) {
-      return false;
-    }
-
-    final Node classAttribute = node.getAttributes().getNamedItem(CLASS);
-    if (classAttribute == null || !StringUtils.equals(classAttribute.getNodeValue(), ENTITY)) {
-      return false;
+  private Object toEntityToken(int index, String text) {
+    final JsonNode entityNode = dataNode.get(content.getEntityId(index));
+    if (entityNode == null || entityNode.get(TYPE) == null) {
+      return null;
     }
 
-    final Node entityIdAttribute = node.getAttributes().getNamedItem(DATA_ENTITY_ID);
-    if (entityIdAttribute == null) {
-      return false;
+    final String entityType = entityNode.get(TYPE).asText();
+    final String entityText = text.substring(content.getEntityStart(index), content.getEntityEnd(index));
+    if (EntityTypeEnum.MENTION.getValue().equals(entityType)) {
+      final String userIdAsString = extractEntityValue(entityNode, SYMPHONY_USER_ID_TYPE);
+      final Long userId = userIdAsString == null ? null : Long.parseLong(userIdAsString);
+      return new Mention(entityText, userId);
+    } else if (EntityTypeEnum.CASHTAG.getValue().equals(entityType)) {
+      return new Cashtag(entityText, extractEntityValue(entityNode, CASHTAG_VALUE_TYPE));
+    } else if (EntityTypeEnum.HASHTAG.getValue().equals(entityType)) {
+      return new Hashtag(entityText, extractEntityValue(entityNode, HASHTAG_VALUE_TYPE));
     }
-
-    String entityId = entityIdAttribute.getNodeValue();
-    return dataNode.has(entityId);
+    return null;
   }
 
-  private String extractEntityValue(Node node, String type) {
-    String entityId = node.getAttributes().getNamedItem(DATA_ENTITY_ID).getNodeValue();
-    for (JsonNode id : dataNode.get(entityId).get(ID)) {
+  private String extractEntityValue(JsonNode entityNode, String type) {
+    for (JsonNode id : entityNode.get(ID)) {
       if (id.get(TYPE).asText().equals(type)) {
         return id.get(VALUE).asText();
       }
@@ -158,20 +130,27 @@ public class InputTokenizer {
     return null;
   }
 
-  private void tokenizeRegularContent() {
-    Arrays.stream(buffer.toString().trim().split("\\s+"))
-        .filter(StringUtils::isNotBlank)
-        .forEachOrdered(t -> tokens.add(t));
-  }
-
-  private void tokenizeRegularNode(Node node) {
-    final String nodeValue = node.getNodeValue();
-    if (nodeValue != null) {
-      buffer.append(nodeValue);
+  /**
+   * Adds the words of the given text range, words being separated by whitespaces (as matched by the regex {@code \s}).
+   */
+  private void tokenizeRegularContent(String text, int start, int end) {
+    int wordStart = -1;
+    for (int i = start; i < end; i++) {
+      if (isWhitespace(text.charAt(i))) {
+        if (wordStart >= 0) {
+          tokens.add(text.substring(wordStart, i));
+          wordStart = -1;
+        }
+      } else if (wordStart < 0) {
+        wordStart = i;
+      }
     }
-
-    for (int i = 0; i < node.getChildNodes().getLength(); i++) {
-      tokenize(node.getChildNodes().item(i));
+    if (wordStart >= 0) {
+      tokens.add(text.substring(wordStart, end));
     }
   }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+  }
 }
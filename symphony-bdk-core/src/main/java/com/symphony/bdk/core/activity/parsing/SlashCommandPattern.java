@@ -3,8 +3,10 @@ package com.symphony.bdk.core.activity.parsing;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 import com.symphony.bdk.core.activity.exception.SlashCommandSyntaxException;
+import com.symphony.bdk.core.service.message.util.ParsedMessage;
 import com.symphony.bdk.gen.api.model.V4Message;
 
+import lombok.SneakyThrows;
 import org.apiguardian.api.API;
 
 import java.util.ArrayList;
@@ -82,8 +84,10 @@ public class SlashCommandPattern {
    * @param message the input message to be matched against the {@link SlashCommandPattern}
    * @return the {@link MatchResult} object containing the status (matches or not) and the potential arguments.
    */
+  @SneakyThrows
   public MatchResult getMatchResult(V4Message message) {
-    final List<Object> inputTokens = new InputTokenizer(message).getTokens();
+    // tokens are shared by all the slash commands handling this message
+    final List<Object> inputTokens = ParsedMessage.of(message).getTokens();
 
     if (!matches(inputTokens)) {
       return new MatchResult(false);
@@ -122,6 +122,7 @@ public class AuthenticatorFactory {
       return new OboAuthenticatorCertImpl(
           this.config.getRetry(),
           this.config.getApp().getAppId(),
+          this.config.getApp().getOboCache(),
           this.apiClientFactory.getExtAppSessionAuthClient()
       );
     }
@@ -133,6 +134,7 @@ public class AuthenticatorFactory {
       return new OboAuthenticatorRsaImpl(
           this.config.getRetry(),
           this.config.getApp().getAppId(),
+          this.config.getApp().getOboCache(),
           this.loadPrivateKeyFromAuthenticationConfig(this.config.getApp()),
           this.apiClientFactory.getLoginClient()
       );
@@ -160,7 +162,8 @@ public class AuthenticatorFactory {
           this.config.getRetry(),
           this.config.getApp().getAppId(),
           this.apiClientFactory.getExtAppSessionAuthClient(),
-          extensionAppTokensRepository);
+          extensionAppTokensRepository,
+          this.config.getApp().getPodCertificateTtlSeconds());
     }
     if (this.config.getApp().isRsaAuthenticationConfigured()) {
       if (!this.config.getApp().isRsaConfigurationValid()) {
@@ -173,7 +176,8 @@ public class AuthenticatorFactory {
           this.loadPrivateKeyFromAuthenticationConfig(this.config.getApp()),
           this.apiClientFactory.getLoginClient(),
           this.apiClientFactory.getPodClient(),
-          extensionAppTokensRepository
+          extensionAppTokensRepository,
+          this.config.getApp().getPodCertificateTtlSeconds()
       );
     }
     throw new AuthInitializationException("Neither RSA private key nor certificate is configured.");
@@ -14,6 +14,8 @@ import com.symphony.bdk.http.api.ApiException;
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
+import java.time.Duration;
+
 import javax.annotation.Nonnull;
 
 /**
@@ -89,6 +91,14 @@ public abstract class AbstractBotAuthenticator implements BotAuthenticator {
     return commonJwtConfig.getEnabled();
   }
 
+  public boolean isBackgroundRefreshEnabled() {
+    return isCommonJwtEnabled() && Boolean.TRUE.equals(commonJwtConfig.getBackgroundRefresh());
+  }
+
+  public Duration getRefreshAhead() {
+    return Duration.ofSeconds(commonJwtConfig.getRefreshAheadSeconds());
+  }
+
   public AgentVersionService getAgentVersionService() {
     return agentVersionService;
   }
@@ -2,7 +2,11 @@ package com.symphony.bdk.core.auth.impl;
 
 import com.symphony.bdk.core.auth.ExtensionAppAuthenticator;
 import com.symphony.bdk.core.auth.ExtensionAppTokensRepository;
+import com.symphony.bdk.core.auth.exception.AuthInitializationException;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
+import com.symphony.bdk.core.auth.jwt.JwtHelper;
+import com.symphony.bdk.core.auth.jwt.UserClaim;
+import com.symphony.bdk.core.config.model.BdkExtAppConfig;
 import com.symphony.bdk.core.config.model.BdkRetryConfig;
 import com.symphony.bdk.core.retry.RetryWithRecovery;
 import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
@@ -10,10 +14,14 @@ import com.symphony.bdk.gen.api.model.ExtensionAppTokens;
 import com.symphony.bdk.gen.api.model.PodCertificate;
 import com.symphony.bdk.http.api.ApiException;
 
+import io.jsonwebtoken.SignatureException;
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
+import java.security.PublicKey;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Abstract class to factorize the {@link ExtensionAppAuthenticator} logic between RSA and certificate,
@@ -23,10 +31,19 @@ import java.util.Optional;
 @API(status = API.Status.INTERNAL)
 public abstract class AbstractExtensionAppAuthenticator implements ExtensionAppAuthenticator {
 
+  /**
+   * Minimum interval between two refreshes of the pod certificate forced by a JWT signature failure.
+   */
+  static final long FORCED_REFRESH_MIN_INTERVAL_MILLIS = 30_000L;
+
   protected final String appId;
   protected final ExtensionAppTokensRepository tokensRepository;
   private final AuthenticationRetry<ExtensionAppTokens> authenticationRetry;
   private final RetryWithRecoveryBuilder<PodCertificate> podCertificateRetryBuilder;
+  private final long podCertificateTtlMillis;
+  private final Object podPublicKeyLock = new Object();
+  private final AtomicLong lastForcedRefresh = new AtomicLong(Long.MIN_VALUE);
+  private volatile CachedPublicKey podPublicKey;
 
   public AbstractExtensionAppAuthenticator(BdkRetryConfig retryConfig, String appId) {
     this(retryConfig, appId, new InMemoryTokensRepository());
@@ -34,10 +51,16 @@ public abstract class AbstractExtensionAppAuthenticator implements ExtensionAppA
 
   public AbstractExtensionAppAuthenticator(BdkRetryConfig retryConfig, String appId,
       ExtensionAppTokensRepository tokensRepository) {
+    this(retryConfig, appId, tokensRepository, BdkExtAppConfig.DEFAULT_POD_CERTIFICATE_TTL_SECONDS);
+  }
+
+  public AbstractExtensionAppAuthenticator(BdkRetryConfig retryConfig, String appId,
+      ExtensionAppTokensRepository tokensRepository, long podCertificateTtlSeconds) {
     this.appId = appId;
     this.tokensRepository = tokensRepository;
     this.authenticationRetry = new AuthenticationRetry<>(retryConfig);
     this.podCertificateRetryBuilder = AuthenticationRetry.getBaseRetryBuilder(retryConfig);
+    this.podCertificateTtlMillis = TimeUnit.SECONDS.toMillis(Math.max(0L, podCertificateTtlSeconds));
   }
 
   /**
@@ -58,6 +81,63 @@ public abstract class AbstractExtensionAppAuthenticator implements ExtensionAppA
         "AbstractExtensionAppAuthenticator.getPodCertificate", getPodCertificateBasePath(), this::callGetPodCertificate);
   }
 
+  /**
+   * Validates a jwt against the public key of the pod certificate.
+   * <p>
+   * The public key is cached for the configured pod certificate TTL. If the signature of the jwt cannot be verified
+   * with the cached key, the pod certificate is fetched again once in case it has been rotated. Such forced refreshes
+   * happen at most once every {@link #FORCED_REFRESH_MIN_INTERVAL_MILLIS} ms so that invalid jwts cannot be used to
+   * flood the pod.
+   *
+   * @param jwt the jwt to be validated.
+   * @return the content of jwt claim "user" if jwt is successfully validated.
+   * @throws AuthInitializationException if pod certificate or jwt are invalid.
+   */
+  protected UserClaim validateJwtWithPodCertificate(String jwt) throws AuthInitializationException {
+    if (podCertificateTtlMillis == 0L) {
+      return JwtHelper.validateJwt(jwt, getPodCertificate().getCertificate());
+    }
+
+    final CachedPublicKey cached = getPodPublicKey(null);
+    try {
+      return JwtHelper.validateJwt(jwt, cached.publicKey);
+    } catch (AuthInitializationException e) {
+      if (!(e.getCause() instanceof SignatureException) || !tryAcquireForcedRefresh()) {
+        throw e;
+      }
+      log.debug("Unable to verify JWT signature, fetching the pod certificate again in case it has been rotated");
+      return JwtHelper.validateJwt(jwt, getPodPublicKey(cached).publicKey);
+    }
+  }
+
+  /**
+   * @param stale the cached key that has to be replaced, null if any non expired cached key can be returned.
+   */
+  private CachedPublicKey getPodPublicKey(CachedPublicKey stale) throws AuthInitializationException {
+    CachedPublicKey cached = this.podPublicKey;
+    if (cached != null && cached != stale && !cached.isExpired()) {
+      return cached;
+    }
+    synchronized (podPublicKeyLock) {
+      // another thread might have refreshed the key while we were waiting for the lock
+      cached = this.podPublicKey;
+      if (cached != null && cached != stale && !cached.isExpired()) {
+        return cached;
+      }
+      final PublicKey publicKey = JwtHelper.extractPublicKey(getPodCertificate().getCertificate());
+      cached = new CachedPublicKey(publicKey, System.currentTimeMillis() + podCertificateTtlMillis);
+      this.podPublicKey = cached;
+      return cached;
+    }
+  }
+
+  private boolean tryAcquireForcedRefresh() {
+    final long now = System.currentTimeMillis();
+    final long last = lastForcedRefresh.get();
+    return (last == Long.MIN_VALUE || now - last >= FORCED_REFRESH_MIN_INTERVAL_MILLIS)
+        && lastForcedRefresh.compareAndSet(last, now);
+  }
+
   protected ExtensionAppTokens retrieveExtensionAppSession(String appToken) throws AuthUnauthorizedException {
     log.debug("Start authenticating extension app with id : {} ...", appId);
 
@@ -82,4 +162,19 @@ public abstract class AbstractExtensionAppAuthenticator implements ExtensionAppA
   protected abstract String getPodCertificateBasePath();
 
   protected abstract String getAuthenticationBasePath();
+
+  private static class CachedPublicKey {
+
+    private final PublicKey publicKey;
+    private final long expiresAt;
+
+    private CachedPublicKey(PublicKey publicKey, long expiresAt) {
+      this.publicKey = publicKey;
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isExpired() {
+      return System.currentTimeMillis() >= expiresAt;
+    }
+  }
 }
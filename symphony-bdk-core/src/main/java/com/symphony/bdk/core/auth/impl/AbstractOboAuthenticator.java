@@ -1,18 +1,25 @@
 package com.symphony.bdk.core.auth.impl;
 
+import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.auth.OboAuthenticator;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
+import com.symphony.bdk.core.config.model.BdkOboCacheConfig;
 import com.symphony.bdk.core.config.model.BdkRetryConfig;
 import com.symphony.bdk.http.api.ApiException;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
+import java.util.concurrent.TimeUnit;
+
 import javax.annotation.Nonnull;
 
 /**
  * Abstract class to factorize the {@link OboAuthenticator} logic between RSA and certificate,
  * especially the retry logic on top of HTTP calls.
+ * <p>
+ * When enabled in the {@link BdkOboCacheConfig}, OBO sessions are cached per user and the app session token is
+ * reused across OBO authentications until it expires.
  */
 @Slf4j
 @API(status = API.Status.INTERNAL)
@@ -21,30 +28,103 @@ public abstract class AbstractOboAuthenticator implements OboAuthenticator {
   protected final String appId;
   private final AuthenticationRetry<String> authenticationRetry;
 
+  private final OboSessionCache oboSessionCache;
+  private final long appSessionTokenTtlNanos;
+  private final Object appSessionTokenLock = new Object();
+  private String appSessionToken;
+  private long appSessionTokenExpiresAt;
+
   protected AbstractOboAuthenticator(BdkRetryConfig retryConfig, String appId) {
+    this(retryConfig, appId, new BdkOboCacheConfig());
+  }
+
+  protected AbstractOboAuthenticator(BdkRetryConfig retryConfig, String appId, BdkOboCacheConfig oboCacheConfig) {
     this.appId = appId;
     this.authenticationRetry = new AuthenticationRetry<>(retryConfig);
+    this.oboSessionCache = oboCacheConfig.isEnabled() ? new OboSessionCache(oboCacheConfig) : null;
+    this.appSessionTokenTtlNanos =
+        oboCacheConfig.isEnabled() ? TimeUnit.SECONDS.toNanos(oboCacheConfig.getAppSessionTokenTtlSeconds()) : 0L;
   }
 
   protected String retrieveOboSessionTokenByUserId(@Nonnull Long userId) throws AuthUnauthorizedException {
-    final String appSessionToken = retrieveAppSessionToken();
-
     final String unauthorizedErrorMessage = "Unable to authenticate on-behalf-of user with ID '" + userId + "'. "
         + "It usually happens when the user has not installed the app with ID : " + appId;
 
-    return authenticationRetry.executeAndRetry("AbstractOboAuthenticator.retrieveOboSessionTokenByUserId", getBasePath(),
-        () -> authenticateAndRetrieveOboSessionToken(appSessionToken, userId), unauthorizedErrorMessage);
+    return retrieveOboSessionToken(appSessionToken -> authenticationRetry.executeAndRetry(
+        "AbstractOboAuthenticator.retrieveOboSessionTokenByUserId", getBasePath(),
+        () -> authenticateAndRetrieveOboSessionToken(appSessionToken, userId), unauthorizedErrorMessage));
   }
 
   protected String retrieveOboSessionTokenByUsername(@Nonnull String username) throws AuthUnauthorizedException {
-    final String appSessionToken = retrieveAppSessionToken();
-
     final String unauthorizedErrorMessage =
         "Unable to authenticate on-behalf-of user with username '" + username + "'. "
             + "It usually happens when the user has not installed the app with ID : " + appId;
 
-    return authenticationRetry.executeAndRetry("AbstractOboAuthenticator.retrieveOboSessionTokenByUsername", getBasePath(),
-        () -> authenticateAndRetrieveOboSessionToken(appSessionToken, username), unauthorizedErrorMessage);
+    return retrieveOboSessionToken(appSessionToken -> authenticationRetry.executeAndRetry(
+        "AbstractOboAuthenticator.retrieveOboSessionTokenByUsername", getBasePath(),
+        () -> authenticateAndRetrieveOboSessionToken(appSessionToken, username), unauthorizedErrorMessage));
+  }
+
+  private String retrieveOboSessionToken(OboLogin oboLogin) throws AuthUnauthorizedException {
+    final String appSessionToken = getAppSessionToken();
+    try {
+      return oboLogin.login(appSessionToken);
+    } catch (AuthUnauthorizedException e) {
+      if (this.appSessionTokenTtlNanos <= 0) {
+        throw e;
+      }
+      // retrying with the same app session token would fail the same way, e.g. if the user has not installed the app
+      final String renewedAppSessionToken = getAppSessionToken();
+      if (renewedAppSessionToken.equals(appSessionToken)) {
+        throw e;
+      }
+      log.debug("OBO authentication failed, retrying with the app session token renewed in the meantime");
+      return oboLogin.login(renewedAppSessionToken);
+    }
+  }
+
+  /**
+   * Returns the cached OBO session of the given user, authenticating a new one if there is none or if it has expired.
+   * If the OBO session cache is disabled, a new session is always authenticated.
+   *
+   * @param key    the key identifying the user.
+   * @param loader creates and authenticates a new session.
+   * @return the OBO authentication session.
+   */
+  protected AuthSession getOboSession(String key, OboSessionCache.SessionLoader loader)
+      throws AuthUnauthorizedException {
+    if (this.oboSessionCache == null) {
+      return loader.load();
+    }
+    return this.oboSessionCache.get(key, loader);
+  }
+
+  /**
+   * @return the number of OBO authentications served from the cache, 0 if the cache is disabled.
+   */
+  public long getOboSessionCacheHitCount() {
+    return this.oboSessionCache == null ? 0L : this.oboSessionCache.getHitCount();
+  }
+
+  /**
+   * @return the number of OBO authentications that were not served from the cache, including the ones that waited for
+   * the authentication of the same user by another caller, 0 if the cache is disabled.
+   */
+  public long getOboSessionCacheMissCount() {
+    return this.oboSessionCache == null ? 0L : this.oboSessionCache.getMissCount();
+  }
+
+  private String getAppSessionToken() throws AuthUnauthorizedException {
+    if (this.appSessionTokenTtlNanos <= 0) {
+      return retrieveAppSessionToken();
+    }
+    synchronized (this.appSessionTokenLock) {
+      if (this.appSessionToken == null || System.nanoTime() - this.appSessionTokenExpiresAt >= 0) {
+        this.appSessionToken = retrieveAppSessionToken();
+        this.appSessionTokenExpiresAt = System.nanoTime() + this.appSessionTokenTtlNanos;
+      }
+      return this.appSessionToken;
+    }
   }
 
   protected String retrieveAppSessionToken() throws AuthUnauthorizedException {
@@ -66,4 +146,9 @@ public abstract class AbstractOboAuthenticator implements OboAuthenticator {
   protected abstract String authenticateAndRetrieveAppSessionToken() throws ApiException;
 
   protected abstract String getBasePath();
+
+  @FunctionalInterface
+  private interface OboLogin {
+    String login(String appSessionToken) throws AuthUnauthorizedException;
+  }
 }
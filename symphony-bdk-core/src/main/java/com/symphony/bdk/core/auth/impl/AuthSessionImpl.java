@@ -1,17 +1,29 @@
 package com.symphony.bdk.core.auth.impl;
 
+import com.symphony.bdk.core.activity.ThreadFactoryBuilder;
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
 import com.symphony.bdk.core.auth.jwt.JwtHelper;
+import com.symphony.bdk.core.retry.function.ConsumerWithThrowable;
 import com.symphony.bdk.core.service.version.model.AgentVersion;
 import com.symphony.bdk.gen.api.model.Token;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -19,32 +31,69 @@ import javax.annotation.Nullable;
 
 /**
  * {@link AuthSession} impl for regular authentication mode.
+ * <p>
+ * Concurrent calls to {@link #refresh()} are coalesced: only one re-authentication is performed at a time, the other
+ * callers wait for its outcome. Each successful re-authentication starts a new session generation, and the generation
+ * of the tokens last read by each thread is recorded: a thread whose request failed with tokens of a previous
+ * generation, e.g. sent before a concurrent refresh completed, does not re-authenticate again but simply retries with
+ * the new tokens. As the recovery of a call may run on another thread than the one reading the tokens, e.g. for
+ * asynchronous calls, services rather bind it to each attempt, see {@link #attemptRefresh(AuthSession)}. When
+ * background refresh is enabled in the common JWT configuration, the authorization
+ * token is also refreshed before it expires so that request threads do not have to wait for it.
  */
+@Slf4j
 @API(status = API.Status.INTERNAL)
 public class AuthSessionImpl implements AuthSession {
 
   public static final Duration LEEWAY = Duration.ofSeconds(5);
+  private static final Duration BACKGROUND_REFRESH_RETRY_DELAY = Duration.ofSeconds(30);
+  private static final Duration BACKGROUND_REFRESH_MIN_DELAY = Duration.ofSeconds(1);
   private final AbstractBotAuthenticator authenticator;
 
   /**
    * Long-lived Session JWT Token (for pod APIs).
    */
-  private String sessionToken;
+  private volatile String sessionToken;
 
   /**
    * Long-lived KM Token (for KM APIs).
    */
-  private String keyManagerToken;
+  private volatile String keyManagerToken;
 
   /**
    * Short-lived access Token (for pod APIs).
    */
-  private String authorizationToken;
-  private Long authTokenExpirationDate;
+  private volatile String authorizationToken;
+  private volatile Long authTokenExpirationDate;
 
+  private final Object refreshLock = new Object();
+  private CompletableFuture<Void> inFlightRefresh;
+  private final ScheduledExecutorService refreshScheduler;
+  private ScheduledFuture<?> nextBackgroundRefresh;
+
+  /**
+   * Incremented after each successful re-authentication.
+   */
+  private final AtomicLong generation = new AtomicLong();
+
+  /**
+   * Generation of the tokens last read by the current thread.
+   */
+  private final ThreadLocal<Long> readGeneration = new ThreadLocal<>();
+
+  private final AtomicLong refreshCount = new AtomicLong();
+  private final AtomicLong refreshFailureCount = new AtomicLong();
+  private final AtomicLong totalRefreshDurationMillis = new AtomicLong();
+  private volatile long lastRefreshDurationMillis;
 
   public AuthSessionImpl(@Nonnull AbstractBotAuthenticator authenticator) {
     this.authenticator = authenticator;
+    this.refreshScheduler = authenticator.isBackgroundRefreshEnabled()
+        ? Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+            .setName("AuthSession-Refresh-Thread")
+            .setDaemon(true)
+            .build())
+        : null;
   }
 
   /**
@@ -53,6 +102,7 @@ public class AuthSessionImpl implements AuthSession {
   @Override
   public @Nullable
   String getSessionToken() {
+    this.readGeneration.set(this.generation.get());
     return this.sessionToken;
   }
 
@@ -67,8 +117,9 @@ public class AuthSessionImpl implements AuthSession {
           + "SBE version should be at least 20.14.");
     }
     if (Instant.now().plus(LEEWAY).isAfter(Instant.ofEpochSecond(authTokenExpirationDate))) {
-      refresh();
+      this.refreshNow();
     }
+    this.readGeneration.set(this.generation.get());
     return this.authorizationToken;
   }
   /**
@@ -77,14 +128,195 @@ public class AuthSessionImpl implements AuthSession {
   @Override
   public @Nullable
   String getKeyManagerToken() {
+    this.readGeneration.set(this.generation.get());
     return this.keyManagerToken;
   }
 
   /**
    * {@inheritDoc}
+   * <p>
+   * If a refresh is already in progress, waits for it to complete instead of re-authenticating again. If the tokens
+   * last read by the current thread have already been refreshed since, returns straight away.
    */
   @Override
   public void refresh() throws AuthUnauthorizedException {
+    final Long read = this.readGeneration.get();
+    if (read == null) {
+      this.refreshNow();
+    } else {
+      this.refresh(read);
+    }
+  }
+
+  /**
+   * Refreshes the session unless it has already been refreshed since the given generation.
+   *
+   * @param usedGeneration the generation of the tokens the failed request was sent with, see {@link #getGeneration()}.
+   * @throws AuthUnauthorizedException if the re-authentication failed.
+   */
+  public void refresh(long usedGeneration) throws AuthUnauthorizedException {
+    if (usedGeneration < this.generation.get()) {
+      log.debug("Authentication session already refreshed since the tokens were read, skipping refresh");
+      return;
+    }
+    this.refreshNow();
+  }
+
+  /**
+   * Creates the recovery of each attempt of a call failing with a 401: the session is refreshed unless it has already
+   * been refreshed since the attempt started, whatever the thread running the recovery.
+   *
+   * @param authSession the authentication session the calls are made with.
+   * @return the factory of the recovery functions, to be called when an attempt starts.
+   */
+  public static Supplier<ConsumerWithThrowable> attemptRefresh(AuthSession authSession) {
+    if (authSession instanceof AuthSessionImpl) {
+      final AuthSessionImpl session = (AuthSessionImpl) authSession;
+      return () -> {
+        final long generation = session.getGeneration();
+        return () -> session.refresh(generation);
+      };
+    }
+    return () -> authSession::refresh;
+  }
+
+  /**
+   * @return the generation of the current tokens, incremented after each successful re-authentication.
+   */
+  public long getGeneration() {
+    return this.generation.get();
+  }
+
+  private void refreshNow() throws AuthUnauthorizedException {
+    final CompletableFuture<Void> refresh;
+    final boolean leader;
+    synchronized (this.refreshLock) {
+      leader = this.inFlightRefresh == null;
+      if (leader) {
+        this.inFlightRefresh = new CompletableFuture<>();
+      }
+      refresh = this.inFlightRefresh;
+    }
+
+    if (leader) {
+      this.refreshAsLeader(refresh);
+    } else {
+      log.debug("Authentication session refresh already in progress, waiting for it to complete");
+      awaitRefresh(refresh);
+    }
+  }
+
+  /**
+   * Stops the background refresh of the authorization token, if enabled.
+   */
+  public void close() {
+    if (this.refreshScheduler != null) {
+      this.refreshScheduler.shutdownNow();
+    }
+  }
+
+  /**
+   * @return the number of re-authentications performed by this session, failed ones included.
+   */
+  public long getRefreshCount() {
+    return this.refreshCount.get();
+  }
+
+  /**
+   * @return the number of re-authentications that failed.
+   */
+  public long getRefreshFailureCount() {
+    return this.refreshFailureCount.get();
+  }
+
+  /**
+   * @return the duration of the last re-authentication.
+   */
+  public Duration getLastRefreshDuration() {
+    return Duration.ofMillis(this.lastRefreshDurationMillis);
+  }
+
+  /**
+   * @return the cumulated duration of all the re-authentications.
+   */
+  public Duration getTotalRefreshDuration() {
+    return Duration.ofMillis(this.totalRefreshDurationMillis.get());
+  }
+
+  private void refreshAsLeader(CompletableFuture<Void> refresh) throws AuthUnauthorizedException {
+    final long start = System.nanoTime();
+    try {
+      this.doRefresh();
+      this.generation.incrementAndGet();
+      refresh.complete(null);
+    } catch (AuthUnauthorizedException | RuntimeException e) {
+      this.refreshFailureCount.incrementAndGet();
+      refresh.completeExceptionally(e);
+      throw e;
+    } finally {
+      synchronized (this.refreshLock) {
+        this.inFlightRefresh = null;
+      }
+      final long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      this.lastRefreshDurationMillis = duration;
+      this.totalRefreshDurationMillis.addAndGet(duration);
+      this.refreshCount.incrementAndGet();
+    }
+    this.scheduleBackgroundRefresh();
+  }
+
+  private static void awaitRefresh(CompletableFuture<Void> refresh) throws AuthUnauthorizedException {
+    try {
+      refresh.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof AuthUnauthorizedException) {
+        throw (AuthUnauthorizedException) e.getCause();
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private void scheduleBackgroundRefresh() {
+    final Long expirationDate = this.authTokenExpirationDate;
+    if (this.refreshScheduler == null || this.refreshScheduler.isShutdown() || expirationDate == null) {
+      return;
+    }
+    final Duration delay = Duration.between(Instant.now(),
+        Instant.ofEpochSecond(expirationDate).minus(this.authenticator.getRefreshAhead()));
+    this.scheduleBackgroundRefresh(
+        delay.compareTo(BACKGROUND_REFRESH_MIN_DELAY) < 0 ? BACKGROUND_REFRESH_MIN_DELAY : delay);
+  }
+
+  private void scheduleBackgroundRefresh(Duration delay) {
+    log.debug("Next background refresh of the authentication session in {}", delay);
+    synchronized (this.refreshLock) {
+      // a refresh triggered by a request thread replaces the pending background one
+      if (this.nextBackgroundRefresh != null) {
+        this.nextBackgroundRefresh.cancel(false);
+      }
+      try {
+        this.nextBackgroundRefresh =
+            this.refreshScheduler.schedule(this::backgroundRefresh, delay.toMillis(), TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        log.debug("Session is closed, background refresh is not scheduled");
+      }
+    }
+  }
+
+  private void backgroundRefresh() {
+    try {
+      this.refreshNow();
+    } catch (AuthUnauthorizedException | RuntimeException e) {
+      log.warn("Background refresh of the authentication session failed, retrying in {}",
+          BACKGROUND_REFRESH_RETRY_DELAY, e);
+      this.scheduleBackgroundRefresh(BACKGROUND_REFRESH_RETRY_DELAY);
+    }
+  }
+
+  private void doRefresh() throws AuthUnauthorizedException {
     if (this.sessionToken == null || !authenticator.isCommonJwtEnabled()) {
       refreshAllTokens();
     } else {
@@ -4,8 +4,8 @@ import com.symphony.bdk.core.auth.AppAuthSession;
 import com.symphony.bdk.core.auth.ExtensionAppTokensRepository;
 import com.symphony.bdk.core.auth.exception.AuthInitializationException;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
-import com.symphony.bdk.core.auth.jwt.JwtHelper;
 import com.symphony.bdk.core.auth.jwt.UserClaim;
+import com.symphony.bdk.core.config.model.BdkExtAppConfig;
 import com.symphony.bdk.core.config.model.BdkRetryConfig;
 import com.symphony.bdk.gen.api.CertificateAuthenticationApi;
 import com.symphony.bdk.gen.api.CertificatePodApi;
@@ -38,7 +38,12 @@ public class ExtensionAppAuthenticatorCertImpl extends AbstractExtensionAppAuthe
 
   public ExtensionAppAuthenticatorCertImpl(BdkRetryConfig retryConfig, String appId, ApiClient sessionAuthClient,
       ExtensionAppTokensRepository tokensRepository) {
-    super(retryConfig, appId, tokensRepository);
+    this(retryConfig, appId, sessionAuthClient, tokensRepository, BdkExtAppConfig.DEFAULT_POD_CERTIFICATE_TTL_SECONDS);
+  }
+
+  public ExtensionAppAuthenticatorCertImpl(BdkRetryConfig retryConfig, String appId, ApiClient sessionAuthClient,
+      ExtensionAppTokensRepository tokensRepository, long podCertificateTtlSeconds) {
+    super(retryConfig, appId, tokensRepository, podCertificateTtlSeconds);
     this.certificateAuthenticationApi = new CertificateAuthenticationApi(sessionAuthClient);
     this.certificatePodApi = new CertificatePodApi(sessionAuthClient);
   }
@@ -70,7 +75,7 @@ public class ExtensionAppAuthenticatorCertImpl extends AbstractExtensionAppAuthe
    */
   @Override
   public UserClaim validateJwt(String jwt) throws AuthInitializationException {
-    return JwtHelper.validateJwt(jwt, this.getPodCertificate().getCertificate());
+    return this.validateJwtWithPodCertificate(jwt);
   }
 
   @Override
@@ -6,6 +6,7 @@ import com.symphony.bdk.core.auth.exception.AuthInitializationException;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
 import com.symphony.bdk.core.auth.jwt.JwtHelper;
 import com.symphony.bdk.core.auth.jwt.UserClaim;
+import com.symphony.bdk.core.config.model.BdkExtAppConfig;
 import com.symphony.bdk.core.config.model.BdkRetryConfig;
 import com.symphony.bdk.gen.api.AuthenticationApi;
 import com.symphony.bdk.gen.api.PodApi;
@@ -49,7 +50,18 @@ public class ExtensionAppAuthenticatorRsaImpl extends AbstractExtensionAppAuthen
       ApiClient loginApiClient,
       ApiClient podApiClient,
       ExtensionAppTokensRepository tokensRepository) {
-    super(retryConfig, appId, tokensRepository);
+    this(retryConfig, appId, appPrivateKey, loginApiClient, podApiClient, tokensRepository,
+        BdkExtAppConfig.DEFAULT_POD_CERTIFICATE_TTL_SECONDS);
+  }
+
+  public ExtensionAppAuthenticatorRsaImpl(BdkRetryConfig retryConfig,
+      String appId,
+      PrivateKey appPrivateKey,
+      ApiClient loginApiClient,
+      ApiClient podApiClient,
+      ExtensionAppTokensRepository tokensRepository,
+      long podCertificateTtlSeconds) {
+    super(retryConfig, appId, tokensRepository, podCertificateTtlSeconds);
     this.appPrivateKey = appPrivateKey;
     this.authenticationApi = new AuthenticationApi(loginApiClient);
     this.podApi = new PodApi(podApiClient);
@@ -96,6 +108,6 @@ public class ExtensionAppAuthenticatorRsaImpl extends AbstractExtensionAppAuthen
    */
   @Override
   public UserClaim validateJwt(String jwt) throws AuthInitializationException {
-    return JwtHelper.validateJwt(jwt, this.getPodCertificate().getCertificate());
+    return this.validateJwtWithPodCertificate(jwt);
   }
 }
@@ -2,6 +2,7 @@ package com.symphony.bdk.core.auth.impl;
 
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
+import com.symphony.bdk.core.config.model.BdkOboCacheConfig;
 import com.symphony.bdk.core.config.model.BdkRetryConfig;
 import com.symphony.bdk.gen.api.CertificateAuthenticationApi;
 import com.symphony.bdk.http.api.ApiClient;
@@ -24,7 +25,12 @@ public class OboAuthenticatorCertImpl extends AbstractOboAuthenticator {
   private final CertificateAuthenticationApi authenticationApi;
 
   public OboAuthenticatorCertImpl(BdkRetryConfig retryConfig, String appId, ApiClient sessionAuthClient) {
-    super(retryConfig, appId);
+    this(retryConfig, appId, new BdkOboCacheConfig(), sessionAuthClient);
+  }
+
+  public OboAuthenticatorCertImpl(BdkRetryConfig retryConfig, String appId, BdkOboCacheConfig oboCacheConfig,
+      ApiClient sessionAuthClient) {
+    super(retryConfig, appId, oboCacheConfig);
     this.authenticationApi = new CertificateAuthenticationApi(sessionAuthClient);
   }
 
@@ -34,9 +40,11 @@ public class OboAuthenticatorCertImpl extends AbstractOboAuthenticator {
   @Nonnull
   @Override
   public AuthSession authenticateByUsername(@Nonnull String username) throws AuthUnauthorizedException {
-    AuthSession authSession = new AuthSessionOboCertImpl(this, username);
-    authSession.refresh();
-    return authSession;
+    return getOboSession("username:" + username, () -> {
+      AuthSession authSession = new AuthSessionOboCertImpl(this, username);
+      authSession.refresh();
+      return authSession;
+    });
   }
 
   /**
@@ -45,9 +53,11 @@ public class OboAuthenticatorCertImpl extends AbstractOboAuthenticator {
   @Nonnull
   @Override
   public AuthSession authenticateByUserId(@Nonnull Long userId) throws AuthUnauthorizedException {
-    AuthSession authSession = new AuthSessionOboCertImpl(this, userId);
-    authSession.refresh();
-    return authSession;
+    return getOboSession("userId:" + userId, () -> {
+      AuthSession authSession = new AuthSessionOboCertImpl(this, userId);
+      authSession.refresh();
+      return authSession;
+    });
   }
 
   protected String authenticateAndRetrieveOboSessionToken(@Nonnull String appSessionToken,
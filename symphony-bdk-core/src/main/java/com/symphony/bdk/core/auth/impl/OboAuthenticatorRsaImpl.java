@@ -3,6 +3,7 @@ package com.symphony.bdk.core.auth.impl;
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
 import com.symphony.bdk.core.auth.jwt.JwtHelper;
+import com.symphony.bdk.core.config.model.BdkOboCacheConfig;
 import com.symphony.bdk.core.config.model.BdkRetryConfig;
 import com.symphony.bdk.gen.api.AuthenticationApi;
 import com.symphony.bdk.gen.api.model.AuthenticateRequest;
@@ -29,7 +30,12 @@ public class OboAuthenticatorRsaImpl extends AbstractOboAuthenticator {
   private final PrivateKey appPrivateKey;
 
   public OboAuthenticatorRsaImpl(BdkRetryConfig retryConfig, String appId, PrivateKey appPrivateKey, ApiClient loginApiClient) {
-    super(retryConfig, appId);
+    this(retryConfig, appId, new BdkOboCacheConfig(), appPrivateKey, loginApiClient);
+  }
+
+  public OboAuthenticatorRsaImpl(BdkRetryConfig retryConfig, String appId, BdkOboCacheConfig oboCacheConfig,
+      PrivateKey appPrivateKey, ApiClient loginApiClient) {
+    super(retryConfig, appId, oboCacheConfig);
     this.appPrivateKey = appPrivateKey;
     this.authenticationApi = new AuthenticationApi(loginApiClient);
   }
@@ -40,9 +46,11 @@ public class OboAuthenticatorRsaImpl extends AbstractOboAuthenticator {
   @Nonnull
   @Override
   public AuthSession authenticateByUsername(@Nonnull String username) throws AuthUnauthorizedException {
-    AuthSession authSession = new AuthSessionOboImpl(this, username);
-    authSession.refresh();
-    return authSession;
+    return getOboSession("username:" + username, () -> {
+      AuthSession authSession = new AuthSessionOboImpl(this, username);
+      authSession.refresh();
+      return authSession;
+    });
   }
 
   /**
@@ -50,9 +58,11 @@ public class OboAuthenticatorRsaImpl extends AbstractOboAuthenticator {
    */
   @Override
   public @Nonnull AuthSession authenticateByUserId(@Nonnull Long userId) throws AuthUnauthorizedException {
-    AuthSession authSession = new AuthSessionOboImpl(this, userId);
-    authSession.refresh();
-    return authSession;
+    return getOboSession("userId:" + userId, () -> {
+      AuthSession authSession = new AuthSessionOboImpl(this, userId);
+      authSession.refresh();
+      return authSession;
+    });
   }
 
   protected String authenticateAndRetrieveOboSessionToken(@Nonnull String appSessionToken,
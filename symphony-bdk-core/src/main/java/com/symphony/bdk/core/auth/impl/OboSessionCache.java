@@ -0,0 +1,137 @@
+package com.symphony.bdk.core.auth.impl;
+
+import com.symphony.bdk.core.auth.AuthSession;
+import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
+import com.symphony.bdk.core.config.model.BdkOboCacheConfig;
+
+import org.apiguardian.api.API;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of OBO {@link AuthSession}s with a time-to-live and a least recently used eviction.
+ * <p>
+ * Cached sessions are shared by all the callers authenticating on behalf of the same user: they keep on being
+ * refreshed on 401 by the services using them. Concurrent misses on the same key are authenticated once, the other
+ * callers waiting for the outcome of this authentication.
+ */
+@API(status = API.Status.INTERNAL)
+class OboSessionCache {
+
+  private final long ttlNanos;
+  private final Map<String, CachedSession> sessions;
+  /**
+   * Authentications in progress, guarded by the sessions lock.
+   */
+  private final Map<String, CompletableFuture<AuthSession>> loadings = new HashMap<>();
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  OboSessionCache(BdkOboCacheConfig config) {
+    this.ttlNanos = TimeUnit.SECONDS.toNanos(config.getTtlSeconds());
+    final int maxSize = config.getMaxSize();
+    this.sessions = new LinkedHashMap<String, CachedSession>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CachedSession> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  /**
+   * Returns the cached session of the given key, creating it if absent or expired.
+   *
+   * @param key    the key identifying the user, either by id or by username.
+   * @param loader creates and authenticates a new session.
+   * @return the authentication session.
+   */
+  AuthSession get(String key, SessionLoader loader) throws AuthUnauthorizedException {
+    final CompletableFuture<AuthSession> inProgress;
+    final CompletableFuture<AuthSession> loading = new CompletableFuture<>();
+    synchronized (this.sessions) {
+      final CachedSession cached = this.sessions.get(key);
+      if (cached != null && System.nanoTime() - cached.expiresAt < 0) {
+        this.hitCount.incrementAndGet();
+        return cached.session;
+      }
+      inProgress = this.loadings.putIfAbsent(key, loading);
+    }
+    // callers waiting for another one are not served from the cache either, they count as misses
+    this.missCount.incrementAndGet();
+    if (inProgress != null) {
+      // another caller is authenticating this user, its session is shared
+      return await(inProgress);
+    }
+
+    // authentication is performed outside of the lock not to block the other users
+    try {
+      final AuthSession session = loader.load();
+      synchronized (this.sessions) {
+        this.sessions.put(key, new CachedSession(session, System.nanoTime() + this.ttlNanos));
+      }
+      loading.complete(session);
+      return session;
+    } catch (Throwable t) {
+      loading.completeExceptionally(t);
+      throw t;
+    } finally {
+      synchronized (this.sessions) {
+        this.loadings.remove(key);
+      }
+    }
+  }
+
+  private static AuthSession await(CompletableFuture<AuthSession> loading) throws AuthUnauthorizedException {
+    try {
+      return loading.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof AuthUnauthorizedException) {
+        throw (AuthUnauthorizedException) e.getCause();
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  long getHitCount() {
+    return this.hitCount.get();
+  }
+
+  long getMissCount() {
+    return this.missCount.get();
+  }
+
+  int size() {
+    synchronized (this.sessions) {
+      return this.sessions.size();
+    }
+  }
+
+  @FunctionalInterface
+  @API(status = API.Status.INTERNAL)
+  interface SessionLoader {
+    AuthSession load() throws AuthUnauthorizedException;
+  }
+
+  private static class CachedSession {
+
+    private final AuthSession session;
+    private final long expiresAt;
+
+    private CachedSession(AuthSession session, long expiresAt) {
+      this.session = session;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
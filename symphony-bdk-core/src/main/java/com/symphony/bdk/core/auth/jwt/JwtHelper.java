@@ -27,6 +27,7 @@ import java.security.Key;
 import java.security.KeyFactory;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
+import java.security.PublicKey;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
@@ -116,10 +117,20 @@ public class JwtHelper {
    * @throws AuthInitializationException if certificate or jwt are invalid.
    */
   public static UserClaim validateJwt(String jwt, String certificate) throws AuthInitializationException {
-    final Certificate x509Certificate = parseX509Certificate(certificate);
+    return validateJwt(jwt, extractPublicKey(certificate));
+  }
 
+  /**
+   * Validates a jwt against an already parsed public key.
+   *
+   * @param jwt
+   * @param publicKey the public key of the certificate the jwt has been signed with.
+   * @return the content of jwt claim "user" if jwt is successfully validated.
+   * @throws AuthInitializationException if jwt is invalid.
+   */
+  public static UserClaim validateJwt(String jwt, PublicKey publicKey) throws AuthInitializationException {
     try {
-      final Claims body = Jwts.parser().setSigningKey(x509Certificate.getPublicKey())
+      final Claims body = Jwts.parser().setSigningKey(publicKey)
         .parseClaimsJws(jwt).getBody();
       return mapper.convertValue(body.get("user"), UserClaim.class);
     } catch (JwtException e) {
@@ -127,6 +138,17 @@ public class JwtHelper {
     }
   }
 
+  /**
+   * Extracts the public key of a certificate.
+   *
+   * @param certificate string of the X.509 certificate content in pem format.
+   * @return the public key of the certificate.
+   * @throws AuthInitializationException if certificate is invalid.
+   */
+  public static PublicKey extractPublicKey(String certificate) throws AuthInitializationException {
+    return parseX509Certificate(certificate).getPublicKey();
+  }
+
   public static boolean isSkdEnabled(String jwt) {
     try {
       String claimsObj = extractDecodedClaims(dropBearer(jwt));
@@ -13,10 +13,15 @@ import com.symphony.bdk.core.util.ServiceLookup;
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiClientBuilder;
 import com.symphony.bdk.http.api.ApiClientBuilderProvider;
+import com.symphony.bdk.http.api.metrics.ApiClientMetrics;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import javax.annotation.Nonnull;
 
 /**
@@ -27,6 +32,8 @@ import javax.annotation.Nonnull;
  *   <li>KeyManager</li>
  *   <li>Pod</li>
  * </ul>
+ * The factory keeps track of the created clients so that their resources (connection pools, executors) can be
+ * released at once with {@link #close()}.
  */
 @Slf4j
 @API(status = API.Status.EXPERIMENTAL)
@@ -41,14 +48,33 @@ public class ApiClientFactory {
 
   private final BdkConfig config;
   private final ApiClientBuilderProvider apiClientBuilderProvider;
+  private final ApiClientMetrics metrics;
+  private final Set<ApiClient> createdClients = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
   public ApiClientFactory(@Nonnull BdkConfig config) {
     this(config, ServiceLookup.lookupSingleService(ApiClientBuilderProvider.class));
   }
 
   public ApiClientFactory(@Nonnull BdkConfig config, @Nonnull ApiClientBuilderProvider apiClientBuilderProvider) {
+    this(config, apiClientBuilderProvider, ApiClientMetrics.NOOP);
+  }
+
+  /**
+   * @param metrics the instrumentation of the requests made by all the created {@link ApiClient} instances, nothing
+   *                is recorded if null.
+   */
+  public ApiClientFactory(@Nonnull BdkConfig config, @Nonnull ApiClientBuilderProvider apiClientBuilderProvider,
+      ApiClientMetrics metrics) {
     this.config = config;
     this.apiClientBuilderProvider = apiClientBuilderProvider;
+    this.metrics = metrics == null ? ApiClientMetrics.NOOP : metrics;
+  }
+
+  /**
+   * @return the instrumentation of the requests made by the created {@link ApiClient} instances.
+   */
+  public ApiClientMetrics getMetrics() {
+    return this.metrics;
   }
 
   /**
@@ -97,7 +123,7 @@ public class ApiClientFactory {
    */
   public ApiClient getAgentClient() {
     if (config.getAgent().getLoadBalancing() != null) {
-      return new RegularLoadBalancedApiClient(this.config, this);
+      return track(new RegularLoadBalancedApiClient(this.config, this));
     }
     return getRegularAgentClient();
   }
@@ -110,7 +136,7 @@ public class ApiClientFactory {
    */
   public ApiClient getDatafeedAgentClient() {
     if (config.getAgent().getLoadBalancing() != null) {
-      return new DatafeedLoadBalancedApiClient(this.config, this);
+      return track(new DatafeedLoadBalancedApiClient(this.config, this));
     }
     return getRegularAgentClient();
   }
@@ -173,12 +199,31 @@ public class ApiClientFactory {
     return buildClientWithCertificate(this.config.getKeyManager(), KEYAUTH_CONTEXT_PATH, this.config.getBot());
   }
 
+  /**
+   * Closes all the {@link ApiClient} instances created by this factory. To be called once they are no longer used.
+   */
+  public void close() {
+    for (ApiClient client : this.createdClients) {
+      try {
+        client.close();
+      } catch (RuntimeException e) {
+        log.warn("Failed to close the api client targeting {}", client.getBasePath(), e);
+      }
+    }
+    this.createdClients.clear();
+  }
+
   protected ApiClient buildClient(String contextPath, BdkClientConfig clientConfig) {
-    return getApiClientBuilder(clientConfig.getBasePath() + contextPath, clientConfig).build();
+    return track(getApiClientBuilder(clientConfig.getBasePath() + contextPath, clientConfig).build());
   }
 
   protected ApiClient buildAgentClient(String basePath, BdkAgentConfig agentConfig) {
-    return getApiClientBuilder(basePath, agentConfig).build();
+    return track(getApiClientBuilder(basePath, agentConfig).build());
+  }
+
+  private ApiClient track(ApiClient client) {
+    this.createdClients.add(client);
+    return client;
   }
 
   protected ApiClient buildClientWithCertificate(BdkClientConfig clientConfig, String contextPath,
@@ -194,6 +239,7 @@ public class ApiClientFactory {
       apiClient = getApiClientBuilder(clientConfig.getBasePath() + contextPath, clientConfig)
           .withKeyStore(certificateConfig.getCertificateBytes(), certificateConfig.getPassword())
           .build();
+      track(apiClient);
     } catch (IllegalStateException e) {
       String failedCertificateMessage =
           String.format("Failed while trying to parse the certificate at following path: %s."
@@ -212,7 +258,13 @@ public class ApiClientFactory {
         .withReadTimeout(clientConfig.getReadTimeout())
         .withConnectionTimeout(clientConfig.getConnectionTimeout())
         .withConnectionPoolMax(clientConfig.getConnectionPoolMax())
-        .withConnectionPoolPerRoute(clientConfig.getConnectionPoolPerRoute());
+        .withConnectionPoolPerRoute(clientConfig.getConnectionPoolPerRoute())
+        .withConnectionIdleTimeout(clientConfig.getConnectionIdleTimeout())
+        .withConnectionMaxLifetime(clientConfig.getConnectionMaxLifetime())
+        .withConnectionPoolPendingAcquireMax(clientConfig.getConnectionPoolPendingAcquireMax())
+        .withMaxInMemorySize(clientConfig.getMaxInMemorySize())
+        .withVirtualThreads(this.config.getThreading().isVirtualThreads())
+        .withMetrics(this.metrics);
 
     if (clientConfig.getDefaultHeaders() != null) {
       clientConfig.getDefaultHeaders().forEach(apiClientBuilder::withDefaultHeader);
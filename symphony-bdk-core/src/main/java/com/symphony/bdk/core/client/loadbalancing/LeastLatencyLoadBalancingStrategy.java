@@ -0,0 +1,217 @@
+package com.symphony.bdk.core.client.loadbalancing;
+
+import com.symphony.bdk.core.activity.ThreadFactoryBuilder;
+import com.symphony.bdk.core.config.model.BdkServerConfig;
+import com.symphony.bdk.gen.api.SignalsApi;
+import com.symphony.bdk.http.api.ApiClient;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * The {@link LoadBalancingStrategy} corresponding to the
+ * {@link com.symphony.bdk.core.config.model.BdkLoadBalancingMode#LEAST_LATENCY} mode.
+ * <p>
+ * An exponentially weighted moving average (EWMA) of the response time and of the error rate is maintained for each
+ * node from the calls reported through {@link #recordCall(String, long, boolean)}. A new base path is picked using the
+ * "power of two choices": two healthy nodes are randomly selected and the one with the lowest score is returned.
+ * <p>
+ * A node is ejected after {@link #EJECTION_THRESHOLD} consecutive failures. Once its cool-down period is over, it is
+ * probed in the background by calling
+ * <a href="https://developers.symphony.com/restapi/reference/agent-info-v1">GET agent/v1/info</a> with the node
+ * {@link ApiClient}, and reinstated if the call succeeds. Picking a base path therefore never waits for a probe.
+ * If all nodes are ejected, all of them are considered again.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+public class LeastLatencyLoadBalancingStrategy implements LoadBalancingStrategy {
+
+  static final int EJECTION_THRESHOLD = 3;
+  private static final long DEFAULT_COOL_DOWN_MILLIS = 30_000L;
+  private static final double EWMA_ALPHA = 0.3;
+  /**
+   * A node always failing gets its latency score multiplied by 1 + ERROR_PENALTY.
+   */
+  private static final double ERROR_PENALTY = 10.0;
+
+  private static final class SharedProbeExecutor {
+    private static final Executor INSTANCE = createProbeExecutor();
+
+    private static Executor createProbeExecutor() {
+      final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+          new LinkedBlockingQueue<>(),
+          new ThreadFactoryBuilder().setName("Bdk-Agent-Probe-Thread").setDaemon(true).build());
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
+    }
+  }
+
+  private final Map<String, NodeStats> nodes;
+  private final List<NodeStats> nodeList;
+  private final Function<String, SignalsApi> signalsApiProvider;
+  private final long coolDownNanos;
+  private final Executor probeExecutor;
+
+  /**
+   * @param nodes       the list of nodes to be load balanced across.
+   * @param nodeClients provides the {@link ApiClient} of a node from its base path, used to probe the ejected nodes.
+   *                    The clients are owned by the caller, e.g. {@link LoadBalancedApiClient}, and are not closed.
+   */
+  public LeastLatencyLoadBalancingStrategy(List<BdkServerConfig> nodes, Function<String, ApiClient> nodeClients) {
+    this(nodes, basePath -> new SignalsApi(nodeClients.apply(basePath)), DEFAULT_COOL_DOWN_MILLIS,
+        SharedProbeExecutor.INSTANCE);
+  }
+
+  LeastLatencyLoadBalancingStrategy(List<BdkServerConfig> nodes, Function<String, SignalsApi> signalsApiProvider,
+      long coolDownMillis, Executor probeExecutor) {
+    this.nodes = new LinkedHashMap<>();
+    for (BdkServerConfig node : nodes) {
+      this.nodes.putIfAbsent(node.getBasePath(), new NodeStats(node.getBasePath()));
+    }
+    this.nodeList = new ArrayList<>(this.nodes.values());
+    this.signalsApiProvider = signalsApiProvider;
+    this.coolDownNanos = TimeUnit.MILLISECONDS.toNanos(coolDownMillis);
+    this.probeExecutor = probeExecutor;
+  }
+
+  /**
+   * Gets a new base path by picking the best of two randomly selected healthy nodes.
+   *
+   * @return the base path of the selected node.
+   */
+  @Override
+  public String getNewBasePath() {
+    final long now = System.nanoTime();
+    final List<NodeStats> candidates = new ArrayList<>(nodeList.size());
+    for (NodeStats node : nodeList) {
+      if (isAvailable(node, now)) {
+        candidates.add(node);
+      }
+    }
+    if (candidates.isEmpty()) {
+      log.warn("All agent nodes are ejected, load balancing across all of them");
+      candidates.addAll(nodeList);
+    }
+
+    if (candidates.size() == 1) {
+      return candidates.get(0).basePath;
+    }
+
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    final int first = random.nextInt(candidates.size());
+    final int second = (first + 1 + random.nextInt(candidates.size() - 1)) % candidates.size();
+    final NodeStats firstNode = candidates.get(first);
+    final NodeStats secondNode = candidates.get(second);
+
+    return (firstNode.score() <= secondNode.score() ? firstNode : secondNode).basePath;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void recordCall(String basePath, long durationMillis, boolean success) {
+    final NodeStats node = nodes.get(basePath);
+    if (node == null) {
+      return;
+    }
+    if (node.record(durationMillis, success) >= EJECTION_THRESHOLD && !node.ejected) {
+      log.warn("Agent node {} failed {} times in a row, ejecting it for {} ms", basePath, EJECTION_THRESHOLD,
+          TimeUnit.NANOSECONDS.toMillis(coolDownNanos));
+      node.eject(System.nanoTime() + coolDownNanos);
+    }
+  }
+
+  private boolean isAvailable(NodeStats node, long now) {
+    if (!node.ejected) {
+      return true;
+    }
+    if (now - node.ejectedUntil >= 0 && node.probing.compareAndSet(false, true)) {
+      // only one probe at a time, the node is skipped until it succeeds
+      try {
+        probeExecutor.execute(() -> probe(node));
+      } catch (RuntimeException e) {
+        log.debug("Failed to schedule the probe of agent node {}", node.basePath, e);
+        node.probing.set(false);
+      }
+    }
+    return !node.ejected;
+  }
+
+  private void probe(NodeStats node) {
+    try {
+      signalsApiProvider.apply(node.basePath).v1InfoGet();
+      log.info("Agent node {} is reachable again, reinstating it", node.basePath);
+      node.reinstate();
+    } catch (Exception e) {
+      log.debug("Agent node {} is still unreachable", node.basePath, e);
+      node.eject(System.nanoTime() + coolDownNanos);
+    } finally {
+      node.probing.set(false);
+    }
+  }
+
+  double scoreOf(String basePath) {
+    return nodes.get(basePath).score();
+  }
+
+  boolean isEjected(String basePath) {
+    return nodes.get(basePath).ejected;
+  }
+
+  private static class NodeStats {
+
+    private final String basePath;
+    private final AtomicBoolean probing = new AtomicBoolean(false);
+    private double latency;
+    private double errorRate;
+    private int consecutiveFailures;
+    private volatile boolean ejected;
+    private volatile long ejectedUntil;
+
+    private NodeStats(String basePath) {
+      this.basePath = basePath;
+    }
+
+    /**
+     * @return the number of consecutive failures, including this call.
+     */
+    private synchronized int record(long durationMillis, boolean success) {
+      this.latency = this.latency == 0.0 ? durationMillis : ewma(this.latency, durationMillis);
+      this.errorRate = ewma(this.errorRate, success ? 0.0 : 1.0);
+      this.consecutiveFailures = success ? 0 : this.consecutiveFailures + 1;
+      return this.consecutiveFailures;
+    }
+
+    private synchronized double score() {
+      return this.latency * (1.0 + ERROR_PENALTY * this.errorRate);
+    }
+
+    private void eject(long until) {
+      this.ejectedUntil = until;
+      this.ejected = true;
+    }
+
+    private synchronized void reinstate() {
+      this.consecutiveFailures = 0;
+      this.errorRate = 0.0;
+      this.ejected = false;
+    }
+
+    private static double ewma(double average, double sample) {
+      return EWMA_ALPHA * sample + (1.0 - EWMA_ALPHA) * average;
+    }
+  }
+}
@@ -14,19 +14,23 @@ import org.apiguardian.api.API;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An {@link ApiClient} implementation which load balances calls across several base URLs.
  * It contains an {@link ApiClient} (a non load-balanced api client) in order to target a specific base URL.
+ * One {@link ApiClient} is lazily created per base URL and reused across rotations, so that connections are kept alive.
  */
 @API(status = API.Status.INTERNAL)
 @Slf4j
 public abstract class LoadBalancedApiClient implements ApiClient {
 
   protected final ApiClientFactory apiClientFactory;
-  protected ApiClient apiClient;
+  protected volatile ApiClient apiClient;
   protected final BdkLoadBalancingConfig loadBalancingConfig;
   private final LoadBalancingStrategy loadBalancingStrategy;
+  private final Map<String, ApiClient> apiClients = new ConcurrentHashMap<>();
+  private final Map<ApiClient, String> nodeBasePaths = new ConcurrentHashMap<>();
 
   /**
    *
@@ -38,7 +42,8 @@ public abstract class LoadBalancedApiClient implements ApiClient {
 
     this.apiClientFactory = apiClientFactory;
     this.loadBalancingConfig = config.getAgent().getLoadBalancing();
-    this.loadBalancingStrategy = LoadBalancingStrategyFactory.getInstance(config, apiClientFactory);
+    this.loadBalancingStrategy =
+        LoadBalancingStrategyFactory.getInstance(config, apiClientFactory, this::getNodeApiClient);
 
     rotate();
   }
@@ -53,13 +58,31 @@ public abstract class LoadBalancedApiClient implements ApiClient {
 
   /**
    * This makes the api client target the provided basePath.
-   * It creates a new underlying RegularApiClient targeting the provided basePath.
+   * The underlying RegularApiClient targeting the provided basePath is created on first use, then reused.
    *
    * @param basePath the base URL to target.
    */
   public void setBasePath(String basePath) {
     log.debug("Set new base path to {}", basePath);
-    apiClient = apiClientFactory.getRegularAgentClient(basePath);
+    apiClient = getNodeApiClient(basePath);
+  }
+
+  private ApiClient getNodeApiClient(String basePath) {
+    return apiClients.computeIfAbsent(basePath, this::createNodeApiClient);
+  }
+
+  /**
+   * Notifies the load balancing strategy of the outcome of a call made with one of the node {@link ApiClient}s.
+   *
+   * @param client         the node api client that has been used to make the call.
+   * @param durationMillis the duration of the call in milliseconds.
+   * @param success        false if the call failed because of the node, true otherwise.
+   */
+  protected void recordCall(ApiClient client, long durationMillis, boolean success) {
+    final String basePath = nodeBasePaths.get(client);
+    if (basePath != null) {
+      loadBalancingStrategy.recordCall(basePath, durationMillis, success);
+    }
   }
 
   /**
@@ -126,6 +149,22 @@ public abstract class LoadBalancedApiClient implements ApiClient {
     this.apiClient.addEnforcedAuthenticationScheme(name);
   }
 
+  /**
+   * Closes the {@link ApiClient}s created for each of the targeted base URLs.
+   */
+  @Override
+  public void close() {
+    this.apiClients.values().forEach(ApiClient::close);
+    this.apiClients.clear();
+    this.nodeBasePaths.clear();
+  }
+
+  private ApiClient createNodeApiClient(String basePath) {
+    final ApiClient client = apiClientFactory.getRegularAgentClient(basePath);
+    nodeBasePaths.put(client, basePath);
+    return client;
+  }
+
   private void validateLoadBalancingConfiguration(BdkConfig config) {
     final BdkLoadBalancingConfig agentLoadBalancing = config.getAgent().getLoadBalancing();
     if (agentLoadBalancing == null) {
@@ -14,4 +14,15 @@ public interface LoadBalancingStrategy {
    * @return the new base path.
    */
   String getNewBasePath();
+
+  /**
+   * Notifies the strategy of the outcome of a call made to a node, so that it can take it into account when
+   * producing the next base paths. Does nothing by default.
+   *
+   * @param basePath       the base path of the node that has been called.
+   * @param durationMillis the duration of the call in milliseconds.
+   * @param success        false if the call failed because of the node (network issue, server error), true otherwise.
+   */
+  default void recordCall(String basePath, long durationMillis, boolean success) {
+  }
 }
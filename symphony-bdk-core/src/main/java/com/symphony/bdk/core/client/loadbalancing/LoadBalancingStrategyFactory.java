@@ -5,10 +5,12 @@ import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.core.config.model.BdkLoadBalancingConfig;
 import com.symphony.bdk.core.config.model.BdkServerConfig;
 import com.symphony.bdk.gen.api.SignalsApi;
+import com.symphony.bdk.http.api.ApiClient;
 
 import org.apiguardian.api.API;
 
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Class to instantiate {@link LoadBalancingStrategy} instances according to a specific {@link BdkConfig}.
@@ -22,10 +24,12 @@ public class LoadBalancingStrategyFactory {
    * @param config           the bdk configuration
    * @param apiClientFactory the api client factory needed for the
    *                         {@link com.symphony.bdk.core.config.model.BdkLoadBalancingMode#EXTERNAL} mode.
+   * @param nodeClients      provides the {@link ApiClient} of a node from its base path, needed for the
+   *                         {@link com.symphony.bdk.core.config.model.BdkLoadBalancingMode#LEAST_LATENCY} mode.
    * @return a fully initialized instance whose implementation depends on the provided {@link BdkLoadBalancingConfig}
    */
   static LoadBalancingStrategy getInstance(BdkConfig config,
-      ApiClientFactory apiClientFactory) {
+      ApiClientFactory apiClientFactory, Function<String, ApiClient> nodeClients) {
     final BdkLoadBalancingConfig loadBalancing = config.getAgent().getLoadBalancing();
     final List<BdkServerConfig> nodes = loadBalancing.getNodes();
 
@@ -36,6 +40,8 @@ public class LoadBalancingStrategyFactory {
         return new ExternalLoadBalancingStrategy(config.getRetry(), signalsApi);
       case RANDOM:
         return new RandomLoadBalancingStrategy(nodes);
+      case LEAST_LATENCY:
+        return new LeastLatencyLoadBalancingStrategy(nodes, nodeClients);
       default:
         return new RoundRobinLoadBalancingStrategy(nodes);
     }
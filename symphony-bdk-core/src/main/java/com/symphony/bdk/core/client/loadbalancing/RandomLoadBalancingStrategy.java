@@ -17,7 +17,6 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class RandomLoadBalancingStrategy implements LoadBalancingStrategy {
 
   private final List<BdkServerConfig> nodes;
-  private final ThreadLocalRandom localRandom;
   private AtomicInteger currentIndex;
 
   /**
@@ -27,7 +26,6 @@ public class RandomLoadBalancingStrategy implements LoadBalancingStrategy {
   public RandomLoadBalancingStrategy(List<BdkServerConfig> nodes) {
     this.nodes = new ArrayList<>(nodes);
     this.currentIndex = new AtomicInteger(-1);
-    this.localRandom = ThreadLocalRandom.current();
   }
 
   /**
@@ -37,7 +35,7 @@ public class RandomLoadBalancingStrategy implements LoadBalancingStrategy {
    */
   @Override
   public String getNewBasePath() {
-    final int newValue = localRandom.nextInt(0, nodes.size());
+    final int newValue = ThreadLocalRandom.current().nextInt(0, nodes.size());
     currentIndex.set(newValue);
 
     return nodes.get(newValue).getBasePath();
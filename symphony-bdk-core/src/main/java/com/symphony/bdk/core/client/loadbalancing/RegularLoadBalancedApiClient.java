@@ -2,6 +2,7 @@ package com.symphony.bdk.core.client.loadbalancing;
 
 import com.symphony.bdk.core.client.ApiClientFactory;
 import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.http.api.ApiResponse;
 import com.symphony.bdk.http.api.Pair;
@@ -11,11 +12,15 @@ import org.apiguardian.api.API;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Concrete implementation of {@link LoadBalancedApiClient} where {@link #rotate()} is executed when
  * {@link #invokeAPI(String, String, List, Object, Map, Map, Map, String, String, String[], TypeReference)} is called
  * and if {@link #loadBalancingConfig} has the field stickiness set to false.
+ * The duration and outcome of each call are reported to the {@link LoadBalancingStrategy}.
  */
 @API(status = API.Status.INTERNAL)
 public class RegularLoadBalancedApiClient extends LoadBalancedApiClient {
@@ -36,7 +41,44 @@ public class RegularLoadBalancedApiClient extends LoadBalancedApiClient {
       rotate();
     }
 
-    return apiClient.invokeAPI(path, method, queryParams, body, headerParams, cookieParams, formParams, accept,
-        contentType, authNames, returnType);
+    final ApiClient client = apiClient;
+    final long start = System.nanoTime();
+    boolean success = false;
+    try {
+      final ApiResponse<T> response = client.invokeAPI(path, method, queryParams, body, headerParams, cookieParams,
+          formParams, accept, contentType, authNames, returnType);
+      success = true;
+      return response;
+    } catch (ApiException e) {
+      // client errors are caused by the request, not by the node
+      success = !e.isServerError() && !e.isTooManyRequestsError();
+      throw e;
+    } finally {
+      recordCall(client, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), success);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   **/
+  @Override
+  public <T> CompletableFuture<ApiResponse<T>> invokeAPIAsync(String path, String method, List<Pair> queryParams,
+      Object body, Map<String, String> headerParams, Map<String, String> cookieParams, Map<String, Object> formParams,
+      String accept, String contentType, String[] authNames, TypeReference<T> returnType) {
+
+    if (!loadBalancingConfig.isStickiness()) {
+      rotate();
+    }
+
+    final ApiClient client = apiClient;
+    final long start = System.nanoTime();
+    return client.<T>invokeAPIAsync(path, method, queryParams, body, headerParams, cookieParams, formParams, accept,
+        contentType, authNames, returnType).whenComplete((response, error) -> {
+          final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+          // client errors are caused by the request, not by the node
+          final boolean success = cause == null || (cause instanceof ApiException
+              && !((ApiException) cause).isServerError() && !((ApiException) cause).isTooManyRequestsError());
+          recordCall(client, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), success);
+        });
   }
 }
@@ -0,0 +1,92 @@
+package com.symphony.bdk.core.retry;
+
+import com.symphony.bdk.core.activity.ThreadFactoryBuilder;
+import com.symphony.bdk.core.config.model.BdkClientConfig;
+import com.symphony.bdk.core.retry.function.SupplierWithApiException;
+import com.symphony.bdk.core.retry.resilience4j.Resilience4jAsyncRetryWithRecovery;
+import com.symphony.bdk.core.util.ConcurrencyLimiter;
+import com.symphony.bdk.http.api.ApiClientBuilder;
+import com.symphony.bdk.http.api.ApiException;
+
+import org.apiguardian.api.API;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Executes the asynchronous calls of a service with non-blocking retries and a bounded concurrency.
+ * <p>
+ * Each attempt holds a permit of the {@link ConcurrencyLimiter} while it is in flight, so that a burst of calls cannot
+ * use more connections than the pool allows, while calls waiting for their next retry do not hold any. Waits between
+ * retries are scheduled on a scheduler shared by all the services, which is only used for timers: recovery functions
+ * such as session refreshes are run on a separate bounded executor, see {@link Resilience4jAsyncRetryWithRecovery}.
+ */
+@API(status = API.Status.INTERNAL)
+public class AsyncRetryExecutor {
+
+  private static final class SharedScheduler {
+    private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setName("Bdk-Async-Retry-Thread").setDaemon(true).build());
+  }
+
+  private final ConcurrencyLimiter limiter;
+  private final ScheduledExecutorService scheduler;
+
+  /**
+   * @param maxConcurrency the maximum number of calls in flight at the same time.
+   */
+  public AsyncRetryExecutor(int maxConcurrency) {
+    this(maxConcurrency, SharedScheduler.INSTANCE);
+  }
+
+  public AsyncRetryExecutor(int maxConcurrency, ScheduledExecutorService scheduler) {
+    this.limiter = new ConcurrencyLimiter(maxConcurrency);
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Creates an executor whose max concurrency is the max number of connections per route of the client, so that async
+   * calls cannot open more connections than the pool allows.
+   *
+   * @param clientConfig the configuration of the client the calls are made with.
+   * @return a new {@link AsyncRetryExecutor} instance.
+   */
+  public static AsyncRetryExecutor of(BdkClientConfig clientConfig) {
+    final Integer connectionPoolPerRoute = clientConfig.getConnectionPoolPerRoute();
+    return new AsyncRetryExecutor(connectionPoolPerRoute != null && connectionPoolPerRoute > 0
+        ? connectionPoolPerRoute
+        : ApiClientBuilder.DEFAULT_CONNECTION_POOL_MAX);
+  }
+
+  /**
+   * Starts the call once a permit is available and retries it according to the retry builder settings.
+   *
+   * @param baseRetryBuilder the {@link RetryWithRecoveryBuilder} containing the base settings for the retry mechanism.
+   * @param name             the name of the retry.
+   * @param address          the base path targeted by the call.
+   * @param supplier         the supplier starting the call.
+   * @param <T>              the type of the object returned by the call.
+   * @return a future completed as described in
+   * {@link RetryWithRecovery#executeAndRetryAsync(RetryWithRecoveryBuilder, String, String, ScheduledExecutorService,
+   * SupplierWithApiException)}.
+   */
+  public <T> CompletableFuture<T> executeAndRetry(RetryWithRecoveryBuilder<?> baseRetryBuilder, String name,
+      String address, SupplierWithApiException<CompletableFuture<T>> supplier) {
+    return RetryWithRecovery.executeAndRetryAsync(baseRetryBuilder, name, address, this.scheduler,
+        () -> this.limiter.execute(() -> {
+          try {
+            return supplier.get();
+          } catch (ApiException e) {
+            return CompletableFuture.failedFuture(e);
+          }
+        }));
+  }
+
+  /**
+   * @return the limiter bounding the number of calls in flight.
+   */
+  public ConcurrencyLimiter getLimiter() {
+    return this.limiter;
+  }
+}
@@ -4,7 +4,10 @@ import com.symphony.bdk.core.retry.function.ConsumerWithThrowable;
 
 import org.apiguardian.api.API;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Class used by {@link RetryWithRecovery} to store a recovery strategy,
@@ -16,6 +19,10 @@ public class RecoveryStrategy {
 
   private final Predicate<Exception> condition;
   private final ConsumerWithThrowable recovery;
+  /**
+   * Creates the recovery function of each attempt, null if the recovery function does not depend on the attempt.
+   */
+  private final Supplier<ConsumerWithThrowable> attemptRecovery;
 
   /**
    *
@@ -27,6 +34,55 @@ public class RecoveryStrategy {
   public <T extends Exception> RecoveryStrategy(Class<? extends T> exceptionType, Predicate<T> condition, ConsumerWithThrowable recovery) {
     this.condition = e -> exceptionType.isAssignableFrom(e.getClass()) && condition.test(exceptionType.cast(e));
     this.recovery = recovery;
+    this.attemptRecovery = null;
+  }
+
+  private RecoveryStrategy(Predicate<Exception> condition, ConsumerWithThrowable recovery,
+      Supplier<ConsumerWithThrowable> attemptRecovery) {
+    this.condition = condition;
+    this.recovery = recovery;
+    this.attemptRecovery = attemptRecovery;
+  }
+
+  /**
+   * Creates a recovery strategy whose recovery function depends on the state at the start of each attempt, e.g. the
+   * generation of the authentication session the request is sent with. The attempt recovery is created when the attempt
+   * starts, so that it is not tied to the thread that ends up running it.
+   *
+   * @param exceptionType   the actual exception class
+   * @param condition       the predicate which checks if a given exception corresponds to the recovery strategy
+   * @param attemptRecovery creates the recovery function of an attempt, called when the attempt starts
+   * @param <T>             the actual exception class
+   * @return a new recovery strategy.
+   */
+  public static <T extends Exception> RecoveryStrategy perAttempt(Class<? extends T> exceptionType,
+      Predicate<T> condition, Supplier<ConsumerWithThrowable> attemptRecovery) {
+    return new RecoveryStrategy(
+        e -> exceptionType.isAssignableFrom(e.getClass()) && condition.test(exceptionType.cast(e)),
+        // run outside of an attempt, the recovery function is created when it is run
+        () -> attemptRecovery.get().consume(),
+        attemptRecovery);
+  }
+
+  /**
+   * Binds the recovery strategies to an attempt starting now.
+   *
+   * @param recoveryStrategies the recovery strategies of a retry.
+   * @return the recovery strategies of the attempt, the given list if none of them depends on the attempt.
+   */
+  public static List<RecoveryStrategy> forAttempt(List<RecoveryStrategy> recoveryStrategies) {
+    List<RecoveryStrategy> attemptStrategies = null;
+    for (int i = 0; i < recoveryStrategies.size(); i++) {
+      final RecoveryStrategy recoveryStrategy = recoveryStrategies.get(i);
+      if (recoveryStrategy.attemptRecovery != null) {
+        if (attemptStrategies == null) {
+          attemptStrategies = new ArrayList<>(recoveryStrategies);
+        }
+        attemptStrategies.set(i,
+            new RecoveryStrategy(recoveryStrategy.condition, recoveryStrategy.attemptRecovery.get(), null));
+      }
+    }
+    return attemptStrategies == null ? recoveryStrategies : attemptStrategies;
   }
 
   /**
@@ -3,6 +3,7 @@ package com.symphony.bdk.core.retry;
 
 import com.symphony.bdk.core.client.ApiClientFactory;
 import com.symphony.bdk.core.retry.function.SupplierWithApiException;
+import com.symphony.bdk.core.retry.resilience4j.Resilience4jAsyncRetryWithRecovery;
 import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.http.api.ApiRuntimeException;
 
@@ -13,6 +14,8 @@ import java.net.ConnectException;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Predicate;
 
 import javax.net.ssl.SSLHandshakeException;
@@ -52,11 +55,8 @@ public abstract class RetryWithRecovery<T> {
       final SupplierWithApiException<T> supplier
   ) {
 
-    final RetryWithRecovery<T> retry = RetryWithRecoveryBuilder.<T>from(baseRetryBuilder)
-        .name(name)
-        .supplier(supplier)
-        .basePath(address)
-        .build();
+    // the retry policy is shared by all the calls of the same name, only the supplier varies
+    final RetryWithRecovery<T> retry = baseRetryBuilder.build(name, address, supplier);
 
     try {
       return retry.execute();
@@ -67,6 +67,46 @@ public abstract class RetryWithRecovery<T> {
     }
   }
 
+  /**
+   * Non-blocking counterpart of {@link #executeAndRetry(RetryWithRecoveryBuilder, String, String,
+   * SupplierWithApiException)}: waits between retries are scheduled on the provided scheduler.
+   *
+   * @param baseRetryBuilder the {@link RetryWithRecoveryBuilder} containing the base settings for the retry mechanism.
+   * @param name             the name of the retry, can be any string but should specific to the function being retried.
+   * @param address          the base path targeted by the supplier.
+   * @param scheduler        the scheduler on which the retries are scheduled.
+   * @param supplier         the supplier starting the call.
+   * @param <T>              the type of the object returned by the call.
+   * @return a future completed with the object returned by the call, or completed exceptionally with an
+   * {@link ApiRuntimeException} if a non-handled {@link ApiException} is raised or if the max number of retries has
+   * been reached, with a {@link RuntimeException} for any other failure.
+   */
+  public static <T> CompletableFuture<T> executeAndRetryAsync(
+      final RetryWithRecoveryBuilder<?> baseRetryBuilder,
+      final String name,
+      final String address,
+      final ScheduledExecutorService scheduler,
+      final SupplierWithApiException<CompletableFuture<T>> supplier
+  ) {
+
+    final Resilience4jAsyncRetryWithRecovery<T> retry = baseRetryBuilder.buildAsync(name, address, supplier, scheduler);
+
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    retry.execute().whenComplete((value, error) -> {
+      if (error == null) {
+        result.complete(value);
+        return;
+      }
+      final Throwable cause = Resilience4jAsyncRetryWithRecovery.unwrap(error);
+      if (cause instanceof ApiException) {
+        result.completeExceptionally(new ApiRuntimeException((ApiException) cause));
+      } else {
+        result.completeExceptionally(new RuntimeException(networkIssueMessageError(cause, address), cause));
+      }
+    });
+    return result;
+  }
+
   public RetryWithRecovery(
       SupplierWithApiException<T> supplier,
       Predicate<Exception> ignoreException,
@@ -101,6 +141,7 @@ public abstract class RetryWithRecovery<T> {
    * @throws Throwable in case an exception has been thrown by the {@link #supplier} or by the recovery functions.
    */
   protected T executeOnce() throws Throwable {
+    final List<RecoveryStrategy> attemptRecoveryStrategies = RecoveryStrategy.forAttempt(this.recoveryStrategies);
     try {
       return supplier.get();
     } catch (Exception e) {
@@ -109,7 +150,7 @@ public abstract class RetryWithRecovery<T> {
         return null;
       }
 
-      handleRecovery(e);
+      handleRecovery(e, attemptRecoveryStrategies);
       throw e;
     }
   }
@@ -149,7 +190,7 @@ public abstract class RetryWithRecovery<T> {
     return messageError;
   }
 
-  private void handleRecovery(Exception e) throws Throwable {
+  private void handleRecovery(Exception e, List<RecoveryStrategy> recoveryStrategies) throws Throwable {
     boolean recoveryTriggered = false;
 
     for (RecoveryStrategy recoveryStrategy : recoveryStrategies) {
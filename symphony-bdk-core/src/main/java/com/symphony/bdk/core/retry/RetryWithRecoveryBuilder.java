@@ -1,10 +1,14 @@
 package com.symphony.bdk.core.retry;
 
 import com.symphony.bdk.core.config.model.BdkRetryConfig;
+import com.symphony.bdk.core.retry.resilience4j.Resilience4jAsyncRetryWithRecovery;
+import com.symphony.bdk.core.retry.resilience4j.Resilience4jRetryCache;
 import com.symphony.bdk.core.retry.resilience4j.Resilience4jRetryWithRecovery;
 import com.symphony.bdk.core.retry.function.ConsumerWithThrowable;
 import com.symphony.bdk.core.retry.function.SupplierWithApiException;
+import com.symphony.bdk.core.retry.util.TokenBucketRateLimiter;
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.metrics.ApiClientMetrics;
 
 import org.apiguardian.api.API;
 
@@ -14,12 +18,20 @@ import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
 
 /**
  * Builder class to facilitate the instantiation of a {@link RetryWithRecovery}.
+ * <p>
+ * The underlying retry policies are compiled once per name and shared by the builder copies having the same retry
+ * configuration and retry condition, so that only the supplier varies from one call to another.
+ * If a rate limit is configured, the calls (retries included) to a same address share a token bucket.
  *
  * @param <T> the type to be returned by {@link RetryWithRecovery#execute()}.
  */
@@ -33,6 +45,8 @@ public class RetryWithRecoveryBuilder<T> {
   private Predicate<Throwable> retryOnExceptionPredicate;
   private Predicate<Exception> ignoreException;
   private List<RecoveryStrategy> recoveryStrategies;
+  private ApiClientMetrics metrics;
+  private Resilience4jRetryCache retryCache;
 
   /**
    * Default constructor which ignores no exception
@@ -43,6 +57,8 @@ public class RetryWithRecoveryBuilder<T> {
     this.ignoreException = e -> false;
     this.retryOnExceptionPredicate = RetryWithRecoveryBuilder::isNetworkIssueOrMinorError;
     this.retryConfig = new BdkRetryConfig();
+    this.metrics = ApiClientMetrics.NOOP;
+    this.retryCache = new Resilience4jRetryCache(this.retryConfig, this.retryOnExceptionPredicate, this.metrics);
   }
 
   /**
@@ -65,6 +81,8 @@ public class RetryWithRecoveryBuilder<T> {
     copy.retryConfig = from.retryConfig;
     copy.retryOnExceptionPredicate = from.retryOnExceptionPredicate;
     copy.ignoreException = from.ignoreException;
+    copy.metrics = from.metrics;
+    copy.retryCache = from.retryCache;
     return copy;
   }
 
@@ -136,6 +154,19 @@ public class RetryWithRecoveryBuilder<T> {
    */
   public RetryWithRecoveryBuilder<T> retryConfig(BdkRetryConfig retryConfig) {
     this.retryConfig = retryConfig;
+    this.retryCache = new Resilience4jRetryCache(this.retryConfig, this.retryOnExceptionPredicate, this.metrics);
+    return this;
+  }
+
+  /**
+   * Sets the instrumentation recording the retries and returns the modified builder.
+   *
+   * @param metrics the instrumentation of the retries, nothing is recorded if null.
+   * @return the modified builder instance.
+   */
+  public RetryWithRecoveryBuilder<T> metrics(ApiClientMetrics metrics) {
+    this.metrics = metrics == null ? ApiClientMetrics.NOOP : metrics;
+    this.retryCache = new Resilience4jRetryCache(this.retryConfig, this.retryOnExceptionPredicate, this.metrics);
     return this;
   }
 
@@ -171,6 +202,7 @@ public class RetryWithRecoveryBuilder<T> {
    */
   public RetryWithRecoveryBuilder<T> retryOnException(Predicate<Throwable> retryOnExceptionPredicate) {
     this.retryOnExceptionPredicate = retryOnExceptionPredicate;
+    this.retryCache = new Resilience4jRetryCache(this.retryConfig, this.retryOnExceptionPredicate, this.metrics);
     return this;
   }
 
@@ -200,6 +232,21 @@ public class RetryWithRecoveryBuilder<T> {
     return this;
   }
 
+  /**
+   * Sets one recovery strategy whose recovery function is created at the start of each attempt, see
+   * {@link RecoveryStrategy#perAttempt(Class, Predicate, Supplier)}.
+   *
+   * @param condition       the predicate to check if the exception should lead to the execution of the recovery
+   *                        function.
+   * @param attemptRecovery creates the recovery function of an attempt, called when the attempt starts.
+   * @return the modified builder instance.
+   */
+  public RetryWithRecoveryBuilder<T> recoveryStrategyPerAttempt(Predicate<ApiException> condition,
+      Supplier<ConsumerWithThrowable> attemptRecovery) {
+    this.recoveryStrategies.add(RecoveryStrategy.perAttempt(ApiException.class, condition, attemptRecovery));
+    return this;
+  }
+
   /**
    * Sets one recovery strategy which consists of a specific {@link Exception} type
    * and of a corresponding recovery function to be executed when exception is of the given provided type.
@@ -232,13 +279,110 @@ public class RetryWithRecoveryBuilder<T> {
    */
   public RetryWithRecovery<T> build() {
     return new Resilience4jRetryWithRecovery<>(
-        this.name,
+        this.retryCache.getRetry(this.name),
         this.address,
-        this.retryConfig,
-        this.supplier,
-        this.retryOnExceptionPredicate,
+        this.rateLimited(this.address, this.supplier),
+        this.ignoreException,
+        this.recoveryStrategies
+    );
+  }
+
+  /**
+   * Builds a {@link RetryWithRecovery} for a single call, based on the fields of this builder but with the given name,
+   * address and supplier. Unlike {@link #from(RetryWithRecoveryBuilder)}, the builder is neither copied nor modified.
+   *
+   * @param name     the name of the {@link RetryWithRecovery}.
+   * @param address  the address that we are trying to reach.
+   * @param supplier the function to be called by the {@link RetryWithRecovery}.
+   * @param <U>      the type returned by the supplier.
+   * @return a new instance of {@link RetryWithRecovery}.
+   */
+  public <U> RetryWithRecovery<U> build(String name, String address, SupplierWithApiException<U> supplier) {
+    return new Resilience4jRetryWithRecovery<>(
+        this.retryCache.getRetry(name),
+        address,
+        this.rateLimited(address, supplier),
         this.ignoreException,
         this.recoveryStrategies
     );
   }
+
+  /**
+   * Builds a non-blocking retry around an asynchronous call, the supplier set with {@link #supplier} is not used.
+   *
+   * @param asyncSupplier the supplier starting the call.
+   * @param scheduler     the scheduler on which the retries are scheduled.
+   * @return a new {@link Resilience4jAsyncRetryWithRecovery} instance.
+   */
+  public Resilience4jAsyncRetryWithRecovery<T> buildAsync(SupplierWithApiException<CompletableFuture<T>> asyncSupplier,
+      ScheduledExecutorService scheduler) {
+    return this.buildAsync(this.name, this.address, asyncSupplier, scheduler);
+  }
+
+  /**
+   * Builds a non-blocking retry around a single asynchronous call, based on the fields of this builder but with the
+   * given name and address. The builder is neither copied nor modified.
+   *
+   * @param name          the name of the retry.
+   * @param address       the address that we are trying to reach.
+   * @param asyncSupplier the supplier starting the call.
+   * @param scheduler     the scheduler on which the retries are scheduled.
+   * @param <U>           the type returned by the call.
+   * @return a new {@link Resilience4jAsyncRetryWithRecovery} instance.
+   */
+  public <U> Resilience4jAsyncRetryWithRecovery<U> buildAsync(String name, String address,
+      SupplierWithApiException<CompletableFuture<U>> asyncSupplier, ScheduledExecutorService scheduler) {
+    return new Resilience4jAsyncRetryWithRecovery<>(
+        this.retryCache.getRetry(name),
+        address,
+        this.rateLimitedAsync(address, asyncSupplier, scheduler),
+        this.ignoreException,
+        this.recoveryStrategies,
+        scheduler
+    );
+  }
+
+  private <U> SupplierWithApiException<U> rateLimited(String address, SupplierWithApiException<U> supplier) {
+    final TokenBucketRateLimiter rateLimiter = this.retryCache.getRateLimiter(address);
+    if (rateLimiter == null || supplier == null) {
+      return supplier;
+    }
+    return () -> {
+      rateLimiter.acquire();
+      return supplier.get();
+    };
+  }
+
+  /**
+   * Instead of blocking the calling thread, a call delayed by the rate limit is started later on the scheduler.
+   */
+  private <U> SupplierWithApiException<CompletableFuture<U>> rateLimitedAsync(String address,
+      SupplierWithApiException<CompletableFuture<U>> asyncSupplier, ScheduledExecutorService scheduler) {
+    final TokenBucketRateLimiter rateLimiter = this.retryCache.getRateLimiter(address);
+    if (rateLimiter == null || asyncSupplier == null) {
+      return asyncSupplier;
+    }
+    return () -> {
+      final long waitNanos = rateLimiter.reserve();
+      if (waitNanos <= 0) {
+        return asyncSupplier.get();
+      }
+
+      final CompletableFuture<U> result = new CompletableFuture<>();
+      scheduler.schedule(() -> {
+        try {
+          asyncSupplier.get().whenComplete((value, error) -> {
+            if (error != null) {
+              result.completeExceptionally(error);
+            } else {
+              result.complete(value);
+            }
+          });
+        } catch (Throwable t) {
+          result.completeExceptionally(t);
+        }
+      }, waitNanos, TimeUnit.NANOSECONDS);
+      return result;
+    };
+  }
 }
@@ -0,0 +1,194 @@
+package com.symphony.bdk.core.retry.resilience4j;
+
+import com.symphony.bdk.core.activity.ThreadFactoryBuilder;
+import com.symphony.bdk.core.config.model.BdkRetryConfig;
+import com.symphony.bdk.core.retry.RecoveryStrategy;
+import com.symphony.bdk.core.retry.RetryWithRecovery;
+import com.symphony.bdk.core.retry.function.SupplierWithApiException;
+import com.symphony.bdk.http.api.ApiException;
+
+import io.github.resilience4j.retry.Retry;
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Non-blocking counterpart of {@link Resilience4jRetryWithRecovery}: the supplier returns a {@link CompletableFuture}
+ * and the waits between two attempts are scheduled on a {@link ScheduledExecutorService} instead of putting the
+ * calling thread to sleep.
+ * <p>
+ * Recovery functions (e.g. session refresh) may be blocking, they are run on a bounded recovery executor rather than
+ * on the thread completing the failed call or on the scheduler, which is only used for timers: a slow re-login does
+ * not delay the retries of other calls, and concurrent recoveries can be coalesced by the recovery functions.
+ *
+ * @param <T> the type of the object returned by {@link #execute()}
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+public class Resilience4jAsyncRetryWithRecovery<T> {
+
+  private static final class SharedRecoveryExecutor {
+    private static final int THREADS = 4;
+    private static final Executor INSTANCE = createRecoveryExecutor();
+
+    private static Executor createRecoveryExecutor() {
+      final ThreadPoolExecutor executor = new ThreadPoolExecutor(THREADS, THREADS, 60, TimeUnit.SECONDS,
+          new LinkedBlockingQueue<>(),
+          new ThreadFactoryBuilder().setName("Bdk-Async-Recovery-Thread").setDaemon(true).build());
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
+    }
+  }
+
+  private final Retry retry;
+  private final String address;
+  private final SupplierWithApiException<CompletableFuture<T>> supplier;
+  private final Predicate<Exception> ignoreException;
+  private final List<RecoveryStrategy> recoveryStrategies;
+  private final ScheduledExecutorService scheduler;
+  private final Executor recoveryExecutor;
+
+  /**
+   * @param name                      the name of the {@link Retry} service.
+   * @param address                   the base path targeted by the supplier, used in error messages.
+   * @param bdkRetryConfig            the retry configuration to be used.
+   * @param supplier                  the supplier starting the call, it may throw an {@link ApiException} or return a
+   *                                  future completed exceptionally.
+   * @param retryOnExceptionPredicate predicate on a failure to know if call should be retried.
+   * @param ignoreException           predicate on a failure to know if it should be ignored, the returned future is
+   *                                  then completed with null.
+   * @param recoveryStrategies        recovery functions to be executed before retrying.
+   * @param scheduler                 the scheduler on which retries are scheduled.
+   */
+  public Resilience4jAsyncRetryWithRecovery(String name, String address, BdkRetryConfig bdkRetryConfig,
+      SupplierWithApiException<CompletableFuture<T>> supplier, Predicate<Throwable> retryOnExceptionPredicate,
+      Predicate<Exception> ignoreException, List<RecoveryStrategy> recoveryStrategies,
+      ScheduledExecutorService scheduler) {
+    this(Resilience4jRetryWithRecovery.createRetry(name, bdkRetryConfig, retryOnExceptionPredicate), address, supplier,
+        ignoreException, recoveryStrategies, scheduler);
+  }
+
+  /**
+   * @param retry              the {@link Retry} service, which can be shared by all the calls of the same operation,
+   *                           see {@link Resilience4jRetryCache}.
+   * @param address            the base path targeted by the supplier, used in error messages.
+   * @param supplier           the supplier starting the call, it may throw an {@link ApiException} or return a
+   *                           future completed exceptionally.
+   * @param ignoreException    predicate on a failure to know if it should be ignored, the returned future is
+   *                           then completed with null.
+   * @param recoveryStrategies recovery functions to be executed before retrying.
+   * @param scheduler          the scheduler on which retries are scheduled.
+   */
+  public Resilience4jAsyncRetryWithRecovery(Retry retry, String address,
+      SupplierWithApiException<CompletableFuture<T>> supplier, Predicate<Exception> ignoreException,
+      List<RecoveryStrategy> recoveryStrategies, ScheduledExecutorService scheduler) {
+    this(retry, address, supplier, ignoreException, recoveryStrategies, scheduler, SharedRecoveryExecutor.INSTANCE);
+  }
+
+  /**
+   * @param retry              the {@link Retry} service, which can be shared by all the calls of the same operation,
+   *                           see {@link Resilience4jRetryCache}.
+   * @param address            the base path targeted by the supplier, used in error messages.
+   * @param supplier           the supplier starting the call, it may throw an {@link ApiException} or return a
+   *                           future completed exceptionally.
+   * @param ignoreException    predicate on a failure to know if it should be ignored, the returned future is
+   *                           then completed with null.
+   * @param recoveryStrategies recovery functions to be executed before retrying.
+   * @param scheduler          the scheduler on which retries are scheduled.
+   * @param recoveryExecutor   the executor on which the recovery functions, which may be blocking, are run.
+   */
+  public Resilience4jAsyncRetryWithRecovery(Retry retry, String address,
+      SupplierWithApiException<CompletableFuture<T>> supplier, Predicate<Exception> ignoreException,
+      List<RecoveryStrategy> recoveryStrategies, ScheduledExecutorService scheduler, Executor recoveryExecutor) {
+    this.retry = retry;
+    this.address = address;
+    this.supplier = supplier;
+    this.ignoreException = ignoreException;
+    this.recoveryStrategies = recoveryStrategies;
+    this.scheduler = scheduler;
+    this.recoveryExecutor = recoveryExecutor;
+  }
+
+  /**
+   * Starts the call and retries it on failure.
+   *
+   * @return a future completed with the object returned by the supplier, or completed exceptionally with the last
+   * failure if it cannot be retried or if the max number of attempts has been reached.
+   */
+  public CompletableFuture<T> execute() {
+    return this.retry.executeCompletionStage(this.scheduler, this::executeOnce).toCompletableFuture();
+  }
+
+  private CompletionStage<T> executeOnce() {
+    final CompletableFuture<T> attempt = new CompletableFuture<>();
+    // bound before the call is started, the recovery is run on another thread
+    final List<RecoveryStrategy> attemptRecoveryStrategies = RecoveryStrategy.forAttempt(this.recoveryStrategies);
+
+    CompletableFuture<T> call;
+    try {
+      call = this.supplier.get();
+    } catch (ApiException | RuntimeException e) {
+      call = CompletableFuture.failedFuture(e);
+    }
+
+    call.whenComplete((result, error) -> {
+      if (error == null) {
+        attempt.complete(result);
+        return;
+      }
+
+      final Throwable cause = unwrap(error);
+      if (cause instanceof Exception && this.ignoreException.test((Exception) cause)) {
+        log.debug("{} ignored: {}", cause.getClass().getCanonicalName(), cause.getMessage());
+        attempt.complete(null);
+        return;
+      }
+
+      final List<RecoveryStrategy> recoveries = new ArrayList<>();
+      for (RecoveryStrategy recoveryStrategy : attemptRecoveryStrategies) {
+        if (cause instanceof Exception && recoveryStrategy.matches((Exception) cause)) {
+          recoveries.add(recoveryStrategy);
+        }
+      }
+
+      if (recoveries.isEmpty()) {
+        log.error(RetryWithRecovery.networkIssueMessageError(cause, this.address) + cause.getMessage());
+        attempt.completeExceptionally(cause);
+        return;
+      }
+
+      this.recoveryExecutor.execute(() -> {
+        try {
+          log.debug("Exception recovered", cause);
+          for (RecoveryStrategy recovery : recoveries) {
+            recovery.runRecovery();
+          }
+          attempt.completeExceptionally(cause);
+        } catch (Throwable t) {
+          attempt.completeExceptionally(t);
+        }
+      });
+    });
+
+    return attempt;
+  }
+
+  /**
+   * @param error a failure of a {@link CompletableFuture}.
+   * @return the actual failure, i.e. without its {@link CompletionException} wrapper.
+   */
+  public static Throwable unwrap(Throwable error) {
+    return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+  }
+}
@@ -0,0 +1,80 @@
+package com.symphony.bdk.core.retry.resilience4j;
+
+import com.symphony.bdk.core.config.model.BdkRetryConfig;
+import com.symphony.bdk.core.retry.util.TokenBucketRateLimiter;
+import com.symphony.bdk.http.api.metrics.ApiClientMetrics;
+
+import io.github.resilience4j.retry.Retry;
+import org.apiguardian.api.API;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Cache of the {@link Retry} instances sharing the same retry configuration and retry condition, indexed by name.
+ * <p>
+ * A {@link Retry} being thread-safe and stateless between two executions (apart from its metrics), it is created once
+ * per retried operation and then reused by all the calls of this operation, instead of being created on each call.
+ * <p>
+ * If a rate limit is configured, a {@link TokenBucketRateLimiter} is also kept per called address.
+ */
+@API(status = API.Status.INTERNAL)
+public class Resilience4jRetryCache {
+
+  private final BdkRetryConfig retryConfig;
+  private final Predicate<Throwable> retryOnExceptionPredicate;
+  private final ApiClientMetrics metrics;
+  private final Map<String, Retry> retries = new ConcurrentHashMap<>();
+  private final Map<String, TokenBucketRateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
+  /**
+   * @param retryConfig               the retry configuration of the cached {@link Retry} instances.
+   * @param retryOnExceptionPredicate the retry condition of the cached {@link Retry} instances.
+   */
+  public Resilience4jRetryCache(BdkRetryConfig retryConfig, Predicate<Throwable> retryOnExceptionPredicate) {
+    this(retryConfig, retryOnExceptionPredicate, ApiClientMetrics.NOOP);
+  }
+
+  /**
+   * @param retryConfig               the retry configuration of the cached {@link Retry} instances.
+   * @param retryOnExceptionPredicate the retry condition of the cached {@link Retry} instances.
+   * @param metrics                   the instrumentation recording the retries.
+   */
+  public Resilience4jRetryCache(BdkRetryConfig retryConfig, Predicate<Throwable> retryOnExceptionPredicate,
+      ApiClientMetrics metrics) {
+    this.retryConfig = retryConfig;
+    this.retryOnExceptionPredicate = retryOnExceptionPredicate;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Returns the {@link Retry} of the given name, created on the first call.
+   *
+   * @param name the name of the retried operation.
+   * @return the {@link Retry} instance.
+   */
+  public Retry getRetry(String name) {
+    if (name == null) {
+      return Resilience4jRetryWithRecovery.createRetry(null, this.retryConfig, this.retryOnExceptionPredicate,
+          this.metrics);
+    }
+    return this.retries.computeIfAbsent(name,
+        n -> Resilience4jRetryWithRecovery.createRetry(n, this.retryConfig, this.retryOnExceptionPredicate,
+            this.metrics));
+  }
+
+  /**
+   * Returns the rate limiter of the given address, created on the first call.
+   *
+   * @param address the base path of the called host.
+   * @return the {@link TokenBucketRateLimiter} instance, null if no rate limit is configured.
+   */
+  public TokenBucketRateLimiter getRateLimiter(String address) {
+    if (address == null || !this.retryConfig.getRateLimit().isEnabled()) {
+      return null;
+    }
+    return this.rateLimiters.computeIfAbsent(address,
+        a -> new TokenBucketRateLimiter(this.retryConfig.getRateLimit()));
+  }
+}
@@ -6,6 +6,7 @@ import com.symphony.bdk.core.retry.RetryWithRecovery;
 import com.symphony.bdk.core.retry.util.BdkExponentialFunction;
 import com.symphony.bdk.core.retry.function.SupplierWithApiException;
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.metrics.ApiClientMetrics;
 
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
@@ -54,8 +55,23 @@ public class Resilience4jRetryWithRecovery<T> extends RetryWithRecovery<T> {
    */
   public Resilience4jRetryWithRecovery(String name, String address, BdkRetryConfig bdkRetryConfig, SupplierWithApiException<T> supplier,
       Predicate<Throwable> retryOnExceptionPredicate, Predicate<Exception> ignoreException, List<RecoveryStrategy> recoveryStrategies) {
+    this(createRetry(name, bdkRetryConfig, retryOnExceptionPredicate), address, supplier, ignoreException,
+        recoveryStrategies);
+  }
+
+  /**
+   * Constructor with an already created {@link Retry}, which can be shared by all the calls of the same operation.
+   * @param retry the {@link Retry} service, see {@link Resilience4jRetryCache}.
+   * @param supplier the supplier responsible to provide the object of param type T and which may throw an {@link ApiException}.
+   * @param ignoreException predicate on a thrown {@link Exception} to know if exception should be ignored,
+   *                           which means no subsequent retry will be made and null value will be returned.
+   * @param recoveryStrategies mapping between {@link Predicate<ApiException>} and the corresponding recovery functions to be executed before retrying.
+   *                           If several predicates match, all corresponding consumers will be executed.
+   */
+  public Resilience4jRetryWithRecovery(Retry retry, String address, SupplierWithApiException<T> supplier,
+      Predicate<Exception> ignoreException, List<RecoveryStrategy> recoveryStrategies) {
     super(supplier, ignoreException, recoveryStrategies, address);
-    this.retry = createRetry(name, bdkRetryConfig, retryOnExceptionPredicate);
+    this.retry = retry;
   }
 
   /**
@@ -65,15 +81,28 @@ public class Resilience4jRetryWithRecovery<T> extends RetryWithRecovery<T> {
     return this.retry.executeCheckedSupplier(this::executeOnce);
   }
 
-  private Retry createRetry(
+  Retry getRetry() {
+    return this.retry;
+  }
+
+  static Retry createRetry(
       final String name,
       final BdkRetryConfig bdkRetryConfig,
       final Predicate<Throwable> retryOnExceptionPredicate
   ) {
+    return createRetry(name, bdkRetryConfig, retryOnExceptionPredicate, ApiClientMetrics.NOOP);
+  }
+
+  static Retry createRetry(
+      final String name,
+      final BdkRetryConfig bdkRetryConfig,
+      final Predicate<Throwable> retryOnExceptionPredicate,
+      final ApiClientMetrics metrics
+  ) {
 
     final RetryConfig retryConfig = RetryConfig.custom()
         .maxAttempts(bdkRetryConfig.getMaxAttempts())
-        .intervalFunction(BdkExponentialFunction.ofExponentialBackoff(bdkRetryConfig))
+        .intervalBiFunction(BdkExponentialFunction.ofRetryConfig(bdkRetryConfig))
         .retryOnException(retryOnExceptionPredicate)
         .build();
 
@@ -84,6 +113,7 @@ public class Resilience4jRetryWithRecovery<T> extends RetryWithRecovery<T> {
         log.debug("{} service failed due to {}", name, event.getLastThrowable().getMessage());
       }
       log.info("Retry in {}s...", interval);
+      metrics.recordRetry(name);
     });
 
     return retry;
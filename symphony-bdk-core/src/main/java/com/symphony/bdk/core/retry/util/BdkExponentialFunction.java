@@ -1,10 +1,22 @@
 package com.symphony.bdk.core.retry.util;
 
 import com.symphony.bdk.core.config.model.BdkRetryConfig;
+import com.symphony.bdk.http.api.ApiException;
+
+import io.github.resilience4j.core.IntervalBiFunction;
 import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.core.functions.Either;
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Custom BdkExponentialFunction class to be used in Bdk Retry mechanism.
  * The interval between 2 retries will be initiated by the value BdkRetryConfig#initialIntervalMillis.
@@ -13,11 +25,17 @@ import org.apiguardian.api.API;
  *
  * This interval will be limited by BdkRetryConfig#maxIntervalMillis, in means that, when this interval
  * is greater than this value, it will not be multiplied any more and set to BdkRetryConfig#maxIntervalMillis.
+ *
+ * If BdkRetryConfig#jitter is enabled, the interval is randomized. If BdkRetryConfig#respectRetryAfter is enabled,
+ * the delay requested by the Retry-After header of a throttled call takes precedence.
  */
 @Slf4j
 @API(status = API.Status.INTERNAL)
 public class BdkExponentialFunction {
 
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+    private static final int SERVICE_UNAVAILABLE = 503;
+
     /**
      * Produce an interval function from given {@link BdkRetryConfig}.
      *
@@ -41,4 +59,114 @@ public class BdkExponentialFunction {
             }
         });
     }
+
+    /**
+     * Produce an exponential interval function with decorrelated jitter from given {@link BdkRetryConfig}: each
+     * interval is picked randomly between BdkRetryConfig#initialIntervalMillis and three times the exponential
+     * interval, limited by BdkRetryConfig#maxIntervalMillis.
+     *
+     * @param retryConfig given retry configuration.
+     *
+     * @return an {@link IntervalFunction} to be used in Retry mechanism.
+     */
+    public static IntervalFunction ofDecorrelatedJitter(BdkRetryConfig retryConfig) {
+        final IntervalFunction exponentialBackoff = ofExponentialBackoff(retryConfig);
+        final long initialIntervalMillis = retryConfig.getInitialIntervalMillis();
+        final long maxIntervalMillis = retryConfig.getMaxIntervalMillis();
+
+        return attempt -> {
+            final long upperBound = Math.min(maxIntervalMillis, 3 * exponentialBackoff.apply(attempt));
+            if (upperBound <= initialIntervalMillis) {
+                return upperBound;
+            }
+            return ThreadLocalRandom.current().nextLong(initialIntervalMillis, upperBound + 1);
+        };
+    }
+
+    /**
+     * Produce the interval function of the given {@link BdkRetryConfig}: exponential, with jitter if enabled, and
+     * following the Retry-After header of the failed calls if enabled.
+     *
+     * @param retryConfig given retry configuration.
+     *
+     * @return an {@link IntervalBiFunction} to be used in Retry mechanism.
+     */
+    public static IntervalBiFunction<Object> ofRetryConfig(BdkRetryConfig retryConfig) {
+        final IntervalFunction intervalFunction = retryConfig.isJitter()
+            ? ofDecorrelatedJitter(retryConfig)
+            : ofExponentialBackoff(retryConfig);
+        if (!retryConfig.isRespectRetryAfter()) {
+            return IntervalBiFunction.ofIntervalFunction(intervalFunction);
+        }
+
+        final long maxIntervalMillis = retryConfig.getMaxIntervalMillis();
+        return (attempt, result) -> {
+            final long retryAfterMillis = getRetryAfterMillis(result);
+            if (retryAfterMillis >= 0) {
+                log.debug("Call throttled, retry requested after {} millis", retryAfterMillis);
+                return Math.min(retryAfterMillis, maxIntervalMillis);
+            }
+            return intervalFunction.apply(attempt);
+        };
+    }
+
+    /**
+     * @return the delay requested by the Retry-After header of a 429 or 503 failure, -1 if there is none.
+     */
+    private static long getRetryAfterMillis(Either<Throwable, Object> result) {
+        if (result == null || !result.isLeft()) {
+            return -1;
+        }
+
+        Throwable t = result.getLeft();
+        while (t != null && !(t instanceof ApiException)) {
+            t = t.getCause();
+        }
+        if (t == null) {
+            return -1;
+        }
+
+        final ApiException apiException = (ApiException) t;
+        if (!apiException.isTooManyRequestsError() && apiException.getCode() != SERVICE_UNAVAILABLE) {
+            return -1;
+        }
+        return parseRetryAfter(getHeader(apiException.getResponseHeaders(), RETRY_AFTER_HEADER));
+    }
+
+    private static String getHeader(Map<String, List<String>> headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey()) && header.getValue() != null && !header.getValue().isEmpty()) {
+                return header.getValue().get(0);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param retryAfter the value of a Retry-After header, either a number of seconds or an HTTP date.
+     * @return the delay in milliseconds, -1 if the value cannot be parsed.
+     */
+    static long parseRetryAfter(String retryAfter) {
+        if (retryAfter == null || retryAfter.trim().isEmpty()) {
+            return -1;
+        }
+
+        final String value = retryAfter.trim();
+        try {
+            return Math.max(0, Long.parseLong(value) * 1000);
+        } catch (NumberFormatException e) {
+            // not a number of seconds, maybe an HTTP date
+        }
+
+        try {
+            final ZonedDateTime date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(date.getZone()), date).toMillis());
+        } catch (DateTimeParseException e) {
+            log.debug("Unable to parse Retry-After header: {}", value);
+            return -1;
+        }
+    }
 }
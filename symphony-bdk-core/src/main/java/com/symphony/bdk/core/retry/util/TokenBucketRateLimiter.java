@@ -0,0 +1,81 @@
+package com.symphony.bdk.core.retry.util;
+
+import com.symphony.bdk.core.config.model.BdkRateLimitConfig;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket limiting the rate of the calls made to a host, as configured by {@link BdkRateLimitConfig}.
+ * <p>
+ * The bucket holds up to {@link BdkRateLimitConfig#getBurst()} permits and is refilled at
+ * {@link BdkRateLimitConfig#getPermitsPerSecond()}. A call taking a permit from an empty bucket is not rejected, it is
+ * delayed until the permit is available: the permits can be reserved in advance, so that concurrent callers are
+ * spread over time instead of all retrying at once.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+public class TokenBucketRateLimiter {
+
+  private final LongSupplier nanoClock;
+  private final double nanosPerPermit;
+  private final double maxPermits;
+
+  private double storedPermits;
+  private long lastRefillNanos;
+
+  /**
+   * @param rateLimitConfig the rate limit configuration, must be enabled.
+   */
+  public TokenBucketRateLimiter(BdkRateLimitConfig rateLimitConfig) {
+    this(rateLimitConfig, System::nanoTime);
+  }
+
+  TokenBucketRateLimiter(BdkRateLimitConfig rateLimitConfig, LongSupplier nanoClock) {
+    if (!rateLimitConfig.isEnabled()) {
+      throw new IllegalArgumentException("Illegal permits per second: " + rateLimitConfig.getPermitsPerSecond());
+    }
+    this.nanoClock = nanoClock;
+    this.nanosPerPermit = TimeUnit.SECONDS.toNanos(1) / rateLimitConfig.getPermitsPerSecond();
+    this.maxPermits = Math.max(1, rateLimitConfig.getBurst());
+    this.storedPermits = this.maxPermits;
+    this.lastRefillNanos = nanoClock.getAsLong();
+  }
+
+  /**
+   * Takes a permit, waiting until it is available.
+   * If the current thread is interrupted while waiting, the call is let through and the interrupt flag is restored.
+   */
+  public void acquire() {
+    final long waitNanos = reserve();
+    if (waitNanos > 0) {
+      log.debug("Rate limit reached, call delayed by {} millis", TimeUnit.NANOSECONDS.toMillis(waitNanos));
+      try {
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Takes a permit without waiting for it.
+   *
+   * @return the time in nanoseconds to wait before the permit is available, 0 if it is available right away.
+   */
+  public synchronized long reserve() {
+    final long now = this.nanoClock.getAsLong();
+    this.storedPermits = Math.min(this.maxPermits, this.storedPermits + (now - this.lastRefillNanos) / this.nanosPerPermit);
+    this.lastRefillNanos = now;
+
+    this.storedPermits -= 1;
+    if (this.storedPermits >= 0) {
+      return 0;
+    }
+    // the permit is borrowed from the future refills, the next callers wait behind this one
+    return (long) Math.ceil(-this.storedPermits * this.nanosPerPermit);
+  }
+}
@@ -44,4 +44,25 @@ public interface DatafeedLoop {
    * @return timestamp value in long
    */
   long lastPullTimestamp();
+
+  /**
+   * Plugs a registry recording the activity of the loop: size and latency of the reads, processing time of the
+   * batches, dispatch time per listener and event type, age of the events, re-queued batches and feed recreations.
+   * The {@link #statistics()} are kept regardless of the registry.
+   *
+   * @param metrics the registry to record to, {@link DatafeedMetrics#NOOP} to stop recording.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default void setMetrics(DatafeedMetrics metrics) {
+  }
+
+  /**
+   * The activity of the loop since it has been created.
+   *
+   * @return a snapshot of the loop statistics
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default DatafeedStatistics statistics() {
+    return DatafeedStatistics.EMPTY;
+  }
 }
@@ -0,0 +1,87 @@
+package com.symphony.bdk.core.service.datafeed;
+
+import org.apiguardian.api.API;
+
+/**
+ * Records the activity of a {@link DatafeedLoop} or {@link DatahoseLoop}, see {@link DatafeedLoop#setMetrics}.
+ * <p>
+ * Methods are called from the loop thread, from the dispatcher workers if the parallel dispatching is enabled or from
+ * the pipeline thread if the read-ahead mode is enabled: implementations must be thread safe and should not block.
+ * All methods do nothing by default.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface DatafeedMetrics {
+
+  /**
+   * Records nothing.
+   */
+  DatafeedMetrics NOOP = new DatafeedMetrics() {};
+
+  /**
+   * Returns the metrics to be used by a given loop, e.g. to tag them with the loop name.
+   *
+   * @param loop the loop name, "datafeed" or "datahose".
+   * @return the metrics of the loop, this instance by default.
+   */
+  default DatafeedMetrics forLoop(String loop) {
+    return this;
+  }
+
+  /**
+   * Called after each successful read of the feed.
+   *
+   * @param batchSize the number of events read, possibly 0.
+   * @param readNanos the duration of the read call, including the long polling wait.
+   */
+  default void recordRead(int batchSize, long readNanos) {
+  }
+
+  /**
+   * Called once a non-empty batch of events has been dispatched to the listeners, whether it succeeded or not.
+   *
+   * @param processingNanos the time spent handling the whole batch.
+   */
+  default void recordProcessing(long processingNanos) {
+  }
+
+  /**
+   * Called when the ack id of a batch is committed, i.e. when the events will not be re-queued anymore.
+   * Not called by the datafeed v1 loop which does not acknowledge events.
+   *
+   * @param ackLatencyNanos the time between the end of the read and the ack id update, including the wait in the
+   *                        read-ahead pipeline if enabled.
+   */
+  default void recordAck(long ackLatencyNanos) {
+  }
+
+  /**
+   * Called for each received event carrying a timestamp, before it is dispatched.
+   *
+   * @param eventType the event type, e.g. "MESSAGESENT".
+   * @param ageMillis the time elapsed since the event was created on the pod.
+   */
+  default void recordEventAge(String eventType, long ageMillis) {
+  }
+
+  /**
+   * Called each time a listener has handled an event, whether it succeeded or not.
+   *
+   * @param eventType     the event type, e.g. "MESSAGESENT".
+   * @param listener      the listener the event was dispatched to.
+   * @param durationNanos the time spent by the listener.
+   */
+  default void recordDispatch(String eventType, RealTimeEventListener listener, long durationNanos) {
+  }
+
+  /**
+   * Called when a batch could not be handled and its events will be re-queued, e.g. after an {@link EventException}.
+   */
+  default void recordRequeue() {
+  }
+
+  /**
+   * Called when the feed has been recreated after it became stale or faulty.
+   */
+  default void recordRecreation() {
+  }
+}
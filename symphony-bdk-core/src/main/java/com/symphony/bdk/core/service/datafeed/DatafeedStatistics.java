@@ -0,0 +1,32 @@
+package com.symphony.bdk.core.service.datafeed;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.apiguardian.api.API;
+
+/**
+ * Snapshot of the activity of a {@link DatafeedLoop} since it has been created, see {@link DatafeedLoop#statistics()}.
+ * Durations are in milliseconds, "last" values are 0 until the first corresponding measurement.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@API(status = API.Status.EXPERIMENTAL)
+public class DatafeedStatistics {
+
+  /**
+   * Statistics of a loop that did not record anything.
+   */
+  public static final DatafeedStatistics EMPTY = new DatafeedStatistics(0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+  private final long reads;
+  private final long events;
+  private final int lastBatchSize;
+  private final long lastReadMillis;
+  private final long lastProcessingMillis;
+  private final long lastAckLatencyMillis;
+  private final long lastEventAgeMillis;
+  private final long requeues;
+  private final long recreations;
+}
@@ -1,11 +1,13 @@
 package com.symphony.bdk.core.service.datafeed.impl;
 
+import com.symphony.bdk.core.activity.ThreadFactoryBuilder;
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.gen.api.DatafeedApi;
 import com.symphony.bdk.gen.api.model.UserV2;
 import com.symphony.bdk.gen.api.model.V5EventList;
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.tracing.MDCUtils;
 
 import lombok.AccessLevel;
 import lombok.Generated;
@@ -14,7 +16,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.time.StopWatch;
 import org.apiguardian.api.API;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @API(status = API.Status.INTERNAL)
 @Slf4j
@@ -30,16 +37,137 @@ public abstract class AbstractAckIdEventLoop extends AbstractDatafeedLoop {
    */
   private static final int EVENT_PROCESSING_MAX_DURATION_SECONDS = 30;
 
+  /**
+   * Ack id of the last handled events.
+   */
   @Getter(AccessLevel.PROTECTED)
-  protected String ackId;
+  protected volatile String ackId;
+
+  /**
+   * Incremented each time the ack id is reset, so that batches read before cannot commit their ack id afterwards.
+   */
+  private final AtomicLong ackIdGeneration = new AtomicLong();
+
+  /**
+   * Ack ids of the handled events that have not been sent yet, in the read order. In read-ahead mode, several batches
+   * can be handled between two reads: their ack ids are sent one per read so that none of them is skipped.
+   */
+  private final Queue<String> pendingAckIds = new ArrayDeque<>();
+
+  /**
+   * Ack id sent with the last successful read, sent again if no events have been handled since.
+   */
+  private String sentAckId;
+
+  /**
+   * Whether the ack id returned by the last call to {@link #nextAckId()} is the head of {@link #pendingAckIds}, which
+   * is only removed once the read succeeded, so that a failed read is retried with the same ack id.
+   */
+  private boolean pendingAckIdRequested;
+
+  /**
+   * Single thread handling the events read ahead, in the read order. Only set if the read-ahead mode is enabled.
+   */
+  private ThreadPoolExecutor pipeline;
 
   public AbstractAckIdEventLoop(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config, UserV2 botInfo) {
     super(datafeedApi, authSession, config, botInfo);
     this.ackId = INITIAL_ACK_ID;
+    this.sentAckId = INITIAL_ACK_ID;
+  }
+
+  @Override
+  protected void beforeLoop() {
+    super.beforeLoop();
+    final int readAhead = this.bdkConfig.getDatafeed().getReadAhead();
+    if (readAhead > 0) {
+      final ThreadFactory threadFactory = new ThreadFactoryBuilder()
+          .setName("Datafeed-Pipeline-Thread")
+          .setPriority(Thread.NORM_PRIORITY)
+          .build();
+      this.pipeline = BlockingExecutors.newSingleThreadExecutor(threadFactory, readAhead);
+    }
+  }
+
+  @Override
+  protected void afterLoop() {
+    if (this.pipeline != null) {
+      // let the events already read be handled before stopping
+      this.pipeline.shutdown();
+      try {
+        if (!this.pipeline.awaitTermination(EVENT_PROCESSING_MAX_DURATION_SECONDS, TimeUnit.SECONDS)) {
+          log.warn("Events read ahead could not be handled before stopping, they will be re-queued");
+          this.pipeline.shutdownNow();
+        }
+      } catch (InterruptedException e) {
+        this.pipeline.shutdownNow();
+        Thread.currentThread().interrupt();
+      }
+      this.pipeline = null;
+    }
+    super.afterLoop();
+  }
+
+  /**
+   * Resets the ack id, e.g. when a new feed is created. Ack ids of the batches being handled will not be committed.
+   */
+  protected synchronized void resetAckId() {
+    this.ackIdGeneration.incrementAndGet();
+    this.ackId = INITIAL_ACK_ID;
+    this.sentAckId = INITIAL_ACK_ID;
+    this.pendingAckIds.clear();
+    this.pendingAckIdRequested = false;
+  }
+
+  /**
+   * To be called by {@link #readEvents()} to get the ack id to be sent.
+   *
+   * @return the oldest ack id of the handled events that has not been sent yet, the last sent ack id otherwise.
+   */
+  protected synchronized String nextAckId() {
+    final String pending = this.pendingAckIds.peek();
+    this.pendingAckIdRequested = pending != null;
+    return this.pendingAckIdRequested ? pending : this.sentAckId;
+  }
+
+  private synchronized void ackIdSent() {
+    if (this.pendingAckIdRequested) {
+      this.sentAckId = this.pendingAckIds.poll();
+      this.pendingAckIdRequested = false;
+    }
   }
 
+  private synchronized boolean commitAckId(String ackId, long generation) {
+    if (generation != this.ackIdGeneration.get()) {
+      return false;
+    }
+    this.ackId = ackId;
+    this.pendingAckIds.add(ackId);
+    return true;
+  }
+
+  /**
+   * Reads events then handles them. If the read-ahead mode is enabled, events are handed over to the pipeline thread
+   * and this method returns straight away, so that the next read can overlap with the handling of the events. The ack
+   * ids of the handled batches are then sent with the next reads, in order.
+   */
   protected Void readAndHandleEvents() throws ApiException {
-    V5EventList v5EventList = readEvents();
+    final long generation = this.ackIdGeneration.get();
+    final long readStart = System.nanoTime();
+    final V5EventList v5EventList = readEvents();
+    final long readEnd = System.nanoTime();
+    this.ackIdSent();
+    this.statistics.recordRead(v5EventList == null ? null : v5EventList.getEvents(), readEnd - readStart);
+
+    if (this.pipeline != null) {
+      this.pipeline.execute(MDCUtils.wrap(() -> this.handleEvents(v5EventList, generation, readEnd)));
+    } else {
+      this.handleEvents(v5EventList, generation, readEnd);
+    }
+    return null;
+  }
+
+  private void handleEvents(V5EventList v5EventList, long generation, long readEnd) {
     try {
 
       StopWatch stopWatch = StopWatch.createStarted();
@@ -49,13 +177,15 @@ public abstract class AbstractAckIdEventLoop extends AbstractDatafeedLoop {
       checkProcessingTime(stopWatch);
 
       // updates ack id so that on next call DFv2 knows that events have been processed
-      this.ackId = v5EventList.getAckId();
+      if (this.commitAckId(v5EventList.getAckId(), generation)) {
+        this.statistics.recordAck(System.nanoTime() - readEnd);
+      }
     } catch (Exception e) {
       // can happen if developer explicitly raised a RequeueEventException in handleV4EventList
       // we also catch all exceptions just to be extra careful and never break the DF loop
       log.warn("Failed to process events, will not update ack id, events will be re-queued", e);
+      this.statistics.recordRequeue();
     }
-    return null;
   }
 
   @Generated // cannot be easily unit tested
@@ -5,7 +5,10 @@ import static com.symphony.bdk.core.retry.RetryWithRecovery.networkIssueMessageE
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
 import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.core.config.model.BdkDispatcherConfig;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
+import com.symphony.bdk.core.service.datafeed.DatafeedStatistics;
 import com.symphony.bdk.core.service.datafeed.EventException;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.exception.NestedRetryException;
@@ -19,10 +22,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -39,14 +42,20 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
   protected final UserV2 botInfo;
   protected final AtomicBoolean started = new AtomicBoolean();
   protected DatafeedApi datafeedApi;
-  private long lastPullTimestamp;
+  private volatile long lastPullTimestamp;
+  private ParallelEventDispatcher dispatcher;
+
+  /**
+   * Records the activity of the loop, see {@link #setMetrics(DatafeedMetrics)} and {@link #statistics()}.
+   */
+  final DatafeedLoopStatistics statistics = new DatafeedLoopStatistics();
 
   // access needs to be thread safe (DF loop is usually running on its own thread)
-  private final List<RealTimeEventListener> listeners;
+  private final RealTimeEventListenerRegistry listeners;
 
   public AbstractDatafeedLoop(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config, UserV2 botInfo) {
     this.datafeedApi = datafeedApi;
-    this.listeners = new ArrayList<>();
+    this.listeners = new RealTimeEventListenerRegistry();
     this.authSession = authSession;
     this.bdkConfig = config;
     this.botInfo = botInfo;
@@ -57,9 +66,7 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
    */
   @Override
   public void subscribe(RealTimeEventListener listener) {
-    synchronized (this.listeners) {
-      this.listeners.add(listener);
-    }
+    this.listeners.add(listener);
   }
 
   /**
@@ -67,9 +74,7 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
    */
   @Override
   public void unsubscribe(RealTimeEventListener listener) {
-    synchronized (this.listeners) {
-      this.listeners.remove(listener);
-    }
+    this.listeners.remove(listener);
   }
 
   /**
@@ -87,18 +92,41 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
 
     try {
       updateLastPullTimestamp();
+      beforeLoop();
       runLoop();
     } catch (AuthUnauthorizedException | ApiException | NestedRetryException exception) {
       throw exception;
     } catch (Throwable throwable) {
       log.error("{}\n{}", networkIssueMessageError(throwable, datafeedApi.getApiClient().getBasePath()), throwable);
     } finally {
+      afterLoop();
       DistributedTracingContext.clear();
     }
   }
 
   protected abstract void runLoop() throws Throwable;
 
+  /**
+   * Prepares the resources required to handle the events, called on the loop thread before running the loop.
+   */
+  protected void beforeLoop() {
+    final BdkDispatcherConfig dispatcherConfig = this.bdkConfig.getDatafeed().getDispatcher();
+    if (dispatcherConfig != null && dispatcherConfig.isEnabled()) {
+      this.dispatcher =
+          new ParallelEventDispatcher(dispatcherConfig, this.bdkConfig.getThreading().isVirtualThreads());
+    }
+  }
+
+  /**
+   * Releases the resources used to handle the events, called on the loop thread once the loop is stopped.
+   */
+  protected void afterLoop() {
+    if (this.dispatcher != null) {
+      this.dispatcher.shutdown();
+      this.dispatcher = null;
+    }
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -108,12 +136,39 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
     this.started.set(false);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setMetrics(DatafeedMetrics metrics) {
+    this.statistics.delegateTo(metrics == null ? DatafeedMetrics.NOOP : metrics.forLoop(this.metricsName()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DatafeedStatistics statistics() {
+    return this.statistics.snapshot();
+  }
+
+  /**
+   * @return the loop name given to the {@link DatafeedMetrics}, see {@link DatafeedMetrics#forLoop(String)}.
+   */
+  protected String metricsName() {
+    return "datafeed";
+  }
+
   private void updateLastPullTimestamp() {
     this.lastPullTimestamp = Instant.now().toEpochMilli();
   }
 
   /**
    * Handle a received listener by using the subscribed {@link RealTimeEventListener}.
+   * <p>
+   * If the parallel dispatching is enabled (see {@link BdkDispatcherConfig}),
+   * events are dispatched in parallel across streams but in order within a stream, this method returns once all the
+   * events have been handled.
    *
    * @param events List of Datafeed events to be handled
    * @throws RequeueEventException Raised if a listener fails and the developer wants to explicitly not update the ack id.
@@ -124,6 +179,23 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
       return;
     }
 
+    this.recordEventAges(events);
+    final long start = System.nanoTime();
+    try {
+      this.dispatchAll(events);
+    } finally {
+      this.statistics.recordProcessing(System.nanoTime() - start);
+    }
+  }
+
+  private void dispatchAll(List<V4Event> events) throws RequeueEventException {
+    if (this.dispatcher != null) {
+      // events nobody listens to are not handed over, so that their payload is not read to find their stream
+      final List<V4Event> listenedEvents = events.stream().filter(this::hasListeners).collect(Collectors.toList());
+      this.dispatcher.dispatch(listenedEvents, this::dispatch);
+      return;
+    }
+
     for (V4Event event : events) {
 
       final Optional<RealTimeEventType> eventType = RealTimeEventType.fromV4Event(event);
@@ -133,29 +205,53 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
         continue;
       }
 
-      // dispatch single event using event's ID as traceId. Tested for DatafeedLoopV2 as well, and working.
-      DistributedTracingContext.doWithTraceId(event.getId(), () -> {
-
-        synchronized (this.listeners) {
-          for (RealTimeEventListener listener : this.listeners) {
-
-            if (listener.isAcceptingEvent(event, this.botInfo)) {
-              try {
-                log.debug("Before dispatching '{}' event to listener {}", event.getType(), listener);
-                eventType.get().dispatch(listener, event);
-                log.debug("'{}' event successfully dispatched to listener {}", event.getType(), listener);
-              } catch (EventException e) {
-                // rethrow this explicit exception to not update the ack id in the DFv2 loop
-                throw new RequeueEventException(event, listener, e);
-              } catch (Exception t) {
-                log.debug("An uncaught exception has occurred while dispatching event {} to listener {}",
-                    event.getType(), listener, t);
-              }
-            }
+      this.dispatch(event, eventType.get());
+    }
+  }
+
+  private boolean hasListeners(V4Event event) {
+    // unsupported events are kept to be logged by the dispatcher
+    return RealTimeEventType.fromV4Event(event).map(t -> !this.listeners.listenersFor(t).isEmpty()).orElse(true);
+  }
+
+  private void recordEventAges(List<V4Event> events) {
+    final long now = Instant.now().toEpochMilli();
+    for (V4Event event : events) {
+      if (event != null && event.getTimestamp() != null) {
+        this.statistics.recordEventAge(event.getType(), now - event.getTimestamp());
+      }
+    }
+  }
+
+  private void dispatch(V4Event event, RealTimeEventType eventType) throws RequeueEventException {
+    // only the listeners handling this type of event are notified
+    final List<RealTimeEventListener> eventListeners = this.listeners.listenersFor(eventType);
+    if (eventListeners.isEmpty()) {
+      return;
+    }
+
+    // dispatch single event using event's ID as traceId. Tested for DatafeedLoopV2 as well, and working.
+    DistributedTracingContext.doWithTraceId(event.getId(), () -> {
+      for (RealTimeEventListener listener : eventListeners) {
+
+        if (listener.isAcceptingEvent(event, this.botInfo)) {
+          final long start = System.nanoTime();
+          try {
+            log.debug("Before dispatching '{}' event to listener {}", event.getType(), listener);
+            eventType.dispatch(listener, event);
+            log.debug("'{}' event successfully dispatched to listener {}", event.getType(), listener);
+          } catch (EventException e) {
+            // rethrow this explicit exception to not update the ack id in the DFv2 loop
+            throw new RequeueEventException(event, listener, e);
+          } catch (Exception t) {
+            log.debug("An uncaught exception has occurred while dispatching event {} to listener {}",
+                event.getType(), listener, t);
+          } finally {
+            this.statistics.recordDispatch(eventType.name(), listener, System.nanoTime() - start);
           }
         }
-      });
-    }
+      }
+    });
   }
 
   protected void refresh() throws AuthUnauthorizedException {
@@ -0,0 +1,56 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import org.apiguardian.api.API;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Factory of executors used by the datafeed loops to hand events over to other threads.
+ */
+@API(status = API.Status.INTERNAL)
+class BlockingExecutors {
+
+  private BlockingExecutors() {
+    // nothing to be done here
+  }
+
+  /**
+   * Creates a single threaded executor backed by a bounded queue. When the queue is full, the submitting thread is
+   * blocked until a slot is available, instead of dropping the task or running it on the calling thread which would
+   * break the tasks ordering.
+   * <p>
+   * A task submitted while the executor is being shut down is rejected, it is never left in the queue of a terminated
+   * executor.
+   *
+   * @param threadFactory factory of the executor thread
+   * @param queueSize     maximum number of pending tasks
+   * @return the created executor
+   */
+  static ThreadPoolExecutor newSingleThreadExecutor(ThreadFactory threadFactory, int queueSize) {
+    if (queueSize < 1) {
+      throw new IllegalArgumentException("Queue size must be >= 1");
+    }
+    return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize), threadFactory,
+        BlockingExecutors::waitForSlot);
+  }
+
+  private static void waitForSlot(Runnable runnable, ThreadPoolExecutor executor) {
+    if (executor.isShutdown()) {
+      throw new RejectedExecutionException("Executor has been shut down");
+    }
+    try {
+      executor.getQueue().put(runnable);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RejectedExecutionException("Interrupted while waiting for an executor slot", e);
+    }
+    // the executor might have been shut down while waiting for the slot, its queue would then never be consumed
+    if (executor.isShutdown() && executor.remove(runnable)) {
+      throw new RejectedExecutionException("Executor has been shut down");
+    }
+  }
+}
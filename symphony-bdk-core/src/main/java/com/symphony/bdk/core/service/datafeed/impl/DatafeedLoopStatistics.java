@@ -0,0 +1,99 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
+import com.symphony.bdk.core.service.datafeed.DatafeedStatistics;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import org.apiguardian.api.API;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+/**
+ * Keeps the {@link DatafeedStatistics} of a loop and forwards the measurements to the {@link DatafeedMetrics} plugged
+ * into the loop, if any.
+ */
+@API(status = API.Status.INTERNAL)
+class DatafeedLoopStatistics implements DatafeedMetrics {
+
+  private final LongAdder reads = new LongAdder();
+  private final LongAdder events = new LongAdder();
+  private final LongAdder requeues = new LongAdder();
+  private final LongAdder recreations = new LongAdder();
+  private volatile int lastBatchSize;
+  private volatile long lastReadNanos;
+  private volatile long lastProcessingNanos;
+  private volatile long lastAckLatencyNanos;
+  private volatile long lastEventAgeMillis;
+  private volatile DatafeedMetrics delegate = DatafeedMetrics.NOOP;
+
+  void delegateTo(DatafeedMetrics delegate) {
+    this.delegate = delegate;
+  }
+
+  void recordRead(@Nullable List<V4Event> events, long readNanos) {
+    this.recordRead(events == null ? 0 : events.size(), readNanos);
+  }
+
+  @Override
+  public void recordRead(int batchSize, long readNanos) {
+    this.reads.increment();
+    this.events.add(batchSize);
+    this.lastBatchSize = batchSize;
+    this.lastReadNanos = readNanos;
+    this.delegate.recordRead(batchSize, readNanos);
+  }
+
+  @Override
+  public void recordProcessing(long processingNanos) {
+    this.lastProcessingNanos = processingNanos;
+    this.delegate.recordProcessing(processingNanos);
+  }
+
+  @Override
+  public void recordAck(long ackLatencyNanos) {
+    this.lastAckLatencyNanos = ackLatencyNanos;
+    this.delegate.recordAck(ackLatencyNanos);
+  }
+
+  @Override
+  public void recordEventAge(String eventType, long ageMillis) {
+    this.lastEventAgeMillis = ageMillis;
+    this.delegate.recordEventAge(eventType, ageMillis);
+  }
+
+  @Override
+  public void recordDispatch(String eventType, RealTimeEventListener listener, long durationNanos) {
+    this.delegate.recordDispatch(eventType, listener, durationNanos);
+  }
+
+  @Override
+  public void recordRequeue() {
+    this.requeues.increment();
+    this.delegate.recordRequeue();
+  }
+
+  @Override
+  public void recordRecreation() {
+    this.recreations.increment();
+    this.delegate.recordRecreation();
+  }
+
+  DatafeedStatistics snapshot() {
+    return new DatafeedStatistics(
+        this.reads.sum(),
+        this.events.sum(),
+        this.lastBatchSize,
+        TimeUnit.NANOSECONDS.toMillis(this.lastReadNanos),
+        TimeUnit.NANOSECONDS.toMillis(this.lastProcessingNanos),
+        TimeUnit.NANOSECONDS.toMillis(this.lastAckLatencyNanos),
+        this.lastEventAgeMillis,
+        this.requeues.sum(),
+        this.recreations.sum()
+    );
+  }
+}
@@ -106,12 +106,14 @@ public class DatafeedLoopV1 extends AbstractDatafeedLoop {
   }
 
   private Void readAndHandleEvents() throws ApiException {
+    final long readStart = System.nanoTime();
     List<V4Event> events = this.datafeedApi.v4DatafeedIdReadGet(
         datafeedId,
         null,
         authSession.getSessionToken(),
         authSession.getKeyManagerToken()
     );
+    this.statistics.recordRead(events, System.nanoTime() - readStart);
 
     try {
 
@@ -128,6 +130,7 @@ public class DatafeedLoopV1 extends AbstractDatafeedLoop {
     log.info("Recreate a new datafeed and try again");
     try {
       datafeedId = this.createDatafeed.execute();
+      this.statistics.recordRecreation();
     } catch (Throwable throwable) {
       throw new NestedRetryException("Recreation of datafeed failed", throwable);
     }
@@ -53,6 +53,7 @@ public class DatafeedLoopV2 extends AbstractAckIdEventLoop {
   private final RetryWithRecovery<V5Datafeed> retrieveDatafeed;
   private final RetryWithRecovery<V5Datafeed> createDatafeed;
   private final RetryWithRecovery<Void> deleteDatafeed;
+  private final StreamingEventListReader eventListReader;
 
   private V5Datafeed datafeed;
 
@@ -87,6 +88,10 @@ public class DatafeedLoopV2 extends AbstractAckIdEventLoop {
         .supplier(this::doDeleteDatafeed)
         .ignoreException(ApiException::isClientError)
         .build();
+
+    this.eventListReader = config.getDatafeed().isLazyPayload()
+        ? new StreamingEventListReader(datafeedApi.getApiClient())
+        : null;
   }
 
   @Override
@@ -107,7 +112,7 @@ public class DatafeedLoopV2 extends AbstractAckIdEventLoop {
   }
 
   private V5Datafeed doCreateDatafeed() throws ApiException {
-    this.ackId = INITIAL_ACK_ID;
+    this.resetAckId();
     return this.datafeedApi.createDatafeed(
         this.authSession.getSessionToken(),
         this.authSession.getKeyManagerToken(),
@@ -131,11 +136,20 @@ public class DatafeedLoopV2 extends AbstractAckIdEventLoop {
 
   @Override
   protected V5EventList readEvents() throws ApiException {
+    final AckId ackId = new AckId().ackId(this.nextAckId());
+    if (this.eventListReader != null) {
+      return this.eventListReader.readDatafeed(
+          this.datafeed.getId(),
+          this.authSession.getSessionToken(),
+          this.authSession.getKeyManagerToken(),
+          ackId
+      );
+    }
     return this.datafeedApi.readDatafeed(
         this.datafeed.getId(),
         this.authSession.getSessionToken(),
         this.authSession.getKeyManagerToken(),
-        new AckId().ackId(this.ackId)
+        ackId
     );
   }
 
@@ -145,6 +159,7 @@ public class DatafeedLoopV2 extends AbstractAckIdEventLoop {
       this.deleteDatafeed.execute();
       log.info("Recreate a new datafeed and try again");
       this.datafeed = this.createDatafeed.execute();
+      this.statistics.recordRecreation();
     } catch (Throwable throwable) {
       throw new NestedRetryException("Recreation of datafeed failed", throwable);
     }
@@ -18,6 +18,12 @@ import org.apiguardian.api.API;
 
 import java.util.List;
 
+/**
+ * A class for implementing the datahose loop service.
+ * <p>
+ * Apart from the tag, the event types and the retry, its settings ({@code dispatcher}, {@code readAhead} and
+ * {@code lazyPayload}) are read from the datafeed configuration.
+ */
 @Slf4j
 @API(status = API.Status.INTERNAL)
 public class DatahoseLoopImpl extends AbstractAckIdEventLoop implements DatahoseLoop {
@@ -31,6 +37,7 @@ public class DatahoseLoopImpl extends AbstractAckIdEventLoop implements Datahose
   private final List<String> filters;
   private final RetryWithRecovery<Object> readEvents;
   private final DatahoseApi datahoseApi;
+  private final StreamingEventListReader eventListReader;
 
   public DatahoseLoopImpl(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config, UserV2 botInfo,
       DatahoseApi datahoseApi) {
@@ -53,6 +60,10 @@ public class DatahoseLoopImpl extends AbstractAckIdEventLoop implements Datahose
         .retryOnException(RetryWithRecoveryBuilder::isNetworkIssueOrMinorError)
         .recoveryStrategy(ApiException::isUnauthorized, this::refresh)
         .build();
+
+    this.eventListReader = config.getDatafeed().isLazyPayload()
+        ? new StreamingEventListReader(datafeedApi.getApiClient())
+        : null;
   }
 
   @Override
@@ -67,9 +78,19 @@ public class DatahoseLoopImpl extends AbstractAckIdEventLoop implements Datahose
     log.info("Datahose loop successfully stopped.");
   }
 
+  @Override
+  protected String metricsName() {
+    return DATAHOSE;
+  }
+
   @Override
   protected V5EventList readEvents() throws ApiException {
-    return this.datahoseApi.readEvents(this.authSession.getSessionToken(), this.authSession.getKeyManagerToken(),
-        new V5EventsReadBody().ackId(this.ackId).eventTypes(this.filters).tag(this.tag).type(DATAHOSE));
+    final V5EventsReadBody body =
+        new V5EventsReadBody().ackId(this.nextAckId()).eventTypes(this.filters).tag(this.tag).type(DATAHOSE);
+    if (this.eventListReader != null) {
+      return this.eventListReader.readEvents(this.authSession.getSessionToken(), this.authSession.getKeyManagerToken(),
+          body);
+    }
+    return this.datahoseApi.readEvents(this.authSession.getSessionToken(), this.authSession.getKeyManagerToken(), body);
   }
 }
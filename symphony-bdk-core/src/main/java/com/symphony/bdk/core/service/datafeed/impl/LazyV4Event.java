@@ -0,0 +1,90 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Payload;
+
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * {@link V4Event} read by the {@link StreamingEventListReader}, whose payload is kept as raw JSON and only bound on the
+ * first call to {@link #getPayload()}, i.e. when the event is dispatched to a listener handling its type.
+ * <p>
+ * The raw payload is a slice of the response body, released once bound. Note that, as for any generated model
+ * subclass, instances are never equal to plain {@link V4Event} instances.
+ */
+@API(status = API.Status.INTERNAL)
+class LazyV4Event extends V4Event {
+
+  private byte[] source;
+  private int offset;
+  private int length;
+
+  /**
+   * @param source the response body
+   * @param offset the offset of the payload object in the response body
+   * @param length the length of the payload object
+   */
+  synchronized void setRawPayload(byte[] source, int offset, int length) {
+    this.source = source;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * @return true if the payload has not been bound yet.
+   */
+  synchronized boolean hasPendingPayload() {
+    return this.source != null;
+  }
+
+  @Override
+  public synchronized V4Payload getPayload() {
+    if (this.source != null) {
+      try {
+        super.setPayload(StreamingEventListReader.MAPPER.readValue(this.source, this.offset, this.length,
+            V4Payload.class));
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to bind the payload of event " + this.getId(), e);
+      } finally {
+        this.source = null;
+      }
+    }
+    return super.getPayload();
+  }
+
+  @Override
+  public synchronized void setPayload(V4Payload payload) {
+    this.source = null;
+    super.setPayload(payload);
+  }
+
+  @Override
+  public V4Event payload(V4Payload payload) {
+    this.setPayload(payload);
+    return this;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    this.getPayload();
+    if (o instanceof LazyV4Event) {
+      ((LazyV4Event) o).getPayload();
+    }
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    this.getPayload();
+    return super.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    this.getPayload();
+    return super.toString();
+  }
+}
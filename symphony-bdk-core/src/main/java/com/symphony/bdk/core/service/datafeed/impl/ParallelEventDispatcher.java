@@ -0,0 +1,189 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.activity.ThreadFactoryBuilder;
+import com.symphony.bdk.core.config.model.BdkDispatcherConfig;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Payload;
+import com.symphony.bdk.gen.api.model.V4SharedPost;
+import com.symphony.bdk.gen.api.model.V4Stream;
+import com.symphony.bdk.http.api.tracing.MDCUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+
+/**
+ * Dispatches a batch of datafeed events on a bounded pool of workers.
+ * <p>
+ * Events are partitioned by stream id: each partition is handled by a single worker, so that events of a same stream
+ * are dispatched in order while events of different streams are dispatched in parallel. Events that are not related
+ * to a stream (e.g. connection events) all go to the same partition.
+ * <p>
+ * {@link #dispatch(List, BiConsumer)} only returns once the whole batch has been handled, so that the caller can
+ * safely update its ack id afterwards.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+class ParallelEventDispatcher {
+
+  private final ThreadPoolExecutor[] workers;
+  private final long batchTimeoutMillis;
+
+  ParallelEventDispatcher(BdkDispatcherConfig config) {
+    this(config, false);
+  }
+
+  /**
+   * @param config         the dispatcher configuration.
+   * @param virtualThreads true to run the workers on virtual threads, if supported.
+   */
+  ParallelEventDispatcher(BdkDispatcherConfig config, boolean virtualThreads) {
+    if (config.getWorkers() < 1) {
+      throw new IllegalArgumentException("Dispatcher workers count must be >= 1");
+    }
+
+    final ThreadFactory threadFactory = new ThreadFactoryBuilder()
+        .setName("Datafeed-Dispatcher-Thread")
+        .setPriority(Thread.NORM_PRIORITY)
+        .setVirtual(virtualThreads)
+        .build();
+
+    this.workers = new ThreadPoolExecutor[config.getWorkers()];
+    for (int i = 0; i < this.workers.length; i++) {
+      this.workers[i] = BlockingExecutors.newSingleThreadExecutor(threadFactory, config.getQueueSize());
+    }
+    this.batchTimeoutMillis = config.getBatchTimeoutMillis();
+  }
+
+  /**
+   * Dispatch a batch of events and wait for all of them to be handled.
+   *
+   * @param events  the events to be dispatched
+   * @param handler the handling logic of a single event, executed on the workers
+   * @throws RequeueEventException if an event handling raised it or if the batch could not be handled in time.
+   */
+  void dispatch(List<V4Event> events, BiConsumer<V4Event, RealTimeEventType> handler) throws RequeueEventException {
+    final List<Future<?>> futures = new ArrayList<>(events.size());
+
+    for (V4Event event : events) {
+      final Optional<RealTimeEventType> eventType = RealTimeEventType.fromV4Event(event);
+
+      if (!eventType.isPresent()) {
+        log.info("Unsupported event received: {}", event);
+        continue;
+      }
+
+      final ThreadPoolExecutor worker = this.workerFor(streamIdOf(eventType.get(), event));
+      try {
+        futures.add(worker.submit(MDCUtils.wrap(() -> handler.accept(event, eventType.get()))));
+      } catch (RejectedExecutionException e) {
+        futures.forEach(f -> f.cancel(true));
+        throw new RequeueEventException("Dispatcher has been shut down, events will be re-queued", e);
+      }
+    }
+
+    this.awaitBatch(futures);
+  }
+
+  /**
+   * Stop the workers, events that are not dispatched yet are dropped: their batch fails instead of waiting for them.
+   */
+  void shutdown() {
+    for (ThreadPoolExecutor worker : this.workers) {
+      worker.shutdownNow().forEach(task -> ((Future<?>) task).cancel(false));
+    }
+  }
+
+  private void awaitBatch(List<Future<?>> futures) {
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.batchTimeoutMillis);
+    try {
+      for (Future<?> future : futures) {
+        future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      }
+    } catch (ExecutionException e) {
+      futures.forEach(f -> f.cancel(true));
+      if (e.getCause() instanceof RequeueEventException) {
+        throw (RequeueEventException) e.getCause();
+      }
+      throw new RequeueEventException("Failed to dispatch events, events will be re-queued", e.getCause());
+    } catch (CancellationException e) {
+      futures.forEach(f -> f.cancel(true));
+      throw new RequeueEventException("Dispatcher has been shut down, events will be re-queued", e);
+    } catch (TimeoutException e) {
+      futures.forEach(f -> f.cancel(true));
+      throw new RequeueEventException(String.format(
+          "Events dispatching took longer than %s ms, events will be re-queued", this.batchTimeoutMillis), e);
+    } catch (InterruptedException e) {
+      futures.forEach(f -> f.cancel(true));
+      Thread.currentThread().interrupt();
+      throw new RequeueEventException("Events dispatching has been interrupted, events will be re-queued", e);
+    }
+  }
+
+  private ThreadPoolExecutor workerFor(String streamId) {
+    if (streamId == null) {
+      return this.workers[0];
+    }
+    return this.workers[Math.floorMod(streamId.hashCode(), this.workers.length)];
+  }
+
+  static String streamIdOf(RealTimeEventType eventType, V4Event event) {
+    final V4Payload payload = event.getPayload();
+    if (payload == null) {
+      return null;
+    }
+    return streamOf(eventType, payload).map(V4Stream::getStreamId).orElse(null);
+  }
+
+  private static Optional<V4Stream> streamOf(RealTimeEventType eventType, V4Payload payload) {
+    switch (eventType) {
+      case MESSAGESENT:
+        return Optional.ofNullable(payload.getMessageSent()).map(V4MessageSent::getMessage).map(V4Message::getStream);
+      case MESSAGESUPPRESSED:
+        return Optional.ofNullable(payload.getMessageSuppressed()).map(e -> e.getStream());
+      case SYMPHONYELEMENTSACTION:
+        return Optional.ofNullable(payload.getSymphonyElementsAction()).map(e -> e.getStream());
+      case SHAREDPOST:
+        return Optional.ofNullable(payload.getSharedPost()).map(V4SharedPost::getMessage).map(V4Message::getStream);
+      case INSTANTMESSAGECREATED:
+        return Optional.ofNullable(payload.getInstantMessageCreated()).map(e -> e.getStream());
+      case ROOMCREATED:
+        return Optional.ofNullable(payload.getRoomCreated()).map(e -> e.getStream());
+      case ROOMUPDATED:
+        return Optional.ofNullable(payload.getRoomUpdated()).map(e -> e.getStream());
+      case ROOMDEACTIVATED:
+        return Optional.ofNullable(payload.getRoomDeactivated()).map(e -> e.getStream());
+      case ROOMREACTIVATED:
+        return Optional.ofNullable(payload.getRoomReactivated()).map(e -> e.getStream());
+      case USERJOINEDROOM:
+        return Optional.ofNullable(payload.getUserJoinedRoom()).map(e -> e.getStream());
+      case USERLEFTROOM:
+        return Optional.ofNullable(payload.getUserLeftRoom()).map(e -> e.getStream());
+      case USERREQUESTEDTOJOINROOM:
+        return Optional.ofNullable(payload.getUserRequestedToJoinRoom()).map(e -> e.getStream());
+      case ROOMMEMBERPROMOTEDTOOWNER:
+        return Optional.ofNullable(payload.getRoomMemberPromotedToOwner()).map(e -> e.getStream());
+      case ROOMMEMBERDEMOTEDFROMOWNER:
+        return Optional.ofNullable(payload.getRoomMemberDemotedFromOwner()).map(e -> e.getStream());
+      case GENERICSYSTEMEVENT:
+        return Optional.ofNullable(payload.getGenericSystemEvent()).map(e -> e.getStream());
+      default:
+        // connection events are not related to a stream
+        return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Copy-on-write registry of the {@link RealTimeEventListener}s subscribed to a datafeed loop.
+ * <p>
+ * Listeners are indexed by the {@link RealTimeEventType}s they actually handle, i.e. the callbacks they override,
+ * so that an event is only dispatched to the relevant listeners. A listener that does not override any callback
+ * (e.g. a proxy) is considered to handle all the event types.
+ * <p>
+ * Lookups are lock-free, {@link #add(RealTimeEventListener)} and {@link #remove(RealTimeEventListener)} can safely be
+ * called while events are being dispatched: they only take effect for the next dispatched events.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+class RealTimeEventListenerRegistry {
+
+  private static final String CALLBACK_PREFIX = "on";
+
+  /**
+   * Event types handled by listener classes, computed once per class.
+   */
+  private static final Map<Class<?>, Set<RealTimeEventType>> HANDLED_EVENT_TYPES = new ConcurrentHashMap<>();
+
+  private volatile List<RealTimeEventListener> listeners = Collections.emptyList();
+  private volatile Map<RealTimeEventType, List<RealTimeEventListener>> index =
+      new EnumMap<>(RealTimeEventType.class);
+
+  synchronized void add(RealTimeEventListener listener) {
+    final List<RealTimeEventListener> copy = new ArrayList<>(this.listeners);
+    copy.add(listener);
+    this.update(copy);
+  }
+
+  synchronized void remove(RealTimeEventListener listener) {
+    final List<RealTimeEventListener> copy = new ArrayList<>(this.listeners);
+    if (copy.remove(listener)) {
+      this.update(copy);
+    }
+  }
+
+  /**
+   * @param eventType the type of the event to be dispatched
+   * @return the listeners handling this type of event, in their subscription order
+   */
+  List<RealTimeEventListener> listenersFor(RealTimeEventType eventType) {
+    return this.index.getOrDefault(eventType, Collections.emptyList());
+  }
+
+  private void update(List<RealTimeEventListener> listeners) {
+    final Map<RealTimeEventType, List<RealTimeEventListener>> newIndex = new EnumMap<>(RealTimeEventType.class);
+    for (RealTimeEventListener listener : listeners) {
+      for (RealTimeEventType eventType : handledEventTypes(listener.getClass())) {
+        newIndex.computeIfAbsent(eventType, t -> new ArrayList<>()).add(listener);
+      }
+    }
+    newIndex.replaceAll((eventType, eventListeners) -> Collections.unmodifiableList(eventListeners));
+
+    this.index = newIndex;
+    this.listeners = Collections.unmodifiableList(listeners);
+  }
+
+  static Set<RealTimeEventType> handledEventTypes(Class<?> listenerClass) {
+    return HANDLED_EVENT_TYPES.computeIfAbsent(listenerClass, RealTimeEventListenerRegistry::findHandledEventTypes);
+  }
+
+  private static Set<RealTimeEventType> findHandledEventTypes(Class<?> listenerClass) {
+    final Set<RealTimeEventType> eventTypes = EnumSet.noneOf(RealTimeEventType.class);
+
+    for (Method callback : RealTimeEventListener.class.getMethods()) {
+      if (!callback.getName().startsWith(CALLBACK_PREFIX)) {
+        continue;
+      }
+      try {
+        final Method implementation = listenerClass.getMethod(callback.getName(), callback.getParameterTypes());
+        if (implementation.getDeclaringClass() != RealTimeEventListener.class) {
+          // callbacks are named after the event type, e.g. onMessageSent for MESSAGESENT
+          eventTypes.add(RealTimeEventType.valueOf(
+              callback.getName().substring(CALLBACK_PREFIX.length()).toUpperCase(Locale.ROOT)));
+        }
+      } catch (NoSuchMethodException | IllegalArgumentException e) {
+        log.debug("Unable to check if {} overrides {}, event type not indexed", listenerClass, callback.getName(), e);
+      }
+    }
+
+    return eventTypes.isEmpty() ? EnumSet.allOf(RealTimeEventType.class) : eventTypes;
+  }
+}
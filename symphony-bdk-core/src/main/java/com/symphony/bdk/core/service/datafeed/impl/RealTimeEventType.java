@@ -14,9 +14,13 @@ import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.matcher.ElementMatchers;
 import org.apiguardian.api.API;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 
 import static net.bytebuddy.matcher.ElementMatchers.isPublic;
@@ -86,6 +90,8 @@ enum RealTimeEventType {
   });
 
 
+  private static final Map<Class<?>, EventProxyFactory> PROXY_FACTORIES = new ConcurrentHashMap<>();
+
   private final BiConsumer<RealTimeEventListener, V4Event> execConsumer;
 
   RealTimeEventType(BiConsumer<RealTimeEventListener, V4Event> consumer) {
@@ -110,34 +116,76 @@ enum RealTimeEventType {
   }
 
   /**
-   * Build a dynamic proxy on the received event, add two more fields to the new proxy class as a decorator pattern.
-   * So that the event original timestamp, and event id are accessible from the new fields.
+   * Build a proxy on the received event, add one more field to the proxy class as a decorator pattern.
+   * So that the event original timestamp is accessible from the new field.
    * Other method calls will be delegated to the original event object instance.
+   * <p>
+   * The proxy class is generated only once per event type and then cached, each event only instantiates it.
    *
    * @param event     original event, the type will be used to build the proxy
    * @param realEvent the parent V4Event, from where the event id and timestamp can be read
    * @param <T>       event type
    * @return the new created event proxy instance
    */
-  private static <T> T proxy(T event, V4Event realEvent) {
+  @SuppressWarnings("unchecked")
+  static <T> T proxy(T event, V4Event realEvent) {
     try {
-      T proxyEvent = (T) new ByteBuddy(ClassFileVersion.JAVA_V17)
-          .subclass(event.getClass())
-          .method(ElementMatchers.any().and(isPublic()))
-          .intercept(MethodCall.invokeSelf().on(event).withAllArguments())
-          .defineField("eventTimestamp", Long.class, Visibility.PRIVATE)
-          .implement(EventPayload.class).intercept(FieldAccessor.ofBeanProperty())
-          .make()
-          .load(event.getClass().getClassLoader(), ClassLoadingStrategy.UsingLookup.of(MethodHandles
-              .privateLookupIn(event.getClass(), MethodHandles.lookup())))
-          .getLoaded().getDeclaredConstructor(new Class[] {}).newInstance();
+      final EventProxyFactory factory = PROXY_FACTORIES.computeIfAbsent(event.getClass(), EventProxyFactory::new);
+      final T proxyEvent = (T) factory.newInstance(event);
       ((EventPayload) proxyEvent).setEventTimestamp(realEvent.getTimestamp());
       return proxyEvent;
-    } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+    } catch (ReflectiveOperationException | IllegalStateException e) {
       log.error("Cannot create real time event proxy class - {}", e.getMessage());
       log.debug("", e);
       throw new RuntimeException(e);
     }
   }
 
+  /**
+   * Holds the proxy class generated for a given event type, along with the accessors required to create new proxy
+   * instances delegating to an event object. The delegate field is private, so that it is not exposed to the
+   * listeners nor picked up when the event is serialized, it is set through a method handle.
+   */
+  private static class EventProxyFactory {
+
+    private static final String DELEGATE_FIELD = "delegate";
+
+    private final Constructor<?> constructor;
+    private final MethodHandle delegateSetter;
+
+    EventProxyFactory(Class<?> eventClass) {
+      try {
+        final MethodHandles.Lookup eventLookup = MethodHandles.privateLookupIn(eventClass, MethodHandles.lookup());
+        final Class<?> proxyClass = new ByteBuddy(ClassFileVersion.JAVA_V17)
+            .subclass(eventClass)
+            .defineField(DELEGATE_FIELD, eventClass, Visibility.PRIVATE)
+            .method(ElementMatchers.any().and(isPublic()))
+            .intercept(MethodCall.invokeSelf().onField(DELEGATE_FIELD).withAllArguments())
+            .defineField("eventTimestamp", Long.class, Visibility.PRIVATE)
+            .implement(EventPayload.class).intercept(FieldAccessor.ofBeanProperty())
+            .make()
+            .load(eventClass.getClassLoader(), ClassLoadingStrategy.UsingLookup.of(eventLookup))
+            .getLoaded();
+        this.constructor = proxyClass.getDeclaredConstructor();
+        this.delegateSetter = MethodHandles.privateLookupIn(proxyClass, MethodHandles.lookup())
+            .findSetter(proxyClass, DELEGATE_FIELD, eventClass)
+            .asType(MethodType.methodType(void.class, Object.class, Object.class));
+      } catch (IllegalAccessException | NoSuchMethodException | NoSuchFieldException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    Object newInstance(Object event) throws ReflectiveOperationException {
+      final Object proxyEvent = this.constructor.newInstance();
+      try {
+        this.delegateSetter.invokeExact(proxyEvent, event);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new IllegalStateException(e);
+      }
+      return proxyEvent;
+    }
+  }
+
 }
@@ -15,4 +15,8 @@ public class RequeueEventException extends RuntimeException {
     super(String.format("Listener %s failed to process event %s with type %s, events will be re-queued",
         listener, event.getId(), event.getType()), e);
   }
+
+  public RequeueEventException(String message, Throwable cause) {
+    super(message, cause);
+  }
 }
@@ -0,0 +1,216 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.gen.api.model.AckId;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Payload;
+import com.symphony.bdk.gen.api.model.V5EventList;
+import com.symphony.bdk.gen.api.model.V5EventsReadBody;
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.metrics.ApiOperationContext;
+import com.symphony.bdk.http.api.util.TypeReference;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads the events of the datafeed v2 and datahose feeds without binding the whole {@link V5EventList} graph.
+ * <p>
+ * The response body is read as bytes and the events array is streamed: the type, id, timestamp and initiator of each
+ * event are bound straight away, the payload is only located in the body and bound by {@link LazyV4Event} when
+ * accessed. Events of a type no listener handles are therefore never fully bound. Other properties are bound as usual.
+ * <p>
+ * Enabled with the {@code datafeed.lazyPayload} configuration property.
+ */
+@API(status = API.Status.INTERNAL)
+class StreamingEventListReader {
+
+  static final ObjectMapper MAPPER = JsonMapper.builder()
+      .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+      .disable(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE)
+      .enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING)
+      .findAndAddModules()
+      .build();
+
+  private static final TypeReference<byte[]> BYTES = new TypeReference<byte[]>() {};
+  private static final String APPLICATION_JSON = "application/json";
+
+  private final ApiClient apiClient;
+
+  StreamingEventListReader(ApiClient apiClient) {
+    this.apiClient = apiClient;
+  }
+
+  /**
+   * Same as {@link com.symphony.bdk.gen.api.DatafeedApi#readDatafeed(String, String, String, AckId)}.
+   */
+  V5EventList readDatafeed(String datafeedId, String sessionToken, String keyManagerToken, AckId ackId)
+      throws ApiException {
+    final String path = "/v5/datafeeds/{datafeedId}/read"
+        .replaceAll("\\{datafeedId\\}", this.apiClient.escapeString(datafeedId));
+    return this.read(path, "readDatafeed", sessionToken, keyManagerToken, ackId);
+  }
+
+  /**
+   * Same as {@link com.symphony.bdk.gen.api.DatahoseApi#readEvents(String, String, V5EventsReadBody)}.
+   */
+  V5EventList readEvents(String sessionToken, String keyManagerToken, V5EventsReadBody body) throws ApiException {
+    return this.read("/v5/events/read", "readEvents", sessionToken, keyManagerToken, body);
+  }
+
+  private V5EventList read(String path, String operationId, String sessionToken, String keyManagerToken, Object body)
+      throws ApiException {
+    final Map<String, String> headers = new HashMap<>();
+    headers.put("sessionToken", this.apiClient.parameterToString(sessionToken));
+    headers.put("keyManagerToken", this.apiClient.parameterToString(keyManagerToken));
+
+    final byte[] response = ApiOperationContext.call(operationId, () -> this.apiClient.invokeAPI(
+        path,
+        "POST",
+        Collections.emptyList(),
+        body,
+        headers,
+        Collections.emptyMap(),
+        Collections.emptyMap(),
+        this.apiClient.selectHeaderAccept(APPLICATION_JSON),
+        this.apiClient.selectHeaderContentType(APPLICATION_JSON),
+        new String[0],
+        BYTES
+    )).getData();
+
+    try {
+      return read(response);
+    } catch (IOException e) {
+      throw new ApiException("Failed to read the events list: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Reads an events list from a JSON response body.
+   *
+   * @param body the response body, UTF-8 encoded
+   * @return the events list, null if the body is empty
+   * @throws IOException if the body is not a valid events list
+   */
+  @Nullable
+  static V5EventList read(@Nullable byte[] body) throws IOException {
+    if (body == null || body.length == 0) {
+      return null;
+    }
+
+    try (JsonParser parser = MAPPER.createParser(body)) {
+      final JsonToken first = parser.nextToken();
+      if (first == null || first == JsonToken.VALUE_NULL) {
+        return null;
+      }
+      expect(parser, JsonToken.START_OBJECT);
+
+      final V5EventList eventList = new V5EventList();
+      ObjectNode others = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String field = parser.currentName();
+        parser.nextToken();
+        if ("events".equals(field)) {
+          eventList.setEvents(readEvents(parser, body));
+        } else if ("ackId".equals(field)) {
+          eventList.setAckId(parser.getValueAsString());
+        } else {
+          others = append(others, field, parser);
+        }
+      }
+
+      if (others != null) {
+        MAPPER.readerForUpdating(eventList).readValue(others);
+      }
+      return eventList;
+    }
+  }
+
+  private static List<V4Event> readEvents(JsonParser parser, byte[] body) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    expect(parser, JsonToken.START_ARRAY);
+
+    final List<V4Event> events = new ArrayList<>();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      events.add(parser.currentToken() == JsonToken.VALUE_NULL ? null : readEvent(parser, body));
+    }
+    return events;
+  }
+
+  private static V4Event readEvent(JsonParser parser, byte[] body) throws IOException {
+    expect(parser, JsonToken.START_OBJECT);
+
+    final LazyV4Event event = new LazyV4Event();
+    ObjectNode others = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.currentName();
+      final JsonToken value = parser.nextToken();
+      switch (field) {
+        case "id":
+          event.setId(parser.getValueAsString());
+          break;
+        case "type":
+          event.setType(parser.getValueAsString());
+          break;
+        case "timestamp":
+          event.setTimestamp(value == JsonToken.VALUE_NULL ? null : parser.getValueAsLong());
+          break;
+        case "initiator":
+          event.setInitiator(MAPPER.readValue(parser, V4Initiator.class));
+          break;
+        case "payload":
+          readPayload(parser, body, event);
+          break;
+        default:
+          others = append(others, field, parser);
+      }
+    }
+
+    if (others != null) {
+      MAPPER.readerForUpdating(event).readValue(others);
+    }
+    return event;
+  }
+
+  private static void readPayload(JsonParser parser, byte[] body, LazyV4Event event) throws IOException {
+    final long start = parser.currentTokenLocation().getByteOffset();
+    if (parser.currentToken() != JsonToken.START_OBJECT || start < 0) {
+      // null payload or offsets not available, bound straight away
+      event.setPayload(MAPPER.readValue(parser, V4Payload.class));
+      return;
+    }
+    parser.skipChildren();
+    final long end = parser.currentLocation().getByteOffset();
+    event.setRawPayload(body, (int) start, (int) (end - start));
+  }
+
+  private static ObjectNode append(@Nullable ObjectNode others, String field, JsonParser parser) throws IOException {
+    final ObjectNode node = others == null ? MAPPER.createObjectNode() : others;
+    node.set(field, MAPPER.readTree(parser));
+    return node;
+  }
+
+  private static void expect(JsonParser parser, JsonToken token) throws JsonParseException {
+    if (parser.currentToken() != token) {
+      throw new JsonParseException(parser, "Expected " + token + " but was " + parser.currentToken());
+    }
+  }
+}
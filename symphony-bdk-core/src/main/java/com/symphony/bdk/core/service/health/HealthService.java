@@ -3,6 +3,7 @@ package com.symphony.bdk.core.service.health;
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.retry.function.SupplierWithApiException;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatafeedStatistics;
 import com.symphony.bdk.gen.api.SignalsApi;
 import com.symphony.bdk.gen.api.SystemApi;
 import com.symphony.bdk.gen.api.model.AgentInfo;
@@ -82,6 +83,20 @@ public class HealthService {
     return V3HealthStatus.DOWN;
   }
 
+  /**
+   * Return the activity of the DataFeed loop, complementing {@link #datafeedHealthCheck()}: number of reads and
+   * events, size and latency of the last read, age of the last event, re-queued batches and datafeed recreations.
+   *
+   * @return {@link DatafeedStatistics} of the loop, {@link DatafeedStatistics#EMPTY} if the loop is not enabled
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public DatafeedStatistics datafeedStatistics() {
+    if (this.datafeedLoop != null) {
+      return this.datafeedLoop.statistics();
+    }
+    return DatafeedStatistics.EMPTY;
+  }
+
   /**
    * Gets information about the Agent.
    * Available on Agent 2.53.0 and above.
@@ -6,6 +6,8 @@ import static java.util.Collections.emptyMap;
 import static org.apache.commons.lang3.StringUtils.equalsAny;
 
 import com.symphony.bdk.core.auth.AuthSession;
+import com.symphony.bdk.core.auth.impl.AuthSessionImpl;
+import com.symphony.bdk.core.retry.AsyncRetryExecutor;
 import com.symphony.bdk.core.retry.RetryWithRecovery;
 import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
 import com.symphony.bdk.core.service.OboService;
@@ -35,7 +37,9 @@ import com.symphony.bdk.gen.api.model.V4MessageBlastResponse;
 import com.symphony.bdk.gen.api.model.V4Stream;
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiClientBodyPart;
+import com.symphony.bdk.http.api.ApiClientBuilder;
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
 import com.symphony.bdk.http.api.util.ApiUtils;
 import com.symphony.bdk.http.api.util.TypeReference;
 import com.symphony.bdk.template.api.TemplateEngine;
@@ -48,6 +52,7 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -71,6 +76,7 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
   private final AuthSession authSession;
   private final TemplateEngine templateEngine;
   private final RetryWithRecoveryBuilder<?> retryBuilder;
+  private final AsyncRetryExecutor asyncRetryExecutor;
 
   public MessageService(
       final MessagesApi messagesApi,
@@ -83,6 +89,28 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
       final AuthSession authSession,
       final TemplateEngine templateEngine,
       final RetryWithRecoveryBuilder<?> retryBuilder
+  ) {
+    this(messagesApi, messageApi, messageSuppressionApi, streamsApi, podApi, attachmentsApi, defaultApi, authSession,
+        templateEngine, retryBuilder, new AsyncRetryExecutor(ApiClientBuilder.DEFAULT_CONNECTION_POOL_MAX));
+  }
+
+  /**
+   * @param asyncRetryExecutor the executor of the asynchronous calls, bounding the number of messages sent at the same
+   *                           time.
+   */
+  @API(status = API.Status.INTERNAL)
+  public MessageService(
+      final MessagesApi messagesApi,
+      final MessageApi messageApi,
+      final MessageSuppressionApi messageSuppressionApi,
+      final StreamsApi streamsApi,
+      final PodApi podApi,
+      final AttachmentsApi attachmentsApi,
+      final DefaultApi defaultApi,
+      final AuthSession authSession,
+      final TemplateEngine templateEngine,
+      final RetryWithRecoveryBuilder<?> retryBuilder,
+      final AsyncRetryExecutor asyncRetryExecutor
   ) {
     this.messagesApi = messagesApi;
     this.messageApi = messageApi;
@@ -94,7 +122,8 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
     this.templateEngine = templateEngine;
     this.defaultApi = defaultApi;
     this.retryBuilder = RetryWithRecoveryBuilder.copyWithoutRecoveryStrategies(retryBuilder)
-        .recoveryStrategy(ApiException::isUnauthorized, authSession::refresh);
+        .recoveryStrategyPerAttempt(ApiException::isUnauthorized, AuthSessionImpl.attemptRefresh(authSession));
+    this.asyncRetryExecutor = asyncRetryExecutor;
   }
 
   public MessageService(
@@ -118,12 +147,13 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
     this.templateEngine = templateEngine;
     this.defaultApi = defaultApi;
     this.retryBuilder = RetryWithRecoveryBuilder.copyWithoutRecoveryStrategies(retryBuilder);
+    this.asyncRetryExecutor = new AsyncRetryExecutor(ApiClientBuilder.DEFAULT_CONNECTION_POOL_MAX);
   }
 
   @Override
   public OboMessageService obo(AuthSession oboSession) {
     return new MessageService(messagesApi, messageApi, messageSuppressionApi, streamsApi, podApi, attachmentsApi,
-        defaultApi, oboSession, templateEngine, retryBuilder);
+        defaultApi, oboSession, templateEngine, retryBuilder, asyncRetryExecutor);
   }
 
   /**
@@ -294,6 +324,25 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
         () -> this.doSendMessage(streamId, message));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @API(status = API.Status.EXPERIMENTAL)
+  public CompletableFuture<V4Message> sendAsync(@Nonnull V4Stream stream, @Nonnull Message message) {
+    return this.sendAsync(stream.getStreamId(), message);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @API(status = API.Status.EXPERIMENTAL)
+  public CompletableFuture<V4Message> sendAsync(@Nonnull String streamId, @Nonnull Message message) {
+    return this.executeAndRetryAsync("send", messagesApi.getApiClient().getBasePath(),
+        () -> this.doSendMessageAsync(streamId, message));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -363,6 +412,25 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
     return doSendFormData(path, getForm(message), new TypeReference<V4Message>() {});
   }
 
+  private CompletableFuture<V4Message> doSendMessageAsync(@Nonnull String streamId, @Nonnull Message message) {
+    final ApiClient apiClient = this.messagesApi.getApiClient();
+    final String path = "/v4/stream/" + apiClient.escapeString(toUrlSafeIdIfNeeded(streamId)) + "/message/create";
+
+    return apiClient.invokeAPIAsync(
+        path,
+        "POST",
+        emptyList(),
+        null, // for 'multipart/form-data', body can be null
+        this.getHeaders(apiClient),
+        emptyMap(),
+        getForm(message),
+        apiClient.selectHeaderAccept("application/json"),
+        apiClient.selectHeaderContentType("multipart/form-data"),
+        new String[0],
+        new TypeReference<V4Message>() {}
+    ).thenApply(ApiResponse::getData);
+  }
+
   /**
    * The generated {@link MessagesApi#v4MessageBlastPost(String, List, String, String, String, String, File, File)}
    * does not allow to send multiple attachments as well as in-memory files, so we have to "manually" process this call.
@@ -396,16 +464,12 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
       throws ApiException {
     final ApiClient apiClient = this.messagesApi.getApiClient();
 
-    final Map<String, String> headers = new HashMap<>();
-    headers.put("sessionToken", apiClient.parameterToString(this.authSession.getSessionToken()));
-    headers.put("keyManagerToken", apiClient.parameterToString(this.authSession.getKeyManagerToken()));
-
     return apiClient.invokeAPI(
         path,
         "POST",
         emptyList(),
         null, // for 'multipart/form-data', body can be null
-        headers,
+        this.getHeaders(apiClient),
         emptyMap(),
         form,
         apiClient.selectHeaderAccept("application/json"),
@@ -526,6 +590,13 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
             authSession.getSessionToken(), ApiUtils.getUserAgent(), toUrlSafeIdIfNeeded(messageId)));
   }
 
+  private Map<String, String> getHeaders(ApiClient apiClient) {
+    final Map<String, String> headers = new HashMap<>();
+    headers.put("sessionToken", apiClient.parameterToString(this.authSession.getSessionToken()));
+    headers.put("keyManagerToken", apiClient.parameterToString(this.authSession.getKeyManagerToken()));
+    return headers;
+  }
+
   private static Long getEpochMillis(Instant instant) {
     return instant == null ? null : instant.toEpochMilli();
   }
@@ -534,4 +605,10 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
     checkAuthSession(authSession);
     return RetryWithRecovery.executeAndRetry(retryBuilder, name, address, supplier);
   }
+
+  private <T> CompletableFuture<T> executeAndRetryAsync(String name, String address,
+      SupplierWithApiException<CompletableFuture<T>> supplier) {
+    checkAuthSession(authSession);
+    return this.asyncRetryExecutor.executeAndRetry(retryBuilder, name, address, supplier);
+  }
 }
@@ -10,6 +10,7 @@ import com.symphony.bdk.template.api.TemplateEngine;
 import org.apiguardian.api.API;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nonnull;
 
@@ -68,6 +69,42 @@ public interface OboMessageService {
    */
   V4Message send(@Nonnull String streamId, @Nonnull Message message);
 
+  /**
+   * Asynchronously sends a message to the stream ID of the passed {@link V4Stream} object.
+   *
+   * @param stream  the stream to send the message to
+   * @param message the message to send to the stream
+   * @return a future completed with a {@link V4Message} object containing the details of the sent message
+   * @see #sendAsync(String, Message)
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default CompletableFuture<V4Message> sendAsync(@Nonnull V4Stream stream, @Nonnull Message message) {
+    return this.sendAsync(stream.getStreamId(), message);
+  }
+
+  /**
+   * Asynchronously sends a message to the stream ID passed in parameter. The calling thread is not blocked, neither
+   * by the call nor by the waits between retries. The number of messages being sent at the same time is bounded by
+   * the size of the connection pool, further messages are queued until a connection is released.
+   * <p>
+   * Implementations that do not override this method call {@link #send(String, Message)} on the calling thread and return a
+   * completed future.
+   *
+   * @param streamId the ID of the stream to send the message to
+   * @param message  the message to send to the stream
+   * @return a future completed with a {@link V4Message} object containing the details of the sent message, or
+   * completed exceptionally with an {@link com.symphony.bdk.http.api.ApiRuntimeException} if the call failed
+   * @see <a href="https://developers.symphony.com/restapi/reference/create-message-v4">Create Message v4</a>
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default CompletableFuture<V4Message> sendAsync(@Nonnull String streamId, @Nonnull Message message) {
+    try {
+      return CompletableFuture.completedFuture(this.send(streamId, message));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   /**
    * Update an existing message. The existing message must be a valid social message, that has not been deleted.
    *
@@ -3,15 +3,12 @@ package com.symphony.bdk.core.service.message.util;
 import com.symphony.bdk.core.service.message.exception.MessageParserException;
 import com.symphony.bdk.gen.api.model.V4Message;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apiguardian.api.API;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,8 +22,6 @@ import java.util.stream.Collectors;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class MessageParser {
 
-  private static final ObjectMapper MAPPER = new ObjectMapper();
-
   /**
    * Parse data inside the message and returns a list containing the user ids corresponding to the users mentioned
    *
@@ -34,8 +29,7 @@ public final class MessageParser {
    * @return list of users ids that has been mentioned inside the message
    */
   public static List<Long> getMentions(V4Message message) throws MessageParserException {
-    List<String> mentionsList = getTags(message, EntityTypeEnum.MENTION);
-    return mentionsList.stream().map(Long::parseLong).collect(Collectors.toList());
+    return new ArrayList<>(ParsedMessage.of(message).getMentions());
   }
 
   /**
@@ -45,7 +39,7 @@ public final class MessageParser {
    * @return list of hashtags contained in the message
    */
   public static List<String> getHashtags(V4Message message) throws MessageParserException {
-    return getTags(message, EntityTypeEnum.HASHTAG);
+    return new ArrayList<>(ParsedMessage.of(message).getHashtags());
   }
 
   /**
@@ -55,7 +49,7 @@ public final class MessageParser {
    * @return list of cashtags contained in the message
    */
   public static List<String> getCashtags(V4Message message) throws MessageParserException {
-    return getTags(message, EntityTypeEnum.CASHTAG);
+    return new ArrayList<>(ParsedMessage.of(message).getCashtags());
   }
 
   /**
@@ -66,11 +60,14 @@ public final class MessageParser {
    * @return map of emojis contained in the message
    */
   public static Map<String, String> getEmojis(V4Message message) throws MessageParserException {
-    String data = message.getData();
-    if (data == null || data.isEmpty()) {
-      return Collections.emptyMap();
-    }
-    JsonNode dataJson = getJsonNode(data);
+    return new HashMap<>(ParsedMessage.of(message).getEmojis());
+  }
+
+  static List<Long> getMentions(JsonNode dataJson) {
+    return getTags(dataJson, EntityTypeEnum.MENTION).stream().map(Long::parseLong).collect(Collectors.toList());
+  }
+
+  static Map<String, String> getEmojis(JsonNode dataJson) {
     Map<String, String> emojisMap = new HashMap<>();
     for (JsonNode node : dataJson) {
       if (isType(EntityTypeEnum.EMOJI, node) && !node.findPath("annotation").isMissingNode() &&
@@ -81,12 +78,7 @@ public final class MessageParser {
     return emojisMap;
   }
 
-  private static List<String> getTags(V4Message message, EntityTypeEnum type) throws MessageParserException {
-    String data = message.getData();
-    if (data == null || data.isEmpty()) {
-      return Collections.emptyList();
-    }
-    JsonNode dataJson = getJsonNode(data);
+  static List<String> getTags(JsonNode dataJson, EntityTypeEnum type) {
     List<String> tags = new ArrayList<>();
     for (JsonNode node : dataJson) {
       if (isType(type, node) && !node.findPath("value").isMissingNode()) {
@@ -96,14 +88,6 @@ public final class MessageParser {
     return tags;
   }
 
-  private static JsonNode getJsonNode(String data) throws MessageParserException {
-    try {
-      return MAPPER.readTree(data);
-    } catch (JsonProcessingException e) {
-      throw new MessageParserException("Failed to extract payload from message data", e);
-    }
-  }
-
   private static boolean isType(EntityTypeEnum type, JsonNode node) {
     return type.getValue().equals(node.get("type").asText());
   }
@@ -0,0 +1,186 @@
+package com.symphony.bdk.core.service.message.util;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import com.symphony.bdk.core.activity.parsing.InputTokenizer;
+import com.symphony.bdk.core.service.message.exception.MessageParserException;
+import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
+import com.symphony.bdk.gen.api.model.V4Message;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apiguardian.api.API;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The parsed content of an incoming {@link V4Message}: its text content, its tokens, and the entities (mentions,
+ * hashtags, cashtags and emojis) of its data. Each of them is computed lazily, at most once per message.
+ * <p>
+ * The same event being handled by every registered activity and listener, the last parsed messages are cached so that
+ * the PresentationML and the data of a message are parsed only once, whatever the number of activities. The cache
+ * being shared by all the BDK instances of the JVM, it holds its messages weakly: an entry is dropped once its message
+ * is no longer referenced.
+ * <p>
+ * The returned collections are shared by all the callers, {@link MessageParser} returns copies of them.
+ */
+@API(status = API.Status.INTERNAL)
+public final class ParsedMessage {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  /**
+   * Large enough to cover the events being handled at the same time by the datafeed dispatcher workers.
+   */
+  private static final int CACHE_SIZE = 32;
+  private static final AtomicReferenceArray<CacheEntry> CACHE = new AtomicReferenceArray<>(CACHE_SIZE);
+  private static final AtomicInteger CACHE_INDEX = new AtomicInteger();
+
+  private final String presentationML;
+  private final String data;
+
+  private PresentationMLContent content;
+  private String textContent;
+  private List<Object> tokens;
+  private JsonNode dataNode;
+  private List<Long> mentions;
+  private List<String> hashtags;
+  private List<String> cashtags;
+  private Map<String, String> emojis;
+
+  private ParsedMessage(V4Message message) {
+    this.presentationML = message.getMessage();
+    this.data = message.getData();
+  }
+
+  /**
+   * Returns the parsed content of the message, shared with the other callers handling the same message.
+   *
+   * @param message the message to be parsed
+   * @return the parsed message
+   */
+  public static ParsedMessage of(V4Message message) {
+    for (int i = 0; i < CACHE_SIZE; i++) {
+      final CacheEntry entry = CACHE.get(i);
+      if (entry == null) {
+        continue;
+      }
+      final V4Message cachedMessage = entry.get();
+      if (cachedMessage == null) {
+        // the message has been garbage collected, its parsed content can be released as well
+        CACHE.compareAndSet(i, entry, null);
+      } else if (cachedMessage == message && entry.parsedMessage.isParsedFrom(message)) {
+        return entry.parsedMessage;
+      }
+    }
+
+    final ParsedMessage parsedMessage = new ParsedMessage(message);
+    CACHE.set(Math.floorMod(CACHE_INDEX.getAndIncrement(), CACHE_SIZE), new CacheEntry(message, parsedMessage));
+    return parsedMessage;
+  }
+
+  /**
+   * @return the trimmed text content of the message, see {@link PresentationMLParser#getTextContent(String)}
+   */
+  public synchronized String getTextContent() throws PresentationMLParserException {
+    if (this.textContent == null) {
+      this.textContent = this.getContent().getTextContent(true);
+    }
+    return this.textContent;
+  }
+
+  /**
+   * @return the read-only list of tokens of the message, see {@link InputTokenizer}
+   */
+  public synchronized List<Object> getTokens() throws PresentationMLParserException, MessageParserException {
+    if (this.tokens == null) {
+      this.tokens = Collections.unmodifiableList(new InputTokenizer(this.getContent(), this.getDataNode()).getTokens());
+    }
+    return this.tokens;
+  }
+
+  /**
+   * @return the ids of the mentioned users, see {@link MessageParser#getMentions(V4Message)}
+   */
+  public synchronized List<Long> getMentions() throws MessageParserException {
+    if (this.mentions == null) {
+      this.mentions = Collections.unmodifiableList(MessageParser.getMentions(this.getDataNode()));
+    }
+    return this.mentions;
+  }
+
+  /**
+   * @return the hashtags of the message, see {@link MessageParser#getHashtags(V4Message)}
+   */
+  public synchronized List<String> getHashtags() throws MessageParserException {
+    if (this.hashtags == null) {
+      this.hashtags = Collections.unmodifiableList(MessageParser.getTags(this.getDataNode(), EntityTypeEnum.HASHTAG));
+    }
+    return this.hashtags;
+  }
+
+  /**
+   * @return the cashtags of the message, see {@link MessageParser#getCashtags(V4Message)}
+   */
+  public synchronized List<String> getCashtags() throws MessageParserException {
+    if (this.cashtags == null) {
+      this.cashtags = Collections.unmodifiableList(MessageParser.getTags(this.getDataNode(), EntityTypeEnum.CASHTAG));
+    }
+    return this.cashtags;
+  }
+
+  /**
+   * @return the emojis of the message, see {@link MessageParser#getEmojis(V4Message)}
+   */
+  public synchronized Map<String, String> getEmojis() throws MessageParserException {
+    if (this.emojis == null) {
+      this.emojis = Collections.unmodifiableMap(MessageParser.getEmojis(this.getDataNode()));
+    }
+    return this.emojis;
+  }
+
+  private PresentationMLContent getContent() throws PresentationMLParserException {
+    if (this.content == null) {
+      this.content = PresentationMLParser.parse(this.presentationML);
+    }
+    return this.content;
+  }
+
+  private JsonNode getDataNode() throws MessageParserException {
+    if (this.dataNode == null) {
+      try {
+        this.dataNode = isBlank(this.data) ? MAPPER.createObjectNode() : MAPPER.readTree(this.data);
+      } catch (JsonProcessingException e) {
+        throw new MessageParserException("Failed to extract payload from message data", e);
+      }
+    }
+    return this.dataNode;
+  }
+
+  /**
+   * The message content being mutable, the content is compared as well (by reference, as it is not expected to be
+   * updated once received).
+   */
+  private boolean isParsedFrom(V4Message message) {
+    return this.presentationML == message.getMessage() && this.data == message.getData();
+  }
+
+  /**
+   * A cached message, compared by reference and held weakly so that the cache does not keep it alive.
+   */
+  private static final class CacheEntry extends WeakReference<V4Message> {
+
+    private final ParsedMessage parsedMessage;
+
+    private CacheEntry(V4Message message, ParsedMessage parsedMessage) {
+      super(message);
+      this.parsedMessage = parsedMessage;
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.symphony.bdk.core.service.message.util;
+
+import org.apache.commons.text.StringEscapeUtils;
+import org.apiguardian.api.API;
+
+/**
+ * The content of a PresentationML, as read in one pass by {@link PresentationMLParser#parse(String)}: the raw text of
+ * the root element and the position of its entities ({@code <span class="entity" data-entity-id="...">} elements)
+ * within this text, in document order.
+ * <p>
+ * Instances are immutable and can be shared by the different parsers of a message.
+ */
+@API(status = API.Status.INTERNAL)
+public final class PresentationMLContent {
+
+  private final String text;
+  private final String[] entityIds;
+  private final int[] entityStarts;
+  private final int[] entityEnds;
+  private final int entityCount;
+
+  PresentationMLContent(String text, String[] entityIds, int[] entityStarts, int[] entityEnds, int entityCount) {
+    this.text = text;
+    this.entityIds = entityIds;
+    this.entityStarts = entityStarts;
+    this.entityEnds = entityEnds;
+    this.entityCount = entityCount;
+  }
+
+  /**
+   * @return the concatenated text nodes of the root element, not unescaped nor trimmed
+   */
+  public String getText() {
+    return this.text;
+  }
+
+  /**
+   * Get the text content, as returned by {@link PresentationMLParser#getTextContent(String, Boolean)}.
+   *
+   * @param trim flag if we want to trim the text result
+   * @return the unescaped text content
+   */
+  public String getTextContent(boolean trim) {
+    final String textContent = StringEscapeUtils.unescapeHtml4(this.text);
+    return trim ? textContent.trim() : textContent;
+  }
+
+  /**
+   * @return the number of entities, nested entities included
+   */
+  public int getEntityCount() {
+    return this.entityCount;
+  }
+
+  /**
+   * @param index the index of the entity, in document order
+   * @return the value of the {@code data-entity-id} attribute of the entity
+   */
+  public String getEntityId(int index) {
+    return this.entityIds[index];
+  }
+
+  /**
+   * @param index the index of the entity, in document order
+   * @return the index in {@link #getText()} where the text of the entity begins, inclusive
+   */
+  public int getEntityStart(int index) {
+    return this.entityStarts[index];
+  }
+
+  /**
+   * @param index the index of the entity, in document order
+   * @return the index in {@link #getText()} where the text of the entity ends, exclusive
+   */
+  public int getEntityEnd(int index) {
+    return this.entityEnds[index];
+  }
+}
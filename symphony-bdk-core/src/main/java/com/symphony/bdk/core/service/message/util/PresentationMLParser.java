@@ -2,28 +2,31 @@ package com.symphony.bdk.core.service.message.util;
 
 import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
 
-import lombok.Generated;
-import lombok.SneakyThrows;
-import org.apache.commons.text.StringEscapeUtils;
 import org.apiguardian.api.API;
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.StringReader;
+import java.util.Arrays;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 /**
  * Helper class for parsing the PresentationML to text content.
+ * <p>
+ * The PresentationML is read in a streaming way, without building any DOM.
  */
 @API(status = API.Status.STABLE)
 public class PresentationMLParser {
 
-  private static final ThreadLocal<DocumentBuilder> LOCAL_BUILDER = ThreadLocal.withInitial(
-      PresentationMLParser::initBuilder);
+  private static final String SPAN = "span";
+  private static final String CLASS = "class";
+  private static final String ENTITY = "entity";
+  private static final String DATA_ENTITY_ID = "data-entity-id";
+
+  private static final ThreadLocal<XMLInputFactory> LOCAL_FACTORY = ThreadLocal.withInitial(
+      PresentationMLParser::initFactory);
 
   /**
    * Get text content from PresentationML
@@ -33,15 +36,7 @@ public class PresentationMLParser {
    * @return the message text content extracted from the given PresentationML
    */
   public static String getTextContent(String presentationML, Boolean trim) throws PresentationMLParserException {
-    try {
-      final Document doc = LOCAL_BUILDER.get().parse(
-          new ByteArrayInputStream(presentationML.getBytes(StandardCharsets.UTF_8)));
-      String textContent = doc.getChildNodes().item(0).getTextContent();
-      String escapedPresentationML = StringEscapeUtils.unescapeHtml4(textContent);
-      return trim ? escapedPresentationML.trim() : escapedPresentationML;
-    } catch (SAXException | IOException e) {
-      throw new PresentationMLParserException(presentationML, "Failed to parse the PresentationML", e);
-    }
+    return parse(presentationML).getTextContent(trim);
   }
 
   /**
@@ -54,13 +49,128 @@ public class PresentationMLParser {
     return getTextContent(presentationML, true);
   }
 
-  // Ignore the code coverage check because cannot produce the exception
-  @Generated
-  @SneakyThrows
-  private static DocumentBuilder initBuilder() {
-    final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-    factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-    return factory.newDocumentBuilder();
+  /**
+   * Read the PresentationML in one pass, the returned content can be shared by the different parsers of a message.
+   *
+   * @param presentationML the PresentationML to be parsed
+   * @return the text and the entities of the PresentationML
+   */
+  @API(status = API.Status.INTERNAL)
+  public static PresentationMLContent parse(String presentationML) throws PresentationMLParserException {
+    XMLStreamReader reader = null;
+    try {
+      reader = LOCAL_FACTORY.get().createXMLStreamReader(new StringReader(presentationML));
+      return read(reader);
+    } catch (XMLStreamException | IllegalStateException e) {
+      throw new PresentationMLParserException(presentationML, "Failed to parse the PresentationML", e);
+    } finally {
+      close(reader);
+    }
+  }
+
+  private static PresentationMLContent read(XMLStreamReader reader) throws XMLStreamException {
+    final StringBuilder text = new StringBuilder();
+    String[] entityIds = new String[4];
+    int[] entityStarts = new int[4];
+    int[] entityEnds = new int[4];
+    int entityCount = 0;
+
+    // for each open element, the index of the entity it is, -1 if it is not an entity
+    int[] openElements = new int[16];
+    int depth = 0;
+    boolean rootRead = false;
+
+    while (reader.hasNext()) {
+      switch (reader.next()) {
+        case XMLStreamConstants.START_ELEMENT:
+          rootRead = true;
+
+          int entityIndex = -1;
+          final String entityId = getEntityId(reader);
+          if (entityId != null) {
+            if (entityCount == entityIds.length) {
+              entityIds = Arrays.copyOf(entityIds, entityCount * 2);
+              entityStarts = Arrays.copyOf(entityStarts, entityCount * 2);
+              entityEnds = Arrays.copyOf(entityEnds, entityCount * 2);
+            }
+            entityIndex = entityCount++;
+            entityIds[entityIndex] = entityId;
+            entityStarts[entityIndex] = text.length();
+          }
+
+          if (depth == openElements.length) {
+            openElements = Arrays.copyOf(openElements, depth * 2);
+          }
+          openElements[depth++] = entityIndex;
+          break;
+
+        case XMLStreamConstants.END_ELEMENT:
+          final int closedEntityIndex = openElements[--depth];
+          if (closedEntityIndex >= 0) {
+            entityEnds[closedEntityIndex] = text.length();
+          }
+          break;
+
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.CDATA:
+        case XMLStreamConstants.SPACE:
+          if (depth > 0) {
+            text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+          }
+          break;
+
+        case XMLStreamConstants.DTD:
+          throw new IllegalStateException("DOCTYPE is disallowed");
+
+        default:
+          // comments and processing instructions are not part of the text content
+          break;
+      }
+    }
+
+    if (!rootRead) {
+      throw new IllegalStateException("The PresentationML has no root element");
+    }
+    return new PresentationMLContent(text.toString(), entityIds, entityStarts, entityEnds, entityCount);
+  }
+
+  /**
+   * @return the entity ID if the current element is a {@code <span class="entity" data-entity-id="...">}, null otherwise
+   */
+  private static String getEntityId(XMLStreamReader reader) {
+    if (!SPAN.equals(reader.getLocalName())) {
+      return null;
+    }
+
+    boolean isEntity = false;
+    String entityId = null;
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      final String attributeName = reader.getAttributeLocalName(i);
+      if (CLASS.equals(attributeName)) {
+        isEntity = ENTITY.equals(reader.getAttributeValue(i));
+      } else if (DATA_ENTITY_ID.equals(attributeName)) {
+        entityId = reader.getAttributeValue(i);
+      }
+    }
+    return isEntity ? entityId : null;
+  }
+
+  private static void close(XMLStreamReader reader) {
+    if (reader != null) {
+      try {
+        reader.close();
+      } catch (XMLStreamException e) {
+        // nothing to be done, the reader does not hold any resource
+      }
+    }
+  }
+
+  private static XMLInputFactory initFactory() {
+    final XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+    return factory;
   }
 
   private PresentationMLParser() {
@@ -10,11 +10,23 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+/**
+ * Retrieve a list of elements given a {@link CursorBasedPaginatedApi}.
+ * Goal is to fetch elements lazily.
+ * <p>
+ * Optionally, the next page can be fetched in advance while the current one is consumed. As the cursor of a page is
+ * only known once the previous one is fetched, at most one page is fetched in advance whatever prefetchPages.
+ * @param <T> the type of objects to retrieve
+ */
 @API(status = API.Status.INTERNAL)
 public class CursorBasedPaginatedService<T> extends PaginatedService {
   private CursorBasedPaginatedApi<T> paginatedApi;
@@ -25,7 +37,30 @@ public class CursorBasedPaginatedService<T> extends PaginatedService {
    * @param maxSize      the total max number of items to be retrieved
    */
   public CursorBasedPaginatedService(CursorBasedPaginatedApi<T> paginatedApi, Integer chunkSize, Integer maxSize) {
-    super(chunkSize, maxSize);
+    this(paginatedApi, chunkSize, maxSize, null);
+  }
+
+  /**
+   * @param paginatedApi  the paginated api to be called
+   * @param chunkSize     the max number of items to be retrieved in one call
+   * @param maxSize       the total max number of items to be retrieved
+   * @param prefetchPages if strictly positive, the next page is fetched while the current one is consumed
+   */
+  public CursorBasedPaginatedService(CursorBasedPaginatedApi<T> paginatedApi, Integer chunkSize, Integer maxSize,
+      Integer prefetchPages) {
+    this(paginatedApi, chunkSize, maxSize, prefetchPages, null);
+  }
+
+  /**
+   * @param paginatedApi  the paginated api to be called
+   * @param chunkSize     the max number of items to be retrieved in one call
+   * @param maxSize       the total max number of items to be retrieved
+   * @param prefetchPages if strictly positive, the next page is fetched while the current one is consumed
+   * @param executor      the executor fetching the next page in advance
+   */
+  public CursorBasedPaginatedService(CursorBasedPaginatedApi<T> paginatedApi, Integer chunkSize, Integer maxSize,
+      Integer prefetchPages, Executor executor) {
+    super(chunkSize, maxSize, prefetchPages, executor);
     this.paginatedApi = paginatedApi;
   }
 
@@ -35,36 +70,59 @@ public class CursorBasedPaginatedService<T> extends PaginatedService {
    * @return a {@link Stream} which lazily makes calls to the {@link #paginatedApi}.
    */
   public Stream<T> stream() {
-    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new PaginatedIterator(), Spliterator.ORDERED), false);
+    final PaginatedIterator iterator = new PaginatedIterator();
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+        .onClose(iterator::cancelPrefetchedPayload);
   }
 
   @API(status = API.Status.INTERNAL)
   private class PaginatedIterator implements Iterator<T> {
 
     private CursorPaginatedPayload<T> currentPayload;
-    private List<T> currentChunk;
+    private CompletableFuture<CursorPaginatedPayload<T>> prefetchedPayload;
+    private List<T> currentChunk = Collections.emptyList();
+    private int indexInChunk = 0;
     private int fetchedItems = 0;
+    private int itemsInFetchedChunks = 0;
 
     @Override
     public boolean hasNext() {
       if (fetchedItems == maxSize) {
         return false;
       }
+      if (indexInChunk < currentChunk.size()) {
+        return true;
+      }
+
       if (currentPayload == null) {
-        fetchOneChunk(null);
-      } else if (currentChunk.isEmpty() && currentPayload.getNext() != null) {
-        fetchOneChunk(currentPayload.getNext());
+        setCurrentPayload(fetchOneChunk(null));
+      } else if (currentPayload.getNext() != null) {
+        setCurrentPayload(prefetchedPayload == null ? fetchOneChunk(currentPayload.getNext()) : join(prefetchedPayload));
       }
 
-      return !currentChunk.isEmpty();
+      return indexInChunk < currentChunk.size();
     }
 
-    private void fetchOneChunk(String after) {
-      try {
-        currentPayload = paginatedApi.get(after, chunkSize);
+    private void setCurrentPayload(CursorPaginatedPayload<T> payload) {
+      currentPayload = payload;
+      prefetchedPayload = null;
+
+      final List<T> data = payload.getData();
+      // items are accessed by index
+      currentChunk = data == null ? Collections.emptyList()
+          : data instanceof RandomAccess ? data : new ArrayList<>(data);
+      indexInChunk = 0;
+      itemsInFetchedChunks += currentChunk.size();
+
+      final String after = payload.getNext();
+      if (prefetchPages > 0 && after != null && itemsInFetchedChunks < maxSize) {
+        prefetchedPayload = CompletableFuture.supplyAsync(() -> fetchOneChunk(after), getExecutor());
+      }
+    }
 
-        final List<T> data = currentPayload.getData();
-        currentChunk = data == null ? Collections.emptyList() : new ArrayList<>(data);
+    private CursorPaginatedPayload<T> fetchOneChunk(String after) {
+      try {
+        return paginatedApi.get(after, chunkSize);
       } catch (ApiException e) {
         throw new ApiRuntimeException(e);
       }
@@ -72,8 +130,17 @@ public class CursorBasedPaginatedService<T> extends PaginatedService {
 
     @Override
     public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
       fetchedItems++;
-      return currentChunk.remove(0);
+      return currentChunk.get(indexInChunk++);
+    }
+
+    private void cancelPrefetchedPayload() {
+      if (prefetchedPayload != null) {
+        prefetchedPayload.cancel(false);
+      }
     }
   }
 }
@@ -5,18 +5,29 @@ import com.symphony.bdk.http.api.ApiRuntimeException;
 
 import org.apiguardian.api.API;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.RandomAccess;
 import java.util.Spliterator;
-import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
  * Retrieve a list of elements given a {@link OffsetBasedPaginatedApi}.
  * Goal is to fetch elements lazily.
+ * <p>
+ * Optionally, the next pages can be fetched in advance while the current one is consumed. The offsets being known
+ * beforehand, up to prefetchPages pages are then fetched in parallel.
  * @param <T> the type of objects to retrieve
  */
 @API(status = API.Status.INTERNAL)
@@ -25,79 +36,234 @@ public class OffsetBasedPaginatedService<T> extends PaginatedService {
   private final OffsetBasedPaginatedApi<T> paginatedApi;
 
   /**
-   * The only constructor
+   * Creates a service fetching each chunk only when it is needed.
    *
    * @param paginatedApi the paginated api used to retrieve the chunks of elements
    * @param chunkSize the maximum number to retrieve in one call of {@link OffsetBasedPaginatedApi#get(int, int)}
    * @param maxSize the maximum number to retrieve in total
    */
   public OffsetBasedPaginatedService(OffsetBasedPaginatedApi<T> paginatedApi, Integer chunkSize, Integer maxSize) {
-    super(chunkSize, maxSize);
+    this(paginatedApi, chunkSize, maxSize, null);
+  }
+
+  /**
+   * @param paginatedApi the paginated api used to retrieve the chunks of elements
+   * @param chunkSize the maximum number to retrieve in one call of {@link OffsetBasedPaginatedApi#get(int, int)}
+   * @param maxSize the maximum number to retrieve in total
+   * @param prefetchPages the maximum number of chunks fetched in parallel while the current one is consumed
+   */
+  public OffsetBasedPaginatedService(OffsetBasedPaginatedApi<T> paginatedApi, Integer chunkSize, Integer maxSize,
+      Integer prefetchPages) {
+    this(paginatedApi, chunkSize, maxSize, prefetchPages, null);
+  }
+
+  /**
+   * @param paginatedApi the paginated api used to retrieve the chunks of elements
+   * @param chunkSize the maximum number to retrieve in one call of {@link OffsetBasedPaginatedApi#get(int, int)}
+   * @param maxSize the maximum number to retrieve in total
+   * @param prefetchPages the maximum number of chunks fetched in parallel while the current one is consumed
+   * @param executor the executor fetching the chunks in advance
+   */
+  public OffsetBasedPaginatedService(OffsetBasedPaginatedApi<T> paginatedApi, Integer chunkSize, Integer maxSize,
+      Integer prefetchPages, Executor executor) {
+    super(chunkSize, maxSize, prefetchPages, executor);
     this.paginatedApi = paginatedApi;
   }
 
   /**
    * Returns an stream of elements with lazy fetching.
+   * <p>
+   * The stream can be made parallel: the range of offsets [0, maxSize) is then split into ranges of whole chunks,
+   * each one fetched by a different worker. As the total number of elements is not known in advance, the ranges past
+   * the last element fetch one empty chunk.
    *
    * @return a {@link Stream} which lazily makes calls to the {@link #paginatedApi}.
    */
   public Stream<T> stream() {
-    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new PaginatedIterator(), Spliterator.ORDERED), false);
+    final Queue<PaginatedIterator> iterators = new ConcurrentLinkedQueue<>();
+    return StreamSupport.stream(new PaginatedSpliterator(0, maxSize, iterators), false)
+        .onClose(() -> iterators.forEach(PaginatedIterator::cancelPrefetchedChunks));
+  }
+
+  /**
+   * Spliterator over the elements of a range of offsets, which can be split as long as it did not fetch anything.
+   */
+  @API(status = API.Status.INTERNAL)
+  private class PaginatedSpliterator implements Spliterator<T> {
+
+    private final Queue<PaginatedIterator> iterators;
+    private int startOffset;
+    private final int endOffset;
+    private PaginatedIterator iterator;
+
+    PaginatedSpliterator(int startOffset, int endOffset, Queue<PaginatedIterator> iterators) {
+      this.startOffset = startOffset;
+      this.endOffset = endOffset;
+      this.iterators = iterators;
+    }
+
+    private PaginatedIterator iterator() {
+      if (iterator == null) {
+        iterator = new PaginatedIterator(startOffset, endOffset);
+        iterators.add(iterator);
+      }
+      return iterator;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      final PaginatedIterator it = iterator();
+      if (!it.hasNext()) {
+        return false;
+      }
+      action.accept(it.next());
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+      iterator().forEachRemaining(action);
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+      if (iterator != null) {
+        return null;
+      }
+      final int chunks = (int) ((estimateSize() + chunkSize - 1) / chunkSize);
+      if (chunks < 2) {
+        return null;
+      }
+
+      // the prefix keeps the first half of the chunks, so that the elements stay in order
+      final int middleOffset = startOffset + (chunks / 2) * chunkSize;
+      final Spliterator<T> prefix = new PaginatedSpliterator(startOffset, middleOffset, iterators);
+      startOffset = middleOffset;
+      return prefix;
+    }
+
+    /**
+     * @return the size of the range of offsets, an upper bound of the number of remaining elements
+     */
+    @Override
+    public long estimateSize() {
+      return iterator == null ? (long) endOffset - startOffset : iterator.estimateRemaining();
+    }
+
+    @Override
+    public int characteristics() {
+      return Spliterator.ORDERED;
+    }
   }
 
   @API(status = API.Status.INTERNAL)
   private class PaginatedIterator implements Iterator<T> {
 
-    private int currentChunkSize;
-    private List<T> remainingItemsInChunk;
+    private final Deque<CompletableFuture<List<T>>> prefetchedChunks;
+    private final int endOffset;
+    private final int maxItems;
+    private List<T> currentChunk;
+    private int indexInChunk;
     private int fetchedItems;
-    private int currentOffset;
+    private int nextOffset;
+    private boolean lastChunkReached;
+    // set by the chunks fetched in advance, to stop fetching chunks past the end
+    private volatile boolean lastChunkFetched;
 
-    public PaginatedIterator() {
-      currentChunkSize = -1;
-      remainingItemsInChunk = Collections.emptyList();
+    public PaginatedIterator(int startOffset, int endOffset) {
+      this.endOffset = endOffset;
+      maxItems = endOffset - startOffset;
+      prefetchedChunks = new ArrayDeque<>();
+      currentChunk = Collections.emptyList();
+      indexInChunk = 0;
       fetchedItems = 0;
-      currentOffset = 0;
+      nextOffset = startOffset;
     }
 
     @Override
     public boolean hasNext() {
-      // we already fetched maxSize items
-      if (fetchedItems == maxSize) {
+      // we already fetched maxItems items
+      if (fetchedItems == maxItems) {
         return false;
       }
 
-      // we didn't fetch maxSize items and we have remaining items in the chunk
-      if (!remainingItemsInChunk.isEmpty()) {
+      // we didn't fetch maxItems items and we have remaining items in the chunk
+      if (indexInChunk < currentChunk.size()) {
         return true;
       }
 
       // no remaining items in chunk but chunk was already smaller than chunkSize: we are already at the end
-      if (fetchedItems > 0 && currentChunkSize < chunkSize) {
+      if (lastChunkReached) {
         return false;
       }
 
       // no remaining items in chunk, let's fetch a new one
-      fetchNewChunk();
+      currentChunk = prefetchPages == 0 ? fetchChunk(nextOffset()) : nextPrefetchedChunk();
+      indexInChunk = 0;
+      lastChunkReached = currentChunk.size() < chunkSize;
+
+      return !currentChunk.isEmpty();
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      fetchedItems++;
+      return currentChunk.get(indexInChunk++);
+    }
+
+    private CompletableFuture<List<T>> prefetchChunk() {
+      final int offset = nextOffset();
+      return CompletableFuture.supplyAsync(() -> {
+        final List<T> chunk = fetchChunk(offset);
+        if (chunk.size() < chunkSize) {
+          lastChunkFetched = true;
+        }
+        return chunk;
+      }, getExecutor());
+    }
+
+    private List<T> nextPrefetchedChunk() {
+      final CompletableFuture<List<T>> chunk =
+          prefetchedChunks.isEmpty() ? prefetchChunk() : prefetchedChunks.removeFirst();
+
+      // keep the window full while this chunk is consumed, without fetching past the range or the end
+      while (prefetchedChunks.size() < prefetchPages && nextOffset < endOffset && !lastChunkFetched) {
+        prefetchedChunks.addLast(prefetchChunk());
+      }
+
+      return join(chunk);
+    }
+
+    private long estimateRemaining() {
+      final long remainingInRange = (long) maxItems - fetchedItems;
+      return lastChunkReached ? Math.min(currentChunk.size() - indexInChunk, remainingInRange) : remainingInRange;
+    }
 
-      return !remainingItemsInChunk.isEmpty();
+    private int nextOffset() {
+      final int offset = nextOffset;
+      nextOffset += chunkSize;
+      return offset;
     }
 
-    private void fetchNewChunk() {
+    private List<T> fetchChunk(int offset) {
       try {
-        final List<T> currentChunk = paginatedApi.get(currentOffset, chunkSize);
-        remainingItemsInChunk = currentChunk == null ? Collections.emptyList() : new ArrayList<>(currentChunk);
-        currentChunkSize = remainingItemsInChunk.size();
-        currentOffset += chunkSize;
+        final List<T> chunk = paginatedApi.get(offset, chunkSize);
+        if (chunk == null) {
+          return Collections.emptyList();
+        }
+        // items are accessed by index
+        return chunk instanceof RandomAccess ? chunk : new ArrayList<>(chunk);
       } catch (ApiException e) {
         throw new ApiRuntimeException(e);
       }
     }
 
-    @Override
-    public T next() {
-      fetchedItems++;
-      return remainingItemsInChunk.remove(0);
+    private void cancelPrefetchedChunks() {
+      prefetchedChunks.forEach(chunk -> chunk.cancel(false));
+      prefetchedChunks.clear();
     }
   }
 
@@ -1,19 +1,70 @@
 package com.symphony.bdk.core.service.pagination;
 
+import com.symphony.bdk.core.activity.ThreadFactoryBuilder;
+import com.symphony.bdk.http.api.ApiRuntimeException;
+import com.symphony.bdk.http.api.util.VirtualThreads;
+
 import org.apiguardian.api.API;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 @API(status = API.Status.INTERNAL)
 public abstract class PaginatedService {
 
   public static final int DEFAULT_PAGINATION_CHUNK_SIZE = 100;
   public static final int DEFAULT_PAGINATION_TOTAL_SIZE = 100;
+  public static final int DEFAULT_PAGINATION_PREFETCH_PAGES = 0;
+
+  private static final String THREAD_NAME = "Bdk-Pagination-Thread";
+
+  /**
+   * Executor of the pages fetched in advance, shared by all the paginated services and only started when needed.
+   */
+  private static final class SharedExecutor {
+    private static final int THREADS = 4;
+    private static final Executor INSTANCE = createExecutor();
+
+    private static Executor createExecutor() {
+      final ThreadPoolExecutor executor = new ThreadPoolExecutor(THREADS, THREADS, 60, TimeUnit.SECONDS,
+          new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setName(THREAD_NAME).setDaemon(true).build());
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
+    }
+  }
+
+  /**
+   * Same as {@link SharedExecutor}, used when the virtual threads are enabled in the threading configuration.
+   */
+  private static final class SharedVirtualExecutor {
+    private static final Executor INSTANCE = VirtualThreads.newThreadPerTaskExecutor(THREAD_NAME);
+  }
 
   protected final int chunkSize;
   protected final int maxSize;
+  protected final int prefetchPages;
+  protected final Executor executor;
 
   protected PaginatedService(Integer chunkSize, Integer maxSize) {
+    this(chunkSize, maxSize, null, null);
+  }
+
+  /**
+   * @param chunkSize     the max number of items to be retrieved in one call
+   * @param maxSize       the total max number of items to be retrieved
+   * @param prefetchPages the number of pages fetched in advance while the current one is consumed, 0 to fetch a page
+   *                      only when it is needed
+   * @param executor      the executor of the pages fetched in advance, a shared one if null
+   */
+  protected PaginatedService(Integer chunkSize, Integer maxSize, Integer prefetchPages, Executor executor) {
     this.chunkSize = chunkSize == null ? PaginatedService.DEFAULT_PAGINATION_CHUNK_SIZE : chunkSize;
     this.maxSize = maxSize == null ? PaginatedService.DEFAULT_PAGINATION_TOTAL_SIZE : maxSize;
+    this.prefetchPages = prefetchPages == null ? PaginatedService.DEFAULT_PAGINATION_PREFETCH_PAGES : prefetchPages;
+    this.executor = executor;
 
     checkSizes();
   }
@@ -25,5 +76,42 @@ public abstract class PaginatedService {
     if (maxSize < 0) {
       throw new IllegalArgumentException("maxSize must be a positive integer");
     }
+    if (prefetchPages < 0) {
+      throw new IllegalArgumentException("prefetchPages must be a positive integer");
+    }
+  }
+
+  /**
+   * Returns the executor of the pages fetched in advance shared by all the paginated services.
+   *
+   * @param virtualThreads true if the virtual threads are enabled, see
+   *                       {@link com.symphony.bdk.core.config.model.BdkThreadingConfig#isVirtualThreads()}
+   * @return a virtual thread per task executor if enabled and supported, a bounded pool of platform threads otherwise
+   */
+  public static Executor getSharedExecutor(boolean virtualThreads) {
+    return virtualThreads && VirtualThreads.isSupported() ? SharedVirtualExecutor.INSTANCE : SharedExecutor.INSTANCE;
+  }
+
+  protected Executor getExecutor() {
+    return this.executor == null ? SharedExecutor.INSTANCE : this.executor;
+  }
+
+  /**
+   * Waits for a page fetched in advance.
+   *
+   * @param page the page being fetched
+   * @param <P>  the type of the page
+   * @return the page
+   * @throws ApiRuntimeException if the page could not be fetched
+   */
+  protected static <P> P join(CompletableFuture<P> page) {
+    try {
+      return page.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
   }
 }
@@ -22,8 +22,21 @@ public class StreamPaginationAttribute {
    */
   private final Integer totalSize;
 
+  /**
+   * Number of chunks fetched in advance while the current one is consumed, 0 (default) to fetch a chunk only when it
+   * is needed. With offset-based pagination, these chunks are fetched in parallel; with cursor-based pagination, at
+   * most one chunk is fetched in advance.
+   */
+  private final Integer prefetchPages;
+
   public StreamPaginationAttribute(@Nonnull Integer chunkSize, @Nonnull Integer totalSize) {
+    this(chunkSize, totalSize, 0);
+  }
+
+  public StreamPaginationAttribute(@Nonnull Integer chunkSize, @Nonnull Integer totalSize,
+      @Nonnull Integer prefetchPages) {
     this.chunkSize = chunkSize;
     this.totalSize = totalSize;
+    this.prefetchPages = prefetchPages;
   }
 }
@@ -20,6 +20,7 @@ import com.symphony.bdk.http.api.ApiException;
 import org.apiguardian.api.API;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
@@ -43,18 +44,30 @@ public class SignalService implements OboSignalService, OboService<OboSignalServ
   private final SignalsApi signalsApi;
   private final AuthSession authSession;
   private final RetryWithRecoveryBuilder<?> retryBuilder;
+  private final Executor paginationExecutor;
 
   public SignalService(SignalsApi signalsApi, AuthSession authSession, RetryWithRecoveryBuilder<?> retryBuilder) {
+    this(signalsApi, authSession, retryBuilder, null);
+  }
+
+  /**
+   * @param paginationExecutor the executor of the pages fetched in advance, a shared one if null.
+   */
+  @API(status = API.Status.INTERNAL)
+  public SignalService(SignalsApi signalsApi, AuthSession authSession, RetryWithRecoveryBuilder<?> retryBuilder,
+      Executor paginationExecutor) {
     this.signalsApi = signalsApi;
     this.authSession = authSession;
     this.retryBuilder = RetryWithRecoveryBuilder.copyWithoutRecoveryStrategies(retryBuilder)
         .recoveryStrategy(ApiException::isUnauthorized, authSession::refresh);
+    this.paginationExecutor = paginationExecutor;
   }
 
   public SignalService(SignalsApi signalsApi, RetryWithRecoveryBuilder<?> retryBuilder) {
     this.signalsApi = signalsApi;
     this.authSession = null;
     this.retryBuilder = RetryWithRecoveryBuilder.copyWithoutRecoveryStrategies(retryBuilder);
+    this.paginationExecutor = null;
   }
 
   /**
@@ -62,7 +75,7 @@ public class SignalService implements OboSignalService, OboService<OboSignalServ
    */
   @Override
   public OboSignalService obo(AuthSession oboSession) {
-    return new SignalService(signalsApi, oboSession, retryBuilder);
+    return new SignalService(signalsApi, oboSession, retryBuilder, paginationExecutor);
   }
 
   /**
@@ -91,7 +104,8 @@ public class SignalService implements OboSignalService, OboService<OboSignalServ
   @API(status = API.Status.EXPERIMENTAL)
   public Stream<Signal> listAllSignals(@Nonnull StreamPaginationAttribute pagination) {
     OffsetBasedPaginatedApi<Signal> api = (offset, limit) -> listSignals(new PaginationAttribute(offset, limit));
-    return new OffsetBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize()).stream();
+    return new OffsetBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize(),
+        pagination.getPrefetchPages(), this.paginationExecutor).stream();
   }
 
   /**
@@ -191,7 +205,8 @@ public class SignalService implements OboSignalService, OboService<OboSignalServ
       @Nonnull StreamPaginationAttribute pagination) {
     OffsetBasedPaginatedApi<ChannelSubscriber> api =
         (((offset, limit) -> listSubscribers(id, new PaginationAttribute(offset, limit))));
-    return new OffsetBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize()).stream();
+    return new OffsetBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize(),
+        pagination.getPrefetchPages(), this.paginationExecutor).stream();
   }
 
   /**
@@ -16,6 +16,7 @@ import com.symphony.bdk.gen.api.model.V3RoomSearchResults;
 import org.apiguardian.api.API;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -73,6 +74,25 @@ public interface OboStreamService {
    */
   V2StreamAttributes getStream(@Nonnull String streamId);
 
+  /**
+   * Non-blocking counterpart of {@link StreamService#getStream(String)}.
+   * <p>
+   * Implementations that do not override this method call {@link #getStream(String)} on the calling thread and return a
+   * completed future.
+   *
+   * @param streamId    The stream id.
+   * @return a future completed with the information about the stream with the given id.
+   * @see <a href="https://developers.symphony.com/restapi/reference/stream-info-v2">Stream Info V2</a>
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default CompletableFuture<V2StreamAttributes> getStreamAsync(@Nonnull String streamId) {
+    try {
+      return CompletableFuture.completedFuture(this.getStream(streamId));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   /**
    * Get information about a particular room.
    *
@@ -3,6 +3,8 @@ package com.symphony.bdk.core.service.stream;
 import static com.symphony.bdk.core.util.IdUtil.toUrlSafeIdIfNeeded;
 
 import com.symphony.bdk.core.auth.AuthSession;
+import com.symphony.bdk.core.auth.impl.AuthSessionImpl;
+import com.symphony.bdk.core.retry.AsyncRetryExecutor;
 import com.symphony.bdk.core.retry.RetryWithRecovery;
 import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
 import com.symphony.bdk.core.retry.function.SupplierWithApiException;
@@ -35,6 +37,7 @@ import com.symphony.bdk.gen.api.model.V2StreamAttributes;
 import com.symphony.bdk.gen.api.model.V3RoomAttributes;
 import com.symphony.bdk.gen.api.model.V3RoomDetail;
 import com.symphony.bdk.gen.api.model.V3RoomSearchResults;
+import com.symphony.bdk.http.api.ApiClientBuilder;
 import com.symphony.bdk.http.api.ApiException;
 
 import lombok.extern.slf4j.Slf4j;
@@ -42,6 +45,8 @@ import org.apiguardian.api.API;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -68,15 +73,40 @@ public class StreamService implements OboStreamService, OboService<OboStreamServ
   private final ShareApi shareApi;
   private final AuthSession authSession;
   private final RetryWithRecoveryBuilder<?> retryBuilder;
+  private final AsyncRetryExecutor asyncRetryExecutor;
+  private final Executor paginationExecutor;
 
   public StreamService(StreamsApi streamsApi, RoomMembershipApi membershipApi, ShareApi shareApi,
       AuthSession authSession, RetryWithRecoveryBuilder<?> retryBuilder) {
+    this(streamsApi, membershipApi, shareApi, authSession, retryBuilder,
+        new AsyncRetryExecutor(ApiClientBuilder.DEFAULT_CONNECTION_POOL_MAX));
+  }
+
+  /**
+   * @param asyncRetryExecutor the executor of the asynchronous calls, bounding the number of calls in flight.
+   */
+  @API(status = API.Status.INTERNAL)
+  public StreamService(StreamsApi streamsApi, RoomMembershipApi membershipApi, ShareApi shareApi,
+      AuthSession authSession, RetryWithRecoveryBuilder<?> retryBuilder, AsyncRetryExecutor asyncRetryExecutor) {
+    this(streamsApi, membershipApi, shareApi, authSession, retryBuilder, asyncRetryExecutor, null);
+  }
+
+  /**
+   * @param asyncRetryExecutor the executor of the asynchronous calls, bounding the number of calls in flight.
+   * @param paginationExecutor the executor of the pages fetched in advance, a shared one if null.
+   */
+  @API(status = API.Status.INTERNAL)
+  public StreamService(StreamsApi streamsApi, RoomMembershipApi membershipApi, ShareApi shareApi,
+      AuthSession authSession, RetryWithRecoveryBuilder<?> retryBuilder, AsyncRetryExecutor asyncRetryExecutor,
+      Executor paginationExecutor) {
     this.streamsApi = streamsApi;
     this.roomMembershipApi = membershipApi;
     this.shareApi = shareApi;
     this.authSession = authSession;
     this.retryBuilder = RetryWithRecoveryBuilder.copyWithoutRecoveryStrategies(retryBuilder)
-        .recoveryStrategy(ApiException::isUnauthorized, authSession::refresh);
+        .recoveryStrategyPerAttempt(ApiException::isUnauthorized, AuthSessionImpl.attemptRefresh(authSession));
+    this.asyncRetryExecutor = asyncRetryExecutor;
+    this.paginationExecutor = paginationExecutor;
   }
 
   public StreamService(StreamsApi streamsApi, RoomMembershipApi membershipApi, ShareApi shareApi,
@@ -86,6 +116,8 @@ public class StreamService implements OboStreamService, OboService<OboStreamServ
     this.shareApi = shareApi;
     this.authSession = null;
     this.retryBuilder = RetryWithRecoveryBuilder.copyWithoutRecoveryStrategies(retryBuilder);
+    this.asyncRetryExecutor = new AsyncRetryExecutor(ApiClientBuilder.DEFAULT_CONNECTION_POOL_MAX);
+    this.paginationExecutor = null;
   }
 
   /**
@@ -93,7 +125,8 @@ public class StreamService implements OboStreamService, OboService<OboStreamServ
    */
   @Override
   public OboStreamService obo(AuthSession oboSession) {
-    return new StreamService(streamsApi, roomMembershipApi, shareApi, oboSession, retryBuilder);
+    return new StreamService(streamsApi, roomMembershipApi, shareApi, oboSession, retryBuilder, asyncRetryExecutor,
+        paginationExecutor);
   }
 
   /**
@@ -105,6 +138,16 @@ public class StreamService implements OboStreamService, OboService<OboStreamServ
         () -> streamsApi.v2StreamsSidInfoGet(toUrlSafeIdIfNeeded(streamId), authSession.getSessionToken()));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @API(status = API.Status.EXPERIMENTAL)
+  public CompletableFuture<V2StreamAttributes> getStreamAsync(@Nonnull String streamId) {
+    return executeAndRetryAsync("getStreamInfo", streamsApi.getApiClient().getBasePath(),
+        () -> streamsApi.v2StreamsSidInfoGetAsync(toUrlSafeIdIfNeeded(streamId), authSession.getSessionToken()));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -143,7 +186,8 @@ public class StreamService implements OboStreamService, OboService<OboStreamServ
   public java.util.stream.Stream<StreamAttributes> listAllStreams(@Nullable StreamFilter filter,
       @Nonnull StreamPaginationAttribute pagination) {
     OffsetBasedPaginatedApi<StreamAttributes> api = (offset, limit) -> listStreams(filter, new PaginationAttribute(offset, limit));
-    return new OffsetBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize()).stream();
+    return new OffsetBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize(),
+        pagination.getPrefetchPages(), this.paginationExecutor).stream();
   }
 
   /**
@@ -285,7 +329,8 @@ public class StreamService implements OboStreamService, OboService<OboStreamServ
       @Nonnull StreamPaginationAttribute pagination) {
     OffsetBasedPaginatedApi<V3RoomDetail> api =
         (offset, limit) -> searchRooms(query, new PaginationAttribute(offset, limit)).getRooms();
-    return new OffsetBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize()).stream();
+    return new OffsetBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize(),
+        pagination.getPrefetchPages(), this.paginationExecutor).stream();
   }
 
   /**
@@ -418,7 +463,8 @@ public class StreamService implements OboStreamService, OboService<OboStreamServ
       @Nonnull StreamPaginationAttribute pagination) {
     OffsetBasedPaginatedApi<V2AdminStreamInfo> api =
         (offset, limit) -> listStreamsAdmin(filter, new PaginationAttribute(offset, limit)).getStreams();
-    return new OffsetBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize()).stream();
+    return new OffsetBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize(),
+        pagination.getPrefetchPages(), this.paginationExecutor).stream();
   }
 
   /**
@@ -482,7 +528,8 @@ public class StreamService implements OboStreamService, OboService<OboStreamServ
     OffsetBasedPaginatedApi<V2MemberInfo> api =
         (offset, limit) -> listStreamMembers(toUrlSafeIdIfNeeded(streamId),
             new PaginationAttribute(offset, limit)).getMembers();
-    return new OffsetBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize()).stream();
+    return new OffsetBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize(),
+        pagination.getPrefetchPages(), this.paginationExecutor).stream();
   }
 
   /**
@@ -502,4 +549,10 @@ public class StreamService implements OboStreamService, OboService<OboStreamServ
     checkAuthSession(authSession);
     return RetryWithRecovery.executeAndRetry(retryBuilder, name, address, supplier);
   }
+
+  private <T> CompletableFuture<T> executeAndRetryAsync(String name, String address,
+      SupplierWithApiException<CompletableFuture<T>> supplier) {
+    checkAuthSession(authSession);
+    return this.asyncRetryExecutor.executeAndRetry(retryBuilder, name, address, supplier);
+  }
 }
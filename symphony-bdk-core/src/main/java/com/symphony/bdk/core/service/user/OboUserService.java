@@ -8,6 +8,7 @@ import com.symphony.bdk.gen.api.model.UserV2;
 import org.apiguardian.api.API;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
@@ -43,6 +44,25 @@ public interface OboUserService {
    */
   List<UserV2> listUsersByIds(@Nonnull List<Long> uidList);
 
+  /**
+   * Non-blocking counterpart of {@link UserService#listUsersByIds(List)}.
+   * <p>
+   * Implementations that do not override this method call {@link #listUsersByIds(List)} on the calling thread and return a
+   * completed future.
+   *
+   * @param uidList List of user ids
+   * @return a future completed with the users found by user ids
+   * @see <a href="https://developers.symphony.com/restapi/reference/users-lookup-v3">Users Lookup V3</a>
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default CompletableFuture<List<UserV2>> listUsersByIdsAsync(@Nonnull List<Long> uidList) {
+    try {
+      return CompletableFuture.completedFuture(this.listUsersByIds(uidList));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   /**
    * {@link UserService#listUsersByEmails(List, Boolean, Boolean)}
    *
@@ -1,6 +1,8 @@
 package com.symphony.bdk.core.service.user;
 
 import com.symphony.bdk.core.auth.AuthSession;
+import com.symphony.bdk.core.auth.impl.AuthSessionImpl;
+import com.symphony.bdk.core.retry.AsyncRetryExecutor;
 import com.symphony.bdk.core.retry.RetryWithRecovery;
 import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
 import com.symphony.bdk.core.retry.function.SupplierWithApiException;
@@ -42,6 +44,7 @@ import com.symphony.bdk.gen.api.model.V2UserAttributes;
 import com.symphony.bdk.gen.api.model.V2UserCreate;
 import com.symphony.bdk.gen.api.model.V2UserDetail;
 import com.symphony.bdk.gen.api.model.V2UserList;
+import com.symphony.bdk.http.api.ApiClientBuilder;
 import com.symphony.bdk.http.api.ApiException;
 
 import lombok.extern.slf4j.Slf4j;
@@ -54,6 +57,8 @@ import java.time.Instant;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -84,15 +89,39 @@ public class UserService implements OboUserService, OboService<OboUserService> {
   private final AuditTrailApi auditTrailApi;
   private final AuthSession authSession;
   private final RetryWithRecoveryBuilder<?> retryBuilder;
+  private final AsyncRetryExecutor asyncRetryExecutor;
+  private final Executor paginationExecutor;
 
   public UserService(UserApi userApi, UsersApi usersApi, AuditTrailApi auditTrailApi, AuthSession authSession,
       RetryWithRecoveryBuilder<?> retryBuilder) {
+    this(userApi, usersApi, auditTrailApi, authSession, retryBuilder,
+        new AsyncRetryExecutor(ApiClientBuilder.DEFAULT_CONNECTION_POOL_MAX));
+  }
+
+  /**
+   * @param asyncRetryExecutor the executor of the asynchronous calls, bounding the number of calls in flight.
+   */
+  @API(status = API.Status.INTERNAL)
+  public UserService(UserApi userApi, UsersApi usersApi, AuditTrailApi auditTrailApi, AuthSession authSession,
+      RetryWithRecoveryBuilder<?> retryBuilder, AsyncRetryExecutor asyncRetryExecutor) {
+    this(userApi, usersApi, auditTrailApi, authSession, retryBuilder, asyncRetryExecutor, null);
+  }
+
+  /**
+   * @param asyncRetryExecutor the executor of the asynchronous calls, bounding the number of calls in flight.
+   * @param paginationExecutor the executor of the pages fetched in advance, a shared one if null.
+   */
+  @API(status = API.Status.INTERNAL)
+  public UserService(UserApi userApi, UsersApi usersApi, AuditTrailApi auditTrailApi, AuthSession authSession,
+      RetryWithRecoveryBuilder<?> retryBuilder, AsyncRetryExecutor asyncRetryExecutor, Executor paginationExecutor) {
     this.userApi = userApi;
     this.usersApi = usersApi;
     this.auditTrailApi = auditTrailApi;
     this.authSession = authSession;
     this.retryBuilder = RetryWithRecoveryBuilder.copyWithoutRecoveryStrategies(retryBuilder)
-        .recoveryStrategy(ApiException::isUnauthorized, authSession::refresh);
+        .recoveryStrategyPerAttempt(ApiException::isUnauthorized, AuthSessionImpl.attemptRefresh(authSession));
+    this.asyncRetryExecutor = asyncRetryExecutor;
+    this.paginationExecutor = paginationExecutor;
   }
 
   public UserService(UserApi userApi, UsersApi usersApi, AuditTrailApi auditTrailApi, RetryWithRecoveryBuilder<?> retryBuilder) {
@@ -101,11 +130,14 @@ public class UserService implements OboUserService, OboService<OboUserService> {
     this.auditTrailApi = auditTrailApi;
     this.authSession = null;
     this.retryBuilder = RetryWithRecoveryBuilder.copyWithoutRecoveryStrategies(retryBuilder);
+    this.asyncRetryExecutor = new AsyncRetryExecutor(ApiClientBuilder.DEFAULT_CONNECTION_POOL_MAX);
+    this.paginationExecutor = null;
   }
 
   @Override
   public OboUserService obo(AuthSession oboSession) {
-    return new UserService(userApi, usersApi, auditTrailApi, oboSession, retryBuilder);
+    return new UserService(userApi, usersApi, auditTrailApi, oboSession, retryBuilder, asyncRetryExecutor,
+        paginationExecutor);
   }
 
   /**
@@ -130,6 +162,18 @@ public class UserService implements OboUserService, OboService<OboUserService> {
     return this.getUsersOrEmpty(v2UserList);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @API(status = API.Status.EXPERIMENTAL)
+  public CompletableFuture<List<UserV2>> listUsersByIdsAsync(@Nonnull List<Long> uidList) {
+    String uids = uidList.stream().map(String::valueOf).collect(Collectors.joining(","));
+    return this.<V2UserList>executeAndRetryAsync("searchUserByIds",
+            () -> usersApi.v3UsersGetAsync(uids, null, null, false, null, authSession.getSessionToken()))
+        .thenApply(this::getUsersOrEmpty);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -225,7 +269,8 @@ public class UserService implements OboUserService, OboService<OboUserService> {
       @Nonnull StreamPaginationAttribute pagination) {
     OffsetBasedPaginatedApi<UserV2> api =
         (offset, limit) -> searchUsers(query, local, new PaginationAttribute(offset, limit));
-    return new OffsetBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize()).stream();
+    return new OffsetBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize(),
+        pagination.getPrefetchPages(), this.paginationExecutor).stream();
   }
 
   /**
@@ -307,7 +352,8 @@ public class UserService implements OboUserService, OboService<OboUserService> {
   @API(status = API.Status.EXPERIMENTAL)
   public Stream<V2UserDetail> listAllUsersDetail(@Nonnull StreamPaginationAttribute pagination) {
     OffsetBasedPaginatedApi<V2UserDetail> api = (offset, limit) -> listUsersDetail(new PaginationAttribute(offset, limit));
-    return new OffsetBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize()).stream();
+    return new OffsetBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize(),
+        pagination.getPrefetchPages(), this.paginationExecutor).stream();
   }
 
   /**
@@ -372,7 +418,8 @@ public class UserService implements OboUserService, OboService<OboUserService> {
   public Stream<V2UserDetail> listAllUsersDetail(@Nonnull UserFilter filter,
       @Nonnull StreamPaginationAttribute pagination) {
     OffsetBasedPaginatedApi<V2UserDetail> api = (offset, limit) -> listUsersDetail(filter, new PaginationAttribute(offset, limit));
-    return new OffsetBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize()).stream();
+    return new OffsetBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize(),
+        pagination.getPrefetchPages(), this.paginationExecutor).stream();
   }
 
   /**
@@ -621,7 +668,8 @@ public class UserService implements OboUserService, OboService<OboUserService> {
   public Stream<Long> listAllUserFollowers(@Nonnull Long userId, @Nonnull StreamPaginationAttribute pagination) {
     CursorBasedPaginatedApi<Long> api =
         (after, limit) -> new FollowerListResponseAdapter(listUserFollowers(userId, limit, null, after));
-    return new CursorBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize()).stream();
+    return new CursorBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize(),
+        pagination.getPrefetchPages(), this.paginationExecutor).stream();
   }
 
   private FollowersListResponse listUserFollowers(@Nonnull Long userId, Integer limit, String before, String after) {
@@ -679,7 +727,8 @@ public class UserService implements OboUserService, OboService<OboUserService> {
   public Stream<Long> listAllUserFollowing(@Nonnull Long userId, @Nonnull StreamPaginationAttribute pagination) {
     CursorBasedPaginatedApi<Long> api =
         (after, limit) -> new FollowingListResponseAdapter(listUsersFollowing(userId, limit, null, after));
-    return new CursorBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize()).stream();
+    return new CursorBasedPaginatedService<>(api, pagination.getChunkSize(), pagination.getTotalSize(),
+        pagination.getPrefetchPages(), this.paginationExecutor).stream();
   }
 
   private FollowingListResponse listUsersFollowing(@Nonnull Long userId, Integer limit, String before, String after) {
@@ -796,6 +845,13 @@ public class UserService implements OboUserService, OboService<OboUserService> {
     return RetryWithRecovery.executeAndRetry(retryBuilder, name, userApi.getApiClient().getBasePath(), supplier);
   }
 
+  private <T> CompletableFuture<T> executeAndRetryAsync(String name,
+      SupplierWithApiException<CompletableFuture<T>> supplier) {
+    checkAuthSession(authSession);
+    return this.asyncRetryExecutor.executeAndRetry(retryBuilder, name, userApi.getApiClient().getBasePath(),
+        supplier);
+  }
+
 
   private static class AuditTrailInitiatorListAdapter implements CursorPaginatedPayload<V1AuditTrailInitiatorResponse> {
 
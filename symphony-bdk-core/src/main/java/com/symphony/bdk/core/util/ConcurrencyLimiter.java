@@ -0,0 +1,104 @@
+package com.symphony.bdk.core.util;
+
+import org.apiguardian.api.API;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking limiter of the number of asynchronous tasks running at the same time.
+ * <p>
+ * Tasks submitted while the limit is reached are queued and started, in submission order, as soon as running tasks
+ * complete. No thread is blocked waiting for a permit.
+ */
+@API(status = API.Status.INTERNAL)
+public class ConcurrencyLimiter {
+
+  private final int maxConcurrency;
+  private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger running = new AtomicInteger();
+  private final AtomicInteger drainRequests = new AtomicInteger();
+
+  /**
+   * @param maxConcurrency the maximum number of tasks running at the same time, must be >= 1.
+   */
+  public ConcurrencyLimiter(int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("Max concurrency must be >= 1");
+    }
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  /**
+   * Starts the task as soon as the number of running tasks allows it.
+   *
+   * @param task the supplier starting the asynchronous task.
+   * @param <T>  the type of the task result.
+   * @return a future completed with the task result.
+   */
+  public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> task) {
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    this.pending.add(() -> this.start(task, result));
+    this.drain();
+    return result;
+  }
+
+  /**
+   * @return the number of tasks currently running.
+   */
+  public int getRunningCount() {
+    return this.running.get();
+  }
+
+  /**
+   * @return the number of tasks waiting to be started.
+   */
+  public int getPendingCount() {
+    return this.pending.size();
+  }
+
+  private <T> void start(Supplier<CompletableFuture<T>> task, CompletableFuture<T> result) {
+    CompletableFuture<T> future;
+    try {
+      future = task.get();
+    } catch (RuntimeException e) {
+      future = CompletableFuture.failedFuture(e);
+    }
+
+    future.whenComplete((value, error) -> {
+      this.running.decrementAndGet();
+      this.drain();
+      if (error == null) {
+        result.complete(value);
+      } else {
+        result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+            ? error.getCause()
+            : error);
+      }
+    });
+  }
+
+  /**
+   * Starts pending tasks while permits are available. Only one thread drains at a time, the others just request
+   * another pass, so that tasks completing synchronously do not lead to unbounded recursion.
+   */
+  private void drain() {
+    if (this.drainRequests.getAndIncrement() != 0) {
+      return;
+    }
+    do {
+      while (this.running.get() < this.maxConcurrency) {
+        final Runnable next = this.pending.poll();
+        if (next == null) {
+          break;
+        }
+        this.running.incrementAndGet();
+        next.run();
+      }
+    } while (this.drainRequests.decrementAndGet() != 0);
+  }
+}
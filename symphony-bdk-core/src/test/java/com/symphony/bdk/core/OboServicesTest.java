@@ -2,8 +2,12 @@ package com.symphony.bdk.core;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.symphony.bdk.core.auth.AuthSession;
+import com.symphony.bdk.core.client.ApiClientFactory;
 import com.symphony.bdk.core.config.model.BdkConfig;
 
 import com.symphony.bdk.core.service.connection.OboConnectionService;
@@ -14,6 +18,7 @@ import com.symphony.bdk.core.service.signal.OboSignalService;
 import com.symphony.bdk.core.service.stream.OboStreamService;
 
 import com.symphony.bdk.core.service.user.OboUserService;
+import com.symphony.bdk.http.api.ApiClient;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -68,4 +73,19 @@ public class OboServicesTest {
     OboSessionService sessionService = oboServices.sessions();
     assertNotNull(sessionService);
   }
+
+  @Test
+  void testOboServicesSharingApiClients() {
+    final ApiClientFactory apiClientFactory = mock(ApiClientFactory.class);
+    when(apiClientFactory.getPodClient()).thenReturn(mock(ApiClient.class));
+    when(apiClientFactory.getAgentClient()).thenReturn(mock(ApiClient.class));
+    final ServiceFactory serviceFactory = new ServiceFactory(apiClientFactory, mock(AuthSession.class), new BdkConfig());
+
+    for (int i = 0; i < 10; i++) {
+      assertNotNull(new OboServices(serviceFactory.withAuthSession(mock(AuthSession.class))).users());
+    }
+
+    verify(apiClientFactory, times(1)).getPodClient();
+    verify(apiClientFactory, times(1)).getAgentClient();
+  }
 }
@@ -6,6 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.symphony.bdk.core.activity.ActivityRegistry;
 import com.symphony.bdk.core.auth.AppAuthSession;
@@ -166,6 +169,22 @@ public class SymphonyBdkTest {
     assertNotNull(obo);
   }
 
+  @Test
+  void oboServicesShareBdkApiClients() throws AuthUnauthorizedException {
+    this.mockApiClient.onPost(LOGIN_PUBKEY_APP_AUTHENTICATE, "{ \"token\": \"1234\", \"name\": \"sessionToken\" }");
+    this.mockApiClient.onPost(LOGIN_PUBKEY_OBO_USERID_AUTHENTICATE.replace("{userId}", "123456"), "{ \"token\": \"1234\", \"name\": \"sessionToken\" }");
+
+    AuthSession oboSession = this.symphonyBdk.obo(123456L);
+    clearInvocations(this.apiClientFactory);
+
+    assertNotNull(this.symphonyBdk.obo(oboSession).users());
+    assertNotNull(this.symphonyBdk.obo(oboSession).messages());
+
+    // api clients created when initializing the bot services are reused
+    verify(this.apiClientFactory, never()).getPodClient();
+    verify(this.apiClientFactory, never()).getAgentClient();
+  }
+
   @Test
   void oboAuthenticateTest() throws AuthUnauthorizedException {
     this.mockApiClient.onPost(LOGIN_PUBKEY_APP_AUTHENTICATE, "{ \"token\": \"1234\", \"name\": \"sessionToken\" }");
@@ -212,6 +231,13 @@ public class SymphonyBdkTest {
     assertNotNull(this.symphonyBdk.config());
   }
 
+  @Test
+  void shutdownClosesApiClientsTest() {
+    this.symphonyBdk.shutdown();
+
+    verify(this.apiClientFactory).close();
+  }
+
   @Test
   void noBotConfigTest() throws BdkConfigException, AuthUnauthorizedException, AuthInitializationException {
     BdkConfig config = BdkConfigLoader.loadFromClasspath("/config/no_bot_config.yaml");
@@ -0,0 +1,229 @@
+package com.symphony.bdk.core.activity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.symphony.bdk.core.activity.model.ActivityMetrics;
+import com.symphony.bdk.core.config.model.BdkRejectionPolicy;
+import com.symphony.bdk.core.config.model.BdkThreadingConfig;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test class for the {@link ActivityExecutor}.
+ */
+class ActivityExecutorTest {
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void testMaxConcurrentTasks(boolean virtualThreads) throws InterruptedException {
+    final int tasks = 50;
+    final ActivityExecutor executor = new ActivityExecutor(3, virtualThreads);
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    final CountDownLatch done = new CountDownLatch(tasks);
+
+    for (int i = 0; i < tasks; i++) {
+      executor.execute("activity-" + i % 5, 0, trackingTask(running, maxRunning, done));
+    }
+
+    assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void testActivityMaxConcurrentTasks(boolean virtualThreads) throws InterruptedException {
+    final int tasks = 20;
+    final ActivityExecutor executor = new ActivityExecutor(10, virtualThreads);
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    final CountDownLatch done = new CountDownLatch(tasks);
+
+    for (int i = 0; i < tasks; i++) {
+      executor.execute("/limited", 2, trackingTask(running, maxRunning, done));
+    }
+
+    assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void testActivityMaxConcurrentTasksFromConfig() throws InterruptedException {
+    final BdkThreadingConfig config = new BdkThreadingConfig();
+    config.setMaxConcurrentTasks(10);
+    config.setActivityMaxConcurrentTasks(Collections.singletonMap("/limited", 1));
+    final ActivityExecutor executor = new ActivityExecutor(config);
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    final CountDownLatch done = new CountDownLatch(10);
+
+    for (int i = 0; i < 10; i++) {
+      executor.execute("/limited", 0, trackingTask(running, maxRunning, done));
+    }
+
+    assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(maxRunning.get()).isEqualTo(1);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void testFailingTaskDoesNotStopExecutor(boolean virtualThreads) throws InterruptedException {
+    final ActivityExecutor executor = new ActivityExecutor(1, virtualThreads);
+    final CountDownLatch done = new CountDownLatch(1);
+
+    executor.execute("failing", 0, () -> {
+      throw new IllegalStateException("failure");
+    });
+    executor.execute("counting", 0, done::countDown);
+
+    assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void testDiscardWhenQueueIsFull(boolean virtualThreads) throws InterruptedException {
+    final ActivityExecutor executor = new ActivityExecutor(config(virtualThreads, BdkRejectionPolicy.DISCARD));
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger executed = new AtomicInteger();
+
+    executor.execute("/slow", 0, () -> await(release));
+    awaitRunning(executor, "/slow");
+    executor.execute("/slow", 0, () -> await(release)); // queued
+    executor.execute("/discarded", 0, executed::incrementAndGet);
+
+    assertThat(executor.getMetrics().get("/discarded").getRejected()).isEqualTo(1);
+    release.countDown();
+    executor.shutdown();
+    assertThat(executed.get()).isZero();
+    assertThat(executor.getMetrics().get("/slow").getCompleted()).isEqualTo(2);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void testCallerRunsWhenQueueIsFull(boolean virtualThreads) throws InterruptedException {
+    final ActivityExecutor executor = new ActivityExecutor(config(virtualThreads, BdkRejectionPolicy.CALLER_RUNS));
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicReference<Thread> executingThread = new AtomicReference<>();
+
+    executor.execute("/slow", 0, () -> await(release));
+    awaitRunning(executor, "/slow");
+    executor.execute("/slow", 0, () -> await(release)); // queued
+    executor.execute("/caller", 0, () -> executingThread.set(Thread.currentThread()));
+
+    assertThat(executingThread.get()).isEqualTo(Thread.currentThread());
+    release.countDown();
+    executor.shutdown();
+  }
+
+  @Test
+  void testMetrics() throws InterruptedException {
+    final ActivityExecutor executor = new ActivityExecutor(2, false);
+    final CountDownLatch done = new CountDownLatch(3);
+
+    for (int i = 0; i < 3; i++) {
+      executor.execute("/metrics", 0, () -> {
+        sleep(10);
+        done.countDown();
+      });
+    }
+    executor.shutdown();
+
+    final ActivityMetrics metrics = executor.getMetrics().get("/metrics");
+    assertThat(metrics.getCompleted()).isEqualTo(3);
+    assertThat(metrics.getQueued()).isZero();
+    assertThat(metrics.getRunning()).isZero();
+    assertThat(metrics.getAverageExecutionTimeMillis()).isGreaterThanOrEqualTo(9.0);
+    assertThat(metrics.getMaxExecutionTimeMillis()).isGreaterThanOrEqualTo(9L);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void testShutdownWaitsForQueuedTasks(boolean virtualThreads) {
+    final ActivityExecutor executor = new ActivityExecutor(1, virtualThreads);
+    final AtomicInteger executed = new AtomicInteger();
+
+    for (int i = 0; i < 5; i++) {
+      executor.execute("/queued", 0, () -> {
+        sleep(5);
+        executed.incrementAndGet();
+      });
+    }
+    executor.shutdown();
+    executor.execute("/queued", 0, executed::incrementAndGet);
+
+    assertThat(executor.isShutdown()).isTrue();
+    assertThat(executed.get()).isEqualTo(5);
+    assertThat(executor.getMetrics().get("/queued").getRejected()).isEqualTo(1);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void testShutdownInterruptsTasksAfterTimeout(boolean virtualThreads) throws InterruptedException {
+    final BdkThreadingConfig config = new BdkThreadingConfig();
+    config.setVirtualThreads(virtualThreads);
+    config.setShutdownTimeoutMillis(50L);
+    final ActivityExecutor executor = new ActivityExecutor(config);
+    final CountDownLatch interrupted = new CountDownLatch(1);
+
+    executor.execute("/blocking", 0, () -> {
+      try {
+        new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+    });
+    awaitRunning(executor, "/blocking");
+    executor.shutdown();
+
+    assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private static BdkThreadingConfig config(boolean virtualThreads, BdkRejectionPolicy rejectionPolicy) {
+    final BdkThreadingConfig config = new BdkThreadingConfig();
+    config.setVirtualThreads(virtualThreads);
+    config.setMaxConcurrentTasks(1);
+    config.setQueueSize(1);
+    config.setRejectionPolicy(rejectionPolicy);
+    return config;
+  }
+
+  private static Runnable trackingTask(AtomicInteger running, AtomicInteger maxRunning, CountDownLatch done) {
+    return () -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      sleep(5);
+      running.decrementAndGet();
+      done.countDown();
+    };
+  }
+
+  private static void awaitRunning(ActivityExecutor executor, String activityName) throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + 10_000L;
+    while (executor.getMetrics().get(activityName).getRunning() == 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(1);
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
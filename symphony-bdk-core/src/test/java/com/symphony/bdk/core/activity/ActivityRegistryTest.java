@@ -16,10 +16,15 @@ import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.message.MessageService;
 import com.symphony.bdk.gen.api.model.UserV2;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -84,8 +89,9 @@ class ActivityRegistryTest {
     final SlashCommand helpCommandSlash = SlashCommand.slash("/help", true, handler);
     this.registry.register(helpCommandSlash);
 
-    verify(this.datafeedService, times(2)).subscribe(any(RealTimeEventListener.class));
-    verify(this.datafeedService, times(1)).unsubscribe(any(RealTimeEventListener.class));
+    // slash commands are routed by a single listener
+    verify(this.datafeedService, times(1)).subscribe(any(RealTimeEventListener.class));
+    verify(this.datafeedService, never()).unsubscribe(any(RealTimeEventListener.class));
     assertEquals(1, this.registry.getActivityList().size(), "Registry must contain only 1 activity");
     assertEquals(helpCommandSlash, this.registry.getActivityList().get(0), "Help command was replaced");
   }
@@ -124,7 +130,7 @@ class ActivityRegistryTest {
     this.registry.register(actMentionRequired);
     this.registry.register(actMentionNotRequired);
 
-    verify(this.datafeedService, times(2)).subscribe(any(RealTimeEventListener.class));
+    verify(this.datafeedService, times(1)).subscribe(any(RealTimeEventListener.class));
     verify(this.datafeedService, never()).unsubscribe(any(RealTimeEventListener.class));
 
     assertEquals(2, this.registry.getActivityList().size(), "Both activities must have been registered");
@@ -143,10 +149,25 @@ class ActivityRegistryTest {
     this.registry.register(actMentionRequired);
     this.registry.register(actMentionNotRequired);
 
-    verify(this.datafeedService, times(2)).subscribe(any(RealTimeEventListener.class));
-    verify(this.datafeedService, times(1)).unsubscribe(any(RealTimeEventListener.class));
+    verify(this.datafeedService, times(1)).subscribe(any(RealTimeEventListener.class));
+    verify(this.datafeedService, never()).unsubscribe(any(RealTimeEventListener.class));
 
     assertEquals(1, this.registry.getActivityList().size(), "Only one activities must have been registered");
   }
 
+  @Test
+  void shouldRouteSlashCommands() {
+    final AtomicBoolean handlerCalled = new AtomicBoolean(false);
+    final SlashCommand slashCommand = SlashCommand.slash("/test", false, c -> handlerCalled.set(true));
+    final ArgumentCaptor<RealTimeEventListener> listener = ArgumentCaptor.forClass(RealTimeEventListener.class);
+
+    this.registry.register(slashCommand);
+    this.registry.register(SlashCommand.slash("/other", false, c -> {}));
+
+    verify(this.datafeedService, times(1)).subscribe(listener.capture());
+    listener.getValue().onMessageSent(new V4Initiator(), new V4MessageSent().message(
+        new V4Message().stream(new V4Stream().streamId("streamId")).message("<div><p>/test</p></div>").data("{}")));
+    assertTrue(handlerCalled.get(), "Slash command must have been routed");
+  }
+
 }
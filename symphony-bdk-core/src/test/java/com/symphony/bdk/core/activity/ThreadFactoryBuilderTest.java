@@ -3,6 +3,8 @@ package com.symphony.bdk.core.activity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.symphony.bdk.http.api.util.VirtualThreads;
+
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.ThreadFactory;
@@ -35,4 +37,19 @@ class ThreadFactoryBuilderTest {
     assertThat(thread.getName()).isEqualTo("NAME-0");
     assertThat(thread.getPriority()).isEqualTo(Thread.MAX_PRIORITY);
   }
+
+  @Test
+  void builderVirtual() {
+    ThreadFactory threadFactory = new ThreadFactoryBuilder().setName("NAME").setPriority(Thread.MAX_PRIORITY)
+        .setVirtual(true).build();
+    Thread thread = threadFactory.newThread(() -> {});
+    assertThat(thread.getName()).isEqualTo("NAME-0");
+    if (VirtualThreads.isSupported()) {
+      // virtual threads are always daemon threads with a normal priority
+      assertThat(thread.isDaemon()).isTrue();
+      assertThat(thread.getPriority()).isEqualTo(Thread.NORM_PRIORITY);
+    } else {
+      assertThat(thread.getPriority()).isEqualTo(Thread.MAX_PRIORITY);
+    }
+  }
 }
@@ -0,0 +1,160 @@
+package com.symphony.bdk.core.activity.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.symphony.bdk.core.activity.ActivityMatcher;
+import com.symphony.bdk.core.activity.parsing.Hashtag;
+import com.symphony.bdk.core.activity.parsing.Mention;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Test class for the {@link SlashCommandRouter}.
+ */
+class SlashCommandRouterTest {
+
+  private static final long BOT_USER_ID = 12345678L;
+
+  @Test
+  void testRouteStaticWords() {
+    final SlashCommandRouter router = new SlashCommandRouter();
+    final SlashCommand test = command("/test", false);
+    final SlashCommand testBlah = command("/test blah", false);
+    final SlashCommand other = command("/other", false);
+    router.add(test);
+    router.add(testBlah);
+    router.add(other);
+
+    assertThat(router.route(Collections.singletonList("/test"))).containsExactly(test);
+    assertThat(router.route(Arrays.asList("/test", "blah"))).containsExactly(testBlah);
+    assertThat(router.route(Arrays.asList("/test", "other"))).isEmpty();
+    assertThat(router.route(Collections.singletonList("/unknown"))).isEmpty();
+    assertThat(router.route(Collections.emptyList())).isEmpty();
+  }
+
+  @Test
+  void testRouteArguments() {
+    final SlashCommandRouter router = new SlashCommandRouter();
+    final SlashCommand buy = command("/buy {amount} {$ticker}", false);
+    final SlashCommand buyAll = command("/buy all {$ticker}", false);
+    final SlashCommand mention = command("/mention {@user}", true);
+    router.add(buy);
+    router.add(buyAll);
+    router.add(mention);
+
+    assertThat(router.route(Arrays.asList("/buy", "12", new Object()))).containsExactly(buy);
+    assertThat(router.route(Arrays.asList("/buy", "all", new Object()))).containsExactly(buy, buyAll);
+    assertThat(router.route(Arrays.asList(mention(), "/mention", mention()))).containsExactly(mention);
+    // an entity only matches a wildcard edge
+    assertThat(router.route(Arrays.asList("/buy", new Hashtag("all", "all"), new Object()))).containsExactly(buy);
+  }
+
+  @Test
+  void testRouteRegexWordAsWildcard() {
+    final SlashCommandRouter router = new SlashCommandRouter();
+    final SlashCommand regex = command("/test.", false);
+    router.add(regex);
+
+    assertThat(router.route(Collections.singletonList("/testX"))).containsExactly(regex);
+  }
+
+  @Test
+  void testRegistrationOrderAndRemoval() {
+    final SlashCommandRouter router = new SlashCommandRouter();
+    final SlashCommand argument = command("/test {arg}", false);
+    final SlashCommand word = command("/test word", false);
+    router.add(argument);
+    router.add(word);
+
+    assertThat(router.route(Arrays.asList("/test", "word"))).containsExactly(argument, word);
+
+    router.remove(argument);
+    router.add(argument);
+    assertThat(router.route(Arrays.asList("/test", "word"))).containsExactly(word, argument);
+
+    router.remove(word);
+    assertThat(router.route(Arrays.asList("/test", "word"))).containsExactly(argument);
+  }
+
+  @Test
+  void testOnMessageSent() {
+    final SlashCommandRouter router = new SlashCommandRouter();
+    final List<String> calls = new ArrayList<>();
+    final SlashCommand test = SlashCommand.slash("/test {arg}", true, c -> calls.add(c.getArguments().getString("arg")));
+    test.setBotUserId(BOT_USER_ID);
+    final SlashCommand notMentioned = SlashCommand.slash("/test {arg}", false, c -> calls.add("not mentioned"));
+    final SlashCommand other = SlashCommand.slash("/other", true, c -> calls.add("other"));
+    other.setBotUserId(BOT_USER_ID);
+    router.add(test);
+    router.add(notMentioned);
+    router.add(other);
+
+    router.onMessageSent(new V4Initiator(), createMessageSentEvent("/test value"));
+
+    assertThat(calls).containsExactly("value");
+  }
+
+  @Test
+  void testIsRoutable() {
+    assertThat(SlashCommandRouter.isRoutable(command("/test", false))).isTrue();
+    assertThat(SlashCommandRouter.isRoutable(new HelpCommand(null, null))).isTrue();
+    assertThat(SlashCommandRouter.isRoutable(new SlashCommand("/test", false, false, c -> {}, "") {
+      @Override
+      public ActivityMatcher<CommandContext> matcher() {
+        return c -> true;
+      }
+    })).isFalse();
+  }
+
+  /**
+   * Whatever the number of registered commands, a message is only matched against the commands sharing its static
+   * words, see also the SlashCommandRouterBenchmark.
+   */
+  @ParameterizedTest
+  @ValueSource(ints = {10, 100, 500})
+  void testRouteAmongManyCommands(int commands) {
+    final SlashCommandRouter router = new SlashCommandRouter();
+    for (int i = 0; i < commands; i++) {
+      router.add(command("/command" + i + " {arg}", true));
+      router.add(command("/command" + i + " static", true));
+    }
+
+    final List<SlashCommand> routed = router.route(Arrays.asList(mention(), "/command7", "static"));
+
+    assertThat(routed).extracting(SlashCommand::getSlashCommandName)
+        .containsExactly("/command7 {arg}", "/command7 static");
+  }
+
+  private static SlashCommand command(String pattern, boolean requiresBotMention) {
+    final SlashCommand command = SlashCommand.slash(pattern, requiresBotMention, c -> {});
+    command.setBotUserId(BOT_USER_ID);
+    return command;
+  }
+
+  private static Mention mention() {
+    return new Mention("@bot", BOT_USER_ID);
+  }
+
+  private static V4MessageSent createMessageSentEvent(String text) {
+    final V4MessageSent event = new V4MessageSent().message(new V4Message().stream(new V4Stream()));
+    event.getMessage().getStream().setStreamId(UUID.randomUUID().toString());
+    event.getMessage().setMessageId(UUID.randomUUID().toString());
+    event.getMessage().setMessage(
+        "<div><p><span class=\"entity\" data-entity-id=\"0\">@bot</span> " + text + "</p></div>");
+    event.getMessage().setData("{\"0\":{\"id\":[{\"type\":\"com.symphony.user.userId\",\"value\":\"" + BOT_USER_ID
+        + "\"}],\"type\":\"com.symphony.user.mention\"}}");
+    return event;
+  }
+}
@@ -7,8 +7,15 @@ import com.symphony.bdk.gen.api.model.V4Message;
 
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 class InputTokenizerTest {
 
@@ -156,6 +163,69 @@ class InputTokenizerTest {
     assertEquals("myhashtag", cashtag.getValue());
   }
 
+  @Test
+  void mentionNestedInUnsupportedEntity() {
+    final List<Object> tokens = getTokens("<span class=\"entity\" data-entity-id=\"0\">text "
+            + "<span class=\"entity\" data-entity-id=\"1\">@jane-doe</span></span>",
+        "{\"0\":{\"type\":\"com.symphony.emoji\"},"
+            + "\"1\":{\"id\":[{\"type\":\"com.symphony.user.userId\",\"value\":\"12345678\"}],\"type\":\"com.symphony.user.mention\"}}");
+
+    assertEquals(2, tokens.size());
+    assertIsStringToken("text", tokens.get(0));
+    assertIsMentionToken("@jane-doe", "jane-doe", 12345678L, tokens.get(1));
+  }
+
+  @Test
+  void whitespacesOtherThanSpaces() {
+    final List<Object> tokens = getTokens("hello\t<br/>\nworld&#xA0;again");
+
+    assertEquals(2, tokens.size());
+    assertIsStringToken("hello", tokens.get(0));
+    assertIsStringToken("world\u00A0again", tokens.get(1));
+  }
+
+  /**
+   * A large table with mentions in each row is tokenized in one pass, see also the PresentationMLParserBenchmark.
+   */
+  @ParameterizedTest
+  @ValueSource(ints = {10, 1000, 10000})
+  void largeTable(int rows) {
+    final StringBuilder table = new StringBuilder("<table>");
+    for (int i = 0; i < rows; i++) {
+      table.append("<tr><td>row ").append(i).append("</td><td><span class=\"entity\" data-entity-id=\"0\">@jane-doe</span>")
+          .append("</td></tr>");
+    }
+    table.append("</table>");
+
+    final List<Object> tokens = getTokens(table.toString(),
+        "{\"0\":{\"id\":[{\"type\":\"com.symphony.user.userId\",\"value\":\"12345678\"}],\"type\":\"com.symphony.user.mention\"}}");
+
+    assertEquals(3 * rows, tokens.size());
+    assertIsStringToken("row", tokens.get(0));
+    assertIsStringToken(String.valueOf(rows - 1), tokens.get(3 * rows - 2));
+    assertIsMentionToken("@jane-doe", "jane-doe", 12345678L, tokens.get(3 * rows - 1));
+  }
+
+  @Test
+  void concurrentTokenization() throws InterruptedException, ExecutionException {
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<List<Object>>> results = new ArrayList<>();
+      for (int i = 0; i < 200; i++) {
+        final String word = "word" + i;
+        results.add(executor.submit(() -> getTokens("hello <b>" + word + "</b>")));
+      }
+
+      for (int i = 0; i < results.size(); i++) {
+        final List<Object> tokens = results.get(i).get();
+        assertEquals(2, tokens.size());
+        assertIsStringToken("word" + i, tokens.get(1));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   private List<Object> getTokens(String textContent) {
     return new InputTokenizer(buildMessage(textContent)).getTokens();
   }
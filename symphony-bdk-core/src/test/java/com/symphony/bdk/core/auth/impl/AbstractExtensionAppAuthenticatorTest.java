@@ -1,6 +1,8 @@
 package com.symphony.bdk.core.auth.impl;
 
 import com.symphony.bdk.core.auth.AppAuthSession;
+import com.symphony.bdk.core.auth.JwtHelperTest;
+import com.symphony.bdk.core.auth.exception.AuthInitializationException;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
 import com.symphony.bdk.core.auth.jwt.UserClaim;
 import com.symphony.bdk.core.config.model.BdkRetryConfig;
@@ -8,12 +10,21 @@ import com.symphony.bdk.gen.api.model.ExtensionAppTokens;
 import com.symphony.bdk.gen.api.model.PodCertificate;
 import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.http.api.ApiRuntimeException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
 import jakarta.ws.rs.ProcessingException;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 
 import javax.annotation.Nonnull;
+import java.io.FileInputStream;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
+import java.security.Key;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.util.Base64;
+import java.util.Date;
 
 import static com.symphony.bdk.core.test.BdkRetryConfigTestHelper.ofMinimalInterval;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -33,6 +44,10 @@ class AbstractExtensionAppAuthenticatorTest {
       super(retryConfig, "appId");
     }
 
+    public TestExtAppAuthenticator(BdkRetryConfig retryConfig, long podCertificateTtlSeconds) {
+      super(retryConfig, "appId", new InMemoryTokensRepository(), podCertificateTtlSeconds);
+    }
+
     @Override
     protected PodCertificate callGetPodCertificate() throws ApiException {
       return null;
@@ -121,6 +136,69 @@ class AbstractExtensionAppAuthenticatorTest {
     verify(authenticator, times(2)).callGetPodCertificate();
   }
 
+  // test validateJwtWithPodCertificate
+  @Test
+  void testValidateJwtCachesPodPublicKey() throws Exception {
+    final KeyStore keyStore = getKeyStoreFromFile();
+    final UserClaim userClaim = new UserClaim();
+    userClaim.setId(1234L);
+    final String jwt = generateJwt(keyStore.getKey(JwtHelperTest.CERT_ALIAS,
+        JwtHelperTest.CERT_PASSWORD.toCharArray()), userClaim);
+
+    AbstractExtensionAppAuthenticator authenticator =
+        spy(new TestExtAppAuthenticator(ofMinimalInterval(), 3600L));
+    doReturn(new PodCertificate().certificate(getCertificatePem(keyStore))).when(authenticator).callGetPodCertificate();
+
+    assertEquals(userClaim, authenticator.validateJwtWithPodCertificate(jwt));
+    assertEquals(userClaim, authenticator.validateJwtWithPodCertificate(jwt));
+    verify(authenticator, times(1)).callGetPodCertificate();
+  }
+
+  @Test
+  void testValidateJwtWithoutPodPublicKeyCache() throws Exception {
+    final KeyStore keyStore = getKeyStoreFromFile();
+    final String jwt = generateJwt(keyStore.getKey(JwtHelperTest.CERT_ALIAS,
+        JwtHelperTest.CERT_PASSWORD.toCharArray()), new UserClaim());
+
+    AbstractExtensionAppAuthenticator authenticator =
+        spy(new TestExtAppAuthenticator(ofMinimalInterval(), 0L));
+    doReturn(new PodCertificate().certificate(getCertificatePem(keyStore))).when(authenticator).callGetPodCertificate();
+
+    authenticator.validateJwtWithPodCertificate(jwt);
+    authenticator.validateJwtWithPodCertificate(jwt);
+    verify(authenticator, times(2)).callGetPodCertificate();
+  }
+
+  @Test
+  void testValidateJwtSignatureFailureForcesSingleRefresh() throws Exception {
+    final KeyStore keyStore = getKeyStoreFromFile();
+    // signed with a key that does not match the pod certificate, as if the certificate had been rotated
+    final String jwt = generateJwt(KeyPairGenerator.getInstance("RSA").generateKeyPair().getPrivate(), new UserClaim());
+
+    AbstractExtensionAppAuthenticator authenticator =
+        spy(new TestExtAppAuthenticator(ofMinimalInterval(), 3600L));
+    doReturn(new PodCertificate().certificate(getCertificatePem(keyStore))).when(authenticator).callGetPodCertificate();
+
+    assertThrows(AuthInitializationException.class, () -> authenticator.validateJwtWithPodCertificate(jwt));
+    verify(authenticator, times(2)).callGetPodCertificate();
+
+    // forced refreshes are rate limited
+    assertThrows(AuthInitializationException.class, () -> authenticator.validateJwtWithPodCertificate(jwt));
+    verify(authenticator, times(2)).callGetPodCertificate();
+  }
+
+  @Test
+  void testValidateInvalidJwtDoesNotForceRefresh() throws Exception {
+    final KeyStore keyStore = getKeyStoreFromFile();
+
+    AbstractExtensionAppAuthenticator authenticator =
+        spy(new TestExtAppAuthenticator(ofMinimalInterval(), 3600L));
+    doReturn(new PodCertificate().certificate(getCertificatePem(keyStore))).when(authenticator).callGetPodCertificate();
+
+    assertThrows(AuthInitializationException.class, () -> authenticator.validateJwtWithPodCertificate("invalid jwt"));
+    verify(authenticator, times(1)).callGetPodCertificate();
+  }
+
   // test authenticateAndRetrieveTokens
   @Test
   void testGetTokensSuccess() throws ApiException, AuthUnauthorizedException {
@@ -181,4 +259,27 @@ class AbstractExtensionAppAuthenticatorTest {
     assertThrows(ApiRuntimeException.class, () -> authenticator.retrieveExtAppTokens(""));
     verify(authenticator, times(2)).authenticateAndRetrieveTokens(anyString());
   }
+
+  @SneakyThrows
+  private static KeyStore getKeyStoreFromFile() {
+    try (FileInputStream fm = new FileInputStream("./src/test/resources/certs/extapp-cert.p12")) {
+      KeyStore ks = KeyStore.getInstance("PKCS12");
+      ks.load(fm, JwtHelperTest.CERT_PASSWORD.toCharArray());
+      return ks;
+    }
+  }
+
+  @SneakyThrows
+  private static String getCertificatePem(KeyStore keyStore) {
+    return Base64.getEncoder().encodeToString(keyStore.getCertificate(JwtHelperTest.CERT_ALIAS).getEncoded());
+  }
+
+  private static String generateJwt(Key key, UserClaim userClaim) {
+    return Jwts.builder()
+        .setSubject("Bob")
+        .setExpiration(new Date(System.currentTimeMillis() + 60_000L))
+        .claim("user", userClaim)
+        .signWith(SignatureAlgorithm.RS256, key)
+        .compact();
+  }
 }
@@ -2,6 +2,7 @@ package com.symphony.bdk.core.auth.impl;
 
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
+import com.symphony.bdk.core.config.model.BdkOboCacheConfig;
 import com.symphony.bdk.core.config.model.BdkRetryConfig;
 import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.http.api.ApiRuntimeException;
@@ -19,11 +20,14 @@ import java.net.URI;
 
 import static com.symphony.bdk.core.test.BdkRetryConfigTestHelper.ofMinimalInterval;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -37,6 +41,10 @@ class AbstractOboAuthenticatorTest {
       super(retryConfig, "");
     }
 
+    public TestAbstractOboAuthenticator(BdkRetryConfig retryConfig, BdkOboCacheConfig oboCacheConfig) {
+      super(retryConfig, "", oboCacheConfig);
+    }
+
     @Override
     protected String authenticateAndRetrieveOboSessionToken(@Nonnull String appSessionToken, @Nonnull Long userId)
         throws ApiException {
@@ -245,4 +253,77 @@ class AbstractOboAuthenticatorTest {
     assertThrows(ApiRuntimeException.class, () -> authenticator.retrieveAppSessionToken());
     verify(authenticator, times(2)).authenticateAndRetrieveAppSessionToken();
   }
+
+  @Test
+  void testAppSessionTokenIsReusedWhenCacheEnabled() throws ApiException, AuthUnauthorizedException {
+    AbstractOboAuthenticator authenticator =
+        spy(new TestAbstractOboAuthenticator(ofMinimalInterval(), enabledOboCacheConfig()));
+    doReturn("appToken").when(authenticator).retrieveAppSessionToken();
+    doReturn("oboToken").when(authenticator).authenticateAndRetrieveOboSessionToken(anyString(), anyLong());
+
+    assertEquals("oboToken", authenticator.retrieveOboSessionTokenByUserId(1L));
+    assertEquals("oboToken", authenticator.retrieveOboSessionTokenByUserId(2L));
+    verify(authenticator, times(1)).retrieveAppSessionToken();
+  }
+
+  @Test
+  void testUnauthorizedOboIsNotRetriedWithTheSameAppSessionToken() throws ApiException, AuthUnauthorizedException {
+    AbstractOboAuthenticator authenticator =
+        spy(new TestAbstractOboAuthenticator(ofMinimalInterval(), enabledOboCacheConfig()));
+    doReturn("appToken").when(authenticator).retrieveAppSessionToken();
+    doThrow(new ApiException(401, "")).when(authenticator)
+        .authenticateAndRetrieveOboSessionToken(anyString(), anyString());
+
+    assertThrows(AuthUnauthorizedException.class, () -> authenticator.retrieveOboSessionTokenByUsername("username"));
+    verify(authenticator, times(1)).retrieveAppSessionToken();
+    verify(authenticator, times(1)).authenticateAndRetrieveOboSessionToken(anyString(), anyString());
+  }
+
+  @Test
+  void testUnauthorizedOboIsRetriedWithTheRenewedAppSessionToken() throws ApiException, AuthUnauthorizedException {
+    final BdkOboCacheConfig oboCacheConfig = enabledOboCacheConfig();
+    oboCacheConfig.setAppSessionTokenTtlSeconds(1);
+    AbstractOboAuthenticator authenticator =
+        spy(new TestAbstractOboAuthenticator(ofMinimalInterval(), oboCacheConfig));
+    doReturn("expiredAppToken").doReturn("appToken").when(authenticator).retrieveAppSessionToken();
+    // the app session token expires while the OBO authentication is in progress
+    doAnswer(invocation -> {
+      Thread.sleep(1100L);
+      throw new ApiException(401, "");
+    }).when(authenticator).authenticateAndRetrieveOboSessionToken(eq("expiredAppToken"), anyString());
+    doReturn("oboToken").when(authenticator).authenticateAndRetrieveOboSessionToken(eq("appToken"), anyString());
+
+    assertEquals("oboToken", authenticator.retrieveOboSessionTokenByUsername("username"));
+    verify(authenticator, times(2)).retrieveAppSessionToken();
+  }
+
+  @Test
+  void testOboSessionIsCached() throws AuthUnauthorizedException {
+    AbstractOboAuthenticator authenticator =
+        new TestAbstractOboAuthenticator(ofMinimalInterval(), enabledOboCacheConfig());
+    final AuthSession session = mock(AuthSession.class);
+
+    assertSame(session, authenticator.getOboSession("userId:1", () -> session));
+    assertSame(session, authenticator.getOboSession("userId:1", () -> mock(AuthSession.class)));
+    assertEquals(1, authenticator.getOboSessionCacheHitCount());
+    assertEquals(1, authenticator.getOboSessionCacheMissCount());
+  }
+
+  @Test
+  void testOboSessionIsNotCachedWhenCacheDisabled() throws AuthUnauthorizedException {
+    AbstractOboAuthenticator authenticator = new TestAbstractOboAuthenticator(ofMinimalInterval());
+    final AuthSession session = mock(AuthSession.class);
+
+    authenticator.getOboSession("userId:1", () -> session);
+    final AuthSession other = mock(AuthSession.class);
+
+    assertSame(other, authenticator.getOboSession("userId:1", () -> other));
+    assertEquals(0, authenticator.getOboSessionCacheHitCount());
+  }
+
+  private static BdkOboCacheConfig enabledOboCacheConfig() {
+    final BdkOboCacheConfig oboCacheConfig = new BdkOboCacheConfig();
+    oboCacheConfig.setEnabled(true);
+    return oboCacheConfig;
+  }
 }
@@ -2,25 +2,37 @@ package com.symphony.bdk.core.auth.impl;
 
 import static com.symphony.bdk.core.auth.JwtHelperTest.JWT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.symphony.bdk.core.auth.JwtHelperTest;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
+import com.symphony.bdk.core.retry.function.ConsumerWithThrowable;
 import com.symphony.bdk.core.service.version.AgentVersionService;
 import com.symphony.bdk.core.service.version.model.AgentVersion;
 import com.symphony.bdk.gen.api.model.Token;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 class AuthSessionImplTest {
 
@@ -55,7 +67,153 @@ class AuthSessionImplTest {
     final BotAuthenticatorRsaImpl auth = mock(BotAuthenticatorRsaImpl.class);
     when(auth.retrieveSessionToken()).thenReturn(token);
 
-    assertThrows(AuthUnauthorizedException.class, new AuthSessionImpl(auth)::refresh);
+    final AuthSessionImpl session = new AuthSessionImpl(auth);
+    assertThrows(AuthUnauthorizedException.class, session::refresh);
+    assertEquals(1, session.getRefreshCount());
+    assertEquals(1, session.getRefreshFailureCount());
+  }
+
+  @Test
+  void testConcurrentRefreshesAreCoalesced() throws Exception {
+    final String sessionToken = UUID.randomUUID().toString();
+    final CountDownLatch refreshStarted = new CountDownLatch(1);
+    final CountDownLatch releaseRefresh = new CountDownLatch(1);
+
+    final BotAuthenticatorRsaImpl auth = mock(BotAuthenticatorRsaImpl.class);
+    when(auth.retrieveSessionToken()).thenAnswer(invocation -> {
+      refreshStarted.countDown();
+      releaseRefresh.await(5, TimeUnit.SECONDS);
+      return getToken(sessionToken);
+    });
+    when(auth.retrieveKeyManagerToken()).thenReturn(UUID.randomUUID().toString());
+
+    final AuthSessionImpl session = new AuthSessionImpl(auth);
+    final ExecutorService executorService = Executors.newFixedThreadPool(5);
+    try {
+      final List<Future<?>> refreshes = new ArrayList<>();
+      refreshes.add(executorService.submit(() -> {
+        session.refresh();
+        return null;
+      }));
+      refreshStarted.await(5, TimeUnit.SECONDS);
+      for (int i = 0; i < 4; i++) {
+        refreshes.add(executorService.submit(() -> {
+          session.refresh();
+          return null;
+        }));
+      }
+      // let the other callers join the in-flight refresh
+      Thread.sleep(200);
+      releaseRefresh.countDown();
+
+      for (Future<?> refresh : refreshes) {
+        refresh.get(5, TimeUnit.SECONDS);
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+
+    verify(auth, times(1)).retrieveSessionToken();
+    assertEquals(sessionToken, session.getSessionToken());
+    assertEquals(1, session.getRefreshCount());
+    assertEquals(0, session.getRefreshFailureCount());
+  }
+
+  @Test
+  void testRefreshIsSkippedWhenTokensAlreadyRefreshed() throws Exception {
+    final BotAuthenticatorRsaImpl auth = mock(BotAuthenticatorRsaImpl.class);
+    when(auth.retrieveSessionToken()).thenAnswer(invocation -> getToken(UUID.randomUUID().toString()));
+    when(auth.retrieveKeyManagerToken()).thenReturn(UUID.randomUUID().toString());
+
+    final AuthSessionImpl session = new AuthSessionImpl(auth);
+    session.refresh();
+    final String usedToken = session.getSessionToken();
+
+    // another thread refreshes the session after the request has been sent with the old token
+    final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try {
+      executorService.submit(() -> {
+        session.refresh();
+        return null;
+      }).get(5, TimeUnit.SECONDS);
+    } finally {
+      executorService.shutdownNow();
+    }
+    assertEquals(2, session.getGeneration());
+
+    // the request failing with the old token does not trigger another login
+    session.refresh();
+    verify(auth, times(2)).retrieveSessionToken();
+    assertNotEquals(usedToken, session.getSessionToken());
+
+    // the retry with the new token fails too
+    session.refresh();
+    verify(auth, times(3)).retrieveSessionToken();
+    assertEquals(3, session.getGeneration());
+
+    session.refresh(1);
+    verify(auth, times(3)).retrieveSessionToken();
+  }
+
+  @Test
+  void testAttemptRefreshRunOnAnotherThreadIsSkippedWhenAlreadyRefreshed() throws Exception {
+    final BotAuthenticatorRsaImpl auth = mock(BotAuthenticatorRsaImpl.class);
+    when(auth.retrieveSessionToken()).thenAnswer(invocation -> getToken(UUID.randomUUID().toString()));
+    when(auth.retrieveKeyManagerToken()).thenReturn(UUID.randomUUID().toString());
+
+    final AuthSessionImpl session = new AuthSessionImpl(auth);
+    session.refresh();
+    final Supplier<ConsumerWithThrowable> attemptRefresh = AuthSessionImpl.attemptRefresh(session);
+
+    // the request is sent with the tokens of the first generation
+    final ConsumerWithThrowable recovery = attemptRefresh.get();
+    session.getSessionToken();
+
+    final ExecutorService executorService = Executors.newFixedThreadPool(2);
+    try {
+      // another call refreshes the session before the 401 of the request is received
+      executorService.submit(() -> {
+        session.refresh();
+        return null;
+      }).get(5, TimeUnit.SECONDS);
+      verify(auth, times(2)).retrieveSessionToken();
+
+      // the recovery runs on another thread than the one that read the tokens
+      runOn(executorService, recovery);
+      verify(auth, times(2)).retrieveSessionToken();
+
+      // the next attempt fails with the new tokens
+      final ConsumerWithThrowable nextRecovery = attemptRefresh.get();
+      runOn(executorService, nextRecovery);
+      verify(auth, times(3)).retrieveSessionToken();
+      assertEquals(3, session.getGeneration());
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  void testBackgroundRefresh() throws AuthUnauthorizedException {
+    final String sessionToken = UUID.randomUUID().toString();
+
+    final BotAuthenticatorRsaImpl auth = mock(BotAuthenticatorRsaImpl.class);
+    when(auth.retrieveSessionToken()).thenReturn(getToken(sessionToken));
+    when(auth.retrieveKeyManagerToken()).thenReturn(UUID.randomUUID().toString());
+    when(auth.isCommonJwtEnabled()).thenReturn(true);
+    when(auth.isBackgroundRefreshEnabled()).thenReturn(true);
+    when(auth.getRefreshAhead()).thenReturn(Duration.ofMinutes(1));
+    when(auth.retrieveAuthorizationToken(sessionToken)).thenReturn(JWT);
+
+    final AuthSessionImpl session = new AuthSessionImpl(auth);
+    try {
+      session.refresh();
+
+      // JWT is already expired, so the authorization token is refreshed in the background right away
+      verify(auth, timeout(5000).atLeastOnce()).retrieveAuthorizationToken(sessionToken);
+      verify(auth, times(1)).retrieveSessionToken();
+    } finally {
+      session.close();
+    }
   }
 
   @Test
@@ -217,4 +375,13 @@ class AuthSessionImplTest {
     return authToken;
   }
 
+  private static void runOn(ExecutorService executorService, ConsumerWithThrowable recovery) throws Exception {
+    executorService.submit(() -> {
+      try {
+        recovery.consume();
+      } catch (Throwable t) {
+        throw new IllegalStateException(t);
+      }
+    }).get(5, TimeUnit.SECONDS);
+  }
 }
@@ -0,0 +1,138 @@
+package com.symphony.bdk.core.auth.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import com.symphony.bdk.core.auth.AuthSession;
+import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
+import com.symphony.bdk.core.config.model.BdkOboCacheConfig;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for the {@link OboSessionCache}.
+ */
+class OboSessionCacheTest {
+
+  @Test
+  void testLeastRecentlyUsedSessionIsEvicted() throws AuthUnauthorizedException {
+    final BdkOboCacheConfig config = new BdkOboCacheConfig();
+    config.setMaxSize(2);
+    final OboSessionCache cache = new OboSessionCache(config);
+    final AuthSession first = mock(AuthSession.class);
+    final AuthSession second = mock(AuthSession.class);
+
+    cache.get("first", () -> first);
+    cache.get("second", () -> second);
+    // first becomes the most recently used one
+    cache.get("first", () -> mock(AuthSession.class));
+    cache.get("third", () -> mock(AuthSession.class));
+
+    assertEquals(2, cache.size());
+    assertSame(first, cache.get("first", () -> mock(AuthSession.class)));
+    assertNotSame(second, cache.get("second", () -> mock(AuthSession.class)));
+  }
+
+  @Test
+  void testExpiredSessionIsReloaded() throws AuthUnauthorizedException {
+    final BdkOboCacheConfig config = new BdkOboCacheConfig();
+    config.setTtlSeconds(0);
+    final OboSessionCache cache = new OboSessionCache(config);
+    final AuthSession session = mock(AuthSession.class);
+    final AuthSession reloaded = mock(AuthSession.class);
+
+    cache.get("key", () -> session);
+
+    assertSame(reloaded, cache.get("key", () -> reloaded));
+    assertEquals(0, cache.getHitCount());
+    assertEquals(2, cache.getMissCount());
+  }
+
+  @Test
+  void testConcurrentMissesAreLoadedOnce() throws Exception {
+    final OboSessionCache cache = new OboSessionCache(new BdkOboCacheConfig());
+    final AuthSession session = mock(AuthSession.class);
+    final AtomicInteger loads = new AtomicInteger();
+    final CountDownLatch release = new CountDownLatch(1);
+    final OboSessionCache.SessionLoader loader = () -> {
+      loads.incrementAndGet();
+      await(release);
+      return session;
+    };
+
+    final ExecutorService executor = Executors.newFixedThreadPool(5);
+    try {
+      final List<Future<AuthSession>> results = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        results.add(executor.submit(() -> cache.get("key", loader)));
+      }
+      awaitMisses(cache, 5);
+      release.countDown();
+
+      for (Future<AuthSession> result : results) {
+        assertSame(session, result.get(5, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(1, loads.get());
+    assertEquals(5, cache.getMissCount());
+    assertEquals(0, cache.getHitCount());
+  }
+
+  @Test
+  void testConcurrentMissesShareTheFailure() throws Exception {
+    final OboSessionCache cache = new OboSessionCache(new BdkOboCacheConfig());
+    final CountDownLatch release = new CountDownLatch(1);
+    final OboSessionCache.SessionLoader loader = () -> {
+      await(release);
+      throw new AuthUnauthorizedException("failure");
+    };
+
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final Future<AuthSession> first = executor.submit(() -> cache.get("key", loader));
+      final Future<AuthSession> second = executor.submit(() -> cache.get("key", loader));
+      awaitMisses(cache, 2);
+      release.countDown();
+
+      for (Future<AuthSession> result : List.of(first, second)) {
+        final Exception e = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertEquals(AuthUnauthorizedException.class, e.getCause().getClass());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // the failed authentication is not cached
+    final AuthSession session = mock(AuthSession.class);
+    assertSame(session, cache.get("key", () -> session));
+  }
+
+  private static void awaitMisses(OboSessionCache cache, long misses) throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + 10_000L;
+    while (cache.getMissCount() < misses && System.currentTimeMillis() < deadline) {
+      Thread.sleep(1);
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -1,7 +1,11 @@
 package com.symphony.bdk.core.client;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -15,6 +19,8 @@ import com.symphony.bdk.core.config.model.BdkLoadBalancingMode;
 import com.symphony.bdk.core.config.model.BdkProxyConfig;
 import com.symphony.bdk.core.config.model.BdkServerConfig;
 import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiClientBuilder;
+import com.symphony.bdk.http.api.metrics.ApiClientMetrics;
 import com.symphony.bdk.http.jersey2.ApiClientBuilderJersey2;
 import com.symphony.bdk.http.jersey2.ApiClientJersey2;
 
@@ -83,6 +89,23 @@ class ApiClientFactoryTest {
     assertEquals("https://lb-agent-host:443/agent", agentClient.getBasePath());
   }
 
+  @Test
+  void testCloseClosesCreatedClients() {
+    final ApiClient podClient = mock(ApiClient.class);
+    final ApiClient agentClient = mock(ApiClient.class);
+    final ApiClientBuilder builder = mock(ApiClientBuilder.class);
+    when(builder.build()).thenReturn(podClient, agentClient);
+    final ApiClientFactory factory = spy(new ApiClientFactory(this.createConfig()));
+    doReturn(builder).when(factory).getApiClientBuilder(any(), any());
+
+    factory.getPodClient();
+    factory.getAgentClient();
+    factory.close();
+
+    verify(podClient).close();
+    verify(agentClient).close();
+  }
+
   @Test
   void testGetPodClient() {
     final ApiClient podClient = this.factory.getPodClient();
@@ -257,6 +280,10 @@ class ApiClientFactoryTest {
     config.setConnectionPoolPerRoute(connectionPoolPerRoute);
     config.setReadTimeout(readTimeout);
     config.setConnectionTimeout(connectionTimeout);
+    config.setConnectionIdleTimeout(30_000);
+    config.setConnectionMaxLifetime(300_000);
+    config.setConnectionPoolPendingAcquireMax(100);
+    config.setMaxInMemorySize(1_048_576);
 
     final ApiClientBuilderJersey2 apiClientBuilder = spy(new ApiClientBuilderJersey2());
     new ApiClientFactory(config, () -> apiClientBuilder).getLoginClient();
@@ -265,6 +292,33 @@ class ApiClientFactoryTest {
     verify(apiClientBuilder, times(1)).withConnectionPoolPerRoute(connectionPoolPerRoute);
     verify(apiClientBuilder, times(1)).withReadTimeout(readTimeout);
     verify(apiClientBuilder, times(1)).withConnectionTimeout(connectionTimeout);
+    verify(apiClientBuilder, times(1)).withConnectionIdleTimeout(30_000);
+    verify(apiClientBuilder, times(1)).withConnectionMaxLifetime(300_000);
+    verify(apiClientBuilder, times(1)).withConnectionPoolPendingAcquireMax(100);
+    verify(apiClientBuilder, times(1)).withMaxInMemorySize(1_048_576);
+  }
+
+  @Test
+  void testVirtualThreadsConfig() {
+    final BdkConfig config = this.createConfig();
+    config.getThreading().setVirtualThreads(true);
+
+    final ApiClientBuilderJersey2 apiClientBuilder = spy(new ApiClientBuilderJersey2());
+    new ApiClientFactory(config, () -> apiClientBuilder).getLoginClient();
+
+    verify(apiClientBuilder, times(1)).withVirtualThreads(true);
+  }
+
+  @Test
+  void testMetrics() {
+    final ApiClientMetrics metrics = new ApiClientMetrics() {};
+
+    final ApiClientBuilderJersey2 apiClientBuilder = spy(new ApiClientBuilderJersey2());
+    final ApiClientFactory factory = new ApiClientFactory(this.createConfig(), () -> apiClientBuilder, metrics);
+    factory.getPodClient();
+
+    verify(apiClientBuilder, times(1)).withMetrics(metrics);
+    assertEquals(metrics, factory.getMetrics());
   }
 
   private BdkConfig createConfigWithCertificateAndTrustStore(String trustStorePath, String trustStorePassword) {
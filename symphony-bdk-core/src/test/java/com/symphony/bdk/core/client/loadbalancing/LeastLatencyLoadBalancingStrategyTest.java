@@ -0,0 +1,154 @@
+package com.symphony.bdk.core.client.loadbalancing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.symphony.bdk.core.config.model.BdkServerConfig;
+import com.symphony.bdk.gen.api.SignalsApi;
+import com.symphony.bdk.gen.api.model.AgentInfo;
+import com.symphony.bdk.http.api.ApiException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test class for the {@link LeastLatencyLoadBalancingStrategy}.
+ */
+class LeastLatencyLoadBalancingStrategyTest {
+
+  private static final String AGENT_1 = "https://agent1:443";
+  private static final String AGENT_2 = "https://agent2:443";
+  private static final String AGENT_3 = "https://agent3:443";
+
+  private SignalsApi signalsApi;
+  private List<BdkServerConfig> nodes;
+
+  @BeforeEach
+  void setUp() {
+    this.signalsApi = mock(SignalsApi.class);
+    this.nodes = Stream.of("agent1", "agent2", "agent3").map(host -> {
+      BdkServerConfig serverConfig = new BdkServerConfig();
+      serverConfig.setHost(host);
+      return serverConfig;
+    }).collect(Collectors.toList());
+  }
+
+  @Test
+  void testSlowNodeIsAvoided() {
+    LeastLatencyLoadBalancingStrategy strategy = new LeastLatencyLoadBalancingStrategy(nodes, b -> signalsApi, 30_000L,
+        Runnable::run);
+    strategy.recordCall(AGENT_1, 10, true);
+    strategy.recordCall(AGENT_2, 15, true);
+    strategy.recordCall(AGENT_3, 2000, true);
+
+    Map<String, Long> basePaths = Stream.generate(strategy::getNewBasePath).limit(1000)
+        .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+    // the slowest node is never the best of two choices
+    assertNull(basePaths.get(AGENT_3));
+    assertTrue(basePaths.get(AGENT_1) > basePaths.get(AGENT_2));
+  }
+
+  @Test
+  void testFailingNodeIsEjected() {
+    LeastLatencyLoadBalancingStrategy strategy = new LeastLatencyLoadBalancingStrategy(nodes, b -> signalsApi, 30_000L,
+        Runnable::run);
+    for (int i = 0; i < LeastLatencyLoadBalancingStrategy.EJECTION_THRESHOLD; i++) {
+      strategy.recordCall(AGENT_1, 1, false);
+    }
+
+    assertTrue(strategy.isEjected(AGENT_1));
+    assertTrue(Stream.generate(strategy::getNewBasePath).limit(100).noneMatch(AGENT_1::equals));
+  }
+
+  @Test
+  void testSuccessResetsConsecutiveFailures() {
+    LeastLatencyLoadBalancingStrategy strategy = new LeastLatencyLoadBalancingStrategy(nodes, b -> signalsApi, 30_000L,
+        Runnable::run);
+    strategy.recordCall(AGENT_1, 1, false);
+    strategy.recordCall(AGENT_1, 1, false);
+    strategy.recordCall(AGENT_1, 1, true);
+    strategy.recordCall(AGENT_1, 1, false);
+
+    assertFalse(strategy.isEjected(AGENT_1));
+    assertTrue(strategy.scoreOf(AGENT_1) > 1.0);
+  }
+
+  @Test
+  void testEjectedNodeIsReinstatedAfterSuccessfulProbe() throws ApiException {
+    when(signalsApi.v1InfoGet()).thenReturn(new AgentInfo());
+    LeastLatencyLoadBalancingStrategy strategy = new LeastLatencyLoadBalancingStrategy(nodes, b -> signalsApi, 0L,
+        Runnable::run);
+    for (int i = 0; i < LeastLatencyLoadBalancingStrategy.EJECTION_THRESHOLD; i++) {
+      strategy.recordCall(AGENT_1, 1, false);
+    }
+
+    strategy.getNewBasePath();
+
+    verify(signalsApi).v1InfoGet();
+    assertFalse(strategy.isEjected(AGENT_1));
+  }
+
+  @Test
+  void testEjectedNodeStaysEjectedAfterFailedProbe() throws ApiException {
+    when(signalsApi.v1InfoGet()).thenThrow(new ApiException(503, "unavailable"));
+    LeastLatencyLoadBalancingStrategy strategy = new LeastLatencyLoadBalancingStrategy(nodes, b -> signalsApi, 0L,
+        Runnable::run);
+    for (int i = 0; i < LeastLatencyLoadBalancingStrategy.EJECTION_THRESHOLD; i++) {
+      strategy.recordCall(AGENT_1, 1, false);
+    }
+
+    strategy.getNewBasePath();
+
+    verify(signalsApi).v1InfoGet();
+    assertTrue(strategy.isEjected(AGENT_1));
+  }
+
+  @Test
+  void testProbeDoesNotBlockNodeSelection() throws ApiException {
+    when(signalsApi.v1InfoGet()).thenReturn(new AgentInfo());
+    final List<Runnable> probes = new ArrayList<>();
+    LeastLatencyLoadBalancingStrategy strategy = new LeastLatencyLoadBalancingStrategy(nodes, b -> signalsApi, 0L,
+        probes::add);
+    for (int i = 0; i < LeastLatencyLoadBalancingStrategy.EJECTION_THRESHOLD; i++) {
+      strategy.recordCall(AGENT_1, 1, false);
+    }
+
+    // the node is skipped while being probed, and probed only once
+    assertTrue(Stream.generate(strategy::getNewBasePath).limit(100).noneMatch(AGENT_1::equals));
+    assertEquals(1, probes.size());
+    verify(signalsApi, never()).v1InfoGet();
+
+    probes.get(0).run();
+
+    assertFalse(strategy.isEjected(AGENT_1));
+  }
+
+  @Test
+  void testAllNodesEjected() throws ApiException {
+    LeastLatencyLoadBalancingStrategy strategy = new LeastLatencyLoadBalancingStrategy(nodes, b -> signalsApi, 30_000L,
+        Runnable::run);
+    for (String basePath : Arrays.asList(AGENT_1, AGENT_2, AGENT_3)) {
+      for (int i = 0; i < LeastLatencyLoadBalancingStrategy.EJECTION_THRESHOLD; i++) {
+        strategy.recordCall(basePath, 1, false);
+      }
+    }
+
+    assertTrue(Arrays.asList(AGENT_1, AGENT_2, AGENT_3).contains(strategy.getNewBasePath()));
+    verify(signalsApi, never()).v1InfoGet();
+  }
+}
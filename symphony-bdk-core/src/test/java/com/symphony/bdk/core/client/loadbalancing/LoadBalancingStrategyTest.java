@@ -51,6 +51,12 @@ class LoadBalancingStrategyTest {
     assertEquals(ExternalLoadBalancingStrategy.class, loadBalancingStrategy.getClass());
   }
 
+  @Test
+  void testNewInstanceLeastLatencyLB() {
+    LoadBalancingStrategy loadBalancingStrategy = getLoadBalancingStrategy(BdkLoadBalancingMode.LEAST_LATENCY);
+    assertEquals(LeastLatencyLoadBalancingStrategy.class, loadBalancingStrategy.getClass());
+  }
+
   @Test
   void testRoundRobinLbStrategy() {
     LoadBalancingStrategy loadBalancingStrategy = getLoadBalancingStrategy(BdkLoadBalancingMode.ROUND_ROBIN,
@@ -86,7 +92,8 @@ class LoadBalancingStrategyTest {
         .thenReturn(mockApiClient.getApiClient("/agent"));
 
     BdkConfig config = getBdkConfig(BdkLoadBalancingMode.EXTERNAL, Collections.singletonList("agent-lb"));
-    LoadBalancingStrategy instance = LoadBalancingStrategyFactory.getInstance(config, apiClientFactory);
+    LoadBalancingStrategy instance = LoadBalancingStrategyFactory.getInstance(config, apiClientFactory,
+        apiClientFactory::getRegularAgentClient);
 
     assertEquals("https://agent1:443/context", instance.getNewBasePath());
   }
@@ -140,7 +147,9 @@ class LoadBalancingStrategyTest {
 
   private LoadBalancingStrategy getLoadBalancingStrategy(BdkLoadBalancingMode mode, List<String> hosts) {
     BdkConfig bdkConfig = getBdkConfig(mode, hosts);
-    return LoadBalancingStrategyFactory.getInstance(bdkConfig, new ApiClientFactory(new BdkConfig()));
+    ApiClientFactory apiClientFactory = new ApiClientFactory(new BdkConfig());
+    return LoadBalancingStrategyFactory.getInstance(bdkConfig, apiClientFactory,
+        apiClientFactory::getRegularAgentClient);
   }
 
   private BdkConfig getBdkConfig(BdkLoadBalancingMode mode, List<String> hosts) {
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -25,9 +26,11 @@ import com.symphony.bdk.http.api.util.TypeReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 class RegularLoadBalancedApiClientTest {
 
@@ -133,13 +136,81 @@ class RegularLoadBalancedApiClientTest {
     loadBalancedApiClient.invokeAPI(path, method, queryParams, body, headerParams, cookieParams, formParams, accept,
         contentType, authNames, returnType);
 
-    //getRegularAgentClient called by loadBalancedApiClient.rotate() in constructor and in invokeApi
-    verify(apiClientFactory, times(2)).getRegularAgentClient(eq("https://agent-host:443"));
+    //getRegularAgentClient called by loadBalancedApiClient.rotate() in constructor only, then reused in invokeApi
+    verify(apiClientFactory, times(1)).getRegularAgentClient(eq("https://agent-host:443"));
     verify(apiClient).invokeAPI(eq(path), eq(method), eq(queryParams), eq(body), eq(headerParams), eq(cookieParams),
         eq(formParams), eq(accept), eq(contentType), eq(authNames), eq(returnType));
     verify(loadBalancedApiClient, times(1)).rotate();
   }
 
+  @Test
+  public void testApiClientIsCreatedOncePerNode() throws ApiException {
+    final BdkServerConfig otherNode = new BdkServerConfig();
+    otherNode.setHost("other-agent-host");
+    config.getAgent().getLoadBalancing().setNodes(Arrays.asList(config.getAgent().getLoadBalancing().getNodes().get(0),
+        otherNode));
+    config.getAgent().getLoadBalancing().setStickiness(false);
+    RegularLoadBalancedApiClient loadBalancedApiClient = new RegularLoadBalancedApiClient(config, apiClientFactory);
+
+    for (int i = 0; i < 5; i++) {
+      loadBalancedApiClient.invokeAPI(path, method, queryParams, body, headerParams, cookieParams, formParams, accept,
+          contentType, authNames, returnType);
+    }
+
+    verify(apiClientFactory, times(1)).getRegularAgentClient(eq("https://agent-host:443"));
+    verify(apiClientFactory, times(1)).getRegularAgentClient(eq("https://other-agent-host:443"));
+    verify(apiClient, times(5)).invokeAPI(eq(path), eq(method), eq(queryParams), eq(body), eq(headerParams),
+        eq(cookieParams), eq(formParams), eq(accept), eq(contentType), eq(authNames), eq(returnType));
+  }
+
+  @Test
+  public void testInvokeApiOutcomeIsRecorded() throws ApiException {
+    RegularLoadBalancedApiClient loadBalancedApiClient =
+        spy(new RegularLoadBalancedApiClient(config, apiClientFactory));
+    when(apiClient.invokeAPI(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), eq(returnType)))
+        .thenReturn(null)
+        .thenThrow(new ApiException(400, "bad request"))
+        .thenThrow(new ApiException(503, "unavailable"));
+
+    loadBalancedApiClient.invokeAPI(path, method, queryParams, body, headerParams, cookieParams, formParams, accept,
+        contentType, authNames, returnType);
+    assertThrows(ApiException.class, () -> loadBalancedApiClient.invokeAPI(path, method, queryParams, body,
+        headerParams, cookieParams, formParams, accept, contentType, authNames, returnType));
+    assertThrows(ApiException.class, () -> loadBalancedApiClient.invokeAPI(path, method, queryParams, body,
+        headerParams, cookieParams, formParams, accept, contentType, authNames, returnType));
+
+    // client errors are not the node's fault
+    verify(loadBalancedApiClient, times(2)).recordCall(eq(apiClient), anyLong(), eq(true));
+    verify(loadBalancedApiClient, times(1)).recordCall(eq(apiClient), anyLong(), eq(false));
+  }
+
+  @Test
+  public void testInvokeApiAsyncOutcomeIsRecorded() {
+    RegularLoadBalancedApiClient loadBalancedApiClient =
+        spy(new RegularLoadBalancedApiClient(config, apiClientFactory));
+    when(apiClient.invokeAPIAsync(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), eq(returnType)))
+        .thenReturn(CompletableFuture.completedFuture(null))
+        .thenReturn(CompletableFuture.failedFuture(new ApiException(400, "bad request")))
+        .thenReturn(CompletableFuture.failedFuture(new ApiException(503, "unavailable")));
+
+    for (int i = 0; i < 3; i++) {
+      loadBalancedApiClient.invokeAPIAsync(path, method, queryParams, body, headerParams, cookieParams, formParams,
+          accept, contentType, authNames, returnType);
+    }
+
+    verify(loadBalancedApiClient, times(2)).recordCall(eq(apiClient), anyLong(), eq(true));
+    verify(loadBalancedApiClient, times(1)).recordCall(eq(apiClient), anyLong(), eq(false));
+  }
+
+  @Test
+  public void testCloseClosesNodeApiClients() {
+    RegularLoadBalancedApiClient loadBalancedApiClient = new RegularLoadBalancedApiClient(config, apiClientFactory);
+
+    loadBalancedApiClient.close();
+
+    verify(apiClient).close();
+  }
+
   @Test
   public void testGetBasePath(){
     when(apiClient.getBasePath()).thenReturn("/pod");
@@ -0,0 +1,204 @@
+package com.symphony.bdk.core.retry.resilience4j;
+
+import static com.symphony.bdk.core.test.BdkRetryConfigTestHelper.ofMinimalInterval;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.symphony.bdk.core.config.model.BdkRetryConfig;
+import com.symphony.bdk.core.retry.RecoveryStrategy;
+import com.symphony.bdk.core.retry.function.SupplierWithApiException;
+import com.symphony.bdk.http.api.ApiException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for the {@link Resilience4jAsyncRetryWithRecovery}.
+ */
+class Resilience4jAsyncRetryWithRecoveryTest {
+
+  private static final String ADDRESS = "localhost.symphony.com";
+
+  private ScheduledExecutorService scheduler;
+
+  @BeforeEach
+  void setUp() {
+    this.scheduler = Executors.newSingleThreadScheduledExecutor();
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.scheduler.shutdownNow();
+  }
+
+  @Test
+  void testSupplierWithNoExceptionReturnsValue() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+
+    final Resilience4jAsyncRetryWithRecovery<String> r = retry(ofMinimalInterval(), () -> {
+      calls.incrementAndGet();
+      return CompletableFuture.completedFuture("value");
+    }, Collections.emptyList());
+
+    assertEquals("value", r.execute().get(1, TimeUnit.SECONDS));
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void testFailedFutureShouldRetry() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+
+    final Resilience4jAsyncRetryWithRecovery<String> r = retry(ofMinimalInterval(), () -> calls.incrementAndGet() == 1
+        ? CompletableFuture.failedFuture(new ApiException(503, "error"))
+        : CompletableFuture.completedFuture("value"), Collections.emptyList());
+
+    assertEquals("value", r.execute().get(1, TimeUnit.SECONDS));
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void testThrownExceptionShouldRetry() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+
+    final Resilience4jAsyncRetryWithRecovery<String> r = retry(ofMinimalInterval(), () -> {
+      if (calls.incrementAndGet() == 1) {
+        throw new ApiException(503, "error");
+      }
+      return CompletableFuture.completedFuture("value");
+    }, Collections.emptyList());
+
+    assertEquals("value", r.execute().get(1, TimeUnit.SECONDS));
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void testMaxAttemptsReachedShouldFailWithException() {
+    final AtomicInteger calls = new AtomicInteger();
+    final BdkRetryConfig retryConfig = ofMinimalInterval();
+
+    final Resilience4jAsyncRetryWithRecovery<String> r = retry(retryConfig, () -> {
+      calls.incrementAndGet();
+      return CompletableFuture.failedFuture(new ApiException(503, "error"));
+    }, Collections.emptyList());
+
+    final ExecutionException exception =
+        assertThrows(ExecutionException.class, () -> r.execute().get(1, TimeUnit.SECONDS));
+    assertTrue(exception.getCause() instanceof ApiException);
+    assertEquals(retryConfig.getMaxAttempts(), calls.get());
+  }
+
+  @Test
+  void testNonRetryableExceptionShouldNotRetry() {
+    final AtomicInteger calls = new AtomicInteger();
+
+    final Resilience4jAsyncRetryWithRecovery<String> r = retry(ofMinimalInterval(), () -> {
+      calls.incrementAndGet();
+      return CompletableFuture.failedFuture(new ApiException(400, "error"));
+    }, Collections.emptyList());
+
+    assertThrows(ExecutionException.class, () -> r.execute().get(1, TimeUnit.SECONDS));
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void testIgnoredExceptionShouldReturnNull() throws Exception {
+    final Resilience4jAsyncRetryWithRecovery<String> r = new Resilience4jAsyncRetryWithRecovery<>("name", ADDRESS,
+        ofMinimalInterval(), () -> CompletableFuture.failedFuture(new ApiException(404, "error")),
+        t -> true, e -> e instanceof ApiException && ((ApiException) e).getCode() == 404, Collections.emptyList(),
+        this.scheduler);
+
+    assertNull(r.execute().get(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testRecoveryIsRunBeforeRetrying() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+    final AtomicInteger recoveries = new AtomicInteger();
+
+    final Resilience4jAsyncRetryWithRecovery<String> r = retry(ofMinimalInterval(), () -> recoveries.get() == 0
+            ? CompletableFuture.failedFuture(new ApiException(401, "error"))
+            : CompletableFuture.completedFuture("value"),
+        Collections.singletonList(new RecoveryStrategy(ApiException.class, ApiException::isUnauthorized, () -> {
+          calls.incrementAndGet();
+          recoveries.incrementAndGet();
+        })));
+
+    assertEquals("value", r.execute().get(1, TimeUnit.SECONDS));
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void testAttemptRecoveryIsBoundWhenTheAttemptStarts() throws Exception {
+    final AtomicInteger generation = new AtomicInteger();
+    final List<Integer> recoveredGenerations = new CopyOnWriteArrayList<>();
+
+    final Resilience4jAsyncRetryWithRecovery<String> r = retry(ofMinimalInterval(), () -> {
+          // e.g. the session is refreshed by another call while this one is in flight
+          if (generation.incrementAndGet() == 1) {
+            return CompletableFuture.failedFuture(new ApiException(401, "error"));
+          }
+          return CompletableFuture.completedFuture("value");
+        },
+        Collections.singletonList(RecoveryStrategy.perAttempt(ApiException.class, ApiException::isUnauthorized, () -> {
+          final int attemptGeneration = generation.get();
+          return () -> recoveredGenerations.add(attemptGeneration);
+        })));
+
+    assertEquals("value", r.execute().get(1, TimeUnit.SECONDS));
+    assertEquals(Collections.singletonList(0), recoveredGenerations);
+  }
+
+  @Test
+  void testBlockingRecoveryDoesNotDelayOtherRetries() throws Exception {
+    final CountDownLatch recoveryStarted = new CountDownLatch(1);
+    final CountDownLatch releaseRecovery = new CountDownLatch(1);
+    final AtomicInteger recoveries = new AtomicInteger();
+
+    final Resilience4jAsyncRetryWithRecovery<String> blocked = retry(ofMinimalInterval(), () -> recoveries.get() == 0
+            ? CompletableFuture.failedFuture(new ApiException(401, "error"))
+            : CompletableFuture.completedFuture("recovered"),
+        Collections.singletonList(new RecoveryStrategy(ApiException.class, ApiException::isUnauthorized, () -> {
+          recoveryStarted.countDown();
+          releaseRecovery.await();
+          recoveries.incrementAndGet();
+        })));
+    final CompletableFuture<String> blockedResult = blocked.execute();
+    assertTrue(recoveryStarted.await(1, TimeUnit.SECONDS));
+
+    try {
+      final AtomicInteger calls = new AtomicInteger();
+      final Resilience4jAsyncRetryWithRecovery<String> other = retry(ofMinimalInterval(), () ->
+          calls.incrementAndGet() == 1
+              ? CompletableFuture.failedFuture(new ApiException(503, "error"))
+              : CompletableFuture.completedFuture("value"), Collections.emptyList());
+
+      // the retry is due while the recovery is still running
+      assertEquals("value", other.execute().get(1, TimeUnit.SECONDS));
+      assertEquals(2, calls.get());
+    } finally {
+      releaseRecovery.countDown();
+    }
+    assertEquals("recovered", blockedResult.get(1, TimeUnit.SECONDS));
+  }
+
+  private Resilience4jAsyncRetryWithRecovery<String> retry(BdkRetryConfig retryConfig,
+      SupplierWithApiException<CompletableFuture<String>> supplier, List<RecoveryStrategy> recoveries) {
+    return new Resilience4jAsyncRetryWithRecovery<>("name", ADDRESS, retryConfig, supplier,
+        t -> t instanceof ApiException && (((ApiException) t).isServerError() || ((ApiException) t).isUnauthorized()),
+        e -> false, recoveries, this.scheduler);
+  }
+}
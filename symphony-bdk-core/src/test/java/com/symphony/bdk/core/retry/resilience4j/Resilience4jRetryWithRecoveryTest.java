@@ -2,11 +2,13 @@ package com.symphony.bdk.core.retry.resilience4j;
 
 import com.symphony.bdk.core.config.model.BdkRetryConfig;
 import com.symphony.bdk.core.retry.RecoveryStrategy;
+import com.symphony.bdk.core.retry.RetryWithRecovery;
 import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
 import com.symphony.bdk.core.retry.function.ConsumerWithThrowable;
 import com.symphony.bdk.core.retry.function.SupplierWithApiException;
 import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.http.api.ApiRuntimeException;
+import io.github.resilience4j.retry.Retry;
 import jakarta.ws.rs.ProcessingException;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
@@ -19,7 +21,9 @@ import java.util.Collections;
 
 import static com.symphony.bdk.core.test.BdkRetryConfigTestHelper.ofMinimalInterval;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
@@ -317,4 +321,53 @@ class Resilience4jRetryWithRecoveryTest {
     assertThrows(RuntimeException.class,
         () -> Resilience4jRetryWithRecovery.executeAndRetry(new RetryWithRecoveryBuilder<String>(), "test", "serviceName", supplier));
   }
+
+  @Test
+  void testRetryIsSharedByCallsOfSameName() {
+    final RetryWithRecoveryBuilder<?> builder = new RetryWithRecoveryBuilder<>().retryConfig(ofMinimalInterval());
+
+    final Retry retry = getRetry(builder.build("name", "localhost.symphony.com", () -> ""));
+
+    assertSame(retry, getRetry(builder.build("name", "localhost.symphony.com", () -> "")));
+    assertSame(retry, getRetry(RetryWithRecoveryBuilder.<String>from(builder).name("name").build()));
+    assertSame(retry, getRetry(RetryWithRecoveryBuilder.copyWithoutRecoveryStrategies(builder)
+        .build("name", "localhost.symphony.com", () -> "")));
+    assertNotSame(retry, getRetry(builder.build("otherName", "localhost.symphony.com", () -> "")));
+  }
+
+  @Test
+  void testRetryIsNotSharedWithDifferentConfiguration() {
+    final RetryWithRecoveryBuilder<?> builder = new RetryWithRecoveryBuilder<>().retryConfig(ofMinimalInterval());
+    final Retry retry = getRetry(builder.build("name", "localhost.symphony.com", () -> ""));
+
+    assertNotSame(retry, getRetry(RetryWithRecoveryBuilder.copyWithoutRecoveryStrategies(builder)
+        .retryConfig(ofMinimalInterval(3))
+        .build("name", "localhost.symphony.com", () -> "")));
+    assertNotSame(retry, getRetry(RetryWithRecoveryBuilder.copyWithoutRecoveryStrategies(builder)
+        .retryOnException(t -> false)
+        .build("name", "localhost.symphony.com", () -> "")));
+    assertSame(retry, getRetry(builder.build("name", "localhost.symphony.com", () -> "")));
+  }
+
+  /**
+   * Whatever the number of calls, a single retry policy is created, see also the RetryWithRecoveryBenchmark.
+   */
+  @Test
+  void testExecuteAndRetryReusesRetryPolicy() throws ApiException {
+    final RetryWithRecoveryBuilder<?> builder = new RetryWithRecoveryBuilder<>().retryConfig(ofMinimalInterval(2));
+    SupplierWithApiException<String> supplier = mock(ConcreteSupplier.class);
+    when(supplier.get()).thenThrow(new ApiException(500, "")).thenReturn("value");
+
+    for (int i = 0; i < 1000; i++) {
+      assertEquals("value", Resilience4jRetryWithRecovery.executeAndRetry(builder, "test", "serviceName", supplier));
+    }
+
+    final Retry.Metrics metrics = getRetry(builder.build("test", "serviceName", supplier)).getMetrics();
+    assertEquals(999, metrics.getNumberOfSuccessfulCallsWithoutRetryAttempt());
+    assertEquals(1, metrics.getNumberOfSuccessfulCallsWithRetryAttempt());
+  }
+
+  private static Retry getRetry(RetryWithRecovery<?> retryWithRecovery) {
+    return ((Resilience4jRetryWithRecovery<?>) retryWithRecovery).getRetry();
+  }
 }
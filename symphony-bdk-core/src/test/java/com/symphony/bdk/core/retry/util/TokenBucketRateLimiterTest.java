@@ -0,0 +1,66 @@
+package com.symphony.bdk.core.retry.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.symphony.bdk.core.config.model.BdkRateLimitConfig;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test class for the {@link TokenBucketRateLimiter}.
+ */
+class TokenBucketRateLimiterTest {
+
+  private AtomicLong clock;
+  private BdkRateLimitConfig config;
+
+  @BeforeEach
+  void setUp() {
+    this.clock = new AtomicLong();
+    this.config = new BdkRateLimitConfig();
+    this.config.setPermitsPerSecond(10);
+    this.config.setBurst(2);
+  }
+
+  @Test
+  void shouldLetBurstThrough() {
+    final TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(this.config, this.clock::get);
+
+    assertThat(rateLimiter.reserve()).isZero();
+    assertThat(rateLimiter.reserve()).isZero();
+    assertThat(rateLimiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    assertThat(rateLimiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+  }
+
+  @Test
+  void shouldRefillAtConfiguredRate() {
+    final TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(this.config, this.clock::get);
+    rateLimiter.reserve();
+    rateLimiter.reserve();
+
+    this.clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+    assertThat(rateLimiter.reserve()).isZero();
+    assertThat(rateLimiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+  }
+
+  @Test
+  void shouldNotStoreMoreThanBurst() {
+    final TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(this.config, this.clock::get);
+
+    this.clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+    assertThat(rateLimiter.reserve()).isZero();
+    assertThat(rateLimiter.reserve()).isZero();
+    assertThat(rateLimiter.reserve()).isPositive();
+  }
+
+  @Test
+  void shouldFailWhenDisabled() {
+    this.config.setPermitsPerSecond(0);
+    assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(this.config));
+  }
+}
@@ -7,6 +7,8 @@ import com.symphony.bdk.core.config.BdkConfigLoader;
 import com.symphony.bdk.core.config.exception.BdkConfigException;
 import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.core.config.model.BdkDatafeedConfig;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
+import com.symphony.bdk.core.service.datafeed.DatafeedStatistics;
 import com.symphony.bdk.core.service.datafeed.EventException;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.exception.NestedRetryException;
@@ -22,6 +24,7 @@ import com.symphony.bdk.gen.api.model.V5DatafeedCreateBody;
 import com.symphony.bdk.gen.api.model.V5EventList;
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
 import jakarta.ws.rs.ProcessingException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,7 +35,9 @@ import org.mockito.Mockito;
 
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -40,15 +45,21 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.symphony.bdk.core.test.BdkRetryConfigTestHelper.ofMinimalInterval;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -122,6 +133,73 @@ class DatafeedLoopV2Test {
     verify(datafeedApi, times(1)).readDatafeed(DATAFEED_ID, TOKEN, TOKEN, ackId);
   }
 
+  @Test
+  void testStartRecordsMetrics() throws ApiException, AuthUnauthorizedException {
+    DatafeedMetrics metrics = mock(DatafeedMetrics.class);
+    when(metrics.forLoop("datafeed")).thenReturn(metrics);
+    this.datafeedService.setMetrics(metrics);
+
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(DATAFEED_ID, TOKEN, TOKEN, new AckId().ackId("")))
+        .thenReturn(new V5EventList().addEventsItem(
+            new V4Event().type(RealTimeEventType.MESSAGESENT.name()).timestamp(System.currentTimeMillis() - 1000L)
+                .payload(new V4Payload().messageSent(new V4MessageSent()))).ackId("ack-id"));
+
+    this.datafeedService.start();
+
+    verify(metrics).recordRead(eq(1), anyLong());
+    verify(metrics).recordEventAge(eq(RealTimeEventType.MESSAGESENT.name()), longThat(age -> age >= 1000L));
+    verify(metrics).recordDispatch(eq(RealTimeEventType.MESSAGESENT.name()), eq(listener), anyLong());
+    verify(metrics).recordProcessing(anyLong());
+    verify(metrics).recordAck(anyLong());
+    verify(metrics, never()).recordRequeue();
+
+    DatafeedStatistics statistics = this.datafeedService.statistics();
+    assertEquals(1, statistics.getReads());
+    assertEquals(1, statistics.getEvents());
+    assertEquals(1, statistics.getLastBatchSize());
+    assertTrue(statistics.getLastEventAgeMillis() >= 1000L);
+    assertEquals(0, statistics.getRequeues());
+  }
+
+  @Test
+  void testStartWithLazyPayload() throws Exception {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setLazyPayload(true);
+    ApiClient datafeedApiClient = mock(ApiClient.class);
+    when(datafeedApiClient.getBasePath()).thenReturn("/agent/");
+    when(datafeedApiClient.escapeString(DATAFEED_ID)).thenReturn(DATAFEED_ID);
+    when(datafeedApi.getApiClient()).thenReturn(datafeedApiClient);
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApiClient.invokeAPI(eq("/v5/datafeeds/" + DATAFEED_ID + "/read"), eq("POST"), any(), any(), any(),
+        any(), any(), any(), any(), any(), any())).thenReturn(new ApiResponse<>(200, Collections.emptyMap(),
+        ("{\"events\": [{\"type\": \"MESSAGESENT\", \"initiator\": {\"user\": {\"userId\": 1}}, "
+            + "\"payload\": {\"messageSent\": {\"message\": {\"messageId\": \"msg-1\"}}}}], "
+            + "\"ackId\": \"ack-id\"}").getBytes(StandardCharsets.UTF_8)));
+
+    final DatafeedLoopV2 loop = new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig, mock(UserV2.class));
+    final AtomicReference<String> messageId = new AtomicReference<>();
+    loop.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        messageId.set(event.getMessage().getMessageId());
+        loop.stop();
+      }
+    });
+    loop.start();
+
+    assertEquals("msg-1", messageId.get());
+    assertEquals("ack-id", loop.getAckId());
+    verify(datafeedApi, never()).readDatafeed(any(), any(), any(), any());
+  }
+
   @ParameterizedTest
   @ValueSource(strings = {"abc", "abc_def", "abc_p_def", "abc_f_"})
   void testStartInvalidExistingFeeds(String invalidExistingFeedId) throws ApiException, AuthUnauthorizedException {
@@ -328,6 +406,148 @@ class DatafeedLoopV2Test {
     verify(datafeedApi, times(2)).readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("")));
     verify(datafeedApi, never()).readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("ack-id2")));
     assertEquals("ack-id", datafeedService.getAckId());
+    assertEquals(1, datafeedService.statistics().getRequeues());
+  }
+
+  @Test
+  void testStartListenerFails_requeueEventWithParallelDispatch() throws Exception {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().getDispatcher().setEnabled(true);
+    this.datafeedService = new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig, mock(UserV2.class));
+
+    List<V5Datafeed> datafeeds = new ArrayList<>();
+    datafeeds.add(new V5Datafeed().id(DATAFEED_ID));
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(datafeeds);
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId(""))))
+        .thenReturn(new V5EventList().addEventsItem(
+            new V4Event().type(RealTimeEventType.MESSAGESENT.name())
+                .payload(new V4Payload().messageSent(new V4MessageSent()))).ackId("ack-id"));
+
+    AtomicBoolean firstCall = new AtomicBoolean(true);
+    this.datafeedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        if (firstCall.get()) {
+          firstCall.set(false);
+          // will not update ack id
+          throw new EventException("failure");
+        } else {
+          datafeedService.stop();
+        }
+      }
+    });
+    this.datafeedService.start();
+
+    // the ack id should stay the same since we did not process the first event
+    verify(datafeedApi, times(2)).readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("")));
+    assertEquals("ack-id", datafeedService.getAckId());
+  }
+
+  @Test
+  void testStartWithReadAhead() throws Exception {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().setReadAhead(1);
+    this.datafeedService = new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig, mock(UserV2.class));
+
+    CountDownLatch nextReadStarted = new CountDownLatch(1);
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null))
+        .thenReturn(Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId(""))))
+        .thenReturn(new V5EventList().addEventsItem(
+            new V4Event().type(RealTimeEventType.MESSAGESENT.name())
+                .payload(new V4Payload().messageSent(new V4MessageSent()))).ackId("ack-id"))
+        .thenAnswer(invocation -> {
+          nextReadStarted.countDown();
+          return new V5EventList().ackId("ack-id2");
+        });
+
+    AtomicBoolean readOverlapped = new AtomicBoolean();
+    this.datafeedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        try {
+          // the next read is performed while this event is being handled, using the last committed ack id
+          readOverlapped.set(nextReadStarted.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        datafeedService.stop();
+      }
+    });
+    this.datafeedService.start();
+
+    assertTrue(readOverlapped.get());
+    verify(datafeedApi, atLeast(2)).readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("")));
+  }
+
+  @Test
+  void testReadAheadSendsEachAckIdInOrder() throws Exception {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().setReadAhead(1);
+    this.datafeedService = new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig, mock(UserV2.class));
+
+    CountDownLatch firstBatchReleased = new CountDownLatch(1);
+    CountDownLatch fifthReadStarted = new CountDownLatch(1);
+    List<String> sentAckIds = Collections.synchronizedList(new ArrayList<>());
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null))
+        .thenReturn(Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any(AckId.class))).thenAnswer(invocation -> {
+      sentAckIds.add(invocation.getArgument(3, AckId.class).getAckId());
+      final int read = sentAckIds.size();
+      if (read == 3) {
+        // both first batches get handled before the next read
+        firstBatchReleased.countDown();
+        for (int i = 0; i < 500 && !"a2".equals(datafeedService.getAckId()); i++) {
+          Thread.sleep(10);
+        }
+      } else if (read == 5) {
+        fifthReadStarted.countDown();
+      }
+      // only the first three batches contain an event
+      final V5EventList eventList = new V5EventList().ackId("a" + read);
+      return read > 3 ? eventList : eventList.addEventsItem(new V4Event().type(RealTimeEventType.MESSAGESENT.name())
+          .payload(new V4Payload().messageSent(new V4MessageSent())));
+    });
+
+    AtomicInteger handledBatches = new AtomicInteger();
+    this.datafeedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        try {
+          final int batch = handledBatches.incrementAndGet();
+          if (batch == 1) {
+            firstBatchReleased.await(5, TimeUnit.SECONDS);
+          } else if (batch == 3) {
+            fifthReadStarted.await(5, TimeUnit.SECONDS);
+            datafeedService.stop();
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+    this.datafeedService.start();
+
+    // the ack ids of the first and second batches are both sent, one per read
+    assertEquals(Arrays.asList("", "", "", "a1", "a2"), sentAckIds.subList(0, 5));
   }
 
   private ArgumentMatcher<AckId> eqAckId(String ackId) {
@@ -384,6 +604,7 @@ class DatafeedLoopV2Test {
     verify(datafeedApi, times(1)).deleteDatafeed(DATAFEED_ID, TOKEN, TOKEN);
     verify(datafeedApi, times(1)).createDatafeed(eq(TOKEN), eq(TOKEN), any());
     verify(datafeedApi, times(1)).readDatafeed(secondDatafeedId, TOKEN, TOKEN, initialAckId);
+    assertEquals(1, datafeedService.statistics().getRecreations());
   }
 
   @Test
@@ -0,0 +1,169 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.symphony.bdk.core.config.model.BdkDispatcherConfig;
+import com.symphony.bdk.core.service.datafeed.EventException;
+import com.symphony.bdk.gen.api.model.V4ConnectionAccepted;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Payload;
+import com.symphony.bdk.gen.api.model.V4Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * Test class for the {@link ParallelEventDispatcher}.
+ */
+class ParallelEventDispatcherTest {
+
+  private ParallelEventDispatcher dispatcher;
+
+  @BeforeEach
+  void setUp() {
+    final BdkDispatcherConfig config = new BdkDispatcherConfig();
+    config.setEnabled(true);
+    config.setWorkers(4);
+    config.setQueueSize(10);
+    config.setBatchTimeoutMillis(1000L);
+    this.dispatcher = new ParallelEventDispatcher(config);
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.dispatcher.shutdown();
+  }
+
+  @Test
+  void testEventsOfSameStreamAreDispatchedInOrder() {
+    final List<V4Event> events = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      events.add(messageSent("event-" + i, "stream-" + (i % 3)));
+    }
+    final Map<String, List<String>> dispatched = new ConcurrentHashMap<>();
+
+    this.dispatcher.dispatch(events, (event, eventType) -> dispatched
+        .computeIfAbsent(ParallelEventDispatcher.streamIdOf(eventType, event), k -> new CopyOnWriteArrayList<>())
+        .add(event.getId()));
+
+    for (int stream = 0; stream < 3; stream++) {
+      final int streamIndex = stream;
+      final List<String> expected = events.stream()
+          .filter(e -> e.getPayload().getMessageSent().getMessage().getStream().getStreamId()
+              .equals("stream-" + streamIndex))
+          .map(V4Event::getId)
+          .collect(Collectors.toList());
+      assertEquals(expected, dispatched.get("stream-" + stream));
+    }
+  }
+
+  @Test
+  void testUnsupportedEventsAreSkipped() {
+    final List<String> dispatched = new CopyOnWriteArrayList<>();
+
+    this.dispatcher.dispatch(Arrays.asList(new V4Event().id("unknown").type("UNKNOWN"), messageSent("id", "stream")),
+        (event, eventType) -> dispatched.add(event.getId()));
+
+    assertThat(dispatched).containsExactly("id");
+  }
+
+  @Test
+  void testRequeueEventExceptionIsPropagated() {
+    final V4Event event = messageSent("id", "stream");
+
+    assertThatThrownBy(() -> this.dispatcher.dispatch(Collections.singletonList(event), (e, eventType) -> {
+      throw new RequeueEventException(e, null, new EventException("failure"));
+    })).isInstanceOf(RequeueEventException.class).hasCauseInstanceOf(EventException.class);
+  }
+
+  @Test
+  void testBatchTimeoutRaisesRequeueEventException() {
+    final V4Event event = messageSent("id", "stream");
+
+    assertThatThrownBy(() -> this.dispatcher.dispatch(Collections.singletonList(event), (e, eventType) -> {
+      try {
+        Thread.sleep(5000L);
+      } catch (InterruptedException interruptedException) {
+        Thread.currentThread().interrupt();
+      }
+    })).isInstanceOf(RequeueEventException.class);
+  }
+
+  @Test
+  void testDispatchAfterShutdownRaisesRequeueEventException() {
+    this.dispatcher.shutdown();
+
+    assertThatThrownBy(() -> this.dispatcher.dispatch(Collections.singletonList(messageSent("id", "stream")),
+        (e, eventType) -> {})).isInstanceOf(RequeueEventException.class);
+  }
+
+  @Test
+  void testShutdownReleasesDispatchWaitingForASlot() {
+    final BdkDispatcherConfig config = new BdkDispatcherConfig();
+    config.setEnabled(true);
+    config.setWorkers(1);
+    config.setQueueSize(1);
+    config.setBatchTimeoutMillis(30000L);
+    final ParallelEventDispatcher blockedDispatcher = new ParallelEventDispatcher(config);
+    // one event being handled, one queued and the last one waiting for a slot when the dispatcher is shut down
+    final List<V4Event> events =
+        Arrays.asList(messageSent("1", "stream"), messageSent("2", "stream"), messageSent("3", "stream"));
+    final Thread shutdown = new Thread(() -> {
+      try {
+        Thread.sleep(200L);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      blockedDispatcher.shutdown();
+    });
+    shutdown.start();
+
+    final long start = System.currentTimeMillis();
+    assertThatThrownBy(() -> blockedDispatcher.dispatch(events, (e, eventType) -> {
+      try {
+        Thread.sleep(30000L);
+      } catch (InterruptedException interruptedException) {
+        Thread.currentThread().interrupt();
+      }
+    })).isInstanceOf(RequeueEventException.class);
+    assertThat(System.currentTimeMillis() - start).isLessThan(10000L);
+  }
+
+  @Test
+  void testStreamIdOfEventWithoutStream() {
+    final V4Event event = new V4Event().type(RealTimeEventType.CONNECTIONACCEPTED.name())
+        .payload(new V4Payload().connectionAccepted(new V4ConnectionAccepted()));
+
+    assertNull(ParallelEventDispatcher.streamIdOf(RealTimeEventType.CONNECTIONACCEPTED, event));
+    assertNull(ParallelEventDispatcher.streamIdOf(RealTimeEventType.MESSAGESENT, new V4Event()));
+  }
+
+  @Test
+  void testInvalidConfiguration() {
+    final BdkDispatcherConfig config = new BdkDispatcherConfig();
+    config.setWorkers(0);
+
+    assertThatThrownBy(() -> new ParallelEventDispatcher(config)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static V4Event messageSent(String eventId, String streamId) {
+    return new V4Event().id(eventId).type(RealTimeEventType.MESSAGESENT.name())
+        .payload(new V4Payload().messageSent(
+            new V4MessageSent().message(new V4Message().stream(new V4Stream().streamId(streamId)))));
+  }
+}
@@ -0,0 +1,111 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.model.UserV2;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4RoomCreated;
+import com.symphony.bdk.gen.api.model.V4UserJoinedRoom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+
+/**
+ * Test class for the {@link RealTimeEventListenerRegistry}.
+ */
+class RealTimeEventListenerRegistryTest {
+
+  private RealTimeEventListenerRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    this.registry = new RealTimeEventListenerRegistry();
+  }
+
+  @Test
+  void testHandledEventTypes() {
+    final RealTimeEventListener listener = new RealTimeEventListener() {
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+      }
+    };
+
+    // a mock overrides all the callbacks
+    final RealTimeEventListener allEventsListener = mock(RealTimeEventListener.class);
+
+    assertThat(RealTimeEventListenerRegistry.handledEventTypes(listener.getClass()))
+        .containsExactly(RealTimeEventType.MESSAGESENT);
+    assertThat(RealTimeEventListenerRegistry.handledEventTypes(allEventsListener.getClass()))
+        .containsExactlyInAnyOrderElementsOf(Arrays.asList(RealTimeEventType.values()));
+  }
+
+  @Test
+  void testListenersAreIndexedByHandledEventTypes() {
+    final RealTimeEventListener messageListener = new RealTimeEventListener() {
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+      }
+    };
+    final RealTimeEventListener roomListener = new RealTimeEventListener() {
+      @Override
+      public void onRoomCreated(V4Initiator initiator, V4RoomCreated event) {
+      }
+
+      @Override
+      public void onUserJoinedRoom(V4Initiator initiator, V4UserJoinedRoom event) {
+      }
+    };
+
+    this.registry.add(messageListener);
+    this.registry.add(roomListener);
+
+    assertThat(this.registry.listenersFor(RealTimeEventType.MESSAGESENT)).containsExactly(messageListener);
+    assertThat(this.registry.listenersFor(RealTimeEventType.ROOMCREATED)).containsExactly(roomListener);
+    assertThat(this.registry.listenersFor(RealTimeEventType.USERJOINEDROOM)).containsExactly(roomListener);
+    assertThat(this.registry.listenersFor(RealTimeEventType.CONNECTIONACCEPTED)).isEmpty();
+  }
+
+  @Test
+  void testListenerWithoutCallbackHandlesAllEventTypes() {
+    final RealTimeEventListener listener = new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+    };
+
+    this.registry.add(listener);
+
+    for (RealTimeEventType eventType : EnumSet.allOf(RealTimeEventType.class)) {
+      assertThat(this.registry.listenersFor(eventType)).containsExactly(listener);
+    }
+  }
+
+  @Test
+  void testRemoveListener() {
+    final RealTimeEventListener first = new RealTimeEventListener() {
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+      }
+    };
+    final RealTimeEventListener second = new RealTimeEventListener() {
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+      }
+    };
+    this.registry.add(first);
+    this.registry.add(second);
+
+    this.registry.remove(first);
+    this.registry.remove(first);
+
+    assertThat(this.registry.listenersFor(RealTimeEventType.MESSAGESENT)).containsExactly(second);
+  }
+}
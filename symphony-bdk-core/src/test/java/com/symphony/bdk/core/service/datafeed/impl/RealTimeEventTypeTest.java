@@ -0,0 +1,63 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.symphony.bdk.core.service.datafeed.EventPayload;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Modifier;
+
+/**
+ * Test class for the {@link RealTimeEventType}.
+ */
+class RealTimeEventTypeTest {
+
+  @Test
+  void testProxyDelegatesToOriginalEvent() {
+    final V4MessageSent messageSent = new V4MessageSent().message(new V4Message().messageId("msgId"));
+
+    final V4MessageSent proxy = RealTimeEventType.proxy(messageSent, new V4Event().timestamp(1234L));
+
+    assertTrue(proxy instanceof EventPayload);
+    assertEquals(1234L, ((EventPayload) proxy).getEventTimestamp());
+    assertEquals("msgId", proxy.getMessage().getMessageId());
+  }
+
+  @Test
+  void testProxyClassIsGeneratedOncePerEventType() {
+    final V4MessageSent first = new V4MessageSent().message(new V4Message().messageId("first"));
+    final V4MessageSent second = new V4MessageSent().message(new V4Message().messageId("second"));
+
+    final V4MessageSent firstProxy = RealTimeEventType.proxy(first, new V4Event().timestamp(1L));
+    final V4MessageSent secondProxy = RealTimeEventType.proxy(second, new V4Event().timestamp(2L));
+
+    assertSame(firstProxy.getClass(), secondProxy.getClass());
+    assertNotSame(firstProxy, secondProxy);
+    assertEquals("first", firstProxy.getMessage().getMessageId());
+    assertEquals("second", secondProxy.getMessage().getMessageId());
+    assertEquals(1L, ((EventPayload) firstProxy).getEventTimestamp());
+    assertEquals(2L, ((EventPayload) secondProxy).getEventTimestamp());
+  }
+
+  @Test
+  void testProxyDelegateIsNotExposed() throws NoSuchFieldException, JsonProcessingException {
+    final V4MessageSent messageSent = new V4MessageSent().message(new V4Message().messageId("msgId"));
+
+    final V4MessageSent proxy = RealTimeEventType.proxy(messageSent, new V4Event().timestamp(1234L));
+
+    assertTrue(Modifier.isPrivate(proxy.getClass().getDeclaredField("delegate").getModifiers()));
+    final String json = new ObjectMapper().writeValueAsString(proxy);
+    assertFalse(json.contains("delegate"));
+    assertTrue(json.contains("msgId"));
+  }
+}
@@ -0,0 +1,138 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.symphony.bdk.gen.api.model.AckId;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Payload;
+import com.symphony.bdk.gen.api.model.V5EventList;
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+class StreamingEventListReaderTest {
+
+  private static final String EVENTS = "{\n"
+      + "  \"events\": [\n"
+      + "    {\n"
+      + "      \"id\": \"event-1\",\n"
+      + "      \"timestamp\": 1234,\n"
+      + "      \"type\": \"MESSAGESENT\",\n"
+      + "      \"initiator\": {\"user\": {\"userId\": 42, \"displayName\": \"Jane\"}},\n"
+      + "      \"payload\": {\"messageSent\": {\"message\": {\"messageId\": \"msg-1\",\n"
+      + "        \"stream\": {\"streamId\": \"stream-1\"}}}},\n"
+      + "      \"unknownProperty\": {\"nested\": [1, 2]}\n"
+      + "    },\n"
+      + "    {\n"
+      + "      \"type\": \"USERJOINEDROOM\",\n"
+      + "      \"payload\": null\n"
+      + "    }\n"
+      + "  ],\n"
+      + "  \"ackId\": \"ack-id\"\n"
+      + "}";
+
+  @Test
+  void shouldBindPayloadLazily() throws IOException {
+    final V5EventList eventList = StreamingEventListReader.read(EVENTS.getBytes(StandardCharsets.UTF_8));
+
+    assertThat(eventList.getAckId()).isEqualTo("ack-id");
+    assertThat(eventList.getEvents()).hasSize(2);
+
+    final V4Event event = eventList.getEvents().get(0);
+    assertThat(event.getId()).isEqualTo("event-1");
+    assertThat(event.getTimestamp()).isEqualTo(1234L);
+    assertThat(event.getType()).isEqualTo("MESSAGESENT");
+    assertThat(event.getInitiator().getUser().getUserId()).isEqualTo(42L);
+    assertThat(((LazyV4Event) event).hasPendingPayload()).isTrue();
+
+    final V4Payload payload = event.getPayload();
+    assertThat(((LazyV4Event) event).hasPendingPayload()).isFalse();
+    assertThat(payload.getMessageSent().getMessage().getMessageId()).isEqualTo("msg-1");
+    assertThat(payload.getMessageSent().getMessage().getStream().getStreamId()).isEqualTo("stream-1");
+    assertThat(event.getPayload()).isSameAs(payload);
+
+    final V4Event secondEvent = eventList.getEvents().get(1);
+    assertThat(secondEvent.getType()).isEqualTo("USERJOINEDROOM");
+    assertThat(secondEvent.getPayload()).isNull();
+  }
+
+  @Test
+  void shouldBeEqualOnceBound() throws IOException {
+    final byte[] body = EVENTS.getBytes(StandardCharsets.UTF_8);
+    final V4Event first = StreamingEventListReader.read(body).getEvents().get(0);
+    final V4Event second = StreamingEventListReader.read(body).getEvents().get(0);
+
+    assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+    assertThat(first.toString()).contains("msg-1");
+  }
+
+  @Test
+  void shouldReplacePendingPayload() throws IOException {
+    final V4Event event = StreamingEventListReader.read(EVENTS.getBytes(StandardCharsets.UTF_8)).getEvents().get(0);
+    final V4Payload payload = new V4Payload();
+
+    event.payload(payload);
+
+    assertThat(event.getPayload()).isSameAs(payload);
+  }
+
+  @Test
+  void shouldReadEmptyBodies() throws IOException {
+    assertThat(StreamingEventListReader.read(null)).isNull();
+    assertThat(StreamingEventListReader.read(new byte[0])).isNull();
+    assertThat(StreamingEventListReader.read("null".getBytes(StandardCharsets.UTF_8))).isNull();
+    assertThat(StreamingEventListReader.read("{\"events\": null}".getBytes(StandardCharsets.UTF_8)).getEvents())
+        .isNull();
+  }
+
+  @Test
+  void shouldFailOnInvalidBody() {
+    assertThatThrownBy(() -> StreamingEventListReader.read("[]".getBytes(StandardCharsets.UTF_8)))
+        .isInstanceOf(IOException.class);
+    assertThatThrownBy(() -> StreamingEventListReader.read("{\"events\": {}}".getBytes(StandardCharsets.UTF_8)))
+        .isInstanceOf(IOException.class);
+  }
+
+  @Test
+  void shouldReadDatafeed() throws ApiException {
+    final ApiClient apiClient = mock(ApiClient.class);
+    when(apiClient.escapeString("abc_f_def")).thenReturn("abc_f_def");
+    when(apiClient.parameterToString(anyString())).thenAnswer(i -> i.getArgument(0));
+    when(apiClient.invokeAPI(eq("/v5/datafeeds/abc_f_def/read"), eq("POST"), any(), any(), any(), any(), any(), any(),
+        any(), any(), any())).thenReturn(new ApiResponse<>(200, Collections.emptyMap(),
+        EVENTS.getBytes(StandardCharsets.UTF_8)));
+
+    final AckId ackId = new AckId().ackId("previous-ack-id");
+    final V5EventList eventList =
+        new StreamingEventListReader(apiClient).readDatafeed("abc_f_def", "session", "km", ackId);
+
+    assertThat(eventList.getEvents()).hasSize(2);
+    verify(apiClient).invokeAPI(eq("/v5/datafeeds/abc_f_def/read"), eq("POST"), any(), eq(ackId),
+        eq(Map.of("sessionToken", "session", "keyManagerToken", "km")), any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void shouldFailOnInvalidResponse() throws ApiException {
+    final ApiClient apiClient = mock(ApiClient.class);
+    when(apiClient.invokeAPI(eq("/v5/events/read"), eq("POST"), any(), any(), any(), any(), any(), any(), any(),
+        any(), any())).thenReturn(new ApiResponse<>(200, Collections.emptyMap(),
+        "{\"events\"".getBytes(StandardCharsets.UTF_8)));
+
+    assertThatThrownBy(() -> new StreamingEventListReader(apiClient).readEvents("session", "km", null))
+        .isInstanceOf(ApiException.class);
+  }
+}
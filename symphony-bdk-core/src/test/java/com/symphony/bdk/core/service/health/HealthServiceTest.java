@@ -9,6 +9,7 @@ import static org.mockito.Mockito.when;
 
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatafeedStatistics;
 import com.symphony.bdk.core.test.MockApiClient;
 import com.symphony.bdk.gen.api.SignalsApi;
 import com.symphony.bdk.gen.api.SystemApi;
@@ -159,4 +160,18 @@ public class HealthServiceTest {
     when(df.lastPullTimestamp()).thenReturn(Instant.now().minusSeconds(10).toEpochMilli());
     assertThat(this.service.datafeedHealthCheck()).isEqualTo(V3HealthStatus.UP);
   }
+
+  @Test
+  void datafeedStatistics_notSet_empty() {
+    assertThat(this.service.datafeedStatistics()).isSameAs(DatafeedStatistics.EMPTY);
+  }
+
+  @Test
+  void datafeedStatistics_fromLoop() {
+    DatafeedLoop df = mock(DatafeedLoop.class);
+    DatafeedStatistics statistics = new DatafeedStatistics(2, 5, 3, 100, 20, 25, 40, 1, 0);
+    this.service.setDatafeedLoop(df);
+    when(df.statistics()).thenReturn(statistics);
+    assertThat(this.service.datafeedStatistics()).isSameAs(statistics);
+  }
 }
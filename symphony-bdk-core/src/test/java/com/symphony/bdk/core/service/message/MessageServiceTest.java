@@ -1,17 +1,21 @@
 package com.symphony.bdk.core.service.message;
 
+import static com.symphony.bdk.core.test.BdkRetryConfigTestHelper.ofMinimalInterval;
 import static com.symphony.bdk.core.util.IdUtil.fromUrlSafeId;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -46,6 +50,7 @@ import com.symphony.bdk.gen.api.model.V4Stream;
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiClientBodyPart;
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
 import com.symphony.bdk.http.api.ApiRuntimeException;
 import com.symphony.bdk.template.api.TemplateEngine;
 
@@ -68,6 +73,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -224,6 +232,68 @@ class MessageServiceTest {
     assertEquals("gXFV8vN37dNqjojYS_y2wX___o2KxfmUdA", sentMessage.getStream().getStreamId());
   }
 
+  @Test
+  void testSendAsyncRetriesOnServerError() throws Exception {
+    final ApiClient agentClient = mockAsyncAgentClient();
+    when(agentClient.invokeAPIAsync(eq("/v4/stream/" + STREAM_ID + "/message/create"), eq("POST"), any(), any(), any(),
+        any(), any(), any(), any(), any(), any()))
+        .thenReturn(CompletableFuture.failedFuture(new ApiException(503, "unavailable")))
+        .thenReturn(CompletableFuture.completedFuture(
+            new ApiResponse<>(200, Collections.emptyMap(), new V4Message().messageId(MESSAGE_ID))));
+
+    final V4Message sentMessage = asyncMessageService(agentClient)
+        .sendAsync(STREAM_ID, Message.builder().content(MESSAGE).build())
+        .get(1, TimeUnit.SECONDS);
+
+    assertEquals(MESSAGE_ID, sentMessage.getMessageId());
+    verify(agentClient, times(2)).invokeAPIAsync(anyString(), eq("POST"), any(), any(), any(), any(), any(), any(),
+        any(), any(), any());
+  }
+
+  @Test
+  void testSendAsyncClientErrorIsNotRetried() throws Exception {
+    final ApiClient agentClient = mockAsyncAgentClient();
+    when(agentClient.invokeAPIAsync(anyString(), eq("POST"), any(), any(), any(), any(), any(), any(), any(), any(),
+        any())).thenReturn(CompletableFuture.failedFuture(new ApiException(400, "bad request")));
+
+    final CompletableFuture<V4Message> sentMessage = asyncMessageService(agentClient)
+        .sendAsync(new V4Stream().streamId(STREAM_ID), Message.builder().content(MESSAGE).build());
+
+    final ExecutionException exception =
+        assertThrows(ExecutionException.class, () -> sentMessage.get(1, TimeUnit.SECONDS));
+    assertTrue(exception.getCause() instanceof ApiRuntimeException);
+    assertEquals(400, ((ApiRuntimeException) exception.getCause()).getCode());
+    verify(agentClient, times(1)).invokeAPIAsync(anyString(), eq("POST"), any(), any(), any(), any(), any(), any(),
+        any(), any(), any());
+  }
+
+  @Test
+  void testDefaultSendAsyncCallsSend() throws Exception {
+    final OboMessageService service = mock(OboMessageService.class, CALLS_REAL_METHODS);
+    final Message message = Message.builder().content(MESSAGE).build();
+    doReturn(new V4Message().messageId(MESSAGE_ID)).when(service).send(STREAM_ID, message);
+    doThrow(new ApiRuntimeException(new ApiException(400, "bad request"))).when(service).send("unknown", message);
+
+    assertEquals(MESSAGE_ID,
+        service.sendAsync(new V4Stream().streamId(STREAM_ID), message).get(1, TimeUnit.SECONDS).getMessageId());
+    final ExecutionException exception = assertThrows(ExecutionException.class,
+        () -> service.sendAsync("unknown", message).get(1, TimeUnit.SECONDS));
+    assertTrue(exception.getCause() instanceof ApiRuntimeException);
+  }
+
+  private ApiClient mockAsyncAgentClient() {
+    final ApiClient agentClient = mock(ApiClient.class);
+    when(agentClient.getBasePath()).thenReturn("/agent");
+    when(agentClient.escapeString(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+    return agentClient;
+  }
+
+  private MessageService asyncMessageService(ApiClient agentClient) {
+    return new MessageService(new MessagesApi(agentClient), messageApi, messageSuppressionApi, streamsApi, podApi,
+        attachmentsApi, defaultApi, authSession, templateEngine,
+        new RetryWithRecoveryBuilder<>().retryConfig(ofMinimalInterval()));
+  }
+
   @Test
   void testSendWithStreamObjectCallsSendWithStreamId() {
     MessageService service = spy(messageService);
@@ -54,6 +54,15 @@ public class MessageParserTest {
     assertEquals("{grinning=\uD83D\uDE00}", emojisMap.toString());
   }
 
+  @Test
+  public void testReturnedEntitiesAreCopies() throws MessageParserException {
+    MessageParser.getHashtags(message).clear();
+    MessageParser.getEmojis(message).put("smile", "\uD83D\uDE04");
+
+    assertEquals(List.of("bot"), MessageParser.getHashtags(message));
+    assertEquals(1, MessageParser.getEmojis(message).size());
+  }
+
   @Test
   public void testEmptyData() throws MessageParserException {
     when(message.getData()).thenReturn("");
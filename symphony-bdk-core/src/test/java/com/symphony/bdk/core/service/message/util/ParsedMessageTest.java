@@ -0,0 +1,111 @@
+package com.symphony.bdk.core.service.message.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.symphony.bdk.core.activity.parsing.Hashtag;
+import com.symphony.bdk.core.activity.parsing.Mention;
+import com.symphony.bdk.core.activity.parsing.SlashCommandPattern;
+import com.symphony.bdk.core.service.message.exception.MessageParserException;
+import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
+import com.symphony.bdk.gen.api.model.V4Message;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+
+/**
+ * Test class for the {@link ParsedMessage}.
+ */
+class ParsedMessageTest {
+
+  private static final String PRESENTATION_ML = "<div data-format=\"PresentationML\" data-version=\"2.0\">"
+      + "<span class=\"entity\" data-entity-id=\"0\">@bot</span> /command   "
+      + "<span class=\"entity\" data-entity-id=\"1\">#tag</span></div>";
+  private static final String DATA = "{\"0\":{\"id\":[{\"type\":\"com.symphony.user.userId\",\"value\":\"12345\"}],"
+      + "\"type\":\"com.symphony.user.mention\"},"
+      + "\"1\":{\"id\":[{\"type\":\"org.symphonyoss.taxonomy.hashtag\",\"value\":\"tag\"}],"
+      + "\"type\":\"org.symphonyoss.taxonomy\"}}";
+
+  @Test
+  void testMessageIsParsedOnce() throws PresentationMLParserException, MessageParserException {
+    final V4Message message = new V4Message().message(PRESENTATION_ML).data(DATA);
+
+    final ParsedMessage parsedMessage = ParsedMessage.of(message);
+
+    assertThat(ParsedMessage.of(message)).isSameAs(parsedMessage);
+    assertThat(parsedMessage.getTextContent()).isEqualTo("@bot /command   #tag");
+    assertThat(parsedMessage.getTokens()).hasSize(3);
+    assertThat(parsedMessage.getTokens().get(0)).isInstanceOf(Mention.class);
+    assertThat(parsedMessage.getTokens().get(2)).isInstanceOf(Hashtag.class);
+    assertThat(parsedMessage.getTokens()).isSameAs(ParsedMessage.of(message).getTokens());
+    assertThat(parsedMessage.getMentions()).containsExactly(12345L);
+    assertThat(parsedMessage.getHashtags()).containsExactly("tag");
+    assertThat(parsedMessage.getCashtags()).isEmpty();
+    assertThat(parsedMessage.getEmojis()).isEmpty();
+  }
+
+  @Test
+  void testUpdatedMessageIsParsedAgain() throws PresentationMLParserException {
+    final V4Message message = new V4Message().message(PRESENTATION_ML).data(DATA);
+    final ParsedMessage parsedMessage = ParsedMessage.of(message);
+    assertThat(parsedMessage.getTextContent()).isEqualTo("@bot /command   #tag");
+
+    message.setMessage("<div data-format=\"PresentationML\" data-version=\"2.0\">/other</div>");
+
+    assertThat(ParsedMessage.of(message)).isNotSameAs(parsedMessage);
+    assertThat(ParsedMessage.of(message).getTextContent()).isEqualTo("/other");
+  }
+
+  @Test
+  void testEqualMessagesAreParsedSeparately() {
+    final V4Message message = new V4Message().message(PRESENTATION_ML).data(DATA);
+    final V4Message otherMessage = new V4Message().message(PRESENTATION_ML).data(DATA);
+
+    assertThat(ParsedMessage.of(message)).isNotSameAs(ParsedMessage.of(otherMessage));
+  }
+
+  @Test
+  void testCacheDoesNotRetainMessages() throws InterruptedException {
+    V4Message message = new V4Message().message(PRESENTATION_ML).data(DATA);
+    final WeakReference<ParsedMessage> parsedMessage = new WeakReference<>(ParsedMessage.of(message));
+    message = null;
+
+    for (int i = 0; i < 50 && parsedMessage.get() != null; i++) {
+      System.gc();
+      Thread.sleep(20);
+      // the entries of the collected messages are released on lookup
+      ParsedMessage.of(new V4Message().message(PRESENTATION_ML).data(DATA));
+    }
+
+    assertThat(parsedMessage.get()).isNull();
+  }
+
+  @Test
+  void testInvalidData() {
+    final V4Message message = new V4Message().message(PRESENTATION_ML).data("Unparsable json");
+
+    assertThatThrownBy(() -> ParsedMessage.of(message).getMentions()).isInstanceOf(MessageParserException.class);
+  }
+
+  /**
+   * Whatever the number of slash commands matched against a message, its tokens are computed only once, see also
+   * the ParsedMessageBenchmark.
+   */
+  @ParameterizedTest
+  @ValueSource(ints = {10, 100, 500})
+  void testTokensAreSharedByAllCommands(int commands) throws PresentationMLParserException, MessageParserException {
+    final V4Message message = new V4Message().message(PRESENTATION_ML).data(DATA);
+    final List<Object> tokens = ParsedMessage.of(message).getTokens();
+
+    for (int i = 0; i < commands; i++) {
+      new SlashCommandPattern("{@bot} /command" + i + " {#tag}").getMatchResult(message);
+    }
+
+    assertThat(ParsedMessage.of(message).getTokens()).isSameAs(tokens);
+    assertThat(new SlashCommandPattern("{@bot} /command {#tag}").getMatchResult(message).isMatching()).isTrue();
+  }
+}
@@ -18,8 +18,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -208,6 +210,57 @@ class CursorBasedPaginatedServiceTest {
   }
 
 
+  @Test
+  void testServicePrefetchesNextChunk() throws ApiException {
+    final String next = "next";
+    when(paginatedApi.get(any(), anyInt()))
+        .thenReturn(new TestCursorPaginatedPayload(next, Arrays.asList("a", "b")))
+        .thenReturn(new TestCursorPaginatedPayload(null, Arrays.asList("c", "d")));
+
+    final int chunkSize = 2;
+    final Iterator<String> iterator =
+        new CursorBasedPaginatedService<>(paginatedApi, chunkSize, 5, 1, Runnable::run).stream().iterator();
+
+    assertEquals("a", iterator.next());
+    // the second chunk was fetched along with the first one
+    verify(paginatedApi, times(1)).get(null, chunkSize);
+    verify(paginatedApi, times(1)).get(next, chunkSize);
+
+    final List<String> result = new ArrayList<>();
+    iterator.forEachRemaining(result::add);
+    assertEquals(Arrays.asList("b", "c", "d"), result);
+    verifyNoMoreInteractions(paginatedApi);
+  }
+
+  @Test
+  void testServiceDoesNotPrefetchAfterMaxSize() throws ApiException {
+    when(paginatedApi.get(any(), anyInt()))
+        .thenReturn(new TestCursorPaginatedPayload("next", Arrays.asList("a", "b")));
+
+    final int chunkSize = 2;
+    final List<String> result = new CursorBasedPaginatedService<>(paginatedApi, chunkSize, 2, 1, Runnable::run)
+        .stream()
+        .collect(Collectors.toList());
+
+    assertEquals(Arrays.asList("a", "b"), result);
+    verify(paginatedApi, times(1)).get(null, chunkSize);
+    verifyNoMoreInteractions(paginatedApi);
+  }
+
+  @Test
+  void testPrefetchedChunkThrowsApiException() throws ApiException {
+    final String next = "next";
+    when(paginatedApi.get(any(), anyInt()))
+        .thenReturn(new TestCursorPaginatedPayload(next, Arrays.asList("a", "b")))
+        .thenThrow(new ApiException(500, "error"));
+
+    final Iterator<String> iterator = new CursorBasedPaginatedService<>(paginatedApi, 2, 5, 1).stream().iterator();
+
+    assertEquals("a", iterator.next());
+    assertEquals("b", iterator.next());
+    assertThrows(ApiRuntimeException.class, iterator::hasNext);
+  }
+
   private List<String> getAllItems(int chunkSize, int maxSize) {
     return new CursorBasedPaginatedService<>(paginatedApi, chunkSize, maxSize)
         .stream()
@@ -1,13 +1,18 @@
 package com.symphony.bdk.core.service.pagination;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiRuntimeException;
+import com.symphony.bdk.http.api.util.VirtualThreads;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,8 +23,17 @@ import org.mockito.quality.Strictness;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +49,18 @@ class OffsetBasedPaginatedServiceTest {
     assertThrows(IllegalArgumentException.class, () -> new OffsetBasedPaginatedService<>(paginatedApi, 0, 0));
   }
 
+  @Test
+  void testSharedExecutorIsBoundedWithoutVirtualThreads() {
+    final Executor executor = PaginatedService.getSharedExecutor(false);
+
+    assertTrue(executor instanceof ThreadPoolExecutor);
+    assertEquals(4, ((ThreadPoolExecutor) executor).getMaximumPoolSize());
+    assertEquals(executor, new OffsetBasedPaginatedService<>(paginatedApi, 1, 1).getExecutor());
+    if (!VirtualThreads.isSupported()) {
+      assertEquals(executor, PaginatedService.getSharedExecutor(true));
+    }
+  }
+
   @Test
   void testNullChunkSize() {
     final int maxSize = 10;
@@ -202,6 +228,134 @@ class OffsetBasedPaginatedServiceTest {
     verifyNoMoreInteractions(paginatedApi);
   }
 
+  @Test
+  void testNegativePrefetchPages() {
+    assertThrows(IllegalArgumentException.class, () -> new OffsetBasedPaginatedService<>(paginatedApi, 1, 1, -1));
+  }
+
+  @Test
+  void testPrefetchFillsWindowUntilLastChunk() throws ApiException {
+    when(paginatedApi.get(anyInt(), anyInt()))
+        .thenReturn(Arrays.asList("a", "b"))
+        .thenReturn(Arrays.asList("c", "d"))
+        .thenReturn(Arrays.asList("e"))
+        .thenReturn(Collections.emptyList());
+
+    final List<String> list = getList(new OffsetBasedPaginatedService<>(paginatedApi, 2, 10, 2, Runnable::run));
+
+    assertEquals(Arrays.asList("a", "b", "c", "d", "e"), list);
+    verify(paginatedApi).get(0, 2);
+    verify(paginatedApi).get(2, 2);
+    verify(paginatedApi).get(4, 2);
+    verifyNoMoreInteractions(paginatedApi);
+  }
+
+  @Test
+  void testPrefetchDoesNotFetchPastMaxSize() throws ApiException {
+    when(paginatedApi.get(anyInt(), anyInt()))
+        .thenReturn(Arrays.asList("a", "b"))
+        .thenReturn(Arrays.asList("c", "d"));
+
+    final List<String> list = getList(new OffsetBasedPaginatedService<>(paginatedApi, 2, 3, 5, Runnable::run));
+
+    assertEquals(Arrays.asList("a", "b", "c"), list);
+    verify(paginatedApi).get(0, 2);
+    verify(paginatedApi).get(2, 2);
+    verifyNoMoreInteractions(paginatedApi);
+  }
+
+  @Test
+  void testPrefetchFetchesChunksInParallel() throws Exception {
+    final CountDownLatch allChunksRequested = new CountDownLatch(3);
+    when(paginatedApi.get(anyInt(), anyInt())).thenAnswer(invocation -> {
+      final int offset = invocation.getArgument(0);
+      allChunksRequested.countDown();
+      // a chunk is returned only once the 3 chunks of the window are being fetched at the same time
+      allChunksRequested.await(5, TimeUnit.SECONDS);
+      return offset < 6 ? Arrays.asList(String.valueOf(offset), String.valueOf(offset + 1)) : Collections.emptyList();
+    });
+
+    final ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      final List<String> list = getList(new OffsetBasedPaginatedService<>(paginatedApi, 2, 6, 2, executor));
+
+      assertEquals(Arrays.asList("0", "1", "2", "3", "4", "5"), list);
+      assertEquals(0, allChunksRequested.getCount());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testPrefetchedChunkThrowsApiException() throws ApiException {
+    when(paginatedApi.get(anyInt(), anyInt()))
+        .thenReturn(Arrays.asList("a", "b"))
+        .thenThrow(new ApiException(500, "error"));
+
+    final Iterator<String> iterator = new OffsetBasedPaginatedService<>(paginatedApi, 2, 10, 1).stream().iterator();
+
+    assertEquals("a", iterator.next());
+    assertEquals("b", iterator.next());
+    assertThrows(ApiRuntimeException.class, iterator::hasNext);
+  }
+
+  @Test
+  void testLargeChunk() throws ApiException {
+    final List<String> chunk = IntStream.range(0, 100_000).mapToObj(String::valueOf).collect(Collectors.toList());
+    when(paginatedApi.get(anyInt(), anyInt())).thenReturn(chunk);
+
+    final List<String> list = getList(new OffsetBasedPaginatedService<>(paginatedApi, chunk.size(), chunk.size()));
+
+    assertEquals(chunk, list);
+    verify(paginatedApi).get(0, chunk.size());
+    verifyNoMoreInteractions(paginatedApi);
+  }
+
+  @Test
+  void testSplitAlongChunks() {
+    final Spliterator<String> spliterator = new OffsetBasedPaginatedService<>(paginatedApi, 10, 95).stream().spliterator();
+    assertEquals(95, spliterator.estimateSize());
+
+    final Spliterator<String> prefix = spliterator.trySplit();
+
+    assertNotNull(prefix);
+    assertEquals(50, prefix.estimateSize());
+    assertEquals(45, spliterator.estimateSize());
+    assertTrue(prefix.hasCharacteristics(Spliterator.ORDERED));
+    verifyNoMoreInteractions(paginatedApi);
+  }
+
+  @Test
+  void testNoSplitOnceFetched() throws ApiException {
+    when(paginatedApi.get(anyInt(), anyInt())).thenReturn(Arrays.asList("a", "b"));
+    final Spliterator<String> spliterator = new OffsetBasedPaginatedService<>(paginatedApi, 2, 10).stream().spliterator();
+
+    spliterator.tryAdvance(item -> assertEquals("a", item));
+
+    assertNull(spliterator.trySplit());
+    assertEquals(9, spliterator.estimateSize());
+  }
+
+  @Test
+  void testParallelStream() throws ApiException {
+    final int total = 250;
+    when(paginatedApi.get(anyInt(), anyInt())).thenAnswer(invocation -> {
+      final int offset = invocation.getArgument(0);
+      final int limit = invocation.getArgument(1);
+      return IntStream.range(offset, Math.min(offset + limit, total)).mapToObj(String::valueOf)
+          .collect(Collectors.toList());
+    });
+
+    final List<String> list = new OffsetBasedPaginatedService<>(paginatedApi, 10, 1000).stream()
+        .parallel()
+        .collect(Collectors.toList());
+
+    assertEquals(IntStream.range(0, total).mapToObj(String::valueOf).collect(Collectors.toList()), list);
+    for (int offset = 0; offset < total; offset += 10) {
+      verify(paginatedApi).get(offset, 10);
+    }
+  }
+
   private void assertServiceProducesList(int chunkSize, int maxSize, List<String> expected) {
     final List<String> list = getList(new OffsetBasedPaginatedService<>(paginatedApi, chunkSize, maxSize));
 
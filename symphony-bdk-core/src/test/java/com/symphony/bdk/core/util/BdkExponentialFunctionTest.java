@@ -2,11 +2,22 @@ package com.symphony.bdk.core.util;
 
 import com.symphony.bdk.core.config.model.BdkRetryConfig;
 import com.symphony.bdk.core.retry.util.BdkExponentialFunction;
+import com.symphony.bdk.http.api.ApiException;
+import io.github.resilience4j.core.IntervalBiFunction;
 import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.core.functions.Either;
 import org.junit.jupiter.api.Test;
 
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class BdkExponentialFunctionTest {
 
@@ -39,4 +50,89 @@ public class BdkExponentialFunctionTest {
         Long interval = function.apply(3);
         assertEquals(interval, 200L);
     }
+
+    @Test
+    void decorrelatedJitter() {
+        BdkRetryConfig retryConfig = new BdkRetryConfig();
+        retryConfig.setMultiplier(2.0);
+        retryConfig.setInitialIntervalMillis(100L);
+        retryConfig.setMaxIntervalMillis(1000L);
+        IntervalFunction function = BdkExponentialFunction.ofDecorrelatedJitter(retryConfig);
+        for (int i = 0; i < 100; i++) {
+            Long interval = function.apply(2);
+            assertTrue(interval >= 100L && interval <= 600L, "Unexpected interval " + interval);
+            interval = function.apply(5);
+            assertTrue(interval >= 100L && interval <= 1000L, "Unexpected interval " + interval);
+        }
+    }
+
+    @Test
+    void retryConfigWithoutJitter() {
+        BdkRetryConfig retryConfig = new BdkRetryConfig();
+        retryConfig.setMultiplier(1.5);
+        retryConfig.setInitialIntervalMillis(100L);
+        IntervalBiFunction<Object> function = BdkExponentialFunction.ofRetryConfig(retryConfig);
+        assertEquals(150L, function.apply(2, Either.left(new ApiException(500, "error"))));
+    }
+
+    @Test
+    void retryAfterInSeconds() {
+        BdkRetryConfig retryConfig = new BdkRetryConfig();
+        retryConfig.setRespectRetryAfter(true);
+        retryConfig.setInitialIntervalMillis(100L);
+        retryConfig.setMaxIntervalMillis(10000L);
+        IntervalBiFunction<Object> function = BdkExponentialFunction.ofRetryConfig(retryConfig);
+        assertEquals(3000L, function.apply(1, Either.left(throttled(429, "retry-after", "3"))));
+        assertEquals(2000L, function.apply(1, Either.left(throttled(503, "Retry-After", " 2 "))));
+    }
+
+    @Test
+    void retryAfterCappedByMaximumInterval() {
+        BdkRetryConfig retryConfig = new BdkRetryConfig();
+        retryConfig.setRespectRetryAfter(true);
+        retryConfig.setInitialIntervalMillis(100L);
+        retryConfig.setMaxIntervalMillis(1000L);
+        IntervalBiFunction<Object> function = BdkExponentialFunction.ofRetryConfig(retryConfig);
+        assertEquals(1000L, function.apply(1, Either.left(throttled(429, "Retry-After", "120"))));
+    }
+
+    @Test
+    void retryAfterAsHttpDate() {
+        BdkRetryConfig retryConfig = new BdkRetryConfig();
+        retryConfig.setRespectRetryAfter(true);
+        retryConfig.setInitialIntervalMillis(100L);
+        retryConfig.setMaxIntervalMillis(60000L);
+        IntervalBiFunction<Object> function = BdkExponentialFunction.ofRetryConfig(retryConfig);
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+        Long interval = function.apply(1, Either.left(throttled(429, "Retry-After", date)));
+        assertTrue(interval > 28000L && interval <= 30000L, "Unexpected interval " + interval);
+    }
+
+    @Test
+    void retryAfterIgnored() {
+        BdkRetryConfig retryConfig = new BdkRetryConfig();
+        retryConfig.setRespectRetryAfter(true);
+        retryConfig.setInitialIntervalMillis(100L);
+        IntervalBiFunction<Object> function = BdkExponentialFunction.ofRetryConfig(retryConfig);
+        assertEquals(100L, function.apply(1, Either.left(throttled(500, "Retry-After", "3"))));
+        assertEquals(100L, function.apply(1, Either.left(throttled(429, "Retry-After", "invalid"))));
+        assertEquals(100L, function.apply(1, Either.left(new ApiException(429, "error"))));
+
+        retryConfig.setRespectRetryAfter(false);
+        function = BdkExponentialFunction.ofRetryConfig(retryConfig);
+        assertEquals(100L, function.apply(1, Either.left(throttled(429, "Retry-After", "3"))));
+    }
+
+    @Test
+    void retryAfterIgnoredByDefault() {
+        BdkRetryConfig retryConfig = new BdkRetryConfig();
+        retryConfig.setInitialIntervalMillis(100L);
+        IntervalBiFunction<Object> function = BdkExponentialFunction.ofRetryConfig(retryConfig);
+        assertEquals(100L, function.apply(1, Either.left(throttled(429, "Retry-After", "3"))));
+    }
+
+    private static ApiException throttled(int code, String header, String value) {
+        Map<String, List<String>> headers = Collections.singletonMap(header, Collections.singletonList(value));
+        return new ApiException(code, "error", headers, "");
+    }
 }
@@ -0,0 +1,118 @@
+package com.symphony.bdk.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for the {@link ConcurrencyLimiter}.
+ */
+class ConcurrencyLimiterTest {
+
+  @Test
+  void testInvalidMaxConcurrency() {
+    assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiter(0));
+  }
+
+  @Test
+  void testTasksAreQueuedWhenLimitIsReached() {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(2);
+    final List<CompletableFuture<Integer>> calls = new ArrayList<>();
+    final List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+    for (int i = 0; i < 5; i++) {
+      final CompletableFuture<Integer> call = new CompletableFuture<>();
+      calls.add(call);
+      results.add(limiter.execute(() -> call));
+    }
+
+    assertEquals(2, limiter.getRunningCount());
+    assertEquals(3, limiter.getPendingCount());
+
+    calls.get(0).complete(0);
+
+    assertEquals(0, results.get(0).join());
+    assertEquals(2, limiter.getRunningCount());
+    assertEquals(2, limiter.getPendingCount());
+
+    for (int i = 1; i < 5; i++) {
+      calls.get(i).complete(i);
+    }
+
+    for (int i = 0; i < 5; i++) {
+      assertEquals(i, results.get(i).join());
+    }
+    assertEquals(0, limiter.getRunningCount());
+    assertEquals(0, limiter.getPendingCount());
+  }
+
+  @Test
+  void testTasksStartInSubmissionOrder() {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+    final List<Integer> started = new ArrayList<>();
+    final CompletableFuture<Integer> first = new CompletableFuture<>();
+
+    limiter.execute(() -> {
+      started.add(0);
+      return first;
+    });
+    for (int i = 1; i < 4; i++) {
+      final int index = i;
+      limiter.execute(() -> {
+        started.add(index);
+        return CompletableFuture.completedFuture(index);
+      });
+    }
+
+    assertEquals(List.of(0), started);
+    first.complete(0);
+    assertEquals(List.of(0, 1, 2, 3), started);
+  }
+
+  @Test
+  void testMaxConcurrencyIsNeverExceeded() {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(3);
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+
+    final List<CompletableFuture<Integer>> results = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      final int index = i;
+      results.add(limiter.execute(() -> {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        return CompletableFuture.supplyAsync(() -> {
+          inFlight.decrementAndGet();
+          return index;
+        });
+      }));
+    }
+
+    CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
+    assertTrue(maxInFlight.get() <= 3);
+  }
+
+  @Test
+  void testFailuresArePropagatedAndReleaseThePermit() {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+
+    final CompletableFuture<String> failed = limiter.execute(() -> {
+      throw new IllegalStateException("failure");
+    });
+    final CompletableFuture<String> next = limiter.execute(() -> CompletableFuture.completedFuture("value"));
+
+    final ExecutionException exception = assertThrows(ExecutionException.class, failed::get);
+    assertTrue(exception.getCause() instanceof IllegalStateException);
+    assertFalse(next.isCompletedExceptionally());
+    assertEquals("value", next.join());
+    assertEquals(0, limiter.getRunningCount());
+  }
+}
@@ -25,7 +25,11 @@ class PresentationMLParserTest {
             "This is a link to Symphony's Website"),
         arguments("<div data-format=\"PresentationML\" data-version=\"2.0\"> <p>/test &lt;/messageML&gt;</p> </div>",
             "/test </messageML>"),
-        arguments("<div data-format=\"PresentationML\" data-version=\"2.0\">Hello&#xA0;World</div>", "Hello World"));
+        arguments("<div data-format=\"PresentationML\" data-version=\"2.0\">Hello&#xA0;World</div>", "Hello World"),
+        arguments("<div data-format=\"PresentationML\" data-version=\"2.0\"><table><tr><td>a</td><td>b</td></tr>"
+            + "<tr><td><![CDATA[c<d]]></td></tr></table><!-- comment --></div>", "abc<d"),
+        arguments("<div data-format=\"PresentationML\" data-version=\"2.0\">Tom &amp;amp; Jerry</div>",
+            "Tom & Jerry"));
   }
 
 
@@ -77,4 +81,19 @@ class PresentationMLParserTest {
 
     assertThrows(PresentationMLParserException.class, () -> PresentationMLParser.getTextContent(presentationML));
   }
+
+  @Test
+  void getMessageFromPresentationMLWithDoctypeFailed() {
+    String presentationML = "<!DOCTYPE div [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]>"
+        + "<div data-format=\"PresentationML\" data-version=\"2.0\">&xxe;</div>";
+
+    assertThrows(PresentationMLParserException.class, () -> PresentationMLParser.getTextContent(presentationML));
+  }
+
+  @Test
+  void getMessageFromPresentationMLWithSeveralRootsFailed() {
+    String presentationML = "<div>Hello</div><div>World</div>";
+
+    assertThrows(PresentationMLParserException.class, () -> PresentationMLParser.getTextContent(presentationML));
+  }
 }
@@ -7,6 +7,7 @@ import org.apiguardian.api.API;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface used to perform HTTP requests performed by the generated Swagger code.
@@ -46,6 +47,48 @@ public interface ApiClient {
       TypeReference<T> returnType
   ) throws ApiException;
 
+  /**
+   * Invoke API by sending HTTP request with the given options, without blocking the calling thread.
+   * The returned future is completed exceptionally with an {@link ApiException} if the call fails.
+   * Default implementation performs the call synchronously with
+   * {@link #invokeAPI(String, String, List, Object, Map, Map, Map, String, String, String[], TypeReference)}.
+   *
+   * @param <T> Type
+   * @param path The sub-path of the HTTP URL
+   * @param method The request method, one of "GET", "POST", "PUT", "HEAD" and "DELETE"
+   * @param queryParams The query parameters
+   * @param body The request body object
+   * @param headerParams The header parameters
+   * @param cookieParams The cookie parameters
+   * @param formParams The form parameters
+   * @param accept The request's Accept header
+   * @param contentType The request's Content-Type header
+   * @param authNames The authentications to apply
+   * @param returnType The return type into which to deserialize the response
+   * @return A future completed with the response
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default <T> CompletableFuture<ApiResponse<T>> invokeAPIAsync(
+      String path,
+      String method,
+      List<Pair> queryParams,
+      Object body,
+      Map<String, String> headerParams,
+      Map<String, String> cookieParams,
+      Map<String, Object> formParams,
+      String accept,
+      String contentType,
+      String[] authNames,
+      TypeReference<T> returnType
+  ) {
+    try {
+      return CompletableFuture.completedFuture(invokeAPI(path, method, queryParams, body, headerParams, cookieParams,
+          formParams, accept, contentType, authNames, returnType));
+    } catch (ApiException | RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   /**
    * Returns the API base path
    *
@@ -118,4 +161,12 @@ public interface ApiClient {
   default void rotate() {
 
   }
+
+  /**
+   * Release the resources held by this client, such as its connection pool. The client must not be used afterwards.
+   * Default implementation does nothing.
+   */
+  default void close() {
+
+  }
 }
@@ -1,6 +1,7 @@
 package com.symphony.bdk.http.api;
 
 import com.symphony.bdk.http.api.auth.Authentication;
+import com.symphony.bdk.http.api.metrics.ApiClientMetrics;
 
 import org.apiguardian.api.API;
 
@@ -77,7 +78,8 @@ public interface ApiClientBuilder {
   ApiClientBuilder withReadTimeout(Integer readTimeout);
 
   /**
-   * Custom setting specific for {@link com.symphony.bdk.http.jersey2.ApiClientBuilderJersey2} only,
+   * Custom setting specific for {@link com.symphony.bdk.http.jersey2.ApiClientBuilderJersey2} and
+   * {@link com.symphony.bdk.http.webclient.ApiClientBuilderWebClient},
    * it set {@link org.apache.http.impl.conn.PoolingHttpClientConnectionManager#setMaxTotal}
    * If not set or set null, maximum connections per each route will be 20
    *
@@ -86,12 +88,13 @@ public interface ApiClientBuilder {
    *
    */
   default ApiClientBuilder withConnectionPoolMax(Integer connectionPoolMax){
-    // Only ApiClientBuilderJersey2 override default method, otherwise it does nothing
+    // Only ApiClientBuilderJersey2 and ApiClientBuilderWebClient override default method, otherwise it does nothing
     return this;
   }
 
   /**
-   * Custom setting specific for {@link com.symphony.bdk.http.jersey2.ApiClientBuilderJersey2} only,
+   * Custom setting specific for {@link com.symphony.bdk.http.jersey2.ApiClientBuilderJersey2} and
+   * {@link com.symphony.bdk.http.webclient.ApiClientBuilderWebClient},
    * it set {@link org.apache.http.impl.conn.PoolingHttpClientConnectionManager#setDefaultMaxPerRoute}
    * If not set or set null, maximum connections per each route will be 20
    *
@@ -100,10 +103,91 @@ public interface ApiClientBuilder {
    *
    */
   default ApiClientBuilder withConnectionPoolPerRoute(Integer connectionPoolPerRoute){
+    // Only ApiClientBuilderJersey2 and ApiClientBuilderWebClient override default method, otherwise it does nothing
+    return this;
+  }
+
+  /**
+   * Custom setting specific for {@link com.symphony.bdk.http.webclient.ApiClientBuilderWebClient} only,
+   * pooled connections idle for longer are closed. If not set or set null, idle connections are kept open.
+   *
+   * @param connectionIdleTimeout max idle time of a pooled connection in milliseconds
+   * @return the updated instance of {@link ApiClientBuilder}
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default ApiClientBuilder withConnectionIdleTimeout(Integer connectionIdleTimeout) {
+    // Only ApiClientBuilderWebClient override default method, otherwise it does nothing
+    return this;
+  }
+
+  /**
+   * Custom setting specific for {@link com.symphony.bdk.http.webclient.ApiClientBuilderWebClient} only,
+   * pooled connections open for longer are closed. If not set or set null, connections have no max lifetime.
+   *
+   * @param connectionMaxLifetime max lifetime of a pooled connection in milliseconds
+   * @return the updated instance of {@link ApiClientBuilder}
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default ApiClientBuilder withConnectionMaxLifetime(Integer connectionMaxLifetime) {
+    // Only ApiClientBuilderWebClient override default method, otherwise it does nothing
+    return this;
+  }
+
+  /**
+   * Custom setting specific for {@link com.symphony.bdk.http.webclient.ApiClientBuilderWebClient} only,
+   * requests waiting for a connection beyond this count are rejected. If not set or set null, twice the max
+   * connections per route can wait.
+   *
+   * @param connectionPoolPendingAcquireMax maximum number of requests waiting for a pooled connection
+   * @return the updated instance of {@link ApiClientBuilder}
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default ApiClientBuilder withConnectionPoolPendingAcquireMax(Integer connectionPoolPendingAcquireMax) {
+    // Only ApiClientBuilderWebClient override default method, otherwise it does nothing
+    return this;
+  }
+
+  /**
+   * Custom setting specific for {@link com.symphony.bdk.http.webclient.ApiClientBuilderWebClient} only,
+   * it sets the max number of bytes buffered by the codecs when reading a response body. If not set or set null,
+   * the WebClient default (256KB) is used.
+   *
+   * @param maxInMemorySize max number of bytes buffered in memory
+   * @return the updated instance of {@link ApiClientBuilder}
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default ApiClientBuilder withMaxInMemorySize(Integer maxInMemorySize) {
+    // Only ApiClientBuilderWebClient override default method, otherwise it does nothing
+    return this;
+  }
+
+  /**
+   * Custom setting specific for {@link com.symphony.bdk.http.jersey2.ApiClientBuilderJersey2} only,
+   * asynchronous calls are then executed on virtual threads (JDK 21+) instead of the Jersey client thread pool.
+   *
+   * @param virtualThreads true to run the asynchronous calls on virtual threads
+   * @return the updated instance of {@link ApiClientBuilder}
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default ApiClientBuilder withVirtualThreads(boolean virtualThreads) {
     // Only ApiClientBuilderJersey2 override default method, otherwise it does nothing
     return this;
   }
 
+  /**
+   * Custom setting specific for {@link com.symphony.bdk.http.jersey2.ApiClientBuilderJersey2} and
+   * {@link com.symphony.bdk.http.webclient.ApiClientBuilderWebClient}, the requests made by the built
+   * {@link ApiClient} are then recorded by the given instrumentation.
+   *
+   * @param metrics the instrumentation of the requests, nothing is recorded if not set or set null
+   * @return the updated instance of {@link ApiClientBuilder}
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default ApiClientBuilder withMetrics(ApiClientMetrics metrics) {
+    // Only ApiClientBuilderJersey2 and ApiClientBuilderWebClient override default method, otherwise it does nothing
+    return this;
+  }
+
   /**
    * Sets a proxy host and port.
    *
@@ -0,0 +1,67 @@
+package com.symphony.bdk.http.api.metrics;
+
+import com.symphony.bdk.http.api.ApiClient;
+
+import org.apiguardian.api.API;
+
+/**
+ * Instrumentation of the HTTP requests made by an {@link ApiClient}, set through
+ * {@link com.symphony.bdk.http.api.ApiClientBuilder#withMetrics(ApiClientMetrics)}.
+ * <p>
+ * Measurements are tagged with the id of the generated operation that made the request, passed by the generated code
+ * through the {@link ApiOperationContext}, and with the base path of the {@link ApiClient}.
+ * <p>
+ * Implementations are called on the request threads, they must be thread-safe and must not block.
+ * All methods do nothing by default.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface ApiClientMetrics {
+
+  /**
+   * Operation tag of the requests not made by the generated code.
+   */
+  String UNKNOWN_OPERATION = "unknown";
+
+  /**
+   * Instrumentation recording nothing, used when none is configured.
+   */
+  ApiClientMetrics NOOP = new ApiClientMetrics() {};
+
+  /**
+   * Records a completed or failed request.
+   *
+   * @param metric the measurements of the request.
+   */
+  default void recordRequest(ApiRequestMetric metric) {
+    // nothing recorded by default
+  }
+
+  /**
+   * Records a call being retried.
+   *
+   * @param name the name of the retried call.
+   */
+  default void recordRetry(String name) {
+    // nothing recorded by default
+  }
+
+  /**
+   * Records the time a request waited for a connection to be available in the connection pool.
+   *
+   * @param basePath  the base path of the {@link ApiClient} that made the request.
+   * @param waitNanos the time waited in nanoseconds.
+   */
+  default void recordPoolWait(String basePath, long waitNanos) {
+    // nothing recorded by default
+  }
+
+  /**
+   * Must be called on the thread calling the {@link ApiClient}.
+   *
+   * @return the id of the operation making the request, {@link #UNKNOWN_OPERATION} if not set.
+   */
+  static String getOperation() {
+    final String operation = ApiOperationContext.getOperationId();
+    return operation == null ? UNKNOWN_OPERATION : operation;
+  }
+}
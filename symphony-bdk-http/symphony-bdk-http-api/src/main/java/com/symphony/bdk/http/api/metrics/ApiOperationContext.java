@@ -0,0 +1,65 @@
+package com.symphony.bdk.http.api.metrics;
+
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiException;
+
+import org.apiguardian.api.API;
+
+/**
+ * Holds the id of the generated operation calling an {@link ApiClient} on the current thread, so that the request
+ * metrics can be tagged with it, see {@link ApiClientMetrics#getOperation()}.
+ * <p>
+ * The generated code wraps each {@link ApiClient#invokeAPI} and {@link ApiClient#invokeAPIAsync} call with
+ * {@link #call(String, ApiCall)}. The operation id is thus never part of the request headers, whatever the
+ * {@link ApiClient} implementation. Implementations must read it on the calling thread, before going asynchronous.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class ApiOperationContext {
+
+  private static final ThreadLocal<String> OPERATION = new ThreadLocal<>();
+
+  private ApiOperationContext() {
+    // nothing to be done here
+  }
+
+  /**
+   * Makes a call on behalf of the given operation.
+   *
+   * @param operationId the id of the generated operation.
+   * @param call        the call to the {@link ApiClient}.
+   * @param <T>         the type returned by the call.
+   * @return the result of the call.
+   * @throws ApiException if the call fails.
+   */
+  public static <T> T call(String operationId, ApiCall<T> call) throws ApiException {
+    final String previous = OPERATION.get();
+    OPERATION.set(operationId);
+    try {
+      return call.call();
+    } finally {
+      if (previous == null) {
+        OPERATION.remove();
+      } else {
+        OPERATION.set(previous);
+      }
+    }
+  }
+
+  /**
+   * @return the id of the operation calling the {@link ApiClient} on the current thread, null if none.
+   */
+  public static String getOperationId() {
+    return OPERATION.get();
+  }
+
+  /**
+   * Call to an {@link ApiClient} made on behalf of an operation.
+   *
+   * @param <T> the type returned by the call.
+   */
+  @FunctionalInterface
+  public interface ApiCall<T> {
+
+    T call() throws ApiException;
+  }
+}
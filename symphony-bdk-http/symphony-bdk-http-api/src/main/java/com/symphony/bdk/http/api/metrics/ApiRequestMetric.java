@@ -0,0 +1,58 @@
+package com.symphony.bdk.http.api.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.apiguardian.api.API;
+
+/**
+ * Measurements of a single HTTP request made by an {@link com.symphony.bdk.http.api.ApiClient}, recorded by
+ * {@link ApiClientMetrics#recordRequest(ApiRequestMetric)} once the response is received or the request failed.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@API(status = API.Status.EXPERIMENTAL)
+public class ApiRequestMetric {
+
+  /**
+   * Value of the size of a body when it is not known.
+   */
+  public static final long UNKNOWN_SIZE = -1;
+
+  /**
+   * Id of the generated operation that made the request, {@link ApiClientMetrics#UNKNOWN_OPERATION} if not set.
+   */
+  private final String operation;
+
+  /**
+   * Base path of the {@link com.symphony.bdk.http.api.ApiClient} that made the request.
+   */
+  private final String basePath;
+
+  /**
+   * HTTP method of the request.
+   */
+  private final String method;
+
+  /**
+   * HTTP status of the response, 0 if no response was received (e.g. connection or read timeout).
+   */
+  private final int status;
+
+  /**
+   * Time in nanoseconds between the request being sent and the response being read, the wait for a pooled connection
+   * included.
+   */
+  private final long durationNanos;
+
+  /**
+   * Size in bytes of the request body, {@link #UNKNOWN_SIZE} if it is not known.
+   */
+  private final long requestBytes;
+
+  /**
+   * Size in bytes of the response body, {@link #UNKNOWN_SIZE} if it is not known.
+   */
+  private final long responseBytes;
+}
@@ -0,0 +1,85 @@
+package com.symphony.bdk.http.api.util;
+
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gives access to the virtual threads (JDK 21+) while the BDK is still compiled for Java 17.
+ * <p>
+ * When running on a JDK without virtual threads, {@link #isSupported()} returns false and the callers are expected to
+ * fall back to platform threads.
+ */
+@API(status = API.Status.INTERNAL)
+public final class VirtualThreads {
+
+  private static final Logger log = LoggerFactory.getLogger(VirtualThreads.class);
+
+  private static final ThreadFactory VIRTUAL_THREAD_FACTORY = lookupVirtualThreadFactory();
+
+  private VirtualThreads() {
+    // utility class
+  }
+
+  /**
+   * @return true if the running JDK supports virtual threads.
+   */
+  public static boolean isSupported() {
+    return VIRTUAL_THREAD_FACTORY != null;
+  }
+
+  /**
+   * Creates a factory of named virtual threads, or of platform daemon threads if virtual threads are not supported.
+   *
+   * @param name the threads name prefix, threads are named "name-N".
+   * @return the thread factory.
+   */
+  public static ThreadFactory factory(String name) {
+    final ThreadFactory factory = isSupported() ? VIRTUAL_THREAD_FACTORY : Executors.defaultThreadFactory();
+    final AtomicLong count = new AtomicLong(0);
+    return runnable -> {
+      final Thread thread = factory.newThread(runnable);
+      thread.setName(name + "-" + count.getAndIncrement());
+      if (!isSupported()) {
+        thread.setDaemon(true);
+      }
+      return thread;
+    };
+  }
+
+  /**
+   * Creates an executor starting a new virtual thread for each task, or a cached pool of platform daemon threads if
+   * virtual threads are not supported.
+   *
+   * @param name the threads name prefix.
+   * @return the executor.
+   */
+  public static ExecutorService newThreadPerTaskExecutor(String name) {
+    if (!isSupported()) {
+      log.warn("Virtual threads are not supported by Java {}, platform threads are used instead",
+          System.getProperty("java.version"));
+      return Executors.newCachedThreadPool(factory(name));
+    }
+    try {
+      return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+          .invoke(null, factory(name));
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Unable to create a virtual thread per task executor", e);
+    }
+  }
+
+  private static ThreadFactory lookupVirtualThreadFactory() {
+    try {
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // JDK < 21, or JDK 19/20 without --enable-preview
+      return null;
+    }
+  }
+}
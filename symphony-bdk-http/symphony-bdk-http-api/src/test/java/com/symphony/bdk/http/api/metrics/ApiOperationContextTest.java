@@ -0,0 +1,34 @@
+package com.symphony.bdk.http.api.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.symphony.bdk.http.api.ApiException;
+
+import org.junit.jupiter.api.Test;
+
+class ApiOperationContextTest {
+
+  @Test
+  void shouldSetOperationDuringCall() throws ApiException {
+    assertEquals(ApiClientMetrics.UNKNOWN_OPERATION, ApiClientMetrics.getOperation());
+
+    final String operation = ApiOperationContext.call("outer", () -> {
+      assertEquals("inner", ApiOperationContext.call("inner", ApiClientMetrics::getOperation));
+      return ApiClientMetrics.getOperation();
+    });
+
+    assertEquals("outer", operation);
+    assertNull(ApiOperationContext.getOperationId());
+  }
+
+  @Test
+  void shouldClearOperationWhenCallFails() {
+    assertThrows(ApiException.class, () -> ApiOperationContext.call("failing", () -> {
+      throw new ApiException(500, "error");
+    }));
+
+    assertNull(ApiOperationContext.getOperationId());
+  }
+}
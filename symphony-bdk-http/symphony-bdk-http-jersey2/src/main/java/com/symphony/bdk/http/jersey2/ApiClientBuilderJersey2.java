@@ -6,7 +6,9 @@ import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiClientBuilder;
 import com.symphony.bdk.http.api.auth.Authentication;
+import com.symphony.bdk.http.api.metrics.ApiClientMetrics;
 import com.symphony.bdk.http.api.util.ApiUtils;
+import com.symphony.bdk.http.api.util.VirtualThreads;
 
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
@@ -32,6 +34,7 @@ import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import javax.net.ssl.SSLContext;
 
@@ -62,6 +65,8 @@ public class ApiClientBuilderJersey2 implements ApiClientBuilder {
   protected String proxyUser;
   protected String proxyPassword;
   protected Map<String, Authentication> authentications;
+  protected boolean virtualThreads;
+  protected ApiClientMetrics metrics;
 
   public ApiClientBuilderJersey2() {
     this.basePath = "https://acme.symphony.com";
@@ -79,6 +84,8 @@ public class ApiClientBuilderJersey2 implements ApiClientBuilder {
     this.proxyUser = null;
     this.proxyPassword = null;
     this.authentications = new HashMap<>();
+    this.virtualThreads = false;
+    this.metrics = ApiClientMetrics.NOOP;
     this.withUserAgent(ApiUtils.getUserAgent());
   }
 
@@ -90,15 +97,21 @@ public class ApiClientBuilderJersey2 implements ApiClientBuilder {
     java.util.logging.Logger.getLogger("org.glassfish.jersey.client").setLevel(java.util.logging.Level.SEVERE);
 
     SSLContext sslContext = this.createSSLContext();
-    final Client httpClient = ClientBuilder.newBuilder()
+    final ClientBuilder clientBuilder = ClientBuilder.newBuilder()
         .sslContext(sslContext)
-        .withConfig(this.createClientConfig(sslContext))
-        .build();
+        .withConfig(this.createClientConfig(sslContext));
+    final ExecutorService asyncExecutor =
+        this.virtualThreads ? VirtualThreads.newThreadPerTaskExecutor("Jersey-Async-Thread") : null;
+    if (asyncExecutor != null) {
+      clientBuilder.executorService(asyncExecutor);
+    }
+    final Client httpClient = clientBuilder.build();
 
     httpClient.property(ClientProperties.CONNECT_TIMEOUT, this.connectionTimeout);
     httpClient.property(ClientProperties.READ_TIMEOUT, this.readTimeout);
 
-    final ApiClient apiClient = new ApiClientJersey2(httpClient, this.basePath, this.defaultHeaders, this.temporaryFolderPath);
+    final ApiClient apiClient = new ApiClientJersey2(httpClient, this.basePath, this.defaultHeaders,
+        this.temporaryFolderPath, this.metrics, asyncExecutor);
     this.authentications.forEach(apiClient.getAuthentications()::put);
     return apiClient;
   }
@@ -195,6 +208,24 @@ public class ApiClientBuilderJersey2 implements ApiClientBuilder {
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withVirtualThreads(boolean virtualThreads) {
+    this.virtualThreads = virtualThreads;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withMetrics(ApiClientMetrics metrics) {
+    this.metrics = metrics == null ? ApiClientMetrics.NOOP : metrics;
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -232,6 +263,9 @@ public class ApiClientBuilderJersey2 implements ApiClientBuilder {
     }
 
     clientConfig.register(ApiClientJersey2RequestLogFilter.class);
+    if (this.metrics != ApiClientMetrics.NOOP) {
+      clientConfig.register(ApiClientJersey2MetricsInterceptor.class);
+    }
     clientConfig.register(MultiPartFeature.class);
     clientConfig.property(HttpUrlConnectorProvider.SET_METHOD_WORKAROUND, true);
     // turn off compliance validation to be able to send payloads with DELETE calls
@@ -245,7 +279,9 @@ public class ApiClientBuilderJersey2 implements ApiClientBuilder {
 
     // By default PoolingHttpClientConnectionManager, if not configured, has 20 connection in the
     // pool BUT only 2 max connection per route.
-    final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(registry);
+    final PoolingHttpClientConnectionManager connectionManager = this.metrics == ApiClientMetrics.NOOP
+        ? new PoolingHttpClientConnectionManager(registry)
+        : new ApiClientJersey2ConnectionManager(registry, this.basePath, this.metrics);
     connectionManager.setMaxTotal(this.connectionPoolMax);
     connectionManager.setDefaultMaxPerRoute(this.connectionPoolPerRoute);
     clientConfig.property(ApacheClientProperties.CONNECTION_MANAGER, connectionManager);
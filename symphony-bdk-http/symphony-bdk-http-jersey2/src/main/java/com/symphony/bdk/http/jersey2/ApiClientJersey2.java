@@ -6,13 +6,17 @@ import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.http.api.ApiResponse;
 import com.symphony.bdk.http.api.Pair;
 import com.symphony.bdk.http.api.auth.Authentication;
+import com.symphony.bdk.http.api.metrics.ApiClientMetrics;
 import com.symphony.bdk.http.api.tracing.DistributedTracingContext;
 import com.symphony.bdk.http.api.util.TypeReference;
+import com.symphony.bdk.http.jersey2.ApiClientJersey2MetricsInterceptor.RequestMeter;
 import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.AsyncInvoker;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.client.InvocationCallback;
 import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.Form;
 import jakarta.ws.rs.core.GenericType;
@@ -43,6 +47,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -62,15 +68,41 @@ public class ApiClientJersey2 implements ApiClient {
   protected String tempFolderPath;
   protected Map<String, Authentication> authentications;
   protected List<String> enforcedAuthenticationSchemes;
+  protected ApiClientMetrics metrics;
+  protected ExecutorService asyncExecutor;
 
   public ApiClientJersey2(final Client httpClient, String basePath, Map<String, String> defaultHeaders,
       String temporaryFolderPath) {
+    this(httpClient, basePath, defaultHeaders, temporaryFolderPath, ApiClientMetrics.NOOP);
+  }
+
+  /**
+   * @param metrics the instrumentation of the requests, the http client must have registered the
+   *                {@link ApiClientJersey2MetricsInterceptor} to record the body sizes.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public ApiClientJersey2(final Client httpClient, String basePath, Map<String, String> defaultHeaders,
+      String temporaryFolderPath, ApiClientMetrics metrics) {
+    this(httpClient, basePath, defaultHeaders, temporaryFolderPath, metrics, null);
+  }
+
+  /**
+   * @param metrics       the instrumentation of the requests, the http client must have registered the
+   *                      {@link ApiClientJersey2MetricsInterceptor} to record the body sizes.
+   * @param asyncExecutor the executor set to the http client for the asynchronous requests, shut down on
+   *                      {@link #close()}, null if the http client uses its default one.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public ApiClientJersey2(final Client httpClient, String basePath, Map<String, String> defaultHeaders,
+      String temporaryFolderPath, ApiClientMetrics metrics, ExecutorService asyncExecutor) {
     this.httpClient = httpClient;
     this.basePath = basePath;
     this.defaultHeaderMap = new HashMap<>(defaultHeaders);
     this.tempFolderPath = temporaryFolderPath;
     this.authentications = new HashMap<>();
     this.enforcedAuthenticationSchemes = new ArrayList<>();
+    this.metrics = metrics == null ? ApiClientMetrics.NOOP : metrics;
+    this.asyncExecutor = asyncExecutor;
   }
 
   /**
@@ -91,6 +123,94 @@ public class ApiClientJersey2 implements ApiClient {
       final TypeReference<T> returnType
   ) throws ApiException {
 
+    final boolean clearTraceId = setTraceIdIfAbsent();
+    final RequestMeter meter = this.startRequestMeter(method);
+    int status = 0;
+    try {
+      final Invocation.Builder invocationBuilder =
+          this.prepareInvocation(path, queryParams, headerParams, cookieParams, accept, contentType, authNames, meter);
+      final Entity<?> entity =
+          (body == null && formParams == null) ? Entity.json("") : this.serialize(body, formParams, contentType);
+
+      try (Response response = getResponse(invocationBuilder, method, entity)) {
+        status = response.getStatus();
+        return toApiResponse(response, returnType);
+      }
+    } finally {
+      this.recordRequest(meter, status);
+      if (clearTraceId) {
+        DistributedTracingContext.clear();
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * The request is sent through Jersey's {@link AsyncInvoker}, the returned future is completed from the Jersey
+   * client async executor.
+   */
+  @Override
+  public <T> CompletableFuture<ApiResponse<T>> invokeAPIAsync(
+      final String path,
+      final String method,
+      final List<Pair> queryParams,
+      final Object body,
+      final Map<String, String> headerParams,
+      final Map<String, String> cookieParams,
+      final Map<String, Object> formParams,
+      final String accept,
+      final String contentType,
+      final String[] authNames,
+      final TypeReference<T> returnType
+  ) {
+    final CompletableFuture<ApiResponse<T>> future = new CompletableFuture<>();
+    final boolean clearTraceId = setTraceIdIfAbsent();
+    final RequestMeter meter = this.startRequestMeter(method);
+    try {
+      final Invocation.Builder invocationBuilder =
+          this.prepareInvocation(path, queryParams, headerParams, cookieParams, accept, contentType, authNames, meter);
+      final Entity<?> entity =
+          (body == null && formParams == null) ? Entity.json("") : this.serialize(body, formParams, contentType);
+
+      getResponseAsync(invocationBuilder.async(), method, entity, new InvocationCallback<Response>() {
+        @Override
+        public void completed(Response response) {
+          try (response) {
+            final ApiResponse<T> apiResponse;
+            try {
+              apiResponse = toApiResponse(response, returnType);
+            } finally {
+              recordRequest(meter, response.getStatus());
+            }
+            future.complete(apiResponse);
+          } catch (ApiException | RuntimeException e) {
+            future.completeExceptionally(e);
+          }
+        }
+
+        @Override
+        public void failed(Throwable throwable) {
+          recordRequest(meter, 0);
+          future.completeExceptionally(throwable instanceof ProcessingException
+              ? mapProcessingException((ProcessingException) throwable)
+              : throwable);
+        }
+      });
+    } catch (ApiException | RuntimeException e) {
+      this.recordRequest(meter, 0);
+      future.completeExceptionally(e);
+    } finally {
+      if (clearTraceId) {
+        DistributedTracingContext.clear();
+      }
+    }
+    return future;
+  }
+
+  private Invocation.Builder prepareInvocation(String path, List<Pair> queryParams, Map<String, String> headerParams,
+      Map<String, String> cookieParams, String accept, String contentType, String[] authNames, RequestMeter meter)
+      throws ApiException {
+
     // Not using `.target(this.basePath).path(path)` below,
     // to support (constant) query string in `path`, e.g. "/posts?draft=1"
     WebTarget target = httpClient.target(this.basePath + path);
@@ -106,11 +226,9 @@ public class ApiClientJersey2 implements ApiClient {
     }
 
     Invocation.Builder invocationBuilder = target.request().accept(accept);
-    boolean clearTraceId = false;
 
-    if (!DistributedTracingContext.hasTraceId()) {
-      DistributedTracingContext.setTraceId();
-      clearTraceId = true;
+    if (meter != null) {
+      invocationBuilder = invocationBuilder.property(ApiClientJersey2MetricsInterceptor.REQUEST_METER, meter);
     }
 
     invocationBuilder =
@@ -152,49 +270,70 @@ public class ApiClientJersey2 implements ApiClient {
       invocationBuilder.header("MIME-Version", "1.0");
     }
 
-    Entity<?> entity =
-        (body == null && formParams == null) ? Entity.json("") : this.serialize(body, formParams, contentType);
-
-    try (Response response = getResponse(invocationBuilder, method, entity)) {
+    return invocationBuilder;
+  }
 
-      int statusCode = response.getStatusInfo().getStatusCode();
-      Map<String, List<String>> responseHeaders = buildResponseHeaders(response);
+  private <T> ApiResponse<T> toApiResponse(Response response, TypeReference<T> returnType) throws ApiException {
+    int statusCode = response.getStatusInfo().getStatusCode();
+    Map<String, List<String>> responseHeaders = buildResponseHeaders(response);
 
-      GenericType<T> genericReturnType = null;
-      if (returnType != null) {
-        genericReturnType = new GenericType<>(returnType.getType());
-      }
+    GenericType<T> genericReturnType = null;
+    if (returnType != null) {
+      genericReturnType = new GenericType<>(returnType.getType());
+    }
 
-      if (response.getStatus() == Response.Status.NO_CONTENT.getStatusCode()) {
+    if (response.getStatus() == Response.Status.NO_CONTENT.getStatusCode()) {
+      return new ApiResponse<>(statusCode, responseHeaders);
+    } else if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
+      if (genericReturnType == null) {
         return new ApiResponse<>(statusCode, responseHeaders);
-      } else if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
-        if (genericReturnType == null) {
-          return new ApiResponse<>(statusCode, responseHeaders);
-        } else {
-          return new ApiResponse<>(statusCode, responseHeaders, deserialize(response, genericReturnType));
-        }
       } else {
-        String message = "error";
-        String respBody = null;
-        if (response.hasEntity()) {
-          try {
-            respBody = String.valueOf(response.readEntity(String.class));
-            message = respBody;
-          } catch (RuntimeException e) {
-            // ignored if we cannot read the response body
-          }
-        }
-        throw new ApiException(
-            response.getStatus(),
-            message,
-            buildResponseHeaders(response),
-            respBody);
+        return new ApiResponse<>(statusCode, responseHeaders, deserialize(response, genericReturnType));
       }
-    } finally {
-      if (clearTraceId) {
-        DistributedTracingContext.clear();
+    } else {
+      String message = "error";
+      String respBody = null;
+      if (response.hasEntity()) {
+        try {
+          respBody = String.valueOf(response.readEntity(String.class));
+          message = respBody;
+        } catch (RuntimeException e) {
+          // ignored if we cannot read the response body
+        }
       }
+      throw new ApiException(
+          response.getStatus(),
+          message,
+          buildResponseHeaders(response),
+          respBody);
+    }
+  }
+
+  /**
+   * @return the measurements of the request to be sent, null if metrics are not enabled.
+   */
+  private RequestMeter startRequestMeter(String method) {
+    if (this.metrics == ApiClientMetrics.NOOP) {
+      return null;
+    }
+    return new RequestMeter(ApiClientMetrics.getOperation(), method);
+  }
+
+  /**
+   * @param status the status of the response, 0 if no response was received.
+   */
+  private void recordRequest(RequestMeter meter, int status) {
+    if (meter != null) {
+      meter.record(this.metrics, this.basePath, status);
+    }
+  }
+
+  private static boolean setTraceIdIfAbsent() {
+    if (!DistributedTracingContext.hasTraceId()) {
+      DistributedTracingContext.setTraceId();
+      return true;
     }
+    return false;
   }
 
   private Response getResponse(Invocation.Builder invocationBuilder, String method, Entity<?> entity)
@@ -221,16 +360,52 @@ public class ApiClientJersey2 implements ApiClient {
           throw new ApiException(500, "unknown method type " + method);
       }
     } catch (ProcessingException e) {
-      if (e.getCause() instanceof ConnectTimeoutException) {
-        throw new ProcessingException(new SocketTimeoutException(e.getCause().getMessage()));
-      }
-      else if (e.getCause() instanceof NoHttpResponseException) {
-        // ensures that it will be caught later in the retry strategy
-        throw new ProcessingException(new SocketException(e.getCause().getMessage()));
-      }
-      else {
-        throw e;
-      }
+      throw mapProcessingException(e);
+    }
+  }
+
+  private void getResponseAsync(AsyncInvoker asyncInvoker, String method, Entity<?> entity,
+      InvocationCallback<Response> callback) throws ApiException {
+    switch (method) {
+      case HttpMethod.GET:
+        asyncInvoker.get(callback);
+        break;
+      case HttpMethod.POST:
+        asyncInvoker.post(entity, callback);
+        break;
+      case HttpMethod.PUT:
+        asyncInvoker.put(entity, callback);
+        break;
+      case HttpMethod.DELETE:
+        asyncInvoker.method(HttpMethod.DELETE, entity, callback);
+        break;
+      case HttpMethod.PATCH:
+        asyncInvoker.method(HttpMethod.PATCH, entity, callback);
+        break;
+      case HttpMethod.HEAD:
+        asyncInvoker.head(callback);
+        break;
+      case HttpMethod.OPTIONS:
+        asyncInvoker.options(callback);
+        break;
+      case "TRACE":
+        asyncInvoker.trace(callback);
+        break;
+      default:
+        throw new ApiException(500, "unknown method type " + method);
+    }
+  }
+
+  private static ProcessingException mapProcessingException(ProcessingException e) {
+    if (e.getCause() instanceof ConnectTimeoutException) {
+      return new ProcessingException(new SocketTimeoutException(e.getCause().getMessage()));
+    }
+    else if (e.getCause() instanceof NoHttpResponseException) {
+      // ensures that it will be caught later in the retry strategy
+      return new ProcessingException(new SocketException(e.getCause().getMessage()));
+    }
+    else {
+      return e;
     }
   }
 
@@ -384,6 +559,18 @@ public class ApiClientJersey2 implements ApiClient {
     this.enforcedAuthenticationSchemes.add(name);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void close() {
+    this.httpClient.close();
+    // the executor provided to the http client is not shut down by the client itself
+    if (this.asyncExecutor != null) {
+      this.asyncExecutor.shutdown();
+    }
+  }
+
   /**
    * Check if the given MIME is a JSON MIME.
    * JSON MIME examples:
@@ -0,0 +1,58 @@
+package com.symphony.bdk.http.jersey2;
+
+import com.symphony.bdk.http.api.metrics.ApiClientMetrics;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.config.Registry;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apiguardian.api.API;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection pool recording the time spent by the requests waiting for a connection to be leased, see
+ * {@link ApiClientMetrics#recordPoolWait(String, long)}. Opening a new connection is not part of the wait.
+ */
+@API(status = API.Status.INTERNAL)
+public class ApiClientJersey2ConnectionManager extends PoolingHttpClientConnectionManager {
+
+  private final String basePath;
+  private final ApiClientMetrics metrics;
+
+  public ApiClientJersey2ConnectionManager(Registry<ConnectionSocketFactory> registry, String basePath,
+      ApiClientMetrics metrics) {
+    super(registry);
+    this.basePath = basePath;
+    this.metrics = metrics;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+    final ConnectionRequest connectionRequest = super.requestConnection(route, state);
+    return new ConnectionRequest() {
+      @Override
+      public HttpClientConnection get(long timeout, TimeUnit timeUnit)
+          throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+        final long start = System.nanoTime();
+        try {
+          return connectionRequest.get(timeout, timeUnit);
+        } finally {
+          metrics.recordPoolWait(basePath, System.nanoTime() - start);
+        }
+      }
+
+      @Override
+      public boolean cancel() {
+        return connectionRequest.cancel();
+      }
+    };
+  }
+}
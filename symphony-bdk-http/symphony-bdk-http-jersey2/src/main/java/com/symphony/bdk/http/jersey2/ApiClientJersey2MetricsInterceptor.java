@@ -0,0 +1,133 @@
+package com.symphony.bdk.http.jersey2;
+
+import com.symphony.bdk.http.api.metrics.ApiClientMetrics;
+import com.symphony.bdk.http.api.metrics.ApiRequestMetric;
+
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.ReaderInterceptorContext;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import org.apiguardian.api.API;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * This interceptor counts the bytes of the request and response bodies of the requests carrying a {@link RequestMeter}
+ * under the {@link #REQUEST_METER} property, set by {@link ApiClientJersey2} when metrics are enabled.
+ */
+@Provider
+@API(status = API.Status.INTERNAL)
+public class ApiClientJersey2MetricsInterceptor implements WriterInterceptor, ReaderInterceptor {
+
+  static final String REQUEST_METER = "X-BDK-internal-request-meter";
+
+  /**
+   * Wraps the request body output stream to count the written bytes.
+   */
+  @Override
+  public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+    final Object meter = context.getProperty(REQUEST_METER);
+    if (meter instanceof RequestMeter) {
+      context.setOutputStream(new CountingOutputStream(context.getOutputStream(), (RequestMeter) meter));
+    }
+    context.proceed();
+  }
+
+  /**
+   * Wraps the response body input stream to count the read bytes.
+   */
+  @Override
+  public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException {
+    final Object meter = context.getProperty(REQUEST_METER);
+    if (meter instanceof RequestMeter) {
+      context.setInputStream(new CountingInputStream(context.getInputStream(), (RequestMeter) meter));
+    }
+    return context.proceed();
+  }
+
+  /**
+   * Measurements of a request in progress, recorded once the response is read.
+   */
+  @API(status = API.Status.INTERNAL)
+  static class RequestMeter {
+
+    private final String operation;
+    private final String method;
+    private final long startNanos;
+    private volatile long requestBytes;
+    private volatile long responseBytes;
+
+    RequestMeter(String operation, String method) {
+      this.operation = operation;
+      this.method = method;
+      this.startNanos = System.nanoTime();
+    }
+
+    void record(ApiClientMetrics metrics, String basePath, int status) {
+      metrics.recordRequest(new ApiRequestMetric(this.operation, basePath, this.method, status,
+          System.nanoTime() - this.startNanos, this.requestBytes, this.responseBytes));
+    }
+  }
+
+  private static class CountingOutputStream extends FilterOutputStream {
+
+    private final RequestMeter meter;
+
+    CountingOutputStream(OutputStream out, RequestMeter meter) {
+      super(out);
+      this.meter = meter;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      this.out.write(b);
+      this.meter.requestBytes++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      this.out.write(b, off, len);
+      this.meter.requestBytes += len;
+    }
+  }
+
+  private static class CountingInputStream extends FilterInputStream {
+
+    private final RequestMeter meter;
+
+    CountingInputStream(InputStream in, RequestMeter meter) {
+      super(in);
+      this.meter = meter;
+    }
+
+    @Override
+    public int read() throws IOException {
+      final int b = this.in.read();
+      if (b >= 0) {
+        this.meter.responseBytes++;
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      final int read = this.in.read(b, off, len);
+      if (read > 0) {
+        this.meter.responseBytes += read;
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      final long skipped = this.in.skip(n);
+      this.meter.responseBytes += skipped;
+      return skipped;
+    }
+  }
+}
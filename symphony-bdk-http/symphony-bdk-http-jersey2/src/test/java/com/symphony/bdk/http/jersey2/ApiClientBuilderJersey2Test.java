@@ -1,6 +1,9 @@
 package com.symphony.bdk.http.jersey2;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiException;
@@ -63,6 +66,29 @@ class ApiClientBuilderJersey2Test {
     assertEquals(200, response.getStatusCode());
   }
 
+  @Test
+  void closeShutsDownVirtualThreadsExecutor() {
+    final ApiClientJersey2 client = (ApiClientJersey2) new ApiClientBuilderJersey2()
+        .withBasePath("https://localhost:" + mockServer.getPort())
+        .withVirtualThreads(true)
+        .build();
+    assertFalse(client.asyncExecutor.isShutdown());
+
+    client.close();
+
+    assertTrue(client.asyncExecutor.isShutdown());
+  }
+
+  @Test
+  void noExecutorWithoutVirtualThreads() {
+    final ApiClientJersey2 client = (ApiClientJersey2) new ApiClientBuilderJersey2()
+        .withBasePath("https://localhost:" + mockServer.getPort())
+        .build();
+
+    assertNull(client.asyncExecutor);
+    client.close();
+  }
+
   private ByteArrayOutputStream getMockServerKeyStore()
       throws KeyStoreException, IOException, NoSuchAlgorithmException, CertificateException {
     KeyStore mockServerKeyStore = new KeyStoreFactory(new MockServerLogger()).loadOrCreateKeyStore();
@@ -1,35 +1,54 @@
 package com.symphony.bdk.http.jersey2;
 
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
+import com.symphony.bdk.http.api.metrics.ApiClientMetrics;
+import com.symphony.bdk.http.api.metrics.ApiOperationContext;
+import com.symphony.bdk.http.api.metrics.ApiRequestMetric;
 import com.symphony.bdk.http.api.tracing.DistributedTracingContext;
 import com.symphony.bdk.http.api.util.TypeReference;
 import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.AsyncInvoker;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.client.InvocationCallback;
 import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.MultivaluedHashMap;
 import jakarta.ws.rs.core.Response;
+import org.apache.http.conn.ConnectTimeoutException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.net.SocketTimeoutException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class ApiClientJersey2Test {
 
   private ApiClientJersey2 apiClient;
+  private Client client;
+  private Invocation.Builder builder;
+  private Response response;
 
   @BeforeEach
   void init(
@@ -43,11 +62,14 @@ class ApiClientJersey2Test {
     when(target.request()).thenReturn(builder);
     when(builder.accept(anyString())).thenReturn(builder);
     when(builder.header(anyString(), any())).thenReturn(builder);
-    when(builder.post(any(Entity.class))).thenReturn(response);
-    when(response.getStatusInfo()).thenReturn(statusInfo);
-    when(statusInfo.getStatusCode()).thenReturn(200);
-    when(statusInfo.getFamily()).thenReturn(Response.Status.Family.SUCCESSFUL);
-    when(response.getHeaders()).thenReturn(new MultivaluedHashMap<>());
+    lenient().when(builder.post(any(Entity.class))).thenReturn(response);
+    lenient().when(response.getStatusInfo()).thenReturn(statusInfo);
+    lenient().when(statusInfo.getStatusCode()).thenReturn(200);
+    lenient().when(statusInfo.getFamily()).thenReturn(Response.Status.Family.SUCCESSFUL);
+    lenient().when(response.getHeaders()).thenReturn(new MultivaluedHashMap<>());
+    this.client = client;
+    this.builder = builder;
+    this.response = response;
     this.apiClient = new ApiClientJersey2(client, "", Collections.emptyMap(), "");
     this.apiClient.getAuthentications().put("testAuth", headerParams -> headerParams.put("Authorization", "test"));
   }
@@ -67,6 +89,93 @@ class ApiClientJersey2Test {
     assertEquals(traceId, DistributedTracingContext.getTraceId());
   }
 
+  @Test
+  void shouldInvokeApiAsynchronously(@Mock AsyncInvoker asyncInvoker) throws Exception {
+    when(this.builder.async()).thenReturn(asyncInvoker);
+    when(asyncInvoker.post(any(Entity.class), any(InvocationCallback.class))).thenAnswer(invocation -> {
+      invocation.<InvocationCallback<Response>>getArgument(1).completed(this.response);
+      return null;
+    });
+
+    DistributedTracingContext.clear();
+    CompletableFuture<ApiResponse<String>> future = this.doInvokeAPIAsync();
+
+    assertEquals(200, future.get().getStatusCode());
+    assertTrue(DistributedTracingContext.getTraceId().isEmpty());
+  }
+
+  @Test
+  void shouldMapAsyncConnectTimeout(@Mock AsyncInvoker asyncInvoker) {
+    when(this.builder.async()).thenReturn(asyncInvoker);
+    when(asyncInvoker.post(any(Entity.class), any(InvocationCallback.class))).thenAnswer(invocation -> {
+      invocation.<InvocationCallback<Response>>getArgument(1)
+          .failed(new ProcessingException(new ConnectTimeoutException("timeout")));
+      return null;
+    });
+
+    CompletableFuture<ApiResponse<String>> future = this.doInvokeAPIAsync();
+
+    ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+    assertTrue(exception.getCause() instanceof ProcessingException);
+    assertTrue(exception.getCause().getCause() instanceof SocketTimeoutException);
+  }
+
+  @Test
+  void shouldRecordRequestMetric(@Mock ApiClientMetrics metrics) throws ApiException {
+    when(this.builder.property(anyString(), any())).thenReturn(this.builder);
+    when(this.response.getStatus()).thenReturn(200);
+    this.apiClient = new ApiClientJersey2(this.client, "https://pod", Collections.emptyMap(), "", metrics);
+
+    ApiOperationContext.call("v4StreamSidMessageCreatePost", () -> this.apiClient.invokeAPI("/hello", HttpMethod.POST,
+        Collections.emptyList(), null, new HashMap<>(), new HashMap<>(), new HashMap<>(), "application/json",
+        "application/json", new String[0], new TypeReference<String>() {}));
+
+    final ArgumentCaptor<ApiRequestMetric> metric = ArgumentCaptor.forClass(ApiRequestMetric.class);
+    verify(metrics).recordRequest(metric.capture());
+    assertEquals("v4StreamSidMessageCreatePost", metric.getValue().getOperation());
+    assertEquals("https://pod", metric.getValue().getBasePath());
+    assertEquals(HttpMethod.POST, metric.getValue().getMethod());
+    assertEquals(200, metric.getValue().getStatus());
+    assertTrue(metric.getValue().getDurationNanos() >= 0);
+    assertNull(ApiOperationContext.getOperationId());
+  }
+
+  @Test
+  void shouldRecordFailedAsyncRequestMetric(@Mock AsyncInvoker asyncInvoker, @Mock ApiClientMetrics metrics) {
+    when(this.builder.property(anyString(), any())).thenReturn(this.builder);
+    when(this.builder.async()).thenReturn(asyncInvoker);
+    when(asyncInvoker.post(any(Entity.class), any(InvocationCallback.class))).thenAnswer(invocation -> {
+      invocation.<InvocationCallback<Response>>getArgument(1)
+          .failed(new ProcessingException(new ConnectTimeoutException("timeout")));
+      return null;
+    });
+    this.apiClient = new ApiClientJersey2(this.client, "https://pod", Collections.emptyMap(), "", metrics);
+    this.apiClient.getAuthentications().put("testAuth", headerParams -> headerParams.put("Authorization", "test"));
+
+    assertThrows(ExecutionException.class, () -> this.doInvokeAPIAsync().get());
+
+    final ArgumentCaptor<ApiRequestMetric> metric = ArgumentCaptor.forClass(ApiRequestMetric.class);
+    verify(metrics).recordRequest(metric.capture());
+    assertEquals(ApiClientMetrics.UNKNOWN_OPERATION, metric.getValue().getOperation());
+    assertEquals(0, metric.getValue().getStatus());
+  }
+
+  private CompletableFuture<ApiResponse<String>> doInvokeAPIAsync() {
+    return this.apiClient.invokeAPIAsync(
+        "/hello",
+        HttpMethod.POST,
+        Collections.emptyList(),
+        null,
+        new HashMap<>(),
+        new HashMap<>(),
+        new HashMap<>(),
+        "application/json",
+        "application/json",
+        new String[] { "testAuth" },
+        new TypeReference<String>() {}
+    );
+  }
+
   private void doInvokeAPI() throws ApiException {
     this.apiClient.invokeAPI(
         "/hello",
@@ -3,6 +3,7 @@ package com.symphony.bdk.http.webclient;
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiClientBuilder;
 import com.symphony.bdk.http.api.auth.Authentication;
+import com.symphony.bdk.http.api.metrics.ApiClientMetrics;
 import com.symphony.bdk.http.api.util.ApiUtils;
 
 import io.netty.channel.ChannelOption;
@@ -15,12 +16,16 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.transport.ProxyProvider;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -48,22 +53,32 @@ public class ApiClientBuilderWebClient implements ApiClientBuilder {
   protected String trustStorePassword;
   protected int connectionTimeout;
   protected int readTimeout;
+  protected int connectionPoolMax;
+  protected int connectionPoolPerRoute;
+  protected Integer connectionIdleTimeout;
+  protected Integer connectionMaxLifetime;
+  protected Integer connectionPoolPendingAcquireMax;
+  protected Integer maxInMemorySize;
   protected String proxyHost;
   protected int proxyPort;
   protected String proxyUser;
   protected String proxyPassword;
   protected Map<String, Authentication> authentications;
+  protected ApiClientMetrics metrics;
 
   public ApiClientBuilderWebClient() {
     this.basePath = "";
     this.defaultHeaders = new HashMap<>();
     this.connectionTimeout = DEFAULT_CONNECT_TIMEOUT;
     this.readTimeout = DEFAULT_READ_TIMEOUT;
+    this.connectionPoolMax = DEFAULT_CONNECTION_POOL_MAX;
+    this.connectionPoolPerRoute = DEFAULT_CONNECTION_POOL_MAX;
     this.proxyHost = null;
     this.proxyPort = -1;
     this.proxyUser = null;
     this.proxyPassword = null;
     this.authentications = new HashMap<>();
+    this.metrics = ApiClientMetrics.NOOP;
     this.withUserAgent(ApiUtils.getUserAgent());
   }
 
@@ -72,12 +87,17 @@ public class ApiClientBuilderWebClient implements ApiClientBuilder {
    */
   @Override
   public ApiClient build() {
-    final WebClient webClient = WebClient.builder()
+    final WebClient.Builder webClientBuilder = WebClient.builder()
         .clientConnector(new ReactorClientHttpConnector(this.createHttpClient()))
-        .baseUrl(this.basePath)
-        .build();
+        .baseUrl(this.basePath);
 
-    final ApiClient apiClient = new ApiClientWebClient(webClient, this.basePath, this.defaultHeaders);
+    if (this.maxInMemorySize != null) {
+      webClientBuilder.codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(this.maxInMemorySize));
+    }
+
+    final WebClient webClient = webClientBuilder.build();
+
+    final ApiClient apiClient = new ApiClientWebClient(webClient, this.basePath, this.defaultHeaders, this.metrics);
     this.authentications.forEach(apiClient.getAuthentications()::put);
     return apiClient;
   }
@@ -156,6 +176,70 @@ public class ApiClientBuilderWebClient implements ApiClientBuilder {
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withConnectionPoolMax(Integer connectionPoolMax) {
+    this.connectionPoolMax = connectionPoolMax == null ? DEFAULT_CONNECTION_POOL_MAX : connectionPoolMax;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withConnectionPoolPerRoute(Integer connectionPoolPerRoute) {
+    this.connectionPoolPerRoute = connectionPoolPerRoute == null ? DEFAULT_CONNECTION_POOL_MAX : connectionPoolPerRoute;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withConnectionIdleTimeout(Integer connectionIdleTimeout) {
+    this.connectionIdleTimeout = connectionIdleTimeout;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withConnectionMaxLifetime(Integer connectionMaxLifetime) {
+    this.connectionMaxLifetime = connectionMaxLifetime;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withConnectionPoolPendingAcquireMax(Integer connectionPoolPendingAcquireMax) {
+    this.connectionPoolPendingAcquireMax = connectionPoolPendingAcquireMax;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withMaxInMemorySize(Integer maxInMemorySize) {
+    this.maxInMemorySize = maxInMemorySize;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   * The time waited for a pooled connection is not recorded.
+   */
+  @Override
+  public ApiClientBuilder withMetrics(ApiClientMetrics metrics) {
+    this.metrics = metrics == null ? ApiClientMetrics.NOOP : metrics;
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -187,7 +271,8 @@ public class ApiClientBuilderWebClient implements ApiClientBuilder {
 
   @API(status = API.Status.EXPERIMENTAL)
   protected HttpClient createHttpClient() {
-    HttpClient httpClient = HttpClient.create()
+    HttpClient httpClient = HttpClient.create(this.createConnectionProvider())
+        .runOn(WebClientConnectionPools.loopResources(this.getPoolName()))
         .secure(t -> t.sslContext(this.createSSLContext()))
         .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, this.connectionTimeout)
         .doOnConnected(connection -> connection.addHandlerLast(
@@ -201,6 +286,56 @@ public class ApiClientBuilderWebClient implements ApiClientBuilder {
     return httpClient;
   }
 
+  /**
+   * Gets the connection provider shared by the clients targeting the same server with the same pool settings.
+   * Connections are pooled per remote address, a pool holds at most the min of the max connections and of the max
+   * connections per route.
+   *
+   * @return the shared {@link ConnectionProvider}.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  protected ConnectionProvider createConnectionProvider() {
+    final String name = this.getPoolName();
+    final int maxConnections = Math.min(this.connectionPoolMax, this.connectionPoolPerRoute);
+    final String key = String.join("|", name, String.valueOf(maxConnections),
+        String.valueOf(this.connectionPoolPendingAcquireMax), String.valueOf(this.connectionIdleTimeout),
+        String.valueOf(this.connectionMaxLifetime));
+
+    return WebClientConnectionPools.connectionProvider(key, () -> {
+      final ConnectionProvider.Builder builder = ConnectionProvider.builder(name)
+          .maxConnections(maxConnections)
+          .metrics(true, () -> WebClientConnectionPools.METER_REGISTRAR);
+      if (this.connectionPoolPendingAcquireMax != null) {
+        builder.pendingAcquireMaxCount(this.connectionPoolPendingAcquireMax);
+      }
+      if (this.connectionIdleTimeout != null) {
+        builder.maxIdleTime(Duration.ofMillis(this.connectionIdleTimeout))
+            .evictInBackground(Duration.ofMillis(this.connectionIdleTimeout));
+      }
+      if (this.connectionMaxLifetime != null) {
+        builder.maxLifeTime(Duration.ofMillis(this.connectionMaxLifetime));
+      }
+      log.debug("Creating connection pool {} with max {} connections", name, maxConnections);
+      return builder.build();
+    });
+  }
+
+  /**
+   * @return the name of the connection pool and event loops, derived from the host and port of the base path.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  protected String getPoolName() {
+    try {
+      final URI uri = new URI(this.basePath);
+      if (uri.getHost() != null) {
+        return "bdk-" + uri.getHost() + (uri.getPort() == -1 ? "" : "-" + uri.getPort());
+      }
+    } catch (URISyntaxException e) {
+      log.debug("Unable to parse base path {}, using the default pool name", this.basePath);
+    }
+    return "bdk";
+  }
+
   @API(status = API.Status.EXPERIMENTAL)
   protected SslContext createSSLContext() {
     try {
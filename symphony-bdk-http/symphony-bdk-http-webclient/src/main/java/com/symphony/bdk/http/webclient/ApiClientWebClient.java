@@ -6,6 +6,8 @@ import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.http.api.ApiResponse;
 import com.symphony.bdk.http.api.Pair;
 import com.symphony.bdk.http.api.auth.Authentication;
+import com.symphony.bdk.http.api.metrics.ApiClientMetrics;
+import com.symphony.bdk.http.api.metrics.ApiRequestMetric;
 import com.symphony.bdk.http.api.tracing.DistributedTracingContext;
 import com.symphony.bdk.http.api.util.TypeReference;
 import io.netty.channel.ConnectTimeoutException;
@@ -34,6 +36,8 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -50,13 +54,23 @@ public class ApiClientWebClient implements ApiClient {
   protected final Map<String, String> defaultHeaderMap;
   protected Map<String, Authentication> authentications;
   protected List<String> enforcedAuthenticationSchemes;
+  protected final ApiClientMetrics metrics;
 
   public ApiClientWebClient(final WebClient webClient, String basePath, Map<String, String> defaultHeaders) {
+    this(webClient, basePath, defaultHeaders, ApiClientMetrics.NOOP);
+  }
+
+  /**
+   * @param metrics the instrumentation of the requests, the request body sizes are not recorded.
+   */
+  public ApiClientWebClient(final WebClient webClient, String basePath, Map<String, String> defaultHeaders,
+      ApiClientMetrics metrics) {
     this.webClient = webClient;
     this.basePath = basePath;
     this.defaultHeaderMap = new HashMap<>(defaultHeaders);
     this.authentications = new HashMap<>();
     this.enforcedAuthenticationSchemes = new ArrayList<>();
+    this.metrics = metrics == null ? ApiClientMetrics.NOOP : metrics;
   }
 
   /**
@@ -77,6 +91,70 @@ public class ApiClientWebClient implements ApiClient {
       final TypeReference<T> returnType
   ) throws ApiException {
 
+    final boolean clearTraceId = setTraceIdIfAbsent();
+    try {
+      return this.<T>prepareRequest(path, method, queryParams, body, headerParams, cookieParams, formParams, accept,
+          contentType, authNames, returnType).block();
+    } catch (Exception e) {
+      final Throwable mapped = mapException(e);
+      if (mapped instanceof ApiException) {
+        throw (ApiException) mapped;
+      } else if (mapped instanceof RuntimeException) {
+        throw (RuntimeException) mapped;
+      }
+      throw e;
+    } finally {
+      if (clearTraceId) {
+        DistributedTracingContext.clear();
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * The request is sent without blocking, the returned future is completed from the WebClient event loop.
+   */
+  @Override
+  public <T> CompletableFuture<ApiResponse<T>> invokeAPIAsync(
+      final String path,
+      final String method,
+      final List<Pair> queryParams,
+      final Object body,
+      final Map<String, String> headerParams,
+      final Map<String, String> cookieParams,
+      final Map<String, Object> formParams,
+      final String accept,
+      final String contentType,
+      final String[] authNames,
+      final TypeReference<T> returnType
+  ) {
+    final boolean clearTraceId = setTraceIdIfAbsent();
+    try {
+      return this.<T>prepareRequest(path, method, queryParams, body, headerParams, cookieParams, formParams, accept,
+          contentType, authNames, returnType).onErrorMap(ApiClientWebClient::mapException).toFuture();
+    } catch (ApiException | RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    } finally {
+      if (clearTraceId) {
+        DistributedTracingContext.clear();
+      }
+    }
+  }
+
+  private <T> Mono<ApiResponse<T>> prepareRequest(
+      final String path,
+      final String method,
+      final List<Pair> queryParams,
+      final Object body,
+      final Map<String, String> headerParams,
+      final Map<String, String> cookieParams,
+      final Map<String, Object> formParams,
+      final String accept,
+      final String contentType,
+      final String[] authNames,
+      final TypeReference<T> returnType
+  ) throws ApiException {
+
     final List<String> allowedMethods =
             Arrays.asList("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE");
     if (method == null || !allowedMethods.contains(method)) {
@@ -103,13 +181,6 @@ public class ApiClientWebClient implements ApiClient {
       requestBodySpec.accept(MediaType.valueOf(accept));
     }
 
-    boolean clearTraceId = false;
-
-    if (!DistributedTracingContext.hasTraceId()) {
-      DistributedTracingContext.setTraceId();
-      clearTraceId = true;
-    }
-
     requestBodySpec =
         requestBodySpec.header(DistributedTracingContext.TRACE_ID, DistributedTracingContext.getTraceId());
 
@@ -157,26 +228,58 @@ public class ApiClientWebClient implements ApiClient {
       requestBodySpec.body(BodyInserters.fromValue(body));
     }
 
-    try {
-      return requestBodySpec.exchangeToMono(response -> toApiResponse(returnType, response))
-          .block();
-    } catch (Exception e) {
-      Throwable unwrap = Exceptions.unwrap(e);
-      if (unwrap instanceof ApiException) {
-        throw (ApiException) unwrap;
-      }
-      if (e instanceof WebClientRequestException && e.getCause() instanceof ConnectTimeoutException) {
-        WebClientRequestException exception = (WebClientRequestException) e;
-        throw new WebClientRequestException(new SocketTimeoutException(e.getMessage()), exception.getMethod(),
-            exception.getUri(), exception.getHeaders());
-      } else {
-        throw e;
-      }
-    } finally {
-      if (clearTraceId) {
-        DistributedTracingContext.clear();
-      }
+    if (this.metrics == ApiClientMetrics.NOOP) {
+      return requestBodySpec.exchangeToMono(response -> toApiResponse(returnType, response));
+    }
+
+    final String operation = ApiClientMetrics.getOperation();
+    final WebClient.RequestBodySpec meteredRequestBodySpec = requestBodySpec;
+    return Mono.defer(() -> {
+      // the request is sent on subscription, until then it is not timed
+      final long startNanos = System.nanoTime();
+      final AtomicReference<ClientResponse> received = new AtomicReference<>();
+      // recorded before the result is propagated, so that a blocked caller sees the metric once it is released
+      return meteredRequestBodySpec.<ApiResponse<T>>exchangeToMono(response -> {
+            received.set(response);
+            return toApiResponse(returnType, response);
+          })
+          .doOnSuccess(apiResponse -> this.recordRequest(operation, method, startNanos, received.get()))
+          .doOnError(e -> this.recordRequest(operation, method, startNanos, received.get()))
+          .doOnCancel(() -> this.recordRequest(operation, method, startNanos, received.get()));
+    });
+  }
+
+  /**
+   * @param response the received response, null if none was received.
+   */
+  private void recordRequest(String operation, String method, long startNanos, ClientResponse response) {
+    final int status = response == null ? 0 : response.statusCode().value();
+    final long responseBytes = response == null
+        ? ApiRequestMetric.UNKNOWN_SIZE
+        : response.headers().contentLength().orElse(ApiRequestMetric.UNKNOWN_SIZE);
+    this.metrics.recordRequest(new ApiRequestMetric(operation, this.basePath, method, status,
+        System.nanoTime() - startNanos, ApiRequestMetric.UNKNOWN_SIZE, responseBytes));
+  }
+
+  private static boolean setTraceIdIfAbsent() {
+    if (!DistributedTracingContext.hasTraceId()) {
+      DistributedTracingContext.setTraceId();
+      return true;
+    }
+    return false;
+  }
+
+  private static Throwable mapException(Throwable e) {
+    Throwable unwrap = Exceptions.unwrap(e);
+    if (unwrap instanceof ApiException) {
+      return unwrap;
+    }
+    if (e instanceof WebClientRequestException && e.getCause() instanceof ConnectTimeoutException) {
+      WebClientRequestException exception = (WebClientRequestException) e;
+      return new WebClientRequestException(new SocketTimeoutException(e.getMessage()), exception.getMethod(),
+          exception.getUri(), exception.getHeaders());
     }
+    return e;
   }
 
   @SuppressWarnings("unchecked")
@@ -0,0 +1,145 @@
+package com.symphony.bdk.http.webclient;
+
+import org.apiguardian.api.API;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.net.SocketAddress;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the {@link ConnectionProvider}s and {@link LoopResources} shared by the {@link ApiClientWebClient}s
+ * targeting the same server (e.g. pod, agent or key manager).
+ * <p>
+ * Connection pools register their metrics here, a snapshot of them can be retrieved with {@link #getMetrics()} to size
+ * the pools.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class WebClientConnectionPools {
+
+  private static final Map<String, ConnectionProvider> CONNECTION_PROVIDERS = new ConcurrentHashMap<>();
+  private static final Map<String, LoopResources> LOOP_RESOURCES = new ConcurrentHashMap<>();
+  private static final Map<String, ConnectionPoolMetrics> METRICS = new ConcurrentHashMap<>();
+
+  static final ConnectionProvider.MeterRegistrar METER_REGISTRAR = new ConnectionProvider.MeterRegistrar() {
+    @Override
+    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress,
+        ConnectionPoolMetrics metrics) {
+      METRICS.put(metricsKey(poolName, id, remoteAddress), metrics);
+    }
+
+    @Override
+    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+      METRICS.remove(metricsKey(poolName, id, remoteAddress));
+    }
+  };
+
+  private WebClientConnectionPools() {
+    // utility class
+  }
+
+  /**
+   * @param key     identifies the pool settings, providers are shared among the clients using the same settings.
+   * @param factory creates the provider if none is registered yet for this key.
+   * @return the shared connection provider.
+   */
+  static ConnectionProvider connectionProvider(String key, Supplier<ConnectionProvider> factory) {
+    return CONNECTION_PROVIDERS.computeIfAbsent(key, k -> factory.get());
+  }
+
+  /**
+   * @param name the name of the targeted server, used as event loop threads prefix.
+   * @return the event loops shared by the clients targeting this server.
+   */
+  static LoopResources loopResources(String name) {
+    return LOOP_RESOURCES.computeIfAbsent(name, n -> LoopResources.create(n, LoopResources.DEFAULT_IO_WORKER_COUNT,
+        true));
+  }
+
+  /**
+   * @return a snapshot of the metrics of each connection pool, indexed by pool name, remote address and pool id.
+   */
+  public static Map<String, PoolMetrics> getMetrics() {
+    final Map<String, PoolMetrics> snapshot = new TreeMap<>();
+    METRICS.forEach((key, metrics) -> snapshot.put(key, new PoolMetrics(metrics)));
+    return Collections.unmodifiableMap(snapshot);
+  }
+
+  /**
+   * The id distinguishes the pools registered under the same name for the same remote address, e.g. by clients
+   * using different pool settings.
+   */
+  private static String metricsKey(String poolName, String id, SocketAddress remoteAddress) {
+    return poolName + " " + remoteAddress + " " + id;
+  }
+
+  /**
+   * Snapshot of the state of a connection pool.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public static final class PoolMetrics {
+
+    private final int acquired;
+    private final int idle;
+    private final int allocated;
+    private final int pendingAcquire;
+    private final int maxAllocated;
+    private final int maxPendingAcquire;
+
+    private PoolMetrics(ConnectionPoolMetrics metrics) {
+      this.acquired = metrics.acquiredSize();
+      this.idle = metrics.idleSize();
+      this.allocated = metrics.allocatedSize();
+      this.pendingAcquire = metrics.pendingAcquireSize();
+      this.maxAllocated = metrics.maxAllocatedSize();
+      this.maxPendingAcquire = metrics.maxPendingAcquireSize();
+    }
+
+    /**
+     * @return the number of connections currently used by requests.
+     */
+    public int getAcquired() {
+      return this.acquired;
+    }
+
+    /**
+     * @return the number of open connections waiting for a request.
+     */
+    public int getIdle() {
+      return this.idle;
+    }
+
+    /**
+     * @return the number of open connections, acquired or idle.
+     */
+    public int getAllocated() {
+      return this.allocated;
+    }
+
+    /**
+     * @return the number of requests waiting for a connection.
+     */
+    public int getPendingAcquire() {
+      return this.pendingAcquire;
+    }
+
+    /**
+     * @return the max number of open connections.
+     */
+    public int getMaxAllocated() {
+      return this.maxAllocated;
+    }
+
+    /**
+     * @return the max number of requests waiting for a connection.
+     */
+    public int getMaxPendingAcquire() {
+      return this.maxPendingAcquire;
+    }
+  }
+}
@@ -3,6 +3,8 @@ package com.symphony.bdk.http.webclient;
 import static org.apache.commons.io.IOUtils.toByteArray;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.symphony.bdk.http.api.ApiClient;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.slf4j.LoggerFactory;
+import reactor.netty.resources.ConnectionProvider;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
@@ -75,4 +78,57 @@ public class ApiClientBuilderWebClientTest {
 
     assertThrows(RuntimeException.class, this.builder::build);
   }
+
+  @Test
+  void poolNameTest() {
+    assertEquals("bdk", this.builder.getPoolName());
+
+    this.builder.withBasePath("https://acme.symphony.com:8443/pod");
+    assertEquals("bdk-acme.symphony.com-8443", this.builder.getPoolName());
+
+    this.builder.withBasePath("https://acme.symphony.com/agent");
+    assertEquals("bdk-acme.symphony.com", this.builder.getPoolName());
+  }
+
+  @Test
+  void connectionProviderIsSharedPerTargetTest() {
+    final ConnectionProvider agentProvider = newBuilder("https://agent.symphony.com/agent", 30)
+        .createConnectionProvider();
+    final ConnectionProvider datafeedProvider = newBuilder("https://agent.symphony.com/datafeed", 30)
+        .createConnectionProvider();
+    final ConnectionProvider podProvider = newBuilder("https://pod.symphony.com/pod", 30)
+        .createConnectionProvider();
+    final ConnectionProvider otherSettingsProvider = newBuilder("https://agent.symphony.com/agent", 10)
+        .createConnectionProvider();
+
+    assertSame(agentProvider, datafeedProvider);
+    assertNotSame(agentProvider, podProvider);
+    assertNotSame(agentProvider, otherSettingsProvider);
+    assertEquals(30, agentProvider.maxConnections());
+    assertEquals(10, otherSettingsProvider.maxConnections());
+  }
+
+  @Test
+  void buildWithPoolSettingsTest() {
+    this.builder.withBasePath("https://pod.symphony.com/pod");
+    this.builder.withConnectionPoolMax(40);
+    this.builder.withConnectionPoolPerRoute(25);
+    this.builder.withConnectionIdleTimeout(30_000);
+    this.builder.withConnectionMaxLifetime(300_000);
+    this.builder.withConnectionPoolPendingAcquireMax(100);
+    this.builder.withMaxInMemorySize(1_048_576);
+
+    final ApiClient apiClient = this.builder.build();
+
+    assertEquals(ApiClientWebClient.class, apiClient.getClass());
+    assertEquals(25, this.builder.createConnectionProvider().maxConnections());
+  }
+
+  private static ApiClientBuilderWebClient newBuilder(String basePath, int connectionPoolPerRoute) {
+    final ApiClientBuilderWebClient builder = new ApiClientBuilderWebClient();
+    builder.withBasePath(basePath);
+    builder.withConnectionPoolPerRoute(connectionPoolPerRoute);
+    builder.withConnectionPoolMax(50);
+    return builder;
+  }
 }
@@ -7,6 +7,9 @@ import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.http.api.ApiResponse;
 import com.symphony.bdk.http.api.Pair;
+import com.symphony.bdk.http.api.metrics.ApiClientMetrics;
+import com.symphony.bdk.http.api.metrics.ApiOperationContext;
+import com.symphony.bdk.http.api.metrics.ApiRequestMetric;
 import com.symphony.bdk.http.api.tracing.DistributedTracingContext;
 import com.symphony.bdk.http.api.util.TypeReference;
 import com.symphony.bdk.http.webclient.test.BdkMockServer;
@@ -35,6 +38,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 @ExtendWith(BdkMockServerExtension.class)
 class ApiClientWebClientTest {
@@ -77,6 +84,57 @@ class ApiClientWebClientTest {
     assertEquals("success", response.getData().getMessage());
   }
 
+  @Test
+  void testConnectionPoolMetricsAreRegistered(final BdkMockServer mockServer) throws ApiException {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api"),
+        httpResponse -> httpResponse.withBody("{\"code\": 200, \"message\": \"success\"}"));
+
+    this.apiClient.invokeAPI("/test-api", "GET", null, null, Collections.emptyMap(),
+        null, null, null, "application/json", new String[] {}, new TypeReference<Response>() {});
+
+    final String poolName = "bdk-localhost-" + this.apiClient.getBasePath().substring("http://localhost:".length());
+    final WebClientConnectionPools.PoolMetrics metrics = WebClientConnectionPools.getMetrics().entrySet().stream()
+        .filter(e -> e.getKey().startsWith(poolName + " "))
+        .map(Map.Entry::getValue)
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("No metrics registered for pool " + poolName));
+    assertEquals(ApiClientBuilderWebClient.DEFAULT_CONNECTION_POOL_MAX, metrics.getMaxAllocated());
+    assertEquals(0, metrics.getPendingAcquire());
+  }
+
+  @Test
+  void testRequestMetricIsRecorded(final BdkMockServer mockServer) throws ApiException {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api"),
+        httpResponse -> httpResponse.withBody("{\"code\": 200, \"message\": \"success\"}"));
+
+    final List<ApiRequestMetric> metrics = new CopyOnWriteArrayList<>();
+    final ApiClient meteredApiClient = new ApiClientBuilderWebClient()
+        .withBasePath(this.apiClient.getBasePath())
+        .withMetrics(new ApiClientMetrics() {
+          @Override
+          public void recordRequest(ApiRequestMetric metric) {
+            metrics.add(metric);
+          }
+        })
+        .build();
+
+    ApiOperationContext.call("testOperation", () -> meteredApiClient.invokeAPI("/test-api", "GET", null, null,
+        new HashMap<>(), null, null, null, "application/json", new String[] {}, new TypeReference<Response>() {}));
+
+    assertEquals(1, metrics.size());
+    assertEquals("testOperation", metrics.get(0).getOperation());
+    assertEquals(this.apiClient.getBasePath(), metrics.get(0).getBasePath());
+    assertEquals("GET", metrics.get(0).getMethod());
+    assertEquals(200, metrics.get(0).getStatus());
+    assertTrue(metrics.get(0).getDurationNanos() > 0);
+  }
+
   @Test
   void testInvokeApiTest2xx(final BdkMockServer mockServer) throws ApiException {
     mockServer.onRequestModifierWithResponse(201,
@@ -109,6 +167,53 @@ class ApiClientWebClientTest {
         null, null, null, "application/json", new String[] {}, new TypeReference<Response>() {}));
   }
 
+  @Test
+  void testInvokeApiAsyncTest(final BdkMockServer mockServer) throws Exception {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api")
+            .withHeader("sessionToken", "test-token"),
+        httpResponse -> httpResponse.withBody("{\"code\": 200, \"message\": \"success\"}"));
+
+    CompletableFuture<ApiResponse<Response>> future =
+        this.apiClient.invokeAPIAsync("/test-api", "GET", null, null,
+            Collections.singletonMap("sessionToken", "test-token"),
+            null, null, null, "application/json", new String[] {}, new TypeReference<Response>() {});
+
+    ApiResponse<Response> response = future.get(10, TimeUnit.SECONDS);
+    assertEquals(200, response.getData().getCode());
+    assertEquals("success", response.getData().getMessage());
+  }
+
+  @Test
+  void testInvokeApiAsyncExceptionTest(final BdkMockServer mockServer) {
+    mockServer.onRequestModifierWithResponse(400,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api")
+            .withHeader("sessionToken", "test-token"),
+        httpResponse -> httpResponse.withBody("test-error"));
+
+    CompletableFuture<ApiResponse<Response>> future =
+        this.apiClient.invokeAPIAsync("/test-api", "GET", null, null,
+            Collections.singletonMap("sessionToken", "test-token"),
+            null, null, null, "application/json", new String[] {}, new TypeReference<Response>() {});
+
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+    assertTrue(exception.getCause() instanceof ApiException);
+    assertEquals(400, ((ApiException) exception.getCause()).getCode());
+  }
+
+  @Test
+  void testInvokeApiAsyncNullMethod() {
+    CompletableFuture<ApiResponse<Response>> future = this.apiClient.invokeAPIAsync("/test-api", null, null, null,
+        Collections.singletonMap("sessionToken", "test-token"),
+        null, null, null, null, new String[] {}, new TypeReference<Response>() {});
+
+    assertTrue(future.isCompletedExceptionally());
+  }
+
   @Test
   void testInvokeApiParameterizedTypeTest(final BdkMockServer mockServer) throws ApiException {
     mockServer.onRequestModifierWithResponse(200,
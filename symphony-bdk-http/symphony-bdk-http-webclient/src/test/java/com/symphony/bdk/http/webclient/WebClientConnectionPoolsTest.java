@@ -0,0 +1,48 @@
+package com.symphony.bdk.http.webclient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import reactor.netty.resources.ConnectionPoolMetrics;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+class WebClientConnectionPoolsTest {
+
+  private static final String POOL_NAME = "bdk-pools-test";
+
+  @Test
+  void testPoolsWithSameNameAndAddressAreRegisteredSeparately() {
+    final SocketAddress address = InetSocketAddress.createUnresolved("acme.symphony.com", 443);
+    WebClientConnectionPools.METER_REGISTRAR.registerMetrics(POOL_NAME, "1", address, poolMetrics(10));
+    WebClientConnectionPools.METER_REGISTRAR.registerMetrics(POOL_NAME, "2", address, poolMetrics(20));
+
+    assertEquals(2, poolsMetrics().size());
+
+    WebClientConnectionPools.METER_REGISTRAR.deRegisterMetrics(POOL_NAME, "1", address);
+
+    final Map<String, WebClientConnectionPools.PoolMetrics> metrics = poolsMetrics();
+    assertEquals(1, metrics.size());
+    assertEquals(20, metrics.values().iterator().next().getMaxAllocated());
+
+    WebClientConnectionPools.METER_REGISTRAR.deRegisterMetrics(POOL_NAME, "2", address);
+    assertEquals(0, poolsMetrics().size());
+  }
+
+  private static Map<String, WebClientConnectionPools.PoolMetrics> poolsMetrics() {
+    return WebClientConnectionPools.getMetrics().entrySet().stream()
+        .filter(e -> e.getKey().startsWith(POOL_NAME + " "))
+        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+  }
+
+  private static ConnectionPoolMetrics poolMetrics(int maxAllocated) {
+    final ConnectionPoolMetrics metrics = mock(ConnectionPoolMetrics.class);
+    when(metrics.maxAllocatedSize()).thenReturn(maxAllocated);
+    return metrics;
+  }
+}
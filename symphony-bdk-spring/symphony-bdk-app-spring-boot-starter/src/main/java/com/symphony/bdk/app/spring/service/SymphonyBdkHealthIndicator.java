@@ -1,5 +1,6 @@
 package com.symphony.bdk.app.spring.service;
 
+import com.symphony.bdk.core.service.datafeed.DatafeedStatistics;
 import com.symphony.bdk.core.service.health.HealthService;
 import com.symphony.bdk.gen.api.model.V3Health;
 import com.symphony.bdk.gen.api.model.V3HealthComponent;
@@ -21,7 +22,7 @@ import java.util.Map;
  * <p>
  * This indicator will provide BDK connected component health status as well as
  * {@link com.symphony.bdk.core.service.datafeed.DatafeedLoop} and {@link com.symphony.bdk.core.service.datafeed.DatahoseLoop}
- * connectivity status.
+ * connectivity status, along with the {@link DatafeedStatistics} of the datafeed loop.
  */
 @Slf4j
 @API(status = API.Status.INTERNAL)
@@ -37,6 +38,7 @@ public class SymphonyBdkHealthIndicator extends AbstractHealthIndicator {
   private static final String AGT = "agentservice";
   private static final String CE = "ceservice";
   private static final String DFL = "datafeedloop";
+  private static final String DFL_STATISTICS = "datafeedloop_statistics";
   private static final ObjectMapper MAPPER = new ObjectMapper();
 
   public SymphonyBdkHealthIndicator(HealthService healthService) {
@@ -83,6 +85,11 @@ public class SymphonyBdkHealthIndicator extends AbstractHealthIndicator {
         .withDetail(AGT, users.get(AGT))
         .withDetail(CE, users.get(CE))
         .withDetail(DFL, datafeedLoop);
+
+    final DatafeedStatistics statistics = healthService.datafeedStatistics();
+    if (statistics != null) {
+      builder.withDetail(DFL_STATISTICS, statistics);
+    }
   }
 
   private void buildHealthDownDetail(Health.Builder builder) {
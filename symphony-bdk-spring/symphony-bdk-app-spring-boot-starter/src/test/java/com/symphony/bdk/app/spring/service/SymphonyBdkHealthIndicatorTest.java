@@ -1,5 +1,6 @@
 package com.symphony.bdk.app.spring.service;
 
+import com.symphony.bdk.core.service.datafeed.DatafeedStatistics;
 import com.symphony.bdk.core.service.health.HealthService;
 import com.symphony.bdk.gen.api.model.V3Health;
 import com.symphony.bdk.gen.api.model.V3HealthComponent;
@@ -72,6 +73,24 @@ class SymphonyBdkHealthIndicatorTest {
     assertThat(build.getStatus().getCode()).isEqualTo("UP");
   }
 
+  @Test
+  void doHealthCheck_withDatafeedStatistics() throws Exception {
+    V3Health health = new V3Health();
+    health.putServicesItem("pod", new V3HealthComponent().status(V3HealthStatus.UP));
+    health.putServicesItem("datafeed", new V3HealthComponent().status(V3HealthStatus.UP));
+    health.putServicesItem("key_manager", new V3HealthComponent().status(V3HealthStatus.UP));
+    health.putUsersItem("agentservice", new V3HealthComponent().status(V3HealthStatus.UP));
+    health.putUsersItem("ceservice", new V3HealthComponent().status(V3HealthStatus.UP));
+    DatafeedStatistics statistics = new DatafeedStatistics(2, 5, 3, 100, 20, 25, 40, 1, 0);
+    when(healthService.healthCheckExtended()).thenReturn(health);
+    when(healthService.datafeedHealthCheck()).thenReturn(V3HealthStatus.UP);
+    when(healthService.datafeedStatistics()).thenReturn(statistics);
+    Health.Builder builder = new Health.Builder();
+    healthIndicator.doHealthCheck(builder);
+    Health build = builder.build();
+    assertThat(build.getDetails()).containsEntry("datafeedloop_statistics", statistics);
+  }
+
   @Test
   void doHealthCheck_exception() throws Exception {
     final String body =
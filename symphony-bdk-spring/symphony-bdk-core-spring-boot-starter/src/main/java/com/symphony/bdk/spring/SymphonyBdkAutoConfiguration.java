@@ -7,6 +7,7 @@ import com.symphony.bdk.spring.config.BdkCoreConfig;
 import com.symphony.bdk.spring.config.BdkDatafeedConfig;
 import com.symphony.bdk.spring.config.BdkDatahoseConfig;
 import com.symphony.bdk.spring.config.BdkExtensionConfig;
+import com.symphony.bdk.spring.config.BdkMetricsConfig;
 import com.symphony.bdk.spring.config.BdkOboServiceConfig;
 import com.symphony.bdk.spring.config.BdkRetryConfig;
 import com.symphony.bdk.spring.config.BdkServiceConfig;
@@ -18,6 +19,7 @@ import org.springframework.context.annotation.Import;
  * Configuration entry-point the Symphony BDK Spring Boot wrapper.
  */
 @Import({
+    BdkMetricsConfig.class,
     BdkCoreConfig.class,
     BdkRetryConfig.class,
     BdkApiClientsConfig.class,
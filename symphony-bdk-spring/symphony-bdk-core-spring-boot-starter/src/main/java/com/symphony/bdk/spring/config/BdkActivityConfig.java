@@ -1,10 +1,12 @@
 package com.symphony.bdk.spring.config;
 
 import com.symphony.bdk.core.activity.AbstractActivity;
+import com.symphony.bdk.core.activity.ActivityExecutor;
 import com.symphony.bdk.core.activity.ActivityRegistry;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
 import com.symphony.bdk.core.service.session.SessionService;
 import com.symphony.bdk.gen.api.model.UserV2;
+import com.symphony.bdk.spring.SymphonyBdkCoreProperties;
 import com.symphony.bdk.spring.annotation.Slash;
 import com.symphony.bdk.spring.annotation.SlashAnnotationProcessor;
 import com.symphony.bdk.spring.service.BotInfoService;
@@ -29,13 +31,15 @@ public class BdkActivityConfig {
 
   @Bean
   public ActivityRegistry activityRegistry(
+      final SymphonyBdkCoreProperties properties,
       final BotInfoService botInfoService,
       final DatafeedLoop datafeedLoop,
       final List<AbstractActivity<?, ?>> activities
   ) {
     log.debug("Retrieving bot session info");
     final UserV2 botSessionInfo = botInfoService.getBotInfo();
-    final ActivityRegistry activityRegistry = new ActivityRegistry(botSessionInfo, datafeedLoop);
+    final ActivityRegistry activityRegistry = new ActivityRegistry(botSessionInfo, datafeedLoop,
+        new ActivityExecutor(properties.getThreading()));
     log.debug("{} activities found from context", activities.size());
     activities.forEach(activityRegistry::register);
     return activityRegistry;
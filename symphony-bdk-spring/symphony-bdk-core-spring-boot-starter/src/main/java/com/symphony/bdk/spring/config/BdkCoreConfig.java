@@ -13,6 +13,7 @@ import com.symphony.bdk.core.auth.impl.InMemoryTokensRepository;
 import com.symphony.bdk.core.client.ApiClientFactory;
 import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.metrics.ApiClientMetrics;
 import com.symphony.bdk.http.jersey2.ApiClientBuilderProviderJersey2;
 import com.symphony.bdk.spring.SymphonyBdkCoreProperties;
 import com.symphony.bdk.template.api.TemplateEngine;
@@ -20,6 +21,7 @@ import com.symphony.bdk.template.freemarker.FreeMarkerEngine;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -34,9 +36,11 @@ public class BdkCoreConfig {
 
   @Bean
   @ConditionalOnMissingBean
-  public ApiClientFactory apiClientFactory(SymphonyBdkCoreProperties properties) {
+  public ApiClientFactory apiClientFactory(SymphonyBdkCoreProperties properties,
+      ObjectProvider<ApiClientMetrics> metrics) {
     return new ApiClientFactory(properties,
-        new ApiClientBuilderProviderJersey2()); // TODO create RestTemplate/or WebClient implementation
+        new ApiClientBuilderProviderJersey2(), // TODO create RestTemplate/or WebClient implementation
+        metrics.getIfAvailable());
   }
 
   @Bean(name = "agentApiClient")
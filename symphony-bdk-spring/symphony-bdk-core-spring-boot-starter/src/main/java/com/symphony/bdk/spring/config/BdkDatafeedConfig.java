@@ -2,6 +2,7 @@ package com.symphony.bdk.spring.config;
 
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.core.service.datafeed.DatafeedVersion;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.impl.DatafeedLoopV1;
@@ -12,6 +13,7 @@ import com.symphony.bdk.spring.SymphonyBdkCoreProperties;
 import com.symphony.bdk.spring.service.BotInfoService;
 import com.symphony.bdk.spring.service.DatafeedAsyncLauncherService;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -40,19 +42,22 @@ public class BdkDatafeedConfig {
       @Qualifier("datafeedApi") DatafeedApi datafeedApi,
       AuthSession botSession,
       DatafeedVersion datafeedVersion,
-      BotInfoService botInfoService
+      BotInfoService botInfoService,
+      ObjectProvider<DatafeedMetrics> datafeedMetrics
   ) {
 
-    if (datafeedVersion == DatafeedVersion.V2) {
-      return new DatafeedLoopV2(datafeedApi, botSession, properties, botInfoService.getBotInfo());
-    }
-
-    return new DatafeedLoopV1(datafeedApi, botSession, properties, botInfoService.getBotInfo());
+    final DatafeedLoop datafeedLoop = datafeedVersion == DatafeedVersion.V2
+        ? new DatafeedLoopV2(datafeedApi, botSession, properties, botInfoService.getBotInfo())
+        : new DatafeedLoopV1(datafeedApi, botSession, properties, botInfoService.getBotInfo());
+    datafeedLoop.setMetrics(datafeedMetrics.getIfAvailable(() -> DatafeedMetrics.NOOP));
+    return datafeedLoop;
   }
 
   @Bean(initMethod = "start", destroyMethod = "stop")
   @ConditionalOnMissingBean
-  public DatafeedAsyncLauncherService datafeedAsyncLauncherService(@Qualifier("datafeedLoop") DatafeedLoop datafeedLoop, List<RealTimeEventListener> realTimeEventListeners) {
-    return new DatafeedAsyncLauncherService(datafeedLoop, realTimeEventListeners);
+  public DatafeedAsyncLauncherService datafeedAsyncLauncherService(SymphonyBdkCoreProperties properties,
+      @Qualifier("datafeedLoop") DatafeedLoop datafeedLoop, List<RealTimeEventListener> realTimeEventListeners) {
+    return new DatafeedAsyncLauncherService(datafeedLoop, realTimeEventListeners,
+        properties.getThreading().isVirtualThreads());
   }
 }
@@ -1,6 +1,7 @@
 package com.symphony.bdk.spring.config;
 
 import com.symphony.bdk.core.auth.AuthSession;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.core.service.datafeed.DatahoseLoop;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.impl.DatahoseLoopImpl;
@@ -9,6 +10,7 @@ import com.symphony.bdk.spring.SymphonyBdkCoreProperties;
 import com.symphony.bdk.spring.service.BotInfoService;
 import com.symphony.bdk.spring.service.DatahoseAsyncLauncherService;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -26,13 +28,18 @@ public class BdkDatahoseConfig {
   public DatahoseLoop datahoseLoop(SymphonyBdkCoreProperties properties,
                                        @Qualifier("datahoseApi") DatafeedApi datafeedApi,
                                        AuthSession botSession,
-                                       BotInfoService botInfoService) {
-    return new DatahoseLoopImpl(datafeedApi, botSession, properties, botInfoService.getBotInfo(), null);
+                                       BotInfoService botInfoService,
+                                       ObjectProvider<DatafeedMetrics> datafeedMetrics) {
+    final DatahoseLoop datahoseLoop =
+        new DatahoseLoopImpl(datafeedApi, botSession, properties, botInfoService.getBotInfo(), null);
+    datahoseLoop.setMetrics(datafeedMetrics.getIfAvailable(() -> DatafeedMetrics.NOOP));
+    return datahoseLoop;
   }
 
   @Bean(initMethod = "start", destroyMethod = "stop")
-  public DatahoseAsyncLauncherService datahoseAsyncLauncherService(@Qualifier("datahoseLoop") DatahoseLoop datahoseService,
-      List<RealTimeEventListener> realTimeEventListeners) {
-    return new DatahoseAsyncLauncherService(datahoseService, realTimeEventListeners);
+  public DatahoseAsyncLauncherService datahoseAsyncLauncherService(SymphonyBdkCoreProperties properties,
+      @Qualifier("datahoseLoop") DatahoseLoop datahoseService, List<RealTimeEventListener> realTimeEventListeners) {
+    return new DatahoseAsyncLauncherService(datahoseService, realTimeEventListeners,
+        properties.getThreading().isVirtualThreads());
   }
 }
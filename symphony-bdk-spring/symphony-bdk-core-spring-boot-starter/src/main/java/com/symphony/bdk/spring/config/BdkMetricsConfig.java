@@ -0,0 +1,37 @@
+package com.symphony.bdk.spring.config;
+
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
+import com.symphony.bdk.http.api.metrics.ApiClientMetrics;
+import com.symphony.bdk.spring.metrics.MicrometerApiClientMetrics;
+import com.symphony.bdk.spring.metrics.MicrometerDatafeedMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apiguardian.api.API;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Records the requests made by the BDK API clients and the activity of the datafeed and datahose loops into the
+ * application {@link MeterRegistry}, if Micrometer is on the classpath. Nothing is recorded if the application does
+ * not define a {@link MeterRegistry}.
+ */
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkMetricsConfig {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public ApiClientMetrics apiClientMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+    final MeterRegistry registry = meterRegistry.getIfUnique();
+    return registry == null ? ApiClientMetrics.NOOP : new MicrometerApiClientMetrics(registry);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public DatafeedMetrics datafeedMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+    final MeterRegistry registry = meterRegistry.getIfUnique();
+    return registry == null ? DatafeedMetrics.NOOP : new MicrometerDatafeedMetrics(registry);
+  }
+}
@@ -1,5 +1,6 @@
 package com.symphony.bdk.spring.config;
 
+import com.symphony.bdk.core.client.ApiClientFactory;
 import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
 
@@ -12,7 +13,7 @@ public class BdkRetryConfig {
 
   @Bean
   @ConditionalOnMissingBean
-  public RetryWithRecoveryBuilder<?> retryWithRecoveryBuilder(BdkConfig config) {
-    return new RetryWithRecoveryBuilder<>().retryConfig(config.getRetry());
+  public RetryWithRecoveryBuilder<?> retryWithRecoveryBuilder(BdkConfig config, ApiClientFactory apiClientFactory) {
+    return new RetryWithRecoveryBuilder<>().retryConfig(config.getRetry()).metrics(apiClientFactory.getMetrics());
   }
 }
@@ -2,6 +2,7 @@ package com.symphony.bdk.spring.config;
 
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.core.retry.AsyncRetryExecutor;
 import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
 import com.symphony.bdk.core.service.application.ApplicationService;
 import com.symphony.bdk.core.service.connection.ConnectionService;
@@ -9,6 +10,7 @@ import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
 import com.symphony.bdk.core.service.disclaimer.DisclaimerService;
 import com.symphony.bdk.core.service.health.HealthService;
 import com.symphony.bdk.core.service.message.MessageService;
+import com.symphony.bdk.core.service.pagination.PaginatedService;
 import com.symphony.bdk.core.service.presence.PresenceService;
 import com.symphony.bdk.core.service.session.SessionService;
 import com.symphony.bdk.core.service.signal.SignalService;
@@ -60,13 +62,15 @@ public class BdkServiceConfig {
   @ConditionalOnMissingBean
   public StreamService streamService(StreamsApi streamsApi, RoomMembershipApi roomMembershipApi, ShareApi shareApi,
       AuthSession botSession, BdkConfig config) {
-    return new StreamService(streamsApi, roomMembershipApi, shareApi, botSession, new RetryWithRecoveryBuilder<>().retryConfig(config.getRetry()));
+    return new StreamService(streamsApi, roomMembershipApi, shareApi, botSession, new RetryWithRecoveryBuilder<>().retryConfig(config.getRetry()),
+        AsyncRetryExecutor.of(config.getPod()), PaginatedService.getSharedExecutor(config.getThreading().isVirtualThreads()));
   }
 
   @Bean
   @ConditionalOnMissingBean
   public UserService userService(UserApi userApi, UsersApi usersApi, AuditTrailApi auditTrailApi, AuthSession botSession, BdkConfig config) {
-    return new UserService(userApi, usersApi, auditTrailApi, botSession, new RetryWithRecoveryBuilder<>().retryConfig(config.getRetry()));
+    return new UserService(userApi, usersApi, auditTrailApi, botSession, new RetryWithRecoveryBuilder<>().retryConfig(config.getRetry()),
+        AsyncRetryExecutor.of(config.getPod()), PaginatedService.getSharedExecutor(config.getThreading().isVirtualThreads()));
   }
 
   @Bean
@@ -92,7 +96,8 @@ public class BdkServiceConfig {
   @Bean
   @ConditionalOnMissingBean
   public SignalService signalService(SignalsApi signalsApi, AuthSession botSession, BdkConfig config) {
-    return new SignalService(signalsApi, botSession, new RetryWithRecoveryBuilder<>().retryConfig(config.getRetry()));
+    return new SignalService(signalsApi, botSession, new RetryWithRecoveryBuilder<>().retryConfig(config.getRetry()),
+        PaginatedService.getSharedExecutor(config.getThreading().isVirtualThreads()));
   }
 
   @Bean
@@ -126,7 +131,8 @@ public class BdkServiceConfig {
       final BdkConfig config
   ) {
     return new MessageService(messagesApi, messageApi, messageSuppressionApi, streamsApi, podApi, attachmentsApi,
-        defaultApi, botSession, templateEngine, new RetryWithRecoveryBuilder<>().retryConfig(config.getRetry()));
+        defaultApi, botSession, templateEngine, new RetryWithRecoveryBuilder<>().retryConfig(config.getRetry()),
+        AsyncRetryExecutor.of(config.getAgent()));
   }
 
   @Bean
@@ -0,0 +1,105 @@
+package com.symphony.bdk.spring.metrics;
+
+import com.symphony.bdk.http.api.metrics.ApiClientMetrics;
+import com.symphony.bdk.http.api.metrics.ApiRequestMetric;
+
+import io.micrometer.core.instrument.BaseUnits;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import org.apiguardian.api.API;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer binding of the {@link ApiClientMetrics}, registering the following meters:
+ * <ul>
+ *   <li>{@value #REQUESTS}: timer with percentile histogram of the requests, tagged by operation, base path, method,
+ *   status and outcome</li>
+ *   <li>{@value #REQUEST_SIZE} and {@value #RESPONSE_SIZE}: body sizes in bytes, tagged by operation and base path</li>
+ *   <li>{@value #RETRIES}: counter of the retried calls, tagged by name</li>
+ *   <li>{@value #POOL_WAIT}: timer of the wait for a pooled connection, tagged by base path</li>
+ * </ul>
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public class MicrometerApiClientMetrics implements ApiClientMetrics {
+
+  public static final String REQUESTS = "bdk.http.client.requests";
+  public static final String REQUEST_SIZE = "bdk.http.client.request.size";
+  public static final String RESPONSE_SIZE = "bdk.http.client.response.size";
+  public static final String RETRIES = "bdk.http.client.retries";
+  public static final String POOL_WAIT = "bdk.http.client.pool.wait";
+
+  private static final String OPERATION_TAG = "operation";
+  private static final String BASE_PATH_TAG = "base.path";
+  private static final String IO_ERROR_STATUS = "IO_ERROR";
+
+  private final MeterRegistry registry;
+
+  public MicrometerApiClientMetrics(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void recordRequest(ApiRequestMetric metric) {
+    final Tags tags = Tags.of(OPERATION_TAG, metric.getOperation(), BASE_PATH_TAG, tagValue(metric.getBasePath()));
+
+    Timer.builder(REQUESTS)
+        .description("Requests made by the BDK API clients")
+        .tags(tags)
+        .tag("method", tagValue(metric.getMethod()))
+        .tag("status", metric.getStatus() == 0 ? IO_ERROR_STATUS : String.valueOf(metric.getStatus()))
+        .tag("outcome", Outcome.forStatus(metric.getStatus()).name())
+        .publishPercentileHistogram()
+        .register(this.registry)
+        .record(metric.getDurationNanos(), TimeUnit.NANOSECONDS);
+
+    if (metric.getRequestBytes() != ApiRequestMetric.UNKNOWN_SIZE) {
+      this.bodySize(REQUEST_SIZE, tags).record(metric.getRequestBytes());
+    }
+    if (metric.getResponseBytes() != ApiRequestMetric.UNKNOWN_SIZE) {
+      this.bodySize(RESPONSE_SIZE, tags).record(metric.getResponseBytes());
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void recordRetry(String name) {
+    Counter.builder(RETRIES)
+        .description("Calls retried by the BDK")
+        .tag("name", tagValue(name))
+        .register(this.registry)
+        .increment();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void recordPoolWait(String basePath, long waitNanos) {
+    Timer.builder(POOL_WAIT)
+        .description("Wait for a pooled connection of the BDK API clients")
+        .tag(BASE_PATH_TAG, tagValue(basePath))
+        .register(this.registry)
+        .record(waitNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private DistributionSummary bodySize(String name, Tags tags) {
+    return DistributionSummary.builder(name)
+        .baseUnit(BaseUnits.BYTES)
+        .tags(tags)
+        .register(this.registry);
+  }
+
+  private static String tagValue(String value) {
+    return value == null ? UNKNOWN_OPERATION : value;
+  }
+}
@@ -0,0 +1,158 @@
+package com.symphony.bdk.spring.metrics;
+
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apiguardian.api.API;
+import org.springframework.util.ClassUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer binding of the {@link DatafeedMetrics}, registering the following meters tagged by loop name:
+ * <ul>
+ *   <li>{@value #READS}: timer of the reads of the feed, including the long polling wait</li>
+ *   <li>{@value #BATCH_SIZE}: number of events per read</li>
+ *   <li>{@value #PROCESSING}: timer of the handling of the batches</li>
+ *   <li>{@value #ACK_LATENCY}: timer from the end of the reads to the ack id updates</li>
+ *   <li>{@value #EVENT_AGE}: timer of the events age on reception, tagged by event type</li>
+ *   <li>{@value #DISPATCH}: timer of the listeners, tagged by event type and listener class</li>
+ *   <li>{@value #REQUEUES}: counter of the batches re-queued</li>
+ *   <li>{@value #RECREATIONS}: counter of the feed recreations</li>
+ * </ul>
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public class MicrometerDatafeedMetrics implements DatafeedMetrics {
+
+  public static final String READS = "bdk.datafeed.reads";
+  public static final String BATCH_SIZE = "bdk.datafeed.batch.size";
+  public static final String PROCESSING = "bdk.datafeed.processing";
+  public static final String ACK_LATENCY = "bdk.datafeed.ack.latency";
+  public static final String EVENT_AGE = "bdk.datafeed.event.age";
+  public static final String DISPATCH = "bdk.datafeed.dispatch";
+  public static final String REQUEUES = "bdk.datafeed.requeues";
+  public static final String RECREATIONS = "bdk.datafeed.recreations";
+
+  private static final String LOOP_TAG = "loop";
+  private static final String EVENT_TYPE_TAG = "event.type";
+  private static final String UNKNOWN = "unknown";
+
+  private final MeterRegistry registry;
+  private final String loop;
+
+  public MicrometerDatafeedMetrics(MeterRegistry registry) {
+    this(registry, "datafeed");
+  }
+
+  public MicrometerDatafeedMetrics(MeterRegistry registry, String loop) {
+    this.registry = registry;
+    this.loop = loop;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DatafeedMetrics forLoop(String loop) {
+    return new MicrometerDatafeedMetrics(this.registry, loop);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void recordRead(int batchSize, long readNanos) {
+    this.timer(READS, "Reads of the feed").record(readNanos, TimeUnit.NANOSECONDS);
+    DistributionSummary.builder(BATCH_SIZE)
+        .description("Events per read of the feed")
+        .baseUnit("events")
+        .tag(LOOP_TAG, this.loop)
+        .publishPercentileHistogram()
+        .register(this.registry)
+        .record(batchSize);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void recordProcessing(long processingNanos) {
+    this.timer(PROCESSING, "Handling of the batches of events").record(processingNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void recordAck(long ackLatencyNanos) {
+    this.timer(ACK_LATENCY, "Time from the reads to the ack id updates").record(ackLatencyNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void recordEventAge(String eventType, long ageMillis) {
+    Timer.builder(EVENT_AGE)
+        .description("Age of the events on reception")
+        .tag(LOOP_TAG, this.loop)
+        .tag(EVENT_TYPE_TAG, tagValue(eventType))
+        .publishPercentileHistogram()
+        .register(this.registry)
+        .record(Math.max(0L, ageMillis), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void recordDispatch(String eventType, RealTimeEventListener listener, long durationNanos) {
+    Timer.builder(DISPATCH)
+        .description("Handling of the events by the listeners")
+        .tag(LOOP_TAG, this.loop)
+        .tag(EVENT_TYPE_TAG, tagValue(eventType))
+        .tag("listener", ClassUtils.getUserClass(listener).getName())
+        .publishPercentileHistogram()
+        .register(this.registry)
+        .record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void recordRequeue() {
+    this.counter(REQUEUES, "Batches of events re-queued").increment();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void recordRecreation() {
+    this.counter(RECREATIONS, "Recreations of the feed").increment();
+  }
+
+  private Timer timer(String name, String description) {
+    return Timer.builder(name)
+        .description(description)
+        .tag(LOOP_TAG, this.loop)
+        .publishPercentileHistogram()
+        .register(this.registry);
+  }
+
+  private Counter counter(String name, String description) {
+    return Counter.builder(name)
+        .description(description)
+        .tag(LOOP_TAG, this.loop)
+        .register(this.registry);
+  }
+
+  private static String tagValue(String value) {
+    return value == null ? UNKNOWN : value;
+  }
+}
@@ -22,6 +22,14 @@ public class DatafeedAsyncLauncherService extends LoopAsyncLauncherService {
     super(datafeedLoop, realTimeEventListeners);
   }
 
+  public DatafeedAsyncLauncherService(
+      final DatafeedLoop datafeedLoop,
+      final List<RealTimeEventListener> realTimeEventListeners,
+      final boolean virtualThreads
+  ) {
+    super(datafeedLoop, realTimeEventListeners, virtualThreads);
+  }
+
   @Override
   protected String getLoopType() {
     return "Datafeed";
@@ -15,6 +15,11 @@ public class DatahoseAsyncLauncherService extends LoopAsyncLauncherService {
     super(datahoseLoop, realTimeEventListeners);
   }
 
+  public DatahoseAsyncLauncherService(DatahoseLoop datahoseLoop,
+      List<RealTimeEventListener> realTimeEventListeners, boolean virtualThreads) {
+    super(datahoseLoop, realTimeEventListeners, virtualThreads);
+  }
+
   @Override
   protected String getLoopType() {
     return "Datahose";
@@ -1,5 +1,6 @@
 package com.symphony.bdk.spring.service;
 
+import com.symphony.bdk.core.activity.ThreadFactoryBuilder;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
@@ -19,11 +20,23 @@ import java.util.List;
 public abstract class LoopAsyncLauncherService implements Thread.UncaughtExceptionHandler {
   private DatafeedLoop loop;
   private List<RealTimeEventListener> realTimeEventListeners;
+  private boolean virtualThreads;
 
   public LoopAsyncLauncherService(DatafeedLoop loop,
       List<RealTimeEventListener> realTimeEventListeners) {
+    this(loop, realTimeEventListeners, false);
+  }
+
+  /**
+   * @param loop                   the loop to be started.
+   * @param realTimeEventListeners the listeners subscribed to the loop.
+   * @param virtualThreads         true to run the loop on a virtual thread, if supported.
+   */
+  public LoopAsyncLauncherService(DatafeedLoop loop,
+      List<RealTimeEventListener> realTimeEventListeners, boolean virtualThreads) {
     this.loop = loop;
     this.realTimeEventListeners = realTimeEventListeners;
+    this.virtualThreads = virtualThreads;
   }
 
   /**
@@ -38,7 +51,10 @@ public abstract class LoopAsyncLauncherService implements Thread.UncaughtExcepti
    * Asynchronous execution of the {@link DatafeedLoop#start()} method.
    */
   public void start() {
-    final Thread datafeedThread = new Thread(MDCUtils.wrap(this::uncheckedStart), "SymphonyBdk_" + getLoopType());
+    final Runnable task = MDCUtils.wrap(this::uncheckedStart);
+    final Thread datafeedThread = this.virtualThreads
+        ? new ThreadFactoryBuilder().setName("SymphonyBdk_" + getLoopType()).setVirtual(true).build().newThread(task)
+        : new Thread(task, "SymphonyBdk_" + getLoopType());
     datafeedThread.setUncaughtExceptionHandler(this);
     datafeedThread.start();
   }
@@ -20,6 +20,7 @@ import com.symphony.bdk.spring.SymphonyBdkCoreProperties;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.ObjectProvider;
 
 import java.util.Optional;
 
@@ -45,7 +46,7 @@ class BdkCoreConfigTest {
   void shouldCreateApiClientFactory() {
     final BdkCoreConfig config = new BdkCoreConfig();
     final SymphonyBdkCoreProperties props = new SymphonyBdkCoreProperties();
-    assertNotNull(config.apiClientFactory(props));
+    assertNotNull(config.apiClientFactory(props, mock(ObjectProvider.class)));
   }
 
   @Test
@@ -0,0 +1,38 @@
+package com.symphony.bdk.spring.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
+import com.symphony.bdk.http.api.metrics.ApiClientMetrics;
+import com.symphony.bdk.spring.metrics.MicrometerApiClientMetrics;
+import com.symphony.bdk.spring.metrics.MicrometerDatafeedMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+class BdkMetricsConfigTest {
+
+  private final ApplicationContextRunner contextRunner =
+      new ApplicationContextRunner().withUserConfiguration(BdkMetricsConfig.class);
+
+  @Test
+  void shouldBindMeterRegistry() {
+    this.contextRunner
+        .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+        .run(context -> {
+          assertThat(context.getBean(ApiClientMetrics.class)).isInstanceOf(MicrometerApiClientMetrics.class);
+          assertThat(context.getBean(DatafeedMetrics.class)).isInstanceOf(MicrometerDatafeedMetrics.class);
+        });
+  }
+
+  @Test
+  void shouldRecordNothingWithoutMeterRegistry() {
+    this.contextRunner
+        .run(context -> {
+          assertThat(context.getBean(ApiClientMetrics.class)).isSameAs(ApiClientMetrics.NOOP);
+          assertThat(context.getBean(DatafeedMetrics.class)).isSameAs(DatafeedMetrics.NOOP);
+        });
+  }
+}
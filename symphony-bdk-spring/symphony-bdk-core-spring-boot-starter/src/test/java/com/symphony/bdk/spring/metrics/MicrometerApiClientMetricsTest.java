@@ -0,0 +1,75 @@
+package com.symphony.bdk.spring.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.symphony.bdk.http.api.metrics.ApiRequestMetric;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class MicrometerApiClientMetricsTest {
+
+  private SimpleMeterRegistry registry;
+  private MicrometerApiClientMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    this.registry = new SimpleMeterRegistry();
+    this.metrics = new MicrometerApiClientMetrics(this.registry);
+  }
+
+  @Test
+  void shouldRecordRequest() {
+    this.metrics.recordRequest(new ApiRequestMetric("v4MessageCreate", "https://pod/agent", "POST", 200,
+        TimeUnit.MILLISECONDS.toNanos(50), 100, 2000));
+    this.metrics.recordRequest(new ApiRequestMetric("v4MessageCreate", "https://pod/agent", "POST", 200,
+        TimeUnit.MILLISECONDS.toNanos(150), 100, ApiRequestMetric.UNKNOWN_SIZE));
+
+    final Timer timer = this.registry.get(MicrometerApiClientMetrics.REQUESTS)
+        .tag("operation", "v4MessageCreate")
+        .tag("base.path", "https://pod/agent")
+        .tag("method", "POST")
+        .tag("status", "200")
+        .tag("outcome", "SUCCESS")
+        .timer();
+    assertThat(timer.count()).isEqualTo(2);
+    assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(200);
+
+    final DistributionSummary requestSize = this.registry.get(MicrometerApiClientMetrics.REQUEST_SIZE).summary();
+    assertThat(requestSize.count()).isEqualTo(2);
+    assertThat(requestSize.totalAmount()).isEqualTo(200);
+    final DistributionSummary responseSize = this.registry.get(MicrometerApiClientMetrics.RESPONSE_SIZE).summary();
+    assertThat(responseSize.count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRecordRequestWithoutResponse() {
+    this.metrics.recordRequest(new ApiRequestMetric("unknown", "https://pod/pod", "GET", 0, 1_000,
+        ApiRequestMetric.UNKNOWN_SIZE, ApiRequestMetric.UNKNOWN_SIZE));
+
+    assertThat(this.registry.get(MicrometerApiClientMetrics.REQUESTS).tag("status", "IO_ERROR").timer().count())
+        .isEqualTo(1);
+    assertThat(this.registry.find(MicrometerApiClientMetrics.REQUEST_SIZE).summary()).isNull();
+    assertThat(this.registry.find(MicrometerApiClientMetrics.RESPONSE_SIZE).summary()).isNull();
+  }
+
+  @Test
+  void shouldRecordRetryAndPoolWait() {
+    this.metrics.recordRetry("readDatafeed");
+    this.metrics.recordRetry("readDatafeed");
+    this.metrics.recordRetry(null);
+    this.metrics.recordPoolWait("https://pod/agent", TimeUnit.MILLISECONDS.toNanos(5));
+
+    assertThat(this.registry.get(MicrometerApiClientMetrics.RETRIES).tag("name", "readDatafeed").counter().count())
+        .isEqualTo(2);
+    assertThat(this.registry.get(MicrometerApiClientMetrics.RETRIES).tag("name", "unknown").counter().count())
+        .isEqualTo(1);
+    assertThat(this.registry.get(MicrometerApiClientMetrics.POOL_WAIT).tag("base.path", "https://pod/agent").timer()
+        .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5);
+  }
+}
@@ -0,0 +1,69 @@
+package com.symphony.bdk.spring.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class MicrometerDatafeedMetricsTest {
+
+  private SimpleMeterRegistry registry;
+  private DatafeedMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    this.registry = new SimpleMeterRegistry();
+    this.metrics = new MicrometerDatafeedMetrics(this.registry).forLoop("datahose");
+  }
+
+  @Test
+  void shouldRecordReads() {
+    this.metrics.recordRead(3, TimeUnit.MILLISECONDS.toNanos(100));
+    this.metrics.recordRead(0, TimeUnit.MILLISECONDS.toNanos(20_000));
+
+    final Timer reads = this.registry.get(MicrometerDatafeedMetrics.READS).tag("loop", "datahose").timer();
+    assertThat(reads.count()).isEqualTo(2);
+    assertThat(reads.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(20_100);
+
+    final DistributionSummary batchSize = this.registry.get(MicrometerDatafeedMetrics.BATCH_SIZE).summary();
+    assertThat(batchSize.count()).isEqualTo(2);
+    assertThat(batchSize.totalAmount()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldRecordEventsHandling() {
+    final RealTimeEventListener listener = new RealTimeEventListener() {};
+    this.metrics.recordEventAge("MESSAGESENT", 1500);
+    this.metrics.recordDispatch("MESSAGESENT", listener, TimeUnit.MILLISECONDS.toNanos(10));
+    this.metrics.recordProcessing(TimeUnit.MILLISECONDS.toNanos(12));
+    this.metrics.recordAck(TimeUnit.MILLISECONDS.toNanos(15));
+
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.EVENT_AGE).tag("event.type", "MESSAGESENT").timer()
+        .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(1500);
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.DISPATCH)
+        .tag("event.type", "MESSAGESENT")
+        .tag("listener", listener.getClass().getName())
+        .timer().count()).isEqualTo(1);
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.PROCESSING).timer().count()).isEqualTo(1);
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.ACK_LATENCY).timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCountRequeuesAndRecreations() {
+    this.metrics.recordRequeue();
+    this.metrics.recordRequeue();
+    this.metrics.recordRecreation();
+
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.REQUEUES).tag("loop", "datahose").counter().count())
+        .isEqualTo(2);
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.RECREATIONS).counter().count()).isEqualTo(1);
+  }
+}
@@ -1,5 +1,7 @@
 package com.symphony.bdk.spring.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -10,10 +12,13 @@ import com.symphony.bdk.http.api.ApiException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
 
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Just for the sake of coverage.
@@ -38,6 +43,21 @@ class DatafeedAsyncLauncherServiceTest {
     datafeedAsyncLauncherService.start();
   }
 
+  @Test
+  void testStartWithVirtualThreadsPropagatesMdc() throws Exception {
+    final CompletableFuture<String> traceId = new CompletableFuture<>();
+    doAnswer(invocation -> traceId.complete(MDC.get("X-Trace-Id"))).when(datafeedLoop).start();
+
+    MDC.put("X-Trace-Id", "trace-id");
+    try {
+      new DatafeedAsyncLauncherService(this.datafeedLoop, Collections.emptyList(), true).start();
+    } finally {
+      MDC.remove("X-Trace-Id");
+    }
+
+    assertEquals("trace-id", traceId.get(5, TimeUnit.SECONDS));
+  }
+
   @Test
   void testStartLoopThrowsAuthUnauthorizedException() throws AuthUnauthorizedException, ApiException {
     doThrow(new AuthUnauthorizedException("")).when(datafeedLoop).start();